@@ -0,0 +1,124 @@
+package pe.poc.account.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.ws.rs.core.GenericEntity;
+import jakarta.ws.rs.core.MediaType;
+
+import pe.poc.account.application.dto.AccountRequestDTO;
+import pe.poc.account.application.dto.AccountResponseDTO;
+import pe.poc.account.domain.model.AccountStatus;
+import pe.poc.account.infrastructure.rest.json.AccountJsonModule;
+import pe.poc.account.infrastructure.rest.json.AccountJsonProvider;
+
+/**
+ * Compares the streaming JSON provider with the Jackson databind path it replaces, writing
+ * to a discarding stream as the REST layer writes to the response. Run with {@code -prof gc}
+ * to compare the bytes allocated per request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class AccountJsonCodecBenchmark {
+
+    private static final Annotation[] NO_ANNOTATIONS = new Annotation[0];
+
+    @Param({"1000", "100000"})
+    public int listSize;
+
+    private ObjectMapper objectMapper;
+    private ObjectMapper moduleMapper;
+    private AccountJsonProvider provider;
+    private AccountResponseDTO response;
+    private List<AccountResponseDTO> responses;
+    private Type responsesType;
+    private byte[] requestJson;
+    private OutputStream output;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = new ObjectMapper();
+        moduleMapper = new ObjectMapper().registerModule(new AccountJsonModule());
+        provider = new AccountJsonProvider();
+        response = new AccountResponseDTO(42L, "Benchmark Account", "0011223344", AccountStatus.ACTIVE, 0L);
+        responses = new ArrayList<>(listSize);
+        for (long i = 1; i <= listSize; i++) {
+            responses.add(new AccountResponseDTO(i, "Benchmark Account " + i, "00" + i, AccountStatus.ACTIVE, 0L));
+        }
+        responsesType = new GenericEntity<List<AccountResponseDTO>>(responses) {}.getType();
+        requestJson = objectMapper.writeValueAsBytes(
+                new AccountRequestDTO("Benchmark Account", "0011223344", "ACTIVE"));
+        output = new DiscardingOutputStream();
+    }
+
+    @Benchmark
+    public void writeResponseDatabind() throws IOException {
+        moduleMapper.writeValue(output, response);
+    }
+
+    @Benchmark
+    public void writeResponseStreaming() throws IOException {
+        provider.writeTo(response, AccountResponseDTO.class, AccountResponseDTO.class, NO_ANNOTATIONS,
+                MediaType.APPLICATION_JSON_TYPE, null, output);
+    }
+
+    @Benchmark
+    public void writeResponseListBeanSerializer() throws IOException {
+        objectMapper.writeValue(output, responses);
+    }
+
+    @Benchmark
+    public void writeResponseListDatabind() throws IOException {
+        moduleMapper.writeValue(output, responses);
+    }
+
+    @Benchmark
+    public void writeResponseListStreaming() throws IOException {
+        provider.writeTo(responses, List.class, responsesType, NO_ANNOTATIONS, MediaType.APPLICATION_JSON_TYPE, null,
+                output);
+    }
+
+    @Benchmark
+    public AccountRequestDTO readRequestDatabind() throws IOException {
+        return objectMapper.readValue(new ByteArrayInputStream(requestJson), AccountRequestDTO.class);
+    }
+
+    @Benchmark
+    public AccountRequestDTO readRequestStreaming() throws IOException {
+        return provider.readFrom(AccountRequestDTO.class, AccountRequestDTO.class, NO_ANNOTATIONS,
+                MediaType.APPLICATION_JSON_TYPE, null, new ByteArrayInputStream(requestJson));
+    }
+
+    /**
+     * Drops everything written and, unlike {@link OutputStream#nullOutputStream()}, stays open
+     * after databind closes it.
+     */
+    private static final class DiscardingOutputStream extends OutputStream {
+
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    }
+}
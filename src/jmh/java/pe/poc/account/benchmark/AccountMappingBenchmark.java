@@ -0,0 +1,57 @@
+package pe.poc.account.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import pe.poc.account.domain.model.Account;
+import pe.poc.account.domain.model.AccountStatus;
+import pe.poc.account.domain.model.valueobject.AccountId;
+import pe.poc.account.infrastructure.persistence.entity.AccountJpaEntity;
+import pe.poc.account.infrastructure.persistence.mapper.AccountPersistenceMapper;
+
+/**
+ * Benchmarks the persistence mapper passes between the domain model and the JPA entity.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AccountMappingBenchmark {
+
+    private AccountPersistenceMapper mapper;
+    private Account account;
+    private AccountJpaEntity jpaEntity;
+
+    @Setup
+    public void setUp() {
+        mapper = new AccountPersistenceMapper();
+        account = Account.builder()
+                .id(AccountId.of(42L))
+                .account("Benchmark Account")
+                .number("0011223344")
+                .status(AccountStatus.ACTIVE)
+                .build();
+        jpaEntity = mapper.toJpaEntity(account);
+    }
+
+    @Benchmark
+    public AccountJpaEntity toJpaEntity() {
+        return mapper.toJpaEntity(account);
+    }
+
+    @Benchmark
+    public Account toDomainModel() {
+        return mapper.toDomainModel(jpaEntity);
+    }
+
+    @Benchmark
+    public Account roundTrip() {
+        return mapper.toDomainModel(mapper.toJpaEntity(account));
+    }
+}
@@ -0,0 +1,78 @@
+package pe.poc.account.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import pe.poc.account.application.dto.AccountRequestDTO;
+import pe.poc.account.application.dto.AccountResponseDTO;
+import pe.poc.account.domain.model.AccountStatus;
+import pe.poc.account.infrastructure.rest.json.AccountJsonModule;
+
+/**
+ * Benchmarks the Jackson databind path used by the REST layer for account DTOs, with the
+ * reflective bean serializer and with the pre-built serializers of AccountJsonModule.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AccountSerializationBenchmark {
+
+    @Param({"1000"})
+    public int listSize;
+
+    private ObjectMapper objectMapper;
+    private ObjectMapper moduleMapper;
+    private AccountResponseDTO response;
+    private List<AccountResponseDTO> responses;
+    private byte[] requestJson;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        objectMapper = new ObjectMapper();
+        moduleMapper = new ObjectMapper().registerModule(new AccountJsonModule());
+        response = new AccountResponseDTO(42L, "Benchmark Account", "0011223344", AccountStatus.ACTIVE, 0L);
+        responses = new ArrayList<>(listSize);
+        for (long i = 1; i <= listSize; i++) {
+            responses.add(new AccountResponseDTO(i, "Benchmark Account " + i, "00" + i, AccountStatus.ACTIVE, 0L));
+        }
+        requestJson = objectMapper.writeValueAsBytes(new AccountRequestDTO("Benchmark Account", "0011223344", "ACTIVE"));
+    }
+
+    @Benchmark
+    public byte[] serializeResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] serializeResponseList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(responses);
+    }
+
+    @Benchmark
+    public byte[] serializeResponseWithModule() throws JsonProcessingException {
+        return moduleMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] serializeResponseListWithModule() throws JsonProcessingException {
+        return moduleMapper.writeValueAsBytes(responses);
+    }
+
+    @Benchmark
+    public AccountRequestDTO deserializeRequest() throws java.io.IOException {
+        return objectMapper.readValue(requestJson, AccountRequestDTO.class);
+    }
+}
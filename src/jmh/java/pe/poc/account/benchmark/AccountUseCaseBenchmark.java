@@ -0,0 +1,60 @@
+package pe.poc.account.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import pe.poc.account.application.dto.AccountRequestDTO;
+import pe.poc.account.application.dto.AccountResponseDTO;
+import pe.poc.account.application.usecase.AccountManagementService;
+import pe.poc.account.domain.service.AccountDomainService;
+
+/**
+ * Benchmarks full use-case calls (DTO to domain, validation, repository, response mapping)
+ * against the in-memory repository stubs, so only application-layer cost is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AccountUseCaseBenchmark {
+
+    private AccountManagementService accountManagementService;
+    private AccountRequestDTO request;
+    private Long existingId;
+
+    @Setup
+    public void setUp() {
+        InMemoryAccountRepository accountRepository = new InMemoryAccountRepository();
+        accountManagementService = new AccountManagementService(accountRepository,
+                new InMemoryAccountQueryRepository(accountRepository), new DiscardingAccountChangeOutbox(),
+                new AccountDomainService());
+        request = new AccountRequestDTO("Benchmark Account", "0011223344", "ACTIVE");
+        existingId = accountManagementService.createAccount(request).getId();
+    }
+
+    @Benchmark
+    public AccountResponseDTO createAccount() {
+        return accountManagementService.createAccount(request);
+    }
+
+    @Benchmark
+    public AccountResponseDTO getAccountById() {
+        return accountManagementService.getAccountById(existingId);
+    }
+
+    @Benchmark
+    public AccountResponseDTO updateAccount() {
+        return accountManagementService.updateAccount(existingId, request, null);
+    }
+
+    @Benchmark
+    public AccountResponseDTO activateAccount() {
+        return accountManagementService.activateAccount(existingId);
+    }
+}
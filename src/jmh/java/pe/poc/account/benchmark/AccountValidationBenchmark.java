@@ -0,0 +1,58 @@
+package pe.poc.account.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import pe.poc.account.domain.model.Account;
+import pe.poc.account.domain.model.AccountStatus;
+import pe.poc.account.domain.model.valueobject.AccountId;
+import pe.poc.account.domain.service.AccountDomainService;
+
+/**
+ * Benchmarks the domain validation run on every write request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AccountValidationBenchmark {
+
+    private AccountDomainService accountDomainService;
+    private Account account;
+    private String status;
+
+    @Setup
+    public void setUp() {
+        accountDomainService = new AccountDomainService();
+        account = Account.builder()
+                .id(AccountId.of(1L))
+                .account("  Benchmark Account  ")
+                .number("  0011223344  ")
+                .status(AccountStatus.ACTIVE)
+                .build();
+        // Built at runtime so the comparison cannot short-circuit on the interned literal
+        status = new String("SUSPENDED".toCharArray());
+    }
+
+    @Benchmark
+    public void validateAccount() {
+        accountDomainService.validateAccount(account);
+    }
+
+    @Benchmark
+    public void isValidStatus(Blackhole blackhole) {
+        blackhole.consume(accountDomainService.isValidStatus(status));
+    }
+
+    @Benchmark
+    public AccountStatus parseStatus() {
+        return accountDomainService.parseStatus(status);
+    }
+}
@@ -0,0 +1,155 @@
+package pe.poc.account.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+
+import jakarta.ws.rs.core.GenericEntity;
+import jakarta.ws.rs.core.MediaType;
+
+import pe.poc.account.application.dto.AccountRequestDTO;
+import pe.poc.account.application.dto.AccountResponseDTO;
+import pe.poc.account.domain.model.AccountStatus;
+import pe.poc.account.infrastructure.rest.cbor.AccountCborProvider;
+import pe.poc.account.infrastructure.rest.cbor.AccountFrameWriter;
+import pe.poc.account.infrastructure.rest.json.AccountJsonProvider;
+
+/**
+ * Compares the JSON and CBOR encodings of the account bodies, writing to a discarding stream
+ * as the REST layer writes to the response. The payload sizes are printed once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class AccountWireFormatBenchmark {
+
+    private static final Annotation[] NO_ANNOTATIONS = new Annotation[0];
+
+    @Param({"1000", "100000"})
+    public int listSize;
+
+    private AccountJsonProvider jsonProvider;
+    private AccountCborProvider cborProvider;
+    private CBORFactory cborFactory;
+    private AccountResponseDTO response;
+    private List<AccountResponseDTO> responses;
+    private Type responsesType;
+    private byte[] requestJson;
+    private byte[] requestCbor;
+    private OutputStream output;
+
+    @Setup
+    public void setUp() throws IOException {
+        jsonProvider = new AccountJsonProvider();
+        cborProvider = new AccountCborProvider(new ObjectMapper());
+        cborFactory = AccountCborProvider.newFactory();
+        response = new AccountResponseDTO(42L, "Benchmark Account", "0011223344", AccountStatus.ACTIVE, 0L);
+        responses = new ArrayList<>(listSize);
+        for (long i = 1; i <= listSize; i++) {
+            responses.add(new AccountResponseDTO(i, "Benchmark Account " + i, "00" + i, AccountStatus.ACTIVE, 0L));
+        }
+        responsesType = new GenericEntity<List<AccountResponseDTO>>(responses) {}.getType();
+        AccountRequestDTO request = new AccountRequestDTO("Benchmark Account", "0011223344", "ACTIVE");
+        requestJson = new ObjectMapper().writeValueAsBytes(request);
+        requestCbor = new CBORMapper().writeValueAsBytes(request);
+        output = new DiscardingOutputStream();
+        printPayloadSizes();
+    }
+
+    @Benchmark
+    public void writeResponseJson() throws IOException {
+        jsonProvider.writeTo(response, AccountResponseDTO.class, AccountResponseDTO.class, NO_ANNOTATIONS,
+                MediaType.APPLICATION_JSON_TYPE, null, output);
+    }
+
+    @Benchmark
+    public void writeResponseCbor() throws IOException {
+        cborProvider.writeTo(response, AccountResponseDTO.class, AccountResponseDTO.class, NO_ANNOTATIONS,
+                AccountCborProvider.APPLICATION_CBOR_TYPE, null, output);
+    }
+
+    @Benchmark
+    public void writeResponseListJson() throws IOException {
+        jsonProvider.writeTo(responses, List.class, responsesType, NO_ANNOTATIONS, MediaType.APPLICATION_JSON_TYPE,
+                null, output);
+    }
+
+    @Benchmark
+    public void writeResponseListCbor() throws IOException {
+        cborProvider.writeTo(responses, List.class, responsesType, NO_ANNOTATIONS,
+                AccountCborProvider.APPLICATION_CBOR_TYPE, null, output);
+    }
+
+    @Benchmark
+    public void writeResponseListCborFrames() throws IOException {
+        try (AccountFrameWriter frames = new AccountFrameWriter(cborFactory, output)) {
+            for (AccountResponseDTO account : responses) {
+                frames.write(account);
+            }
+        }
+    }
+
+    @Benchmark
+    public AccountRequestDTO readRequestJson() throws IOException {
+        return jsonProvider.readFrom(AccountRequestDTO.class, AccountRequestDTO.class, NO_ANNOTATIONS,
+                MediaType.APPLICATION_JSON_TYPE, null, new ByteArrayInputStream(requestJson));
+    }
+
+    @Benchmark
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Object readRequestCbor() throws IOException {
+        return cborProvider.readFrom((Class) AccountRequestDTO.class, AccountRequestDTO.class, NO_ANNOTATIONS,
+                AccountCborProvider.APPLICATION_CBOR_TYPE, null, new ByteArrayInputStream(requestCbor));
+    }
+
+    private void printPayloadSizes() throws IOException {
+        ByteArrayOutputStream json = new ByteArrayOutputStream();
+        jsonProvider.writeTo(responses, List.class, responsesType, NO_ANNOTATIONS, MediaType.APPLICATION_JSON_TYPE,
+                null, json);
+        ByteArrayOutputStream cbor = new ByteArrayOutputStream();
+        cborProvider.writeTo(responses, List.class, responsesType, NO_ANNOTATIONS,
+                AccountCborProvider.APPLICATION_CBOR_TYPE, null, cbor);
+        ByteArrayOutputStream frames = new ByteArrayOutputStream();
+        try (AccountFrameWriter writer = new AccountFrameWriter(cborFactory, frames)) {
+            for (AccountResponseDTO account : responses) {
+                writer.write(account);
+            }
+        }
+        System.out.printf("%n%d accounts: JSON %d bytes, CBOR %d bytes, CBOR frames %d bytes;"
+                        + " one request: JSON %d bytes, CBOR %d bytes%n", listSize, json.size(), cbor.size(),
+                frames.size(), requestJson.length, requestCbor.length);
+    }
+
+    /**
+     * Drops everything written and stays open after a provider closes it.
+     */
+    private static final class DiscardingOutputStream extends OutputStream {
+
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package pe.poc.account.benchmark;
+
+import java.time.Instant;
+import java.util.List;
+
+import pe.poc.account.application.dto.AccountChangeEventDTO;
+import pe.poc.account.application.port.output.IAccountChangeOutbox;
+
+/**
+ * Stub of the IAccountChangeOutbox interface for benchmarks.
+ * Appended events are counted and dropped, so long runs do not accumulate them.
+ */
+public class DiscardingAccountChangeOutbox implements IAccountChangeOutbox {
+
+    private long appended;
+
+    @Override
+    public void append(List<AccountChangeEventDTO> events) {
+        appended += events.size();
+    }
+
+    @Override
+    public List<AccountChangeEventDTO> findPublished(long after, int limit) {
+        return List.of();
+    }
+
+    @Override
+    public List<AccountChangeEventDTO> publishPending(int limit) {
+        return List.of();
+    }
+
+    @Override
+    public int deletePublishedBefore(Instant before) {
+        return 0;
+    }
+
+    /**
+     * Returns the number of events appended so far.
+     *
+     * @return The appended event count
+     */
+    public long getAppended() {
+        return appended;
+    }
+}
@@ -0,0 +1,56 @@
+package pe.poc.account.benchmark;
+
+import java.util.List;
+import java.util.Optional;
+
+import pe.poc.account.application.dto.AccountResponseDTO;
+import pe.poc.account.application.port.output.IAccountQueryRepository;
+import pe.poc.account.domain.model.Account;
+import pe.poc.account.domain.model.AccountStatus;
+import pe.poc.account.domain.model.valueobject.AccountId;
+
+/**
+ * In-memory stub of the IAccountQueryRepository interface for benchmarks.
+ * It projects the accounts held by an {@link InMemoryAccountRepository} into response views.
+ */
+public class InMemoryAccountQueryRepository implements IAccountQueryRepository {
+
+    private final InMemoryAccountRepository accountRepository;
+
+    public InMemoryAccountQueryRepository(InMemoryAccountRepository accountRepository) {
+        this.accountRepository = accountRepository;
+    }
+
+    @Override
+    public Optional<AccountResponseDTO> findById(AccountId id) {
+        return accountRepository.findById(id).map(this::toView);
+    }
+
+    @Override
+    public Optional<AccountResponseDTO> findByNumber(String number) {
+        return accountRepository.findByNumber(number).map(this::toView);
+    }
+
+    @Override
+    public List<AccountResponseDTO> findPage(AccountId after, int limit) {
+        return accountRepository.findPage(after, limit).stream()
+                .map(this::toView)
+                .toList();
+    }
+
+    @Override
+    public List<AccountResponseDTO> searchPage(AccountStatus status, String namePrefix, AccountId after, int limit) {
+        return accountRepository.findAll().stream()
+                .filter(account -> after == null || account.getId().getValue() > after.getValue())
+                .filter(account -> status == null || account.getStatus() == status)
+                .filter(account -> namePrefix == null || account.getAccount().startsWith(namePrefix))
+                .limit(limit)
+                .map(this::toView)
+                .toList();
+    }
+
+    private AccountResponseDTO toView(Account account) {
+        return new AccountResponseDTO(account.getId().getValue(), account.getAccount(), account.getNumber(),
+                account.getStatus(), account.getVersion());
+    }
+}
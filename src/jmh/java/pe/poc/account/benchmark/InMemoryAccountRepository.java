@@ -0,0 +1,144 @@
+package pe.poc.account.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import pe.poc.account.application.port.output.IAccountRepository;
+import pe.poc.account.domain.model.Account;
+import pe.poc.account.domain.model.AccountStatus;
+import pe.poc.account.domain.model.valueobject.AccountId;
+
+/**
+ * In-memory stub of the IAccountRepository interface for benchmarks.
+ * It keeps accounts in a sorted map so the use case can be measured without a database.
+ */
+public class InMemoryAccountRepository implements IAccountRepository {
+
+    private final ConcurrentSkipListMap<Long, Account> accounts = new ConcurrentSkipListMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Override
+    public Account save(Account account) {
+        Account savedAccount = account.toBuilder()
+                .id(AccountId.of(sequence.incrementAndGet()))
+                .version(0L)
+                .build();
+        accounts.put(savedAccount.getId().getValue(), savedAccount);
+        return savedAccount;
+    }
+
+    @Override
+    public List<Account> saveAll(List<Account> accountsToSave) {
+        List<Account> savedAccounts = new ArrayList<>(accountsToSave.size());
+        for (Account account : accountsToSave) {
+            savedAccounts.add(save(account));
+        }
+        return savedAccounts;
+    }
+
+    @Override
+    public Account update(Account account) {
+        Account updatedAccount = account.toBuilder()
+                .version(account.getVersion() != null ? account.getVersion() + 1 : 0L)
+                .build();
+        accounts.put(account.getId().getValue(), updatedAccount);
+        return updatedAccount;
+    }
+
+    @Override
+    public Optional<Account> updateStatus(AccountId id, AccountStatus status) {
+        Account account = accounts.get(id.getValue());
+        if (account == null) {
+            return Optional.empty();
+        }
+        Account updatedAccount = account.toBuilder().status(status).version(account.getVersion() + 1).build();
+        accounts.put(id.getValue(), updatedAccount);
+        return Optional.of(updatedAccount);
+    }
+
+    @Override
+    public List<Account> updateStatusAll(Collection<AccountId> ids, AccountStatus status) {
+        List<Account> updatedAccounts = new ArrayList<>();
+        for (AccountId id : ids) {
+            Account account = accounts.get(id.getValue());
+            if (account == null) {
+                continue;
+            }
+            if (account.getStatus() != status) {
+                account = account.toBuilder().status(status).version(account.getVersion() + 1).build();
+                accounts.put(id.getValue(), account);
+            }
+            updatedAccounts.add(account);
+        }
+        return updatedAccounts;
+    }
+
+    @Override
+    public List<Account> updateAll(List<Account> accountsToUpdate) {
+        return accountsToUpdate.stream()
+                .map(this::update)
+                .toList();
+    }
+
+    @Override
+    public Optional<Account> findById(AccountId id) {
+        return Optional.ofNullable(accounts.get(id.getValue()));
+    }
+
+    @Override
+    public Optional<Account> findByNumber(String number) {
+        return accounts.values().stream()
+                .filter(account -> account.getNumber().equals(number))
+                .findFirst();
+    }
+
+    @Override
+    public List<Account> findAllById(Collection<AccountId> ids) {
+        return ids.stream()
+                .map(id -> accounts.get(id.getValue()))
+                .filter(account -> account != null)
+                .toList();
+    }
+
+    @Override
+    public List<Account> findAll() {
+        return new ArrayList<>(accounts.values());
+    }
+
+    @Override
+    public List<Account> findPage(AccountId after, int limit) {
+        long from = after != null ? after.getValue() : 0L;
+        return accounts.tailMap(from, false).values().stream()
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public Stream<Account> streamAll() {
+        return accounts.values().stream();
+    }
+
+    @Override
+    public boolean deleteById(AccountId id) {
+        return accounts.remove(id.getValue()) != null;
+    }
+
+    @Override
+    public Set<AccountId> deleteAllById(Collection<AccountId> ids) {
+        return ids.stream()
+                .filter(this::deleteById)
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public boolean existsById(AccountId id) {
+        return accounts.containsKey(id.getValue());
+    }
+}
@@ -0,0 +1,47 @@
+package pe.poc.account.benchmark;
+
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+
+/**
+ * Stub of the TransactionSynchronizationRegistry interface for benchmarks.
+ * It reports that no transaction is active, so repositories apply their changes immediately.
+ */
+public class NoTransactionSynchronizationRegistry implements TransactionSynchronizationRegistry {
+
+    @Override
+    public Object getTransactionKey() {
+        return null;
+    }
+
+    @Override
+    public void putResource(Object key, Object value) {
+        throw new IllegalStateException("No transaction is active");
+    }
+
+    @Override
+    public Object getResource(Object key) {
+        return null;
+    }
+
+    @Override
+    public void registerInterposedSynchronization(Synchronization sync) {
+        throw new IllegalStateException("No transaction is active");
+    }
+
+    @Override
+    public int getTransactionStatus() {
+        return Status.STATUS_NO_TRANSACTION;
+    }
+
+    @Override
+    public void setRollbackOnly() {
+        throw new IllegalStateException("No transaction is active");
+    }
+
+    @Override
+    public boolean getRollbackOnly() {
+        return false;
+    }
+}
@@ -0,0 +1,116 @@
+package pe.poc.account.benchmark;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import pe.poc.account.application.port.output.IAccountRepository;
+import pe.poc.account.domain.model.Account;
+import pe.poc.account.domain.model.AccountStatus;
+import pe.poc.account.domain.model.valueobject.AccountId;
+import pe.poc.account.infrastructure.persistence.offheap.OffHeapAccountRepository;
+import pe.poc.account.infrastructure.persistence.offheap.OffHeapAccountStore;
+
+/**
+ * Benchmarks the off-heap repository against the on-heap stub at a large account count.
+ * Sample-time mode reports latency percentiles (p99 included) for random lookups and writes;
+ * the heap and direct memory held once the accounts are loaded is printed after setup, so the
+ * footprint of both can be compared at 1M and 10M accounts. The off-heap store runs without
+ * its log, which is measured through the load test instead.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx6g", "-XX:MaxDirectMemorySize=6g"})
+public class OffHeapAccountRepositoryBenchmark {
+
+    @Param({"1000000", "10000000"})
+    private int accountCount;
+
+    @Param({"off-heap", "on-heap"})
+    private String store;
+
+    private IAccountRepository accountRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        accountRepository = "off-heap".equals(store)
+                ? new OffHeapAccountRepository(new OffHeapAccountStore(accountCount),
+                new NoTransactionSynchronizationRegistry())
+                : new InMemoryAccountRepository();
+
+        // Load in batches so the source list never holds more than one batch
+        List<Account> batch = new ArrayList<>(10_000);
+        for (int i = 0; i < accountCount; i++) {
+            batch.add(Account.builder()
+                    .account("Benchmark Account " + i)
+                    .number(numberOf(i))
+                    .status(AccountStatus.ACTIVE)
+                    .build());
+            if (batch.size() == 10_000) {
+                accountRepository.saveAll(batch);
+                batch.clear();
+            }
+        }
+        accountRepository.saveAll(batch);
+        printFootprint();
+    }
+
+    @Benchmark
+    public Account findById() {
+        return accountRepository.findById(randomId()).orElseThrow();
+    }
+
+    @Benchmark
+    public Account findByNumber() {
+        return accountRepository.findByNumber(numberOf(ThreadLocalRandom.current().nextInt(accountCount)))
+                .orElseThrow();
+    }
+
+    @Benchmark
+    public List<Account> findPage() {
+        return accountRepository.findPage(randomId(), 50);
+    }
+
+    @Benchmark
+    public Account updateStatus() {
+        AccountStatus status = ThreadLocalRandom.current().nextBoolean()
+                ? AccountStatus.ACTIVE
+                : AccountStatus.INACTIVE;
+        return accountRepository.updateStatus(randomId(), status).orElseThrow();
+    }
+
+    private AccountId randomId() {
+        return AccountId.of(1L + ThreadLocalRandom.current().nextInt(accountCount));
+    }
+
+    private static String numberOf(int index) {
+        return String.format("%010d", index);
+    }
+
+    private void printFootprint() {
+        System.gc();
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        long direct = ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class).stream()
+                .filter(pool -> "direct".equals(pool.getName()))
+                .mapToLong(BufferPoolMXBean::getMemoryUsed)
+                .sum();
+        System.out.printf("%n%s store with %d accounts: heap used %d MB, direct memory %d MB%n", store,
+                accountCount, memory.getHeapMemoryUsage().getUsed() >> 20, direct >> 20);
+    }
+}
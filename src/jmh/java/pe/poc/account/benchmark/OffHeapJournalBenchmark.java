@@ -0,0 +1,93 @@
+package pe.poc.account.benchmark;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import io.quarkus.runtime.configuration.MemorySize;
+import pe.poc.account.application.port.output.IAccountRepository;
+import pe.poc.account.domain.model.Account;
+import pe.poc.account.domain.model.AccountStatus;
+import pe.poc.account.domain.model.valueobject.AccountId;
+import pe.poc.account.infrastructure.persistence.offheap.OffHeapAccountRepository;
+import pe.poc.account.infrastructure.persistence.offheap.OffHeapAccountStore;
+
+/**
+ * Benchmarks durable writes through the off-heap repository and its memory-mapped journal.
+ * Every operation waits for its journal frame to be forced, as a committed request would, so
+ * with fsync enabled the throughput across the concurrent threads shows how many commits each
+ * shared flush covers. Compare with the update rows of the load test on the JPA repository.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(16)
+public class OffHeapJournalBenchmark {
+
+    private static final int ACCOUNT_COUNT = 10_000;
+
+    @Param({"true", "false"})
+    private boolean fsync;
+
+    private Path journalDirectory;
+    private OffHeapAccountStore store;
+    private IAccountRepository accountRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        journalDirectory = Files.createTempDirectory("account-journal-benchmark");
+        MemorySize sixtyFourMegabytes = new MemorySize(BigInteger.valueOf(64L << 20));
+        store = new OffHeapAccountStore(journalDirectory, fsync, sixtyFourMegabytes, Duration.ZERO,
+                sixtyFourMegabytes, ACCOUNT_COUNT);
+        store.open();
+        accountRepository = new OffHeapAccountRepository(store, new NoTransactionSynchronizationRegistry());
+
+        List<Account> accounts = new ArrayList<>(ACCOUNT_COUNT);
+        for (int i = 0; i < ACCOUNT_COUNT; i++) {
+            accounts.add(Account.builder()
+                    .account("Benchmark Account " + i)
+                    .number(String.format("%010d", i))
+                    .status(AccountStatus.ACTIVE)
+                    .build());
+        }
+        accountRepository.saveAll(accounts);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        store.close();
+        try (Stream<Path> files = Files.walk(journalDirectory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public Account updateStatus() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        AccountStatus status = random.nextBoolean() ? AccountStatus.ACTIVE : AccountStatus.INACTIVE;
+        return accountRepository.updateStatus(AccountId.of(1L + random.nextInt(ACCOUNT_COUNT)), status)
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,150 @@
+package pe.poc.account.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import pe.poc.account.application.dto.AccountRequestDTO;
+
+/**
+ * Issues account API calls against a running application.
+ * Reads and status changes target the seeded accounts; deletes only target accounts
+ * created during the run, so the seeded set stays stable and deletes never 404.
+ */
+public class AccountLoadDriver {
+
+    /**
+     * Number of accounts created per batch request while seeding.
+     */
+    private static final int SEED_BATCH_SIZE = 500;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final URI accountsUri;
+    private final String runId = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong sequence = new AtomicLong();
+    private final List<Long> seededIds = new ArrayList<>();
+    private final ConcurrentLinkedQueue<Long> deletableIds = new ConcurrentLinkedQueue<>();
+
+    public AccountLoadDriver(URI accountsUri) {
+        this.accountsUri = accountsUri;
+    }
+
+    /**
+     * Creates the accounts the run operates on through the batch endpoint.
+     *
+     * @param count The number of accounts
+     * @throws IOException if a batch request fails
+     * @throws InterruptedException if interrupted while waiting for a response
+     */
+    public void seed(int count) throws IOException, InterruptedException {
+        for (int created = 0; created < count; created += SEED_BATCH_SIZE) {
+            List<AccountRequestDTO> batch = new ArrayList<>();
+            for (int i = created; i < Math.min(count, created + SEED_BATCH_SIZE); i++) {
+                batch.add(newAccount());
+            }
+
+            HttpRequest request = HttpRequest.newBuilder(URI.create(accountsUri + "/batch"))
+                    .header("Content-Type", "application/json")
+                    .POST(BodyPublishers.ofString(objectMapper.writeValueAsString(batch)))
+                    .build();
+            HttpResponse<String> response = httpClient.send(request, BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IOException("Seeding failed with status " + response.statusCode() + ": " + response.body());
+            }
+
+            for (JsonNode item : objectMapper.readTree(response.body()).path("items")) {
+                if (item.path("status").asInt() == 201) {
+                    seededIds.add(item.path("id").asLong());
+                }
+            }
+        }
+        if (seededIds.isEmpty() && count > 0) {
+            throw new IOException("Seeding created no accounts");
+        }
+    }
+
+    /**
+     * Sends one request for the given operation without waiting for the response.
+     *
+     * @param operation The operation to run
+     * @return A future completed with the HTTP status, or with null when the operation had
+     *         nothing to act on (a delete before any account was created during the run)
+     */
+    public CompletableFuture<Integer> execute(AccountOperation operation) {
+        HttpRequest request = switch (operation) {
+            case CREATE -> jsonRequest(accountsUri.toString()).POST(body(newAccount())).build();
+            case UPDATE -> jsonRequest(accountsUri + "/" + randomSeededId()).PUT(body(newAccount())).build();
+            case GET_BY_ID -> jsonRequest(accountsUri + "/" + randomSeededId()).GET().build();
+            case GET_ALL -> jsonRequest(accountsUri.toString()).GET().build();
+            case ACTIVATE -> jsonRequest(accountsUri + "/" + randomSeededId() + "/activate")
+                    .PUT(BodyPublishers.noBody()).build();
+            case DEACTIVATE -> jsonRequest(accountsUri + "/" + randomSeededId() + "/deactivate")
+                    .PUT(BodyPublishers.noBody()).build();
+            case DELETE -> {
+                Long id = deletableIds.poll();
+                yield id != null ? jsonRequest(accountsUri + "/" + id).DELETE().build() : null;
+            }
+        };
+        if (request == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return httpClient.sendAsync(request, BodyHandlers.ofString())
+                .thenApply(response -> {
+                    if (operation == AccountOperation.CREATE && response.statusCode() == 201) {
+                        deletableIds.add(readId(response.body()));
+                    }
+                    return response.statusCode();
+                });
+    }
+
+    private AccountRequestDTO newAccount() {
+        long n = sequence.incrementAndGet();
+        return AccountRequestDTO.builder()
+                .account("Load test account " + n)
+                .number("LT-" + runId + "-" + n)
+                .status("ACTIVE")
+                .build();
+    }
+
+    private long randomSeededId() {
+        return seededIds.get(ThreadLocalRandom.current().nextInt(seededIds.size()));
+    }
+
+    private HttpRequest.Builder jsonRequest(String uri) {
+        return HttpRequest.newBuilder(URI.create(uri))
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json");
+    }
+
+    private HttpRequest.BodyPublisher body(AccountRequestDTO account) {
+        try {
+            return BodyPublishers.ofString(objectMapper.writeValueAsString(account));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private long readId(String body) {
+        try {
+            return objectMapper.readTree(body).path("id").asLong();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
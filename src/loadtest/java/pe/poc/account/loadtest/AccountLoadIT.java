@@ -0,0 +1,49 @@
+package pe.poc.account.loadtest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URL;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.test.common.WithTestResource;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.test.junit.QuarkusIntegrationTest;
+
+/**
+ * Load test of the account API against the packaged application (JVM jar or native binary)
+ * running on in-memory H2. Run with {@code ./mvnw -Ploadtest verify}, or
+ * {@code ./mvnw -Ploadtest,native verify} for the native executable; settings are the
+ * {@code loadtest.*} system properties read by {@link LoadTestConfig}.
+ */
+@QuarkusIntegrationTest
+@WithTestResource(InMemoryH2TestResource.class)
+class AccountLoadIT {
+
+    @TestHTTPResource("/api/accounts")
+    URL accountsUrl;
+
+    @Test
+    void testAccountApi_FixedArrivalRate_StaysWithinErrorAndLatencyBudget() throws Exception {
+        // Arrange
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        AccountLoadDriver driver = new AccountLoadDriver(accountsUrl.toURI());
+        driver.seed(config.getSeedAccounts());
+
+        // Act
+        LatencyReport report = new OpenModelLoadGenerator(config).run(driver);
+
+        // Assert
+        report.print(System.out);
+        // Compare before writing, the baseline may live in the report directory
+        List<String> regressions = config.getBaseline() != null
+                ? report.regressionsAgainst(config.getBaseline(), config.getTolerance())
+                : List.of();
+        report.write(config.getReportDirectory());
+        assertTrue(report.getErrorRate() <= config.getMaxErrorRate(),
+                "Error rate " + report.getErrorRate() + " exceeds " + config.getMaxErrorRate());
+        assertEquals(List.of(), regressions, "Latency regressions against " + config.getBaseline());
+    }
+}
@@ -0,0 +1,57 @@
+package pe.poc.account.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * The account API operations driven by the load test, one per AccountController endpoint.
+ */
+public enum AccountOperation {
+
+    CREATE("create", "POST /api/accounts"),
+    UPDATE("update", "PUT /api/accounts/{id}"),
+    GET_BY_ID("get", "GET /api/accounts/{id}"),
+    GET_ALL("list", "GET /api/accounts"),
+    DELETE("delete", "DELETE /api/accounts/{id}"),
+    ACTIVATE("activate", "PUT /api/accounts/{id}/activate"),
+    DEACTIVATE("deactivate", "PUT /api/accounts/{id}/deactivate");
+
+    private final String key;
+    private final String endpoint;
+
+    AccountOperation(String key, String endpoint) {
+        this.key = key;
+        this.endpoint = endpoint;
+    }
+
+    /**
+     * Returns the short name used in the {@code loadtest.mix} property and report file names.
+     *
+     * @return The operation key
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Returns the HTTP method and path template of the operation.
+     *
+     * @return The endpoint description
+     */
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * Finds an operation by its key.
+     *
+     * @param key The operation key
+     * @return The operation
+     * @throws IllegalArgumentException if no operation has that key
+     */
+    public static AccountOperation fromKey(String key) {
+        return Arrays.stream(values())
+                .filter(operation -> operation.key.equals(key))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown load test operation: " + key));
+    }
+}
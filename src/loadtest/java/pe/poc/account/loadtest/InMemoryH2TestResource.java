@@ -0,0 +1,48 @@
+package pe.poc.account.loadtest;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import io.quarkus.test.common.QuarkusTestResourceLifecycleManager;
+
+/**
+ * Starts the packaged application on the in-memory H2 configuration used by the unit tests.
+ * The datasource and Hibernate ORM entries of {@code src/test/resources/application.properties}
+ * are passed to the launched JVM or native binary as overrides, so the load test never
+ * touches the file database of the default profile.
+ */
+public class InMemoryH2TestResource implements QuarkusTestResourceLifecycleManager {
+
+    private static final Path TEST_CONFIG = Path.of("src", "test", "resources", "application.properties");
+
+    @Override
+    public Map<String, String> start() {
+        Properties testConfig = new Properties();
+        try (Reader reader = Files.newBufferedReader(TEST_CONFIG)) {
+            testConfig.load(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read " + TEST_CONFIG, e);
+        }
+
+        Map<String, String> overrides = new HashMap<>();
+        for (String name : testConfig.stringPropertyNames()) {
+            if (name.startsWith("quarkus.datasource.") || name.startsWith("quarkus.hibernate-orm.")) {
+                overrides.put(name, testConfig.getProperty(name));
+            }
+        }
+        // Console SQL logging would dominate the measured latencies
+        overrides.put("quarkus.hibernate-orm.log.sql", "false");
+        return overrides;
+    }
+
+    @Override
+    public void stop() {
+        // The in-memory database goes away with the application process
+    }
+}
@@ -0,0 +1,159 @@
+package pe.poc.account.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Per-operation latency histograms and error counts of a load test run.
+ * Latencies are recorded in microseconds and reported in milliseconds.
+ */
+public class LatencyReport {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final String SUMMARY_FILE = "summary.csv";
+    private static final String SUMMARY_HEADER = "operation,count,errors,skipped,p50_ms,p99_ms,p99.9_ms,max_ms";
+
+    private final Map<AccountOperation, Histogram> histograms = new EnumMap<>(AccountOperation.class);
+    private final Map<AccountOperation, AtomicLong> errors = new EnumMap<>(AccountOperation.class);
+    private final Map<AccountOperation, AtomicLong> skipped = new EnumMap<>(AccountOperation.class);
+
+    public LatencyReport() {
+        for (AccountOperation operation : AccountOperation.values()) {
+            histograms.put(operation, new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS));
+            errors.put(operation, new AtomicLong());
+            skipped.put(operation, new AtomicLong());
+        }
+    }
+
+    /**
+     * Records the outcome of one request.
+     *
+     * @param operation The operation
+     * @param latencyNanos The time from the intended start of the request to its completion
+     * @param status The HTTP status, or null if the request failed without a response
+     * @param failure The failure, or null
+     */
+    public void record(AccountOperation operation, long latencyNanos, Integer status, Throwable failure) {
+        long micros = Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS);
+        histograms.get(operation).recordValue(micros);
+        if (failure != null || status == null || status >= 400) {
+            errors.get(operation).incrementAndGet();
+        }
+    }
+
+    /**
+     * Records an operation that was scheduled but had nothing to act on.
+     *
+     * @param operation The operation
+     */
+    public void recordSkipped(AccountOperation operation) {
+        skipped.get(operation).incrementAndGet();
+    }
+
+    /**
+     * Returns the fraction of recorded requests that failed.
+     *
+     * @return The error rate, between 0 and 1
+     */
+    public double getErrorRate() {
+        long total = histograms.values().stream().mapToLong(Histogram::getTotalCount).sum();
+        long failed = errors.values().stream().mapToLong(AtomicLong::get).sum();
+        return total == 0 ? 0 : (double) failed / total;
+    }
+
+    /**
+     * Prints the per-operation summary table.
+     *
+     * @param out The stream to print to
+     */
+    public void print(PrintStream out) {
+        out.printf("%-36s %8s %7s %9s %9s %9s %9s%n", "endpoint", "count", "errors", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (AccountOperation operation : AccountOperation.values()) {
+            Histogram histogram = histograms.get(operation);
+            if (histogram.getTotalCount() == 0) {
+                continue;
+            }
+            out.printf("%-36s %8d %7d %9.2f %9.2f %9.2f %9.2f%n", operation.getEndpoint(), histogram.getTotalCount(),
+                    errors.get(operation).get(), millis(histogram, 50), millis(histogram, 99), millis(histogram, 99.9),
+                    histogram.getMaxValue() / 1000.0);
+        }
+    }
+
+    /**
+     * Writes {@code summary.csv} and one HdrHistogram percentile distribution
+     * ({@code <operation>.hgrm}) per operation to the given directory.
+     *
+     * @param directory The report directory
+     * @throws IOException if a file cannot be written
+     */
+    public void write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        List<String> lines = new ArrayList<>();
+        lines.add(SUMMARY_HEADER);
+        for (AccountOperation operation : AccountOperation.values()) {
+            Histogram histogram = histograms.get(operation);
+            lines.add(String.format(Locale.ROOT, "%s,%d,%d,%d,%.3f,%.3f,%.3f,%.3f", operation.getKey(),
+                    histogram.getTotalCount(), errors.get(operation).get(), skipped.get(operation).get(),
+                    millis(histogram, 50), millis(histogram, 99), millis(histogram, 99.9),
+                    histogram.getMaxValue() / 1000.0));
+            if (histogram.getTotalCount() > 0) {
+                try (PrintStream out = new PrintStream(directory.resolve(operation.getKey() + ".hgrm").toFile())) {
+                    histogram.outputPercentileDistribution(out, 1000.0);
+                }
+            }
+        }
+        Files.write(directory.resolve(SUMMARY_FILE), lines);
+    }
+
+    /**
+     * Compares the p99 of each operation with the summary of a previous run.
+     *
+     * @param baseline The directory or {@code summary.csv} file of the previous run
+     * @param tolerance The allowed relative increase, e.g. 0.2 for 20%
+     * @return One message per operation whose p99 regressed beyond the tolerance
+     * @throws IOException if the baseline cannot be read
+     */
+    public List<String> regressionsAgainst(Path baseline, double tolerance) throws IOException {
+        Path summary = Files.isDirectory(baseline) ? baseline.resolve(SUMMARY_FILE) : baseline;
+        Map<String, Double> baselineP99 = new HashMap<>();
+        for (String line : Files.readAllLines(summary)) {
+            String[] columns = line.split(",");
+            if (!line.equals(SUMMARY_HEADER) && columns.length > 5 && Long.parseLong(columns[1]) > 0) {
+                baselineP99.put(columns[0], Double.parseDouble(columns[5]));
+            }
+        }
+
+        List<String> regressions = new ArrayList<>();
+        for (AccountOperation operation : AccountOperation.values()) {
+            Histogram histogram = histograms.get(operation);
+            Double previous = baselineP99.get(operation.getKey());
+            if (previous == null || histogram.getTotalCount() == 0) {
+                continue;
+            }
+            double current = millis(histogram, 99);
+            if (current > previous * (1 + tolerance)) {
+                regressions.add(String.format("%s p99 %.2f ms exceeds baseline %.2f ms by more than %.0f%%",
+                        operation.getEndpoint(), current, previous, tolerance * 100));
+            }
+        }
+        return regressions;
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+}
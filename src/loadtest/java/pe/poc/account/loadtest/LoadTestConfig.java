@@ -0,0 +1,121 @@
+package pe.poc.account.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+import lombok.Getter;
+
+/**
+ * Load test settings, read from {@code loadtest.*} system properties so they can be
+ * overridden on the Maven command line (e.g. {@code -Dloadtest.rate=500}).
+ */
+@Getter
+public final class LoadTestConfig {
+
+    private static final String DEFAULT_MIX = "create=10,update=10,get=45,list=5,delete=10,activate=10,deactivate=10";
+
+    /**
+     * The arrival rate in requests per second.
+     */
+    private final double rate;
+
+    /**
+     * The unmeasured warm-up period.
+     */
+    private final Duration warmup;
+
+    /**
+     * The measured period.
+     */
+    private final Duration duration;
+
+    /**
+     * The number of accounts created before the run.
+     */
+    private final int seedAccounts;
+
+    /**
+     * The weight of each operation.
+     */
+    private final Map<AccountOperation, Integer> mix;
+
+    /**
+     * The directory the summary and histograms are written to.
+     */
+    private final Path reportDirectory;
+
+    /**
+     * The summary of a previous run to compare against, or null.
+     */
+    private final Path baseline;
+
+    /**
+     * The allowed relative p99 increase over the baseline.
+     */
+    private final double tolerance;
+
+    /**
+     * The maximum allowed fraction of failed requests.
+     */
+    private final double maxErrorRate;
+
+    private LoadTestConfig(double rate, Duration warmup, Duration duration, int seedAccounts,
+                           Map<AccountOperation, Integer> mix, Path reportDirectory, Path baseline,
+                           double tolerance, double maxErrorRate) {
+        this.rate = rate;
+        this.warmup = warmup;
+        this.duration = duration;
+        this.seedAccounts = seedAccounts;
+        this.mix = mix;
+        this.reportDirectory = reportDirectory;
+        this.baseline = baseline;
+        this.tolerance = tolerance;
+        this.maxErrorRate = maxErrorRate;
+    }
+
+    /**
+     * Reads the configuration from system properties, falling back to the defaults.
+     *
+     * @return The load test configuration
+     */
+    public static LoadTestConfig fromSystemProperties() {
+        String baseline = System.getProperty("loadtest.baseline");
+        return new LoadTestConfig(
+                Double.parseDouble(System.getProperty("loadtest.rate", "200")),
+                Duration.parse(System.getProperty("loadtest.warmup", "PT10S")),
+                Duration.parse(System.getProperty("loadtest.duration", "PT30S")),
+                Integer.parseInt(System.getProperty("loadtest.seed-accounts", "1000")),
+                parseMix(System.getProperty("loadtest.mix", DEFAULT_MIX)),
+                Path.of(System.getProperty("loadtest.report-dir", "target/loadtest")),
+                baseline != null && !baseline.isBlank() ? Path.of(baseline) : null,
+                Double.parseDouble(System.getProperty("loadtest.tolerance", "0.20")),
+                Double.parseDouble(System.getProperty("loadtest.max-error-rate", "0.01")));
+    }
+
+    /**
+     * Parses an operation mix such as {@code get=80,update=20}. Omitted operations get weight 0.
+     *
+     * @param mix The mix definition
+     * @return The weight of each operation
+     */
+    static Map<AccountOperation, Integer> parseMix(String mix) {
+        Map<AccountOperation, Integer> weights = new EnumMap<>(AccountOperation.class);
+        for (String entry : mix.split(",")) {
+            String[] keyValue = entry.trim().split("=");
+            if (keyValue.length != 2) {
+                throw new IllegalArgumentException("Invalid loadtest.mix entry: " + entry);
+            }
+            int weight = Integer.parseInt(keyValue[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Negative loadtest.mix weight: " + entry);
+            }
+            weights.put(AccountOperation.fromKey(keyValue[0].trim()), weight);
+        }
+        if (weights.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("loadtest.mix must give at least one operation a positive weight");
+        }
+        return weights;
+    }
+}
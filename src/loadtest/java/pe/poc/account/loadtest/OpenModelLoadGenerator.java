@@ -0,0 +1,105 @@
+package pe.poc.account.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives the account API at a fixed arrival rate (open model).
+ * Requests are started on a fixed schedule whether or not earlier ones have completed, and
+ * latency is measured from the intended start time rather than the actual send time, so a
+ * stalled server shows up as queueing delay in the histograms instead of silently lowering
+ * the offered load (coordinated omission).
+ */
+public class OpenModelLoadGenerator {
+
+    /**
+     * How long to wait for in-flight requests once the schedule has ended.
+     */
+    private static final long DRAIN_TIMEOUT_SECONDS = 60;
+
+    private final LoadTestConfig config;
+    private final AccountOperation[] operations;
+    private final int[] cumulativeWeights;
+
+    public OpenModelLoadGenerator(LoadTestConfig config) {
+        this.config = config;
+        this.operations = config.getMix().keySet().toArray(AccountOperation[]::new);
+        this.cumulativeWeights = new int[operations.length];
+        int total = 0;
+        for (int i = 0; i < operations.length; i++) {
+            total += config.getMix().get(operations[i]);
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    /**
+     * Runs the warm-up and the measured period.
+     *
+     * @param driver The driver issuing the requests
+     * @return The latencies recorded during the measured period
+     * @throws InterruptedException if interrupted while running
+     * @throws TimeoutException if in-flight requests do not complete after the run
+     */
+    public LatencyReport run(AccountLoadDriver driver) throws InterruptedException, TimeoutException {
+        LatencyReport report = new LatencyReport();
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / config.getRate());
+        long start = System.nanoTime();
+        long measureFrom = start + config.getWarmup().toNanos();
+        long end = measureFrom + config.getDuration().toNanos();
+        List<CompletableFuture<?>> inFlight = new ArrayList<>();
+
+        for (long i = 0; ; i++) {
+            long intendedStart = start + i * intervalNanos;
+            if (intendedStart >= end) {
+                break;
+            }
+            long delay = intendedStart - System.nanoTime();
+            if (delay > 0) {
+                LockSupport.parkNanos(delay);
+            }
+
+            AccountOperation operation = nextOperation();
+            boolean measured = intendedStart >= measureFrom;
+            inFlight.add(driver.execute(operation).whenComplete((status, failure) -> {
+                if (!measured) {
+                    return;
+                }
+                if (status == null && failure == null) {
+                    report.recordSkipped(operation);
+                } else {
+                    report.record(operation, System.nanoTime() - intendedStart, status, failure);
+                }
+            }));
+
+            // Keep the pending list bounded on long runs
+            if (inFlight.size() >= 1024) {
+                inFlight.removeIf(CompletableFuture::isDone);
+            }
+        }
+
+        try {
+            CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new))
+                    .get(DRAIN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            // Failed requests have already been recorded as errors
+        }
+        return report;
+    }
+
+    private AccountOperation nextOperation() {
+        int roll = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (roll < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+}
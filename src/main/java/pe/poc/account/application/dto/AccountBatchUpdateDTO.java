@@ -0,0 +1,44 @@
+package pe.poc.account.application.dto;
+
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for one item of a bulk account update request.
+ * Items are validated one by one so a single invalid item does not reject the whole batch.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@RegisterForReflection
+public class AccountBatchUpdateDTO {
+
+    /**
+     * The ID of the account to update.
+     */
+    private Long id;
+
+    /**
+     * The account name.
+     */
+    private String account;
+
+    /**
+     * The account number.
+     */
+    private String number;
+
+    /**
+     * The account status (ACTIVE, INACTIVE, SUSPENDED).
+     */
+    private String status;
+
+    /**
+     * The version the account must still be at, or null to update any version.
+     */
+    private Long version;
+}
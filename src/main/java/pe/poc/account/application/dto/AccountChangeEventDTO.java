@@ -0,0 +1,48 @@
+package pe.poc.account.application.dto;
+
+import java.time.Instant;
+
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import pe.poc.account.domain.model.AccountChangeType;
+
+/**
+ * Data Transfer Object for one event of the account change stream.
+ * Events are appended to the outbox in the transaction of the mutation, and receive their
+ * offset when the relay publishes them.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@RegisterForReflection
+public class AccountChangeEventDTO {
+
+    /**
+     * Position of the event in the stream, or null until the event is published.
+     */
+    private Long offset;
+
+    /**
+     * The kind of mutation.
+     */
+    private AccountChangeType type;
+
+    /**
+     * The ID of the mutated account.
+     */
+    private Long accountId;
+
+    /**
+     * The account after the mutation, or null for a deletion.
+     */
+    private AccountResponseDTO account;
+
+    /**
+     * When the mutation happened.
+     */
+    private Instant occurredAt;
+}
@@ -0,0 +1,31 @@
+package pe.poc.account.application.dto;
+
+import java.util.List;
+
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for a page of the account change stream.
+ * Consumers resume by passing {@code nextOffset} as the {@code after} parameter.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@RegisterForReflection
+public class AccountChangePageDTO {
+
+    /**
+     * The events of the page, ordered by offset.
+     */
+    private List<AccountChangeEventDTO> items;
+
+    /**
+     * The offset to resume from: the last offset of the page, or the requested one when the page is empty.
+     */
+    private Long nextOffset;
+}
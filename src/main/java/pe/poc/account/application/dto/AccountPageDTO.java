@@ -0,0 +1,31 @@
+package pe.poc.account.application.dto;
+
+import java.util.List;
+
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for a keyset-paginated page of accounts.
+ * The next page is requested by passing {@code nextCursor} as the {@code after} parameter.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@RegisterForReflection
+public class AccountPageDTO {
+
+    /**
+     * The accounts of the page, ordered by ID.
+     */
+    private List<AccountResponseDTO> items;
+
+    /**
+     * The cursor of the next page, or null if this is the last page.
+     */
+    private Long nextCursor;
+}
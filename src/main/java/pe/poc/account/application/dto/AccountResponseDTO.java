@@ -5,13 +5,14 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import pe.poc.account.domain.model.AccountStatus;
 
 /**
  * Data Transfer Object for account responses.
  * This DTO is used to transfer account data from the application layer to the client.
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @RegisterForReflection
@@ -35,5 +36,10 @@ public class AccountResponseDTO {
     /**
      * The account status.
      */
-    private String status;
+    private AccountStatus status;
+
+    /**
+     * The account version, also sent as the ETag of single-account responses.
+     */
+    private Long version;
 }
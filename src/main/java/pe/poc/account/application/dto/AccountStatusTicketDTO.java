@@ -0,0 +1,72 @@
+package pe.poc.account.application.dto;
+
+import java.time.Instant;
+
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import pe.poc.account.domain.model.AccountStatus;
+
+/**
+ * Data Transfer Object tracking a status change accepted for deferred, batched writing.
+ */
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+@RegisterForReflection
+public class AccountStatusTicketDTO {
+
+    /**
+     * Progress of a deferred status change.
+     */
+    public enum State {
+        /** Queued, not written yet. */
+        PENDING,
+        /** Written; the account has the requested status. */
+        APPLIED,
+        /** Replaced by a later change of the same account before it was written. */
+        SUPERSEDED,
+        /** Not written because the account does not exist. */
+        NOT_FOUND,
+        /** Not written because the batch holding it failed. */
+        FAILED
+    }
+
+    /**
+     * The token identifying the change.
+     */
+    private String token;
+
+    /**
+     * The account ID.
+     */
+    private Long accountId;
+
+    /**
+     * The requested status.
+     */
+    private AccountStatus status;
+
+    /**
+     * The progress of the change.
+     */
+    private State state;
+
+    /**
+     * The account version after the change, once applied.
+     */
+    private Long version;
+
+    /**
+     * When the change was accepted.
+     */
+    private Instant acceptedAt;
+
+    /**
+     * When the change was written or discarded.
+     */
+    private Instant completedAt;
+}
@@ -0,0 +1,43 @@
+package pe.poc.account.application.dto;
+
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for the outcome of one item of a bulk request.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@RegisterForReflection
+public class BatchItemResultDTO {
+
+    /**
+     * The position of the item in the request.
+     */
+    private int index;
+
+    /**
+     * The account ID, when known.
+     */
+    private Long id;
+
+    /**
+     * The HTTP status code describing the outcome of the item.
+     */
+    private int status;
+
+    /**
+     * The error message, if the item failed.
+     */
+    private String error;
+
+    /**
+     * The resulting account, if the item was created or updated.
+     */
+    private AccountResponseDTO account;
+}
@@ -0,0 +1,36 @@
+package pe.poc.account.application.dto;
+
+import java.util.List;
+
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for the result of a bulk request.
+ * It reports the outcome of every item in request order.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@RegisterForReflection
+public class BatchResultDTO {
+
+    /**
+     * The outcome of each item, in request order.
+     */
+    private List<BatchItemResultDTO> items;
+
+    /**
+     * The number of items that succeeded.
+     */
+    private int succeeded;
+
+    /**
+     * The number of items that failed.
+     */
+    private int failed;
+}
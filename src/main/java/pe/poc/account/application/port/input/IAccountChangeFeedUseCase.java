@@ -0,0 +1,20 @@
+package pe.poc.account.application.port.input;
+
+import pe.poc.account.application.dto.AccountChangePageDTO;
+
+/**
+ * Interface defining the account change feed use case.
+ * This is an input port in the hexagonal architecture that lets consumers follow
+ * account mutations from an offset instead of polling the account list.
+ */
+public interface IAccountChangeFeedUseCase {
+
+    /**
+     * Retrieves the published change events after an offset.
+     *
+     * @param after The offset after which the events start, or null for the beginning of the stream
+     * @param limit The maximum number of events, or null for the default
+     * @return A page of change events
+     */
+    AccountChangePageDTO getChanges(Long after, Integer limit);
+}
@@ -1,9 +1,15 @@
 package pe.poc.account.application.port.input;
 
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
+import pe.poc.account.application.dto.AccountBatchUpdateDTO;
+import pe.poc.account.application.dto.AccountPageDTO;
 import pe.poc.account.application.dto.AccountRequestDTO;
 import pe.poc.account.application.dto.AccountResponseDTO;
+import pe.poc.account.application.dto.BatchResultDTO;
+import pe.poc.account.domain.model.AccountStatus;
 
 /**
  * Interface defining the account management use cases.
@@ -21,14 +27,34 @@ public interface IAccountManagementUseCase {
     AccountResponseDTO createAccount(AccountRequestDTO accountRequestDTO);
     
     /**
-     * Updates an existing account.
+     * Creates several accounts in a single transaction using batched writes.
+     * Invalid items are reported individually and do not prevent the valid ones from being created.
+     *
+     * @param accountRequestDTOs The accounts data
+     * @return The outcome of each item
+     */
+    BatchResultDTO createAccounts(List<AccountRequestDTO> accountRequestDTOs);
+
+    /**
+     * Updates an existing account, optionally only if it is still at the expected version.
      *
      * @param id The account ID
      * @param accountRequestDTO The updated account data
+     * @param expectedVersion The version the account must be at, or null to update any version
      * @return The updated account
+     * @throws pe.poc.account.domain.exception.AccountVersionMismatchException if the account is at another version
      */
-    AccountResponseDTO updateAccount(Long id, AccountRequestDTO accountRequestDTO);
+    AccountResponseDTO updateAccount(Long id, AccountRequestDTO accountRequestDTO, Long expectedVersion);
     
+    /**
+     * Updates several existing accounts in a single transaction using batched writes.
+     * Invalid or missing items, and items no longer at their expected version, are reported individually.
+     *
+     * @param accountBatchUpdateDTOs The updated accounts data, each with its account ID
+     * @return The outcome of each item
+     */
+    BatchResultDTO updateAccounts(List<AccountBatchUpdateDTO> accountBatchUpdateDTOs);
+
     /**
      * Retrieves an account by its ID.
      *
@@ -38,11 +64,34 @@ public interface IAccountManagementUseCase {
     AccountResponseDTO getAccountById(Long id);
     
     /**
-     * Retrieves all accounts.
+     * Retrieves a page of accounts using keyset pagination.
+     *
+     * @param after The ID after which the page starts, or null for the first page
+     * @param limit The maximum number of accounts in the page, or null for the default page size
+     * @return The page of accounts
+     */
+    AccountPageDTO getAccountsPage(Long after, Integer limit);
+
+    /**
+     * Searches accounts by number, status and name prefix using keyset pagination.
+     * A null or blank filter is not applied; a number search returns at most one account.
      *
-     * @return A list of all accounts
+     * @param number The account number, or null
+     * @param status The account status, or null
+     * @param namePrefix The prefix of the account name, or null
+     * @param after The ID after which the page starts, or null for the first page
+     * @param limit The maximum number of accounts in the page, or null for the default page size
+     * @return The page of matching accounts
      */
-    List<AccountResponseDTO> getAllAccounts();
+    AccountPageDTO searchAccounts(String number, String status, String namePrefix, Long after, Integer limit);
+
+    /**
+     * Streams all accounts to the given consumer, one at a time, without
+     * holding the whole result in memory.
+     *
+     * @param consumer The consumer receiving each account
+     */
+    void streamAllAccounts(Consumer<AccountResponseDTO> consumer);
     
     /**
      * Deletes an account by its ID.
@@ -51,6 +100,15 @@ public interface IAccountManagementUseCase {
      */
     void deleteAccount(Long id);
     
+    /**
+     * Deletes several accounts in a single statement.
+     * Missing accounts are reported individually.
+     *
+     * @param ids The account IDs
+     * @return The outcome of each item
+     */
+    BatchResultDTO deleteAccounts(List<Long> ids);
+
     /**
      * Activates an account by setting its status to "ACTIVE".
      *
@@ -66,4 +124,15 @@ public interface IAccountManagementUseCase {
      * @return The deactivated account
      */
     AccountResponseDTO deactivateAccount(Long id);
+
+    /**
+     * Applies status changes to several accounts in a single transaction, with one batched
+     * statement per target status. A change event is only recorded for the accounts whose
+     * status changed; accounts already in their target status keep their version.
+     *
+     * @param statuses The new status of each account, by account ID
+     * @return The existing accounts after the change; missing IDs are left out
+     * @throws pe.poc.account.domain.exception.InvalidAccountDataException if the batch is empty or too large
+     */
+    List<AccountResponseDTO> applyStatusChanges(Map<Long, AccountStatus> statuses);
 }
\ No newline at end of file
@@ -0,0 +1,73 @@
+package pe.poc.account.application.port.input;
+
+import io.smallrye.mutiny.Uni;
+import pe.poc.account.application.dto.AccountPageDTO;
+import pe.poc.account.application.dto.AccountRequestDTO;
+import pe.poc.account.application.dto.AccountResponseDTO;
+
+/**
+ * Interface defining the non-blocking account management use cases.
+ * This is the reactive counterpart of {@link IAccountManagementUseCase}: every operation
+ * returns a lazy {@link Uni} instead of blocking the calling thread.
+ */
+public interface IReactiveAccountManagementUseCase {
+
+    /**
+     * Creates a new account.
+     *
+     * @param accountRequestDTO The account data
+     * @return A Uni emitting the created account
+     */
+    Uni<AccountResponseDTO> createAccount(AccountRequestDTO accountRequestDTO);
+
+    /**
+     * Updates an existing account, optionally only if it is still at the expected version.
+     *
+     * @param id The account ID
+     * @param accountRequestDTO The updated account data
+     * @param expectedVersion The version the account must be at, or null to update any version
+     * @return A Uni emitting the updated account, or failing with AccountVersionMismatchException
+     */
+    Uni<AccountResponseDTO> updateAccount(Long id, AccountRequestDTO accountRequestDTO, Long expectedVersion);
+
+    /**
+     * Retrieves an account by its ID.
+     *
+     * @param id The account ID
+     * @return A Uni emitting the account, or failing with AccountNotFoundException
+     */
+    Uni<AccountResponseDTO> getAccountById(Long id);
+
+    /**
+     * Retrieves a page of accounts using keyset pagination.
+     *
+     * @param after The ID after which the page starts, or null for the first page
+     * @param limit The maximum number of accounts in the page, or null for the default page size
+     * @return A Uni emitting the page of accounts
+     */
+    Uni<AccountPageDTO> getAccountsPage(Long after, Integer limit);
+
+    /**
+     * Deletes an account by its ID.
+     *
+     * @param id The account ID
+     * @return A Uni completing once the account is deleted
+     */
+    Uni<Void> deleteAccount(Long id);
+
+    /**
+     * Activates an account by setting its status to "ACTIVE".
+     *
+     * @param id The account ID
+     * @return A Uni emitting the activated account
+     */
+    Uni<AccountResponseDTO> activateAccount(Long id);
+
+    /**
+     * Deactivates an account by setting its status to "INACTIVE".
+     *
+     * @param id The account ID
+     * @return A Uni emitting the deactivated account
+     */
+    Uni<AccountResponseDTO> deactivateAccount(Long id);
+}
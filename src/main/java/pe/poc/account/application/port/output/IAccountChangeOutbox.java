@@ -0,0 +1,47 @@
+package pe.poc.account.application.port.output;
+
+import java.time.Instant;
+import java.util.List;
+
+import pe.poc.account.application.dto.AccountChangeEventDTO;
+
+/**
+ * Outbox of account change events.
+ * This is an output port in the hexagonal architecture: events are appended in the
+ * transaction of the mutation they describe, and read back once a relay has published them.
+ */
+public interface IAccountChangeOutbox {
+
+    /**
+     * Appends events to the outbox as part of the current transaction.
+     *
+     * @param events The events, without offsets
+     */
+    void append(List<AccountChangeEventDTO> events);
+
+    /**
+     * Finds published events after an offset.
+     *
+     * @param after The offset after which the events start, 0 for the beginning of the stream
+     * @param limit The maximum number of events
+     * @return The events, ordered by offset
+     */
+    List<AccountChangeEventDTO> findPublished(long after, int limit);
+
+    /**
+     * Publishes pending events in their own transaction, giving each the next offset of the
+     * stream in append order. Only one caller may publish at a time.
+     *
+     * @param limit The maximum number of events
+     * @return The published events, ordered by offset
+     */
+    List<AccountChangeEventDTO> publishPending(int limit);
+
+    /**
+     * Deletes published events that happened before a given time.
+     *
+     * @param before The time before which published events are deleted
+     * @return The number of deleted events
+     */
+    int deletePublishedBefore(Instant before);
+}
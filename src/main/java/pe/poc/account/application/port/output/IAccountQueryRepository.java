@@ -0,0 +1,53 @@
+package pe.poc.account.application.port.output;
+
+import java.util.List;
+import java.util.Optional;
+
+import pe.poc.account.application.dto.AccountResponseDTO;
+import pe.poc.account.domain.model.AccountStatus;
+import pe.poc.account.domain.model.valueobject.AccountId;
+
+/**
+ * Read-only repository interface returning account views.
+ * This is an output port in the hexagonal architecture for the read endpoints: implementations
+ * project rows straight into response DTOs instead of loading domain Account entities.
+ */
+public interface IAccountQueryRepository {
+
+    /**
+     * Finds the view of an account by its ID.
+     *
+     * @param id The account ID
+     * @return An Optional containing the account view if found, empty otherwise
+     */
+    Optional<AccountResponseDTO> findById(AccountId id);
+
+    /**
+     * Finds the view of an account by its number.
+     *
+     * @param number The account number
+     * @return An Optional containing the account view if found, empty otherwise
+     */
+    Optional<AccountResponseDTO> findByNumber(String number);
+
+    /**
+     * Finds a page of account views ordered by ID, starting after a cursor (keyset pagination).
+     *
+     * @param after The ID of the last account of the previous page, or null for the first page
+     * @param limit The maximum number of accounts to return
+     * @return The account views with an ID greater than the cursor, in ascending ID order
+     */
+    List<AccountResponseDTO> findPage(AccountId after, int limit);
+
+    /**
+     * Finds a page of account views matching a status and a name prefix, ordered by ID
+     * and starting after a cursor (keyset pagination). Null criteria match every account.
+     *
+     * @param status The status to match, or null for any status
+     * @param namePrefix The prefix the account name must start with, or null for any name
+     * @param after The ID of the last account of the previous page, or null for the first page
+     * @param limit The maximum number of accounts to return
+     * @return The matching account views with an ID greater than the cursor, in ascending ID order
+     */
+    List<AccountResponseDTO> searchPage(AccountStatus status, String namePrefix, AccountId after, int limit);
+}
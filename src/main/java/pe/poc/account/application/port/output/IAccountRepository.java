@@ -1,9 +1,13 @@
 package pe.poc.account.application.port.output;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import pe.poc.account.domain.model.Account;
+import pe.poc.account.domain.model.AccountStatus;
 import pe.poc.account.domain.model.valueobject.AccountId;
 
 /**
@@ -21,14 +25,50 @@ public interface IAccountRepository {
      */
     Account save(Account account);
     
+    /**
+     * Saves several accounts using batched statements.
+     *
+     * @param accounts The accounts to save
+     * @return The saved accounts with their IDs, in the same order
+     */
+    List<Account> saveAll(List<Account> accounts);
+
     /**
      * Updates an existing account in the repository.
      *
      * @param account The account to update
      * @return The updated account
+     * @throws pe.poc.account.domain.exception.AccountNotFoundException if the account does not exist
      */
     Account update(Account account);
+
+    /**
+     * Changes the status of an account in place, without a separate lookup.
+     *
+     * @param id The account ID
+     * @param status The new status
+     * @return An Optional containing the updated account, empty if the account does not exist
+     */
+    Optional<Account> updateStatus(AccountId id, AccountStatus status);
+
+    /**
+     * Changes the status of several accounts with a single statement, without loading them first.
+     * Accounts already in that status are left untouched.
+     *
+     * @param ids The account IDs
+     * @param status The new status
+     * @return The accounts whose status changed; accounts already in that status and missing IDs are left out
+     */
+    List<Account> updateStatusAll(Collection<AccountId> ids, AccountStatus status);
     
+    /**
+     * Updates several existing accounts using batched statements.
+     *
+     * @param accounts The accounts to update
+     * @return The updated accounts, in the same order
+     */
+    List<Account> updateAll(List<Account> accounts);
+
     /**
      * Finds an account by its ID.
      *
@@ -36,21 +76,64 @@ public interface IAccountRepository {
      * @return An Optional containing the account if found, empty otherwise
      */
     Optional<Account> findById(AccountId id);
+
+    /**
+     * Finds an account by its number, which is unique.
+     *
+     * @param number The account number
+     * @return An Optional containing the account if found, empty otherwise
+     */
+    Optional<Account> findByNumber(String number);
     
+    /**
+     * Finds the accounts with the given IDs in a single query.
+     *
+     * @param ids The account IDs
+     * @return The accounts found, in no particular order
+     */
+    List<Account> findAllById(Collection<AccountId> ids);
+
     /**
      * Retrieves all accounts from the repository.
      *
      * @return A list of all accounts
      */
     List<Account> findAll();
-    
+
+    /**
+     * Retrieves a page of accounts ordered by ID, starting after the given ID (keyset pagination).
+     *
+     * @param after The ID after which the page starts, or null to start from the beginning
+     * @param limit The maximum number of accounts to return
+     * @return The accounts of the page, ordered by ID
+     */
+    List<Account> findPage(AccountId after, int limit);
+
+    /**
+     * Streams all accounts ordered by ID without materializing them all at once.
+     * The stream holds database resources and must be closed by the caller,
+     * and it must be consumed inside an active transaction.
+     *
+     * @return A stream of all accounts
+     */
+    Stream<Account> streamAll();
+
     /**
-     * Deletes an account from the repository.
+     * Deletes an account from the repository with a single statement.
      *
      * @param id The ID of the account to delete
+     * @return true if the account existed and was deleted, false otherwise
      */
-    void deleteById(AccountId id);
+    boolean deleteById(AccountId id);
     
+    /**
+     * Deletes the accounts with the given IDs in a single statement.
+     *
+     * @param ids The IDs of the accounts to delete
+     * @return The IDs of the accounts that existed and were deleted
+     */
+    Set<AccountId> deleteAllById(Collection<AccountId> ids);
+
     /**
      * Checks if an account with the given ID exists.
      *
@@ -0,0 +1,77 @@
+package pe.poc.account.application.port.output;
+
+import java.util.List;
+import java.util.function.Function;
+
+import io.smallrye.mutiny.Uni;
+import pe.poc.account.application.dto.AccountChangeEventDTO;
+import pe.poc.account.domain.model.Account;
+import pe.poc.account.domain.model.AccountStatus;
+import pe.poc.account.domain.model.valueobject.AccountId;
+
+/**
+ * Non-blocking repository interface for Account entities.
+ * This is the reactive counterpart of {@link IAccountRepository}. Lookups that find
+ * nothing emit a {@code null} item rather than failing. A transaction cannot span several
+ * Uni, so each mutation appends its change event to the outbox within its own transaction.
+ */
+public interface IReactiveAccountRepository {
+
+    /**
+     * Saves an account to the repository and records the change in the same transaction.
+     *
+     * @param account The account to save
+     * @param change Builds the change event from the saved account
+     * @return A Uni emitting the saved account with its ID
+     */
+    Uni<Account> save(Account account, Function<Account, AccountChangeEventDTO> change);
+
+    /**
+     * Updates an existing account in the repository and records the change in the same transaction,
+     * optionally only if the account is still at the expected version.
+     *
+     * @param account The account to update, carrying its ID
+     * @param expectedVersion The version the account must be at, or null to update any version
+     * @param change Builds the change event from the updated account
+     * @return A Uni emitting the updated account, or failing with AccountNotFoundException or
+     *         AccountVersionMismatchException
+     */
+    Uni<Account> update(Account account, Long expectedVersion, Function<Account, AccountChangeEventDTO> change);
+
+    /**
+     * Changes the status of an account in place and records the change in the same transaction.
+     *
+     * @param id The account ID
+     * @param status The new status
+     * @param change Builds the change event from the updated account
+     * @return A Uni emitting the updated account, or null if the account does not exist
+     */
+    Uni<Account> updateStatus(AccountId id, AccountStatus status, Function<Account, AccountChangeEventDTO> change);
+
+    /**
+     * Finds an account by its ID.
+     *
+     * @param id The account ID
+     * @return A Uni emitting the account, or null if not found
+     */
+    Uni<Account> findById(AccountId id);
+
+    /**
+     * Retrieves a page of accounts ordered by ID, starting after the given ID.
+     *
+     * @param after The ID after which the page starts, or null to start from the beginning
+     * @param limit The maximum number of accounts to return
+     * @return A Uni emitting the accounts of the page
+     */
+    Uni<List<Account>> findPage(AccountId after, int limit);
+
+    /**
+     * Deletes an account from the repository and, if it existed, records the change in the same
+     * transaction.
+     *
+     * @param id The ID of the account to delete
+     * @param change The change event of the deletion
+     * @return A Uni emitting true if the account existed and was deleted, false otherwise
+     */
+    Uni<Boolean> deleteById(AccountId id, AccountChangeEventDTO change);
+}
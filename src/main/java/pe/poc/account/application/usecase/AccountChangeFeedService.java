@@ -0,0 +1,46 @@
+package pe.poc.account.application.usecase;
+
+import java.util.List;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import pe.poc.account.application.dto.AccountChangeEventDTO;
+import pe.poc.account.application.dto.AccountChangePageDTO;
+import pe.poc.account.application.port.input.IAccountChangeFeedUseCase;
+import pe.poc.account.application.port.output.IAccountChangeOutbox;
+import pe.poc.account.domain.exception.InvalidAccountDataException;
+
+/**
+ * Implementation of the account change feed use case.
+ * It reads the published part of the outbox, where offsets are dense and never reassigned.
+ */
+@ApplicationScoped
+public class AccountChangeFeedService implements IAccountChangeFeedUseCase {
+
+    private final IAccountChangeOutbox accountChangeOutbox;
+
+    @Inject
+    public AccountChangeFeedService(IAccountChangeOutbox accountChangeOutbox) {
+        this.accountChangeOutbox = accountChangeOutbox;
+    }
+
+    @Override
+    public AccountChangePageDTO getChanges(Long after, Integer limit) {
+        long from = after != null ? after : 0L;
+        if (from < 0) {
+            throw new InvalidAccountDataException("after", "Offset cannot be negative");
+        }
+        int pageSize = limit != null ? limit : AccountManagementService.DEFAULT_PAGE_SIZE;
+        if (pageSize < 1 || pageSize > AccountManagementService.MAX_PAGE_SIZE) {
+            throw new InvalidAccountDataException("limit",
+                    "Page size must be between 1 and " + AccountManagementService.MAX_PAGE_SIZE);
+        }
+
+        List<AccountChangeEventDTO> events = accountChangeOutbox.findPublished(from, pageSize);
+        return AccountChangePageDTO.builder()
+                .items(events)
+                .nextOffset(events.isEmpty() ? from : events.get(events.size() - 1).getOffset())
+                .build();
+    }
+}
@@ -1,156 +1,553 @@
 package pe.poc.account.application.usecase;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
 
+import pe.poc.account.application.dto.AccountBatchUpdateDTO;
+import pe.poc.account.application.dto.AccountChangeEventDTO;
+import pe.poc.account.application.dto.AccountPageDTO;
 import pe.poc.account.application.dto.AccountRequestDTO;
 import pe.poc.account.application.dto.AccountResponseDTO;
+import pe.poc.account.application.dto.BatchItemResultDTO;
+import pe.poc.account.application.dto.BatchResultDTO;
 import pe.poc.account.application.port.input.IAccountManagementUseCase;
+import pe.poc.account.application.port.output.IAccountChangeOutbox;
+import pe.poc.account.application.port.output.IAccountQueryRepository;
 import pe.poc.account.application.port.output.IAccountRepository;
 import pe.poc.account.domain.exception.AccountNotFoundException;
+import pe.poc.account.domain.exception.AccountVersionMismatchException;
 import pe.poc.account.domain.exception.InvalidAccountDataException;
 import pe.poc.account.domain.model.Account;
+import pe.poc.account.domain.model.AccountChangeType;
+import pe.poc.account.domain.model.AccountStatus;
 import pe.poc.account.domain.model.valueobject.AccountId;
 import pe.poc.account.domain.service.AccountDomainService;
 
 /**
  * Implementation of the account management use cases.
- * This service implements the application logic for managing accounts.
+ * This service implements the application logic for managing accounts. Every mutation
+ * appends its change events to the outbox in the same transaction.
  */
 @ApplicationScoped
 public class AccountManagementService implements IAccountManagementUseCase {
 
+    /**
+     * Page size used when the client does not specify one.
+     */
+    public static final int DEFAULT_PAGE_SIZE = 50;
+
+    /**
+     * Largest page size a client may request.
+     */
+    public static final int MAX_PAGE_SIZE = 500;
+
+    /**
+     * Largest number of items accepted by a bulk operation.
+     */
+    public static final int MAX_BATCH_SIZE = 1000;
+
     private final IAccountRepository accountRepository;
+    private final IAccountQueryRepository accountQueryRepository;
+    private final IAccountChangeOutbox accountChangeOutbox;
     private final AccountDomainService accountDomainService;
 
     @Inject
-    public AccountManagementService(IAccountRepository accountRepository, AccountDomainService accountDomainService) {
+    public AccountManagementService(IAccountRepository accountRepository, IAccountQueryRepository accountQueryRepository,
+                                    IAccountChangeOutbox accountChangeOutbox,
+                                    AccountDomainService accountDomainService) {
         this.accountRepository = accountRepository;
+        this.accountQueryRepository = accountQueryRepository;
+        this.accountChangeOutbox = accountChangeOutbox;
         this.accountDomainService = accountDomainService;
     }
 
     @Override
     @Transactional
     public AccountResponseDTO createAccount(AccountRequestDTO accountRequestDTO) {
-        // Create domain entity from DTO
-        Account account = Account.builder()
-                .account(accountRequestDTO.getAccount())
-                .number(accountRequestDTO.getNumber())
-                .status(accountRequestDTO.getStatus())
-                .build();
+        // Create and validate domain entity from DTO
+        Account account = toValidatedAccount(accountRequestDTO);
 
-        // Validate account data
-        accountDomainService.validateAccount(account);
+        // Save account
+        Account savedAccount = accountRepository.save(account);
+
+        // Convert to response DTO and record the change
+        AccountResponseDTO responseDTO = mapToResponseDTO(savedAccount);
+        accountChangeOutbox.append(List.of(changeEvent(AccountChangeType.CREATED, responseDTO)));
+        return responseDTO;
+    }
 
-        // Validate status
-        if (!accountDomainService.isValidStatus(account.getStatus())) {
-            throw new InvalidAccountDataException("status", "Invalid status value. Allowed values: ACTIVE, INACTIVE, SUSPENDED");
+    @Override
+    @Transactional
+    public BatchResultDTO createAccounts(List<AccountRequestDTO> accountRequestDTOs) {
+        validateBatchSize(accountRequestDTOs);
+        BatchItemResultDTO[] results = new BatchItemResultDTO[accountRequestDTOs.size()];
+
+        // Validate every item, keeping track of the position of the valid ones
+        List<Account> validAccounts = new ArrayList<>();
+        List<Integer> validIndexes = new ArrayList<>();
+        for (int i = 0; i < accountRequestDTOs.size(); i++) {
+            try {
+                validAccounts.add(toValidatedAccount(accountRequestDTOs.get(i)));
+                validIndexes.add(i);
+            } catch (InvalidAccountDataException e) {
+                results[i] = failedItem(i, null, 400, e.getMessage());
+            }
         }
 
-        // Save account
-        Account savedAccount = accountRepository.save(account);
+        // Save valid accounts in batches
+        List<Account> savedAccounts = accountRepository.saveAll(validAccounts);
+        List<AccountChangeEventDTO> events = new ArrayList<>(savedAccounts.size());
+        for (int j = 0; j < savedAccounts.size(); j++) {
+            AccountResponseDTO savedAccount = mapToResponseDTO(savedAccounts.get(j));
+            int index = validIndexes.get(j);
+            results[index] = succeededItem(index, savedAccount.getId(), 201, savedAccount);
+            events.add(changeEvent(AccountChangeType.CREATED, savedAccount));
+        }
+        accountChangeOutbox.append(events);
 
-        // Convert to response DTO
-        return mapToResponseDTO(savedAccount);
+        return toBatchResult(results);
     }
 
     @Override
     @Transactional
-    public AccountResponseDTO updateAccount(Long id, AccountRequestDTO accountRequestDTO) {
+    public AccountResponseDTO updateAccount(Long id, AccountRequestDTO accountRequestDTO, Long expectedVersion) {
         // Find existing account
         Account existingAccount = accountRepository.findById(AccountId.of(id))
                 .orElseThrow(() -> new AccountNotFoundException(id));
 
-        // Update account data
-        existingAccount.update(
+        // Reject a stale write before touching the account; a concurrent writer is caught by the version check on flush
+        if (expectedVersion != null && !expectedVersion.equals(existingAccount.getVersion())) {
+            throw new AccountVersionMismatchException(id, expectedVersion);
+        }
+
+        // Update and validate account data
+        applyValidatedUpdate(existingAccount,
                 accountRequestDTO.getAccount(),
                 accountRequestDTO.getNumber(),
-                accountRequestDTO.getStatus()
-        );
+                accountRequestDTO.getStatus());
 
-        // Validate updated account
-        accountDomainService.validateAccount(existingAccount);
+        // Save updated account
+        Account updatedAccount = accountRepository.update(existingAccount);
+
+        // Convert to response DTO and record the change
+        AccountResponseDTO responseDTO = mapToResponseDTO(updatedAccount);
+        accountChangeOutbox.append(List.of(changeEvent(AccountChangeType.UPDATED, responseDTO)));
+        return responseDTO;
+    }
 
-        // Validate status
-        if (!accountDomainService.isValidStatus(existingAccount.getStatus())) {
-            throw new InvalidAccountDataException("status", "Invalid status value. Allowed values: ACTIVE, INACTIVE, SUSPENDED");
+    @Override
+    @Transactional
+    public BatchResultDTO updateAccounts(List<AccountBatchUpdateDTO> accountBatchUpdateDTOs) {
+        validateBatchSize(accountBatchUpdateDTOs);
+        BatchItemResultDTO[] results = new BatchItemResultDTO[accountBatchUpdateDTOs.size()];
+
+        // Load every referenced account with a single query
+        Set<AccountId> ids = accountBatchUpdateDTOs.stream()
+                .filter(Objects::nonNull)
+                .map(AccountBatchUpdateDTO::getId)
+                .filter(Objects::nonNull)
+                .map(AccountId::of)
+                .collect(Collectors.toSet());
+        Map<AccountId, Account> existingAccounts = accountRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Account::getId, Function.identity()));
+
+        // Apply and validate every item, keeping track of the position of the valid ones
+        Map<AccountId, Account> validAccounts = new LinkedHashMap<>();
+        List<Integer> validIndexes = new ArrayList<>();
+        for (int i = 0; i < accountBatchUpdateDTOs.size(); i++) {
+            AccountBatchUpdateDTO item = accountBatchUpdateDTOs.get(i);
+            if (item == null || item.getId() == null) {
+                results[i] = failedItem(i, null, 400, "Account ID cannot be null");
+                continue;
+            }
+
+            Account existingAccount = existingAccounts.get(AccountId.of(item.getId()));
+            if (existingAccount == null) {
+                results[i] = failedItem(i, item.getId(), 404, new AccountNotFoundException(item.getId()).getMessage());
+                continue;
+            }
+            if (item.getVersion() != null && !item.getVersion().equals(existingAccount.getVersion())) {
+                results[i] = failedItem(i, item.getId(), 412,
+                        new AccountVersionMismatchException(item.getId(), item.getVersion()).getMessage());
+                continue;
+            }
+
+            // Validate on a copy so a rejected item never alters an account already accepted in this batch
+            Account candidate = existingAccount.toBuilder().build();
+            try {
+                applyValidatedUpdate(candidate, item.getAccount(), item.getNumber(), item.getStatus());
+            } catch (InvalidAccountDataException e) {
+                results[i] = failedItem(i, item.getId(), 400, e.getMessage());
+                continue;
+            }
+            existingAccounts.put(candidate.getId(), candidate);
+            validAccounts.put(candidate.getId(), candidate);
+            validIndexes.add(i);
         }
 
-        // Save updated account
-        Account updatedAccount = accountRepository.update(existingAccount);
+        // Save updated accounts in batches; repeated IDs are written once with their last values
+        Map<AccountId, Account> updatedAccounts = accountRepository.updateAll(new ArrayList<>(validAccounts.values()))
+                .stream()
+                .collect(Collectors.toMap(Account::getId, Function.identity()));
+        for (int index : validIndexes) {
+            Account updatedAccount = updatedAccounts.get(AccountId.of(accountBatchUpdateDTOs.get(index).getId()));
+            results[index] = succeededItem(index, updatedAccount.getId().getValue(), 200, mapToResponseDTO(updatedAccount));
+        }
+        accountChangeOutbox.append(updatedAccounts.values().stream()
+                .map(updatedAccount -> changeEvent(AccountChangeType.UPDATED, mapToResponseDTO(updatedAccount)))
+                .toList());
 
-        // Convert to response DTO
-        return mapToResponseDTO(updatedAccount);
+        return toBatchResult(results);
     }
 
     @Override
     public AccountResponseDTO getAccountById(Long id) {
-        // Find account by ID
-        Account account = accountRepository.findById(AccountId.of(id))
+        // Find the account view by ID, projected straight into the response DTO
+        return accountQueryRepository.findById(AccountId.of(id))
                 .orElseThrow(() -> new AccountNotFoundException(id));
+    }
 
-        // Convert to response DTO
-        return mapToResponseDTO(account);
+    @Override
+    public AccountPageDTO getAccountsPage(Long after, Integer limit) {
+        int pageSize = validatePageSize(limit);
+
+        // Fetch one extra row to know whether there is a next page, projected straight into response DTOs
+        return toPage(accountQueryRepository.findPage(after != null ? AccountId.of(after) : null, pageSize + 1),
+                pageSize);
     }
 
     @Override
-    public List<AccountResponseDTO> getAllAccounts() {
-        // Get all accounts
-        List<Account> accounts = accountRepository.findAll();
+    public AccountPageDTO searchAccounts(String number, String status, String namePrefix, Long after, Integer limit) {
+        int pageSize = validatePageSize(limit);
+        AccountStatus accountStatus = accountDomainService.parseStatus(status);
+        String prefix = namePrefix != null && !namePrefix.isBlank() ? namePrefix : null;
+
+        // A number identifies at most one account: resolve it with a point lookup
+        if (number != null && !number.isBlank()) {
+            List<AccountResponseDTO> accounts = accountQueryRepository.findByNumber(number).stream()
+                    .filter(account -> accountStatus == null || account.getStatus() == accountStatus)
+                    .filter(account -> prefix == null || account.getAccount().startsWith(prefix))
+                    .filter(account -> after == null || account.getId() > after)
+                    .toList();
+            return toPage(accounts, pageSize);
+        }
 
-        // Convert to response DTOs
-        return accounts.stream()
-                .map(this::mapToResponseDTO)
-                .toList();
+        // Fetch one extra row to know whether there is a next page
+        return toPage(accountQueryRepository.searchPage(accountStatus, prefix,
+                after != null ? AccountId.of(after) : null, pageSize + 1), pageSize);
+    }
+
+    @Override
+    @Transactional
+    public void streamAllAccounts(Consumer<AccountResponseDTO> consumer) {
+        // The transaction keeps the scrollable result open while the consumer writes each row
+        try (Stream<Account> accounts = accountRepository.streamAll()) {
+            accounts.map(this::mapToResponseDTO)
+                    .forEach(consumer);
+        }
     }
 
     @Override
     @Transactional
     public void deleteAccount(Long id) {
-        // Check if account exists
-        if (!accountRepository.existsById(AccountId.of(id))) {
+        // Delete account, a missing row affects no rows
+        if (!accountRepository.deleteById(AccountId.of(id))) {
             throw new AccountNotFoundException(id);
         }
 
-        // Delete account
-        accountRepository.deleteById(AccountId.of(id));
+        // Record the change
+        accountChangeOutbox.append(List.of(deletedEvent(id)));
     }
 
     @Override
     @Transactional
-    public AccountResponseDTO activateAccount(Long id) {
-        // Find existing account
-        Account existingAccount = accountRepository.findById(AccountId.of(id))
-                .orElseThrow(() -> new AccountNotFoundException(id));
+    public BatchResultDTO deleteAccounts(List<Long> ids) {
+        validateBatchSize(ids);
+        BatchItemResultDTO[] results = new BatchItemResultDTO[ids.size()];
+
+        // Delete every referenced account with a single statement
+        Set<AccountId> requestedIds = ids.stream()
+                .filter(Objects::nonNull)
+                .map(AccountId::of)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        Set<AccountId> deletedIds = accountRepository.deleteAllById(requestedIds);
+        accountChangeOutbox.append(requestedIds.stream()
+                .filter(deletedIds::contains)
+                .map(deletedId -> deletedEvent(deletedId.getValue()))
+                .toList());
+
+        for (int i = 0; i < ids.size(); i++) {
+            Long id = ids.get(i);
+            if (id == null) {
+                results[i] = failedItem(i, null, 400, "Account ID cannot be null");
+            } else if (deletedIds.contains(AccountId.of(id))) {
+                results[i] = succeededItem(i, id, 204, null);
+            } else {
+                results[i] = failedItem(i, id, 404, new AccountNotFoundException(id).getMessage());
+            }
+        }
 
-        // Activate account
-        existingAccount.activate();
+        return toBatchResult(results);
+    }
 
-        // Save updated account
-        Account updatedAccount = accountRepository.update(existingAccount);
+    @Override
+    @Transactional
+    public AccountResponseDTO activateAccount(Long id) {
+        // Activate account in place
+        Account updatedAccount = accountRepository.updateStatus(AccountId.of(id), AccountStatus.ACTIVE)
+                .orElseThrow(() -> new AccountNotFoundException(id));
 
-        // Convert to response DTO
-        return mapToResponseDTO(updatedAccount);
+        // Convert to response DTO and record the change
+        AccountResponseDTO responseDTO = mapToResponseDTO(updatedAccount);
+        accountChangeOutbox.append(List.of(changeEvent(AccountChangeType.ACTIVATED, responseDTO)));
+        return responseDTO;
     }
 
     @Override
     @Transactional
     public AccountResponseDTO deactivateAccount(Long id) {
-        // Find existing account
-        Account existingAccount = accountRepository.findById(AccountId.of(id))
+        // Deactivate account in place
+        Account updatedAccount = accountRepository.updateStatus(AccountId.of(id), AccountStatus.INACTIVE)
                 .orElseThrow(() -> new AccountNotFoundException(id));
 
-        // Deactivate account
-        existingAccount.deactivate();
+        // Convert to response DTO and record the change
+        AccountResponseDTO responseDTO = mapToResponseDTO(updatedAccount);
+        accountChangeOutbox.append(List.of(changeEvent(AccountChangeType.DEACTIVATED, responseDTO)));
+        return responseDTO;
+    }
 
-        // Save updated account
-        Account updatedAccount = accountRepository.update(existingAccount);
+    @Override
+    @Transactional
+    public List<AccountResponseDTO> applyStatusChanges(Map<Long, AccountStatus> statuses) {
+        if (statuses == null || statuses.isEmpty() || statuses.size() > MAX_BATCH_SIZE) {
+            throw new InvalidAccountDataException("items", "A batch must contain between 1 and " + MAX_BATCH_SIZE + " items");
+        }
+
+        // Group the accounts by target status so each group is a single statement
+        Map<AccountStatus, List<AccountId>> idsByStatus = new EnumMap<>(AccountStatus.class);
+        statuses.forEach((id, status) -> idsByStatus.computeIfAbsent(status, key -> new ArrayList<>())
+                .add(AccountId.of(id)));
+
+        // Apply each group, then record one change per account whose status actually changed
+        List<AccountResponseDTO> updatedAccounts = new ArrayList<>(statuses.size());
+        List<AccountChangeEventDTO> events = new ArrayList<>(statuses.size());
+        Set<AccountId> unchangedIds = new LinkedHashSet<>();
+        idsByStatus.forEach((status, ids) -> {
+            Set<AccountId> remainingIds = new LinkedHashSet<>(ids);
+            for (Account updatedAccount : accountRepository.updateStatusAll(ids, status)) {
+                AccountResponseDTO responseDTO = mapToResponseDTO(updatedAccount);
+                updatedAccounts.add(responseDTO);
+                events.add(changeEvent(statusChangeType(status), responseDTO));
+                remainingIds.remove(updatedAccount.getId());
+            }
+            unchangedIds.addAll(remainingIds);
+        });
+        accountChangeOutbox.append(events);
+
+        // Accounts already in their target status are returned as they are, without a change event
+        if (!unchangedIds.isEmpty()) {
+            for (Account unchangedAccount : accountRepository.findAllById(unchangedIds)) {
+                updatedAccounts.add(mapToResponseDTO(unchangedAccount));
+            }
+        }
+        return updatedAccounts;
+    }
+
+    /**
+     * Creates a domain Account from a request DTO and validates it.
+     *
+     * @param accountRequestDTO The account data
+     * @return The validated account
+     * @throws InvalidAccountDataException if the data is invalid
+     */
+    private Account toValidatedAccount(AccountRequestDTO accountRequestDTO) {
+        if (accountRequestDTO == null) {
+            throw new InvalidAccountDataException("Account cannot be null");
+        }
+
+        // Create domain entity from DTO, parsing the status once
+        Account account = Account.builder()
+                .account(accountRequestDTO.getAccount())
+                .number(accountRequestDTO.getNumber())
+                .status(accountDomainService.parseStatus(accountRequestDTO.getStatus()))
+                .build();
+
+        // Validate account data
+        accountDomainService.validateAccount(account);
+
+        return account;
+    }
+
+    /**
+     * Applies new data to an existing account and validates the result.
+     *
+     * @param existingAccount The account to update
+     * @param accountName The account name
+     * @param number The account number
+     * @param status The account status
+     * @throws InvalidAccountDataException if the data is invalid
+     */
+    private void applyValidatedUpdate(Account existingAccount, String accountName, String number, String status) {
+        // Update account data; an unknown status is rejected before the account is touched
+        existingAccount.update(accountName, number, accountDomainService.parseStatus(status));
+
+        // Validate updated account
+        accountDomainService.validateAccount(existingAccount);
+    }
+
+    /**
+     * Resolves the requested page size, rejecting sizes outside 1..{@link #MAX_PAGE_SIZE}.
+     *
+     * @param limit The requested page size, or null for the default
+     * @return The page size
+     */
+    private int validatePageSize(Integer limit) {
+        int pageSize = limit != null ? limit : DEFAULT_PAGE_SIZE;
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new InvalidAccountDataException("limit", "Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        return pageSize;
+    }
+
+    /**
+     * Builds a page from account views fetched with one extra row beyond the page size.
+     *
+     * @param accounts The account views, ordered by ID, at most {@code pageSize + 1}
+     * @param pageSize The page size
+     * @return The page, with a cursor when the extra row shows there is a next page
+     */
+    private AccountPageDTO toPage(List<AccountResponseDTO> accounts, int pageSize) {
+        boolean hasNext = accounts.size() > pageSize;
+        List<AccountResponseDTO> items = hasNext ? accounts.subList(0, pageSize) : accounts;
+
+        return AccountPageDTO.builder()
+                .items(items)
+                .nextCursor(hasNext ? items.get(items.size() - 1).getId() : null)
+                .build();
+    }
+
+    /**
+     * Rejects bulk requests that are empty or larger than {@link #MAX_BATCH_SIZE}.
+     *
+     * @param items The items of the bulk request
+     */
+    private void validateBatchSize(List<?> items) {
+        if (items == null || items.isEmpty() || items.size() > MAX_BATCH_SIZE) {
+            throw new InvalidAccountDataException("items", "A batch must contain between 1 and " + MAX_BATCH_SIZE + " items");
+        }
+    }
+
+    /**
+     * Builds the result of a bulk item that succeeded.
+     *
+     * @param index The position of the item in the request
+     * @param id The account ID
+     * @param status The HTTP status code of the outcome
+     * @param account The resulting account, if any
+     * @return The item result
+     */
+    private BatchItemResultDTO succeededItem(int index, Long id, int status, AccountResponseDTO account) {
+        return BatchItemResultDTO.builder()
+                .index(index)
+                .id(id)
+                .status(status)
+                .account(account)
+                .build();
+    }
+
+    /**
+     * Builds the result of a bulk item that failed.
+     *
+     * @param index The position of the item in the request
+     * @param id The account ID, if known
+     * @param status The HTTP status code of the outcome
+     * @param error The error message
+     * @return The item result
+     */
+    private BatchItemResultDTO failedItem(int index, Long id, int status, String error) {
+        return BatchItemResultDTO.builder()
+                .index(index)
+                .id(id)
+                .status(status)
+                .error(error)
+                .build();
+    }
+
+    /**
+     * Builds the result of a bulk request from the outcome of its items.
+     *
+     * @param results The outcome of each item, in request order
+     * @return The bulk result
+     */
+    private BatchResultDTO toBatchResult(BatchItemResultDTO[] results) {
+        int failed = (int) Arrays.stream(results)
+                .filter(result -> result.getError() != null)
+                .count();
+        return BatchResultDTO.builder()
+                .items(Arrays.asList(results))
+                .succeeded(results.length - failed)
+                .failed(failed)
+                .build();
+    }
+
+    /**
+     * Builds the change event of a mutation that leaves the account in place.
+     *
+     * @param type The kind of mutation
+     * @param account The account after the mutation
+     * @return The change event, without offset
+     */
+    private AccountChangeEventDTO changeEvent(AccountChangeType type, AccountResponseDTO account) {
+        return AccountChangeEventDTO.builder()
+                .type(type)
+                .accountId(account.getId())
+                .account(account)
+                .occurredAt(Instant.now())
+                .build();
+    }
 
-        // Convert to response DTO
-        return mapToResponseDTO(updatedAccount);
+    /**
+     * Returns the kind of change recorded when an account is moved to a status.
+     *
+     * @param status The new status
+     * @return The change type
+     */
+    private static AccountChangeType statusChangeType(AccountStatus status) {
+        return switch (status) {
+            case ACTIVE -> AccountChangeType.ACTIVATED;
+            case INACTIVE -> AccountChangeType.DEACTIVATED;
+            default -> AccountChangeType.UPDATED;
+        };
+    }
+
+    /**
+     * Builds the change event of a deletion.
+     *
+     * @param id The deleted account ID
+     * @return The change event, without offset
+     */
+    private AccountChangeEventDTO deletedEvent(Long id) {
+        return AccountChangeEventDTO.builder()
+                .type(AccountChangeType.DELETED)
+                .accountId(id)
+                .occurredAt(Instant.now())
+                .build();
     }
 
     /**
@@ -165,6 +562,7 @@ public class AccountManagementService implements IAccountManagementUseCase {
                 .account(account.getAccount())
                 .number(account.getNumber())
                 .status(account.getStatus())
+                .version(account.getVersion())
                 .build();
     }
 }
\ No newline at end of file
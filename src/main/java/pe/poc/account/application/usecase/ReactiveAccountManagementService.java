@@ -0,0 +1,174 @@
+package pe.poc.account.application.usecase;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Function;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.smallrye.mutiny.Uni;
+import pe.poc.account.application.dto.AccountChangeEventDTO;
+import pe.poc.account.application.dto.AccountPageDTO;
+import pe.poc.account.application.dto.AccountRequestDTO;
+import pe.poc.account.application.dto.AccountResponseDTO;
+import pe.poc.account.application.port.input.IReactiveAccountManagementUseCase;
+import pe.poc.account.application.port.output.IReactiveAccountRepository;
+import pe.poc.account.domain.exception.AccountNotFoundException;
+import pe.poc.account.domain.exception.InvalidAccountDataException;
+import pe.poc.account.domain.model.Account;
+import pe.poc.account.domain.model.AccountChangeType;
+import pe.poc.account.domain.model.AccountStatus;
+import pe.poc.account.domain.model.valueobject.AccountId;
+import pe.poc.account.domain.service.AccountDomainService;
+
+/**
+ * Non-blocking implementation of the account management use cases.
+ * It applies the same business rules as {@link AccountManagementService}, composing
+ * the reactive repository instead of blocking on it, and records the same change events in
+ * the outbox. Only built with the {@code reactive} Maven profile.
+ */
+@ApplicationScoped
+@IfBuildProperty(name = "account.reactive.enabled", stringValue = "true")
+public class ReactiveAccountManagementService implements IReactiveAccountManagementUseCase {
+
+    private final IReactiveAccountRepository accountRepository;
+    private final AccountDomainService accountDomainService;
+
+    @Inject
+    public ReactiveAccountManagementService(IReactiveAccountRepository accountRepository,
+                                            AccountDomainService accountDomainService) {
+        this.accountRepository = accountRepository;
+        this.accountDomainService = accountDomainService;
+    }
+
+    @Override
+    public Uni<AccountResponseDTO> createAccount(AccountRequestDTO accountRequestDTO) {
+        return Uni.createFrom().item(() -> toValidatedAccount(accountRequestDTO))
+                .chain(account -> accountRepository.save(account, changeOf(AccountChangeType.CREATED)))
+                .map(this::mapToResponseDTO);
+    }
+
+    @Override
+    public Uni<AccountResponseDTO> updateAccount(Long id, AccountRequestDTO accountRequestDTO, Long expectedVersion) {
+        // Validate before touching the database, then update in a single repository call
+        return Uni.createFrom().item(() -> toValidatedAccount(accountRequestDTO).toBuilder()
+                        .id(AccountId.of(id))
+                        .build())
+                .chain(account -> accountRepository.update(account, expectedVersion,
+                        changeOf(AccountChangeType.UPDATED)))
+                .map(this::mapToResponseDTO);
+    }
+
+    @Override
+    public Uni<AccountResponseDTO> getAccountById(Long id) {
+        return accountRepository.findById(AccountId.of(id))
+                .onItem().ifNull().failWith(() -> new AccountNotFoundException(id))
+                .map(this::mapToResponseDTO);
+    }
+
+    @Override
+    public Uni<AccountPageDTO> getAccountsPage(Long after, Integer limit) {
+        int pageSize = limit != null ? limit : AccountManagementService.DEFAULT_PAGE_SIZE;
+        if (pageSize < 1 || pageSize > AccountManagementService.MAX_PAGE_SIZE) {
+            return Uni.createFrom().failure(new InvalidAccountDataException("limit",
+                    "Page size must be between 1 and " + AccountManagementService.MAX_PAGE_SIZE));
+        }
+
+        // Fetch one extra row to know whether there is a next page
+        return accountRepository.findPage(after != null ? AccountId.of(after) : null, pageSize + 1)
+                .map(accounts -> {
+                    boolean hasNext = accounts.size() > pageSize;
+                    List<AccountResponseDTO> items = (hasNext ? accounts.subList(0, pageSize) : accounts).stream()
+                            .map(this::mapToResponseDTO)
+                            .toList();
+                    return AccountPageDTO.builder()
+                            .items(items)
+                            .nextCursor(hasNext ? items.get(items.size() - 1).getId() : null)
+                            .build();
+                });
+    }
+
+    @Override
+    public Uni<Void> deleteAccount(Long id) {
+        AccountChangeEventDTO deletedEvent = AccountChangeEventDTO.builder()
+                .type(AccountChangeType.DELETED)
+                .accountId(id)
+                .occurredAt(Instant.now())
+                .build();
+        return accountRepository.deleteById(AccountId.of(id), deletedEvent)
+                .invoke(deleted -> {
+                    if (!deleted) {
+                        throw new AccountNotFoundException(id);
+                    }
+                })
+                .replaceWithVoid();
+    }
+
+    @Override
+    public Uni<AccountResponseDTO> activateAccount(Long id) {
+        return accountRepository.updateStatus(AccountId.of(id), AccountStatus.ACTIVE,
+                        changeOf(AccountChangeType.ACTIVATED))
+                .onItem().ifNull().failWith(() -> new AccountNotFoundException(id))
+                .map(this::mapToResponseDTO);
+    }
+
+    @Override
+    public Uni<AccountResponseDTO> deactivateAccount(Long id) {
+        return accountRepository.updateStatus(AccountId.of(id), AccountStatus.INACTIVE,
+                        changeOf(AccountChangeType.DEACTIVATED))
+                .onItem().ifNull().failWith(() -> new AccountNotFoundException(id))
+                .map(this::mapToResponseDTO);
+    }
+
+    /**
+     * Creates a domain Account from a request DTO and validates it.
+     *
+     * @param accountRequestDTO The account data
+     * @return The validated account
+     * @throws InvalidAccountDataException if the data is invalid
+     */
+    private Account toValidatedAccount(AccountRequestDTO accountRequestDTO) {
+        Account account = Account.builder()
+                .account(accountRequestDTO.getAccount())
+                .number(accountRequestDTO.getNumber())
+                .status(accountDomainService.parseStatus(accountRequestDTO.getStatus()))
+                .build();
+
+        accountDomainService.validateAccount(account);
+
+        return account;
+    }
+
+    /**
+     * Returns how the change event of a mutation that leaves the account in place is built.
+     *
+     * @param type The kind of mutation
+     * @return A function building the event, without offset, from the account after the mutation
+     */
+    private Function<Account, AccountChangeEventDTO> changeOf(AccountChangeType type) {
+        return account -> AccountChangeEventDTO.builder()
+                .type(type)
+                .accountId(account.getId().getValue())
+                .account(mapToResponseDTO(account))
+                .occurredAt(Instant.now())
+                .build();
+    }
+
+    /**
+     * Maps a domain Account entity to an AccountResponseDTO.
+     *
+     * @param account The account entity
+     * @return The account response DTO
+     */
+    private AccountResponseDTO mapToResponseDTO(Account account) {
+        return AccountResponseDTO.builder()
+                .id(account.getId().getValue())
+                .account(account.getAccount())
+                .number(account.getNumber())
+                .status(account.getStatus())
+                .version(account.getVersion())
+                .build();
+    }
+}
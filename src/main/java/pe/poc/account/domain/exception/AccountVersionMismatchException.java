@@ -0,0 +1,16 @@
+package pe.poc.account.domain.exception;
+
+/**
+ * Exception thrown when a write expects a version of an account that is no longer current.
+ * This is a domain exception that represents a specific business rule violation.
+ */
+public class AccountVersionMismatchException extends RuntimeException {
+
+    public AccountVersionMismatchException(Long id, Long expectedVersion) {
+        super("Account with ID " + id + " is no longer at version " + expectedVersion);
+    }
+
+    public AccountVersionMismatchException(String message) {
+        super(message);
+    }
+}
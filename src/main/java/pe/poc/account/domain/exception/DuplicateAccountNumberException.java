@@ -0,0 +1,12 @@
+package pe.poc.account.domain.exception;
+
+/**
+ * Exception thrown when an account number is already used by another account.
+ * This is a domain exception that represents a specific business rule violation.
+ */
+public class DuplicateAccountNumberException extends RuntimeException {
+
+    public DuplicateAccountNumberException(String number) {
+        super("An account with number " + number + " already exists");
+    }
+}
@@ -11,14 +11,20 @@ import pe.poc.account.domain.model.valueobject.AccountId;
  * This is the core domain model in the hexagonal architecture.
  */
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class Account {
+
     private AccountId id;
     private String account;
     private String number;
-    private String status;
+    private AccountStatus status;
+
+    /**
+     * Version of the stored account, incremented on every write; null until the account is saved.
+     */
+    private Long version;
 
     /**
      * Updates the account information.
@@ -28,7 +34,7 @@ public class Account {
      * @param status The account status
      * @return The updated account
      */
-    public Account update(String account, String number, String status) {
+    public Account update(String account, String number, AccountStatus status) {
         this.account = account;
         this.number = number;
         this.status = status;
@@ -36,22 +42,22 @@ public class Account {
     }
 
     /**
-     * Activates the account by setting its status to "ACTIVE".
+     * Activates the account by setting its status to ACTIVE.
      *
      * @return The activated account
      */
     public Account activate() {
-        this.status = "ACTIVE";
+        this.status = AccountStatus.ACTIVE;
         return this;
     }
 
     /**
-     * Deactivates the account by setting its status to "INACTIVE".
+     * Deactivates the account by setting its status to INACTIVE.
      *
      * @return The deactivated account
      */
     public Account deactivate() {
-        this.status = "INACTIVE";
+        this.status = AccountStatus.INACTIVE;
         return this;
     }
 }
\ No newline at end of file
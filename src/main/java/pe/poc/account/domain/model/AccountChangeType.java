@@ -0,0 +1,32 @@
+package pe.poc.account.domain.model;
+
+/**
+ * Kind of mutation recorded in the account change stream.
+ */
+public enum AccountChangeType {
+
+    /**
+     * The account was created.
+     */
+    CREATED,
+
+    /**
+     * The account data was updated.
+     */
+    UPDATED,
+
+    /**
+     * The account was activated.
+     */
+    ACTIVATED,
+
+    /**
+     * The account was deactivated.
+     */
+    DEACTIVATED,
+
+    /**
+     * The account was deleted.
+     */
+    DELETED
+}
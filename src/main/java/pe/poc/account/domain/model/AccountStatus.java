@@ -0,0 +1,73 @@
+package pe.poc.account.domain.model;
+
+/**
+ * Lifecycle status of an account.
+ * Each status has a one-character code used as its compact stored form.
+ */
+public enum AccountStatus {
+
+    /**
+     * The account can operate.
+     */
+    ACTIVE('A'),
+
+    /**
+     * The account has been deactivated.
+     */
+    INACTIVE('I'),
+
+    /**
+     * The account has been suspended.
+     */
+    SUSPENDED('S');
+
+    private final char code;
+
+    AccountStatus(char code) {
+        this.code = code;
+    }
+
+    /**
+     * Returns the one-character code of the status.
+     *
+     * @return The status code
+     */
+    public char getCode() {
+        return code;
+    }
+
+    /**
+     * Returns the status with the given code.
+     *
+     * @param code The status code
+     * @return The status
+     * @throws IllegalArgumentException if no status has that code
+     */
+    public static AccountStatus fromCode(char code) {
+        return switch (code) {
+            case 'A' -> ACTIVE;
+            case 'I' -> INACTIVE;
+            case 'S' -> SUSPENDED;
+            default -> throw new IllegalArgumentException("Unknown account status code: " + code);
+        };
+    }
+
+    /**
+     * Returns the status with the given name, without throwing or allocating on unknown input.
+     *
+     * @param name The status name (ACTIVE, INACTIVE, SUSPENDED)
+     * @return The status, or null if the name is null or unknown
+     */
+    public static AccountStatus fromName(String name) {
+        if (name == null) {
+            return null;
+        }
+
+        return switch (name) {
+            case "ACTIVE" -> ACTIVE;
+            case "INACTIVE" -> INACTIVE;
+            case "SUSPENDED" -> SUSPENDED;
+            default -> null;
+        };
+    }
+}
@@ -2,6 +2,7 @@ package pe.poc.account.domain.service;
 
 import pe.poc.account.domain.exception.InvalidAccountDataException;
 import pe.poc.account.domain.model.Account;
+import pe.poc.account.domain.model.AccountStatus;
 
 /**
  * Domain service containing business logic for Account entities.
@@ -9,6 +10,8 @@ import pe.poc.account.domain.model.Account;
  */
 public class AccountDomainService {
 
+    private static final String INVALID_STATUS_MESSAGE = "Invalid status value. Allowed values: ACTIVE, INACTIVE, SUSPENDED";
+
     /**
      * Validates account data according to business rules.
      *
@@ -28,7 +31,7 @@ public class AccountDomainService {
             throw new InvalidAccountDataException("number", "Account number cannot be empty");
         }
 
-        if (account.getStatus() == null || account.getStatus().trim().isEmpty()) {
+        if (account.getStatus() == null) {
             throw new InvalidAccountDataException("status", "Account status cannot be empty");
         }
     }
@@ -40,10 +43,27 @@ public class AccountDomainService {
      * @return true if the status is valid, false otherwise
      */
     public boolean isValidStatus(String status) {
-        if (status == null) {
-            return false;
+        return AccountStatus.fromName(status) != null;
+    }
+
+    /**
+     * Parses a status received from a client.
+     * A missing status is returned as null so that {@link #validateAccount(Account)}
+     * reports it as empty.
+     *
+     * @param status The status name
+     * @return The status, or null if the name is null or blank
+     * @throws InvalidAccountDataException if the name is not a known status
+     */
+    public AccountStatus parseStatus(String status) {
+        if (status == null || status.isBlank()) {
+            return null;
+        }
+
+        AccountStatus accountStatus = AccountStatus.fromName(status);
+        if (accountStatus == null) {
+            throw new InvalidAccountDataException("status", INVALID_STATUS_MESSAGE);
         }
-        
-        return status.equals("ACTIVE") || status.equals("INACTIVE") || status.equals("SUSPENDED");
+        return accountStatus;
     }
 }
\ No newline at end of file
@@ -0,0 +1,339 @@
+package pe.poc.account.infrastructure.batching;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import pe.poc.account.application.dto.AccountBatchUpdateDTO;
+import pe.poc.account.application.dto.AccountRequestDTO;
+import pe.poc.account.application.dto.AccountResponseDTO;
+import pe.poc.account.application.dto.BatchItemResultDTO;
+import pe.poc.account.application.dto.BatchResultDTO;
+import pe.poc.account.application.port.input.IAccountManagementUseCase;
+import pe.poc.account.application.usecase.AccountManagementService;
+import pe.poc.account.domain.exception.AccountNotFoundException;
+import pe.poc.account.domain.exception.AccountVersionMismatchException;
+import pe.poc.account.domain.exception.InvalidAccountDataException;
+import pe.poc.common.exception.ConcurrencyLimitExceededException;
+
+/**
+ * Combines concurrent single-account writes into batches (group commit).
+ * Creates and updates are queued and picked up by a few flusher threads; each flusher takes
+ * what is queued, waits up to one window for more, and writes at most a full batch through
+ * {@link IAccountManagementUseCase#createAccounts(List)} and
+ * {@link IAccountManagementUseCase#updateAccounts(List)}: one transaction and one batched
+ * statement per kind of write instead of one commit per request. Every caller gets its own
+ * outcome; when a whole batch fails, for example on a unique number or a concurrent writer,
+ * its items are written again one by one so that only the offending ones fail.
+ */
+@ApplicationScoped
+public class AccountWriteBatcher {
+
+    private static final Logger LOG = Logger.getLogger(AccountWriteBatcher.class);
+
+    /**
+     * How long an idle flusher waits for a write before checking whether it must stop.
+     */
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private final IAccountManagementUseCase accountManagementUseCase;
+    private final boolean enabled;
+    private final Duration window;
+    private final int maxBatchSize;
+    private final int flushers;
+    private final BlockingQueue<PendingWrite> queue;
+    private volatile boolean running;
+    private volatile boolean stopped;
+    private ExecutorService executor;
+
+    @Inject
+    public AccountWriteBatcher(IAccountManagementUseCase accountManagementUseCase,
+                               @ConfigProperty(name = "account.write-batching.enabled", defaultValue = "false")
+                               boolean enabled,
+                               @ConfigProperty(name = "account.write-batching.window", defaultValue = "5ms")
+                               Duration window,
+                               @ConfigProperty(name = "account.write-batching.max-batch-size", defaultValue = "100")
+                               int maxBatchSize,
+                               @ConfigProperty(name = "account.write-batching.max-pending", defaultValue = "10000")
+                               int maxPending,
+                               @ConfigProperty(name = "account.write-batching.flushers", defaultValue = "4")
+                               int flushers) {
+        this.accountManagementUseCase = accountManagementUseCase;
+        this.enabled = enabled;
+        this.window = window;
+        this.maxBatchSize = Math.min(maxBatchSize, AccountManagementService.MAX_BATCH_SIZE);
+        this.flushers = flushers;
+        this.queue = new LinkedBlockingQueue<>(maxPending);
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        executor = Executors.newFixedThreadPool(flushers, Thread.ofPlatform()
+                .name("account-write-batcher-", 0)
+                .daemon(true)
+                .factory());
+        for (int i = 0; i < flushers; i++) {
+            executor.execute(this::runFlusher);
+        }
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+        stopped = true;
+        if (executor == null) {
+            return;
+        }
+        running = false;
+        executor.shutdown();
+        try {
+            executor.awaitTermination(IDLE_POLL_MILLIS + window.toMillis() * 2, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // Write what is still queued before the datasource goes away
+        flush();
+    }
+
+    /**
+     * Returns whether single-account writes are batched.
+     *
+     * @return true when write batching is enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Queues the creation of an account.
+     *
+     * @param accountRequestDTO The account data
+     * @return The created account, or the failure of this item
+     * @throws ConcurrencyLimitExceededException if too many writes are queued or the batcher has stopped
+     */
+    public CompletionStage<AccountResponseDTO> create(AccountRequestDTO accountRequestDTO) {
+        return enqueue(new PendingWrite(null, accountRequestDTO, null));
+    }
+
+    /**
+     * Queues the update of an account, optionally only if it is still at the expected version.
+     *
+     * @param id The account ID
+     * @param accountRequestDTO The updated account data
+     * @param expectedVersion The version the account must be at, or null to update any version
+     * @return The updated account, or the failure of this item
+     * @throws InvalidAccountDataException if the account ID is missing
+     * @throws ConcurrencyLimitExceededException if too many writes are queued or the batcher has stopped
+     */
+    public CompletionStage<AccountResponseDTO> update(Long id, AccountRequestDTO accountRequestDTO,
+                                                      Long expectedVersion) {
+        if (id == null) {
+            throw new InvalidAccountDataException("id", "Account ID cannot be null");
+        }
+        return enqueue(new PendingWrite(id, accountRequestDTO, expectedVersion));
+    }
+
+    /**
+     * Returns the number of writes waiting for a flusher.
+     *
+     * @return The queue length
+     */
+    public int getPendingCount() {
+        return queue.size();
+    }
+
+    /**
+     * Writes everything queued so far on the calling thread, in batches of at most the configured size.
+     */
+    void flush() {
+        List<PendingWrite> batch = new ArrayList<>();
+        while (queue.drainTo(batch, maxBatchSize) > 0) {
+            write(batch);
+            batch = new ArrayList<>();
+        }
+    }
+
+    private CompletionStage<AccountResponseDTO> enqueue(PendingWrite write) {
+        if (!stopped) {
+            if (!queue.offer(write)) {
+                throw new ConcurrencyLimitExceededException("Too many pending account writes, please retry later");
+            }
+            // Queued after the final flush of onStop, nothing would ever write it
+            if (!stopped || !queue.remove(write)) {
+                return write.completion;
+            }
+        }
+        throw new ConcurrencyLimitExceededException("Account writes are no longer accepted, the service is stopping");
+    }
+
+    /**
+     * Collects and writes batches until the batcher stops. A batch is written once it is full or
+     * one window after its first write was taken, whichever comes first.
+     */
+    private void runFlusher() {
+        while (running) {
+            List<PendingWrite> batch = new ArrayList<>(maxBatchSize);
+            try {
+                PendingWrite first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + window.toNanos();
+                while (batch.size() < maxBatchSize) {
+                    // Take a burst in one go before waiting for stragglers
+                    if (queue.drainTo(batch, maxBatchSize - batch.size()) > 0) {
+                        continue;
+                    }
+                    PendingWrite next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            }
+            if (!batch.isEmpty()) {
+                write(batch);
+            }
+        }
+    }
+
+    /**
+     * Writes one batch, creates and updates each in their own transaction.
+     *
+     * @param batch The queued writes
+     */
+    private void write(List<PendingWrite> batch) {
+        List<PendingWrite> creates = new ArrayList<>();
+        List<PendingWrite> updates = new ArrayList<>();
+        for (PendingWrite write : batch) {
+            (write.id == null ? creates : updates).add(write);
+        }
+        if (!creates.isEmpty()) {
+            writeCreates(creates);
+        }
+
+        // An account updated twice in a batch is written in a later round, so each caller sees its own version
+        while (!updates.isEmpty()) {
+            Map<Long, PendingWrite> round = new LinkedHashMap<>();
+            List<PendingWrite> deferred = new ArrayList<>();
+            for (PendingWrite write : updates) {
+                if (round.putIfAbsent(write.id, write) != null) {
+                    deferred.add(write);
+                }
+            }
+            writeUpdates(new ArrayList<>(round.values()));
+            updates = deferred;
+        }
+    }
+
+    private void writeCreates(List<PendingWrite> creates) {
+        BatchResultDTO result;
+        try {
+            result = accountManagementUseCase.createAccounts(creates.stream().map(write -> write.request).toList());
+        } catch (RuntimeException e) {
+            LOG.debugf(e, "Batch of %d account creations failed, writing them one by one", creates.size());
+            for (PendingWrite write : creates) {
+                writeAlone(write);
+            }
+            return;
+        }
+        settle(creates, result);
+    }
+
+    private void writeUpdates(List<PendingWrite> updates) {
+        List<AccountBatchUpdateDTO> items = updates.stream()
+                .map(write -> AccountBatchUpdateDTO.builder()
+                        .id(write.id)
+                        .account(write.request.getAccount())
+                        .number(write.request.getNumber())
+                        .status(write.request.getStatus())
+                        .version(write.expectedVersion)
+                        .build())
+                .toList();
+        BatchResultDTO result;
+        try {
+            result = accountManagementUseCase.updateAccounts(items);
+        } catch (RuntimeException e) {
+            LOG.debugf(e, "Batch of %d account updates failed, writing them one by one", updates.size());
+            for (PendingWrite write : updates) {
+                writeAlone(write);
+            }
+            return;
+        }
+        settle(updates, result);
+    }
+
+    /**
+     * Writes a single item in its own transaction, as if it had not been batched.
+     *
+     * @param write The queued write
+     */
+    private void writeAlone(PendingWrite write) {
+        try {
+            write.completion.complete(write.id == null
+                    ? accountManagementUseCase.createAccount(write.request)
+                    : accountManagementUseCase.updateAccount(write.id, write.request, write.expectedVersion));
+        } catch (RuntimeException e) {
+            write.completion.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Completes every write with the outcome of its item, raising the exception the
+     * single-account use case would have thrown for a failed one.
+     *
+     * @param writes The writes, in the order they were sent
+     * @param result The outcome of each item, in the same order
+     */
+    private static void settle(List<PendingWrite> writes, BatchResultDTO result) {
+        for (BatchItemResultDTO item : result.getItems()) {
+            CompletableFuture<AccountResponseDTO> completion = writes.get(item.getIndex()).completion;
+            switch (item.getStatus()) {
+                case 200, 201 -> completion.complete(item.getAccount());
+                case 404 -> completion.completeExceptionally(new AccountNotFoundException(item.getError()));
+                case 412 -> completion.completeExceptionally(new AccountVersionMismatchException(item.getError()));
+                default -> completion.completeExceptionally(new InvalidAccountDataException(item.getError()));
+            }
+        }
+    }
+
+    /**
+     * A queued create (without ID) or update and the completion its request is waiting on.
+     */
+    private static final class PendingWrite {
+
+        private final Long id;
+        private final AccountRequestDTO request;
+        private final Long expectedVersion;
+        private final CompletableFuture<AccountResponseDTO> completion = new CompletableFuture<>();
+
+        private PendingWrite(Long id, AccountRequestDTO request, Long expectedVersion) {
+            this.id = id;
+            this.request = request;
+            this.expectedVersion = expectedVersion;
+        }
+    }
+}
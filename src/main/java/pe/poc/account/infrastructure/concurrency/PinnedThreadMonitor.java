@@ -0,0 +1,145 @@
+package pe.poc.account.infrastructure.concurrency;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * Counts virtual threads pinned to their carrier thread, using the JFR
+ * {@code jdk.VirtualThreadPinned} event streamed in-process.
+ * Pinning typically comes from blocking inside {@code synchronized} code (the embedded H2
+ * engine and some JDBC paths do this); the counters confirm whether the account
+ * endpoints pin under load. Only active in virtual-thread mode.
+ */
+@ApplicationScoped
+public class PinnedThreadMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    /**
+     * Maximum number of distinct pinning sites tracked, to keep memory bounded.
+     */
+    private static final int MAX_TRACKED_SITES = 20;
+
+    private final boolean enabled;
+    private final Duration threshold;
+    private final LongAdder pinnedEvents = new LongAdder();
+    private final LongAdder pinnedNanos = new LongAdder();
+    private final AtomicLong maxPinnedNanos = new AtomicLong();
+    private final Map<String, LongAdder> pinnedBySite = new ConcurrentHashMap<>();
+    private RecordingStream recordingStream;
+
+    @Inject
+    public PinnedThreadMonitor(@ConfigProperty(name = "account.virtual-threads.enabled", defaultValue = "false")
+                               boolean enabled,
+                               @ConfigProperty(name = "account.virtual-threads.pinned-threshold", defaultValue = "5ms")
+                               Duration threshold) {
+        this.enabled = enabled;
+        this.threshold = threshold;
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        if (!enabled) {
+            return;
+        }
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::record);
+        recordingStream.startAsync();
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    /**
+     * Returns whether pinning is being monitored.
+     *
+     * @return true in virtual-thread mode
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the number of pinning events longer than the configured threshold.
+     *
+     * @return The pinned event count
+     */
+    public long getPinnedEvents() {
+        return pinnedEvents.sum();
+    }
+
+    /**
+     * Returns the total time virtual threads spent pinned.
+     *
+     * @return The total pinned time
+     */
+    public Duration getTotalPinnedTime() {
+        return Duration.ofNanos(pinnedNanos.sum());
+    }
+
+    /**
+     * Returns the longest single pinning event.
+     *
+     * @return The maximum pinned time
+     */
+    public Duration getMaxPinnedTime() {
+        return Duration.ofNanos(maxPinnedNanos.get());
+    }
+
+    /**
+     * Returns the number of pinning events per pinning site (first non-JDK frame).
+     *
+     * @return The counts by site
+     */
+    public Map<String, Long> getPinnedBySite() {
+        Map<String, Long> counts = new TreeMap<>();
+        pinnedBySite.forEach((site, count) -> counts.put(site, count.sum()));
+        return counts;
+    }
+
+    private void record(RecordedEvent event) {
+        long nanos = event.getDuration().toNanos();
+        pinnedEvents.increment();
+        pinnedNanos.add(nanos);
+        maxPinnedNanos.accumulateAndGet(nanos, Math::max);
+
+        String site = pinningSite(event);
+        if (pinnedBySite.containsKey(site) || pinnedBySite.size() < MAX_TRACKED_SITES) {
+            pinnedBySite.computeIfAbsent(site, key -> new LongAdder()).increment();
+        }
+    }
+
+    private String pinningSite(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "unknown";
+        }
+        List<RecordedFrame> frames = event.getStackTrace().getFrames();
+        for (RecordedFrame frame : frames) {
+            String type = frame.getMethod().getType().getName();
+            if (!type.startsWith("java.") && !type.startsWith("jdk.") && !type.startsWith("sun.")) {
+                return type + "." + frame.getMethod().getName();
+            }
+        }
+        return frames.isEmpty() ? "unknown" : frames.get(0).getMethod().getType().getName();
+    }
+}
@@ -0,0 +1,150 @@
+package pe.poc.account.infrastructure.concurrency;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.core.Response;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ManagedContext;
+import pe.poc.common.exception.ConcurrencyLimitExceededException;
+
+/**
+ * Runs REST handlers either inline on the calling worker thread or, when virtual-thread
+ * mode is enabled, on a new virtual thread per request.
+ * In virtual-thread mode a fair semaphore sized to the JDBC pool sits in front of every
+ * handler, so a burst of cheap virtual threads queues here instead of stampeding the
+ * connection pool.
+ */
+@ApplicationScoped
+public class RequestDispatcher {
+
+    private final boolean virtualThreadsEnabled;
+    private final Duration permitTimeout;
+    private final Semaphore databasePermits;
+    private final int maxConcurrency;
+    private final ExecutorService virtualThreadExecutor;
+
+    @Inject
+    public RequestDispatcher(@ConfigProperty(name = "account.virtual-threads.enabled", defaultValue = "false")
+                             boolean virtualThreadsEnabled,
+                             @ConfigProperty(name = "account.datasource.max-concurrency", defaultValue = "16")
+                             int maxConcurrency,
+                             @ConfigProperty(name = "account.datasource.permit-timeout", defaultValue = "2S")
+                             Duration permitTimeout) {
+        this.virtualThreadsEnabled = virtualThreadsEnabled;
+        this.permitTimeout = permitTimeout;
+        this.maxConcurrency = maxConcurrency;
+        this.databasePermits = new Semaphore(maxConcurrency, true);
+        this.virtualThreadExecutor = virtualThreadsEnabled
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("account-vt-", 0).factory())
+                : null;
+    }
+
+    /**
+     * Runs a handler and resumes the suspended response with its result or its failure.
+     * Failures are resumed as exceptions so they reach the registered exception mappers.
+     *
+     * @param asyncResponse The suspended response
+     * @param handler The handler producing the response
+     */
+    public void dispatch(AsyncResponse asyncResponse, Supplier<Response> handler) {
+        if (!virtualThreadsEnabled) {
+            resume(asyncResponse, handler);
+            return;
+        }
+
+        virtualThreadExecutor.execute(() -> {
+            // The request context does not follow the request onto the virtual thread
+            ManagedContext requestContext = Arc.container().requestContext();
+            requestContext.activate();
+            try {
+                resumeWithDatabasePermit(asyncResponse, handler);
+            } finally {
+                requestContext.terminate();
+            }
+        });
+    }
+
+    /**
+     * Returns whether handlers run on virtual threads.
+     *
+     * @return true in virtual-thread mode
+     */
+    public boolean isVirtualThreadsEnabled() {
+        return virtualThreadsEnabled;
+    }
+
+    /**
+     * Returns the total number of database permits.
+     *
+     * @return The maximum number of concurrent handlers in virtual-thread mode
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Returns the number of database permits currently free.
+     *
+     * @return The available permits
+     */
+    public int getAvailablePermits() {
+        return databasePermits.availablePermits();
+    }
+
+    /**
+     * Returns an estimate of the number of handlers waiting for a database permit.
+     *
+     * @return The queue length
+     */
+    public int getQueuedRequests() {
+        return databasePermits.getQueueLength();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (virtualThreadExecutor != null) {
+            virtualThreadExecutor.shutdown();
+        }
+    }
+
+    private void resumeWithDatabasePermit(AsyncResponse asyncResponse, Supplier<Response> handler) {
+        boolean acquired;
+        try {
+            acquired = databasePermits.tryAcquire(permitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            asyncResponse.resume(new ConcurrencyLimitExceededException("Too many concurrent requests, please retry later"));
+            return;
+        }
+
+        // Resuming writes the response, so streamed bodies are also covered by the permit
+        try {
+            resume(asyncResponse, handler);
+        } finally {
+            databasePermits.release();
+        }
+    }
+
+    private void resume(AsyncResponse asyncResponse, Supplier<Response> handler) {
+        try {
+            asyncResponse.resume(handler.get());
+        } catch (RuntimeException e) {
+            asyncResponse.resume(e);
+        }
+    }
+}
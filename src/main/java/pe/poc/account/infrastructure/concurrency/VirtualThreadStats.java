@@ -0,0 +1,60 @@
+package pe.poc.account.infrastructure.concurrency;
+
+import java.util.Map;
+
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Snapshot of the virtual-thread execution mode: limiter usage and carrier pinning.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@RegisterForReflection
+public class VirtualThreadStats {
+
+    /**
+     * Whether handlers run on virtual threads.
+     */
+    private boolean virtualThreadsEnabled;
+
+    /**
+     * The maximum number of handlers allowed to run at once.
+     */
+    private int maxConcurrency;
+
+    /**
+     * The number of free permits.
+     */
+    private int availablePermits;
+
+    /**
+     * The number of handlers waiting for a permit.
+     */
+    private int queuedRequests;
+
+    /**
+     * The number of pinning events longer than the configured threshold.
+     */
+    private long pinnedEvents;
+
+    /**
+     * The total time spent pinned, in milliseconds.
+     */
+    private long totalPinnedMillis;
+
+    /**
+     * The longest pinning event, in milliseconds.
+     */
+    private long maxPinnedMillis;
+
+    /**
+     * The number of pinning events per pinning site.
+     */
+    private Map<String, Long> pinnedBySite;
+}
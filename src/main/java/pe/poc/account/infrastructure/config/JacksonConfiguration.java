@@ -0,0 +1,21 @@
+package pe.poc.account.infrastructure.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.quarkus.jackson.ObjectMapperCustomizer;
+import jakarta.inject.Singleton;
+import pe.poc.account.infrastructure.rest.json.AccountJsonModule;
+
+/**
+ * Configuration class for the application ObjectMapper.
+ * This class registers the pre-built account serializers on the mapper used by REST,
+ * the outbox and the idempotency store.
+ */
+@Singleton
+public class JacksonConfiguration implements ObjectMapperCustomizer {
+
+    @Override
+    public void customize(ObjectMapper objectMapper) {
+        objectMapper.registerModule(new AccountJsonModule());
+    }
+}
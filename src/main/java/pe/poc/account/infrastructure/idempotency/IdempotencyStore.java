@@ -0,0 +1,128 @@
+package pe.poc.account.infrastructure.idempotency;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import pe.poc.account.infrastructure.persistence.entity.IdempotencyRecordJpaEntity;
+
+/**
+ * Recorded responses by idempotency key.
+ * Lookups are served from a bounded in-memory cache and fall back to the
+ * {@code idempotency_record} table, which survives restarts and is shared by every instance.
+ * Both expire after the configured TTL; expired rows are deleted in the background.
+ */
+@ApplicationScoped
+public class IdempotencyStore {
+
+    private static final Logger LOG = Logger.getLogger(IdempotencyStore.class);
+
+    /**
+     * Time between two deletions of expired records.
+     */
+    private static final Duration PURGE_INTERVAL = Duration.ofMinutes(10);
+
+    private final EntityManager entityManager;
+    private final Duration ttl;
+    private final Cache<String, IdempotencyRecordJpaEntity> records;
+    private ScheduledExecutorService scheduler;
+
+    @Inject
+    public IdempotencyStore(EntityManager entityManager,
+                            @ConfigProperty(name = "account.idempotency.max-size", defaultValue = "100000")
+                            long maxSize,
+                            @ConfigProperty(name = "account.idempotency.ttl", defaultValue = "24H") Duration ttl) {
+        this.entityManager = entityManager;
+        this.ttl = ttl;
+        this.records = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                .name("account-idempotency-purge")
+                .daemon(true)
+                .factory());
+        scheduler.scheduleWithFixedDelay(this::purge, PURGE_INTERVAL.toMillis(), PURGE_INTERVAL.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * Finds the response recorded for a key, from memory or else from the database.
+     *
+     * @param key The endpoint and client key
+     * @return The record, empty if none or expired
+     */
+    public Optional<IdempotencyRecordJpaEntity> find(String key) {
+        IdempotencyRecordJpaEntity cached = records.getIfPresent(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        IdempotencyRecordJpaEntity stored = QuarkusTransaction.requiringNew()
+                .call(() -> entityManager.find(IdempotencyRecordJpaEntity.class, key));
+        if (stored == null || stored.getCreatedAt().isBefore(Instant.now().minus(ttl))) {
+            return Optional.empty();
+        }
+        records.put(key, stored);
+        return Optional.of(stored);
+    }
+
+    /**
+     * Records a response in the current transaction. It only becomes visible in memory
+     * through {@link #remember(IdempotencyRecordJpaEntity)}, once that transaction has committed.
+     *
+     * @param record The record
+     */
+    public void persist(IdempotencyRecordJpaEntity record) {
+        entityManager.persist(record);
+    }
+
+    /**
+     * Caches a committed record.
+     *
+     * @param record The record
+     */
+    public void remember(IdempotencyRecordJpaEntity record) {
+        records.put(record.getKey(), record);
+    }
+
+    private void purge() {
+        try {
+            int deleted = QuarkusTransaction.requiringNew().call(() -> entityManager
+                    .createNamedQuery(IdempotencyRecordJpaEntity.DELETE_CREATED_BEFORE)
+                    .setParameter("before", Instant.now().minus(ttl))
+                    .executeUpdate());
+            if (deleted > 0) {
+                LOG.debugf("Deleted %d expired idempotency records", deleted);
+            }
+        } catch (RuntimeException e) {
+            LOG.warnf(e, "Could not delete expired idempotency records");
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package pe.poc.account.infrastructure.idempotency;
+
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.Response.Status;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import pe.poc.account.domain.exception.InvalidAccountDataException;
+import pe.poc.account.infrastructure.persistence.entity.IdempotencyRecordJpaEntity;
+import pe.poc.common.exception.IdempotencyKeyInProgressException;
+import pe.poc.common.exception.IdempotencyKeyMismatchException;
+
+/**
+ * Runs write handlers at most once per {@code Idempotency-Key}.
+ * A successful response is recorded in the transaction of the request itself and replayed,
+ * without running the handler, for every later request with the same key. Concurrent
+ * requests with the same key on this instance wait for the one executing and reuse its
+ * response; across instances the primary key of the record lets only one of them commit.
+ */
+@ApplicationScoped
+public class IdempotentRequestHandler {
+
+    /**
+     * Request header carrying the client key.
+     */
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    /**
+     * Response header marking a replayed response.
+     */
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    /**
+     * Longest client key accepted.
+     */
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyStore idempotencyStore;
+    private final ObjectMapper objectMapper;
+    private final Duration waitTimeout;
+    private final ConcurrentMap<String, CompletableFuture<IdempotencyRecordJpaEntity>> inFlight =
+            new ConcurrentHashMap<>();
+
+    @Inject
+    public IdempotentRequestHandler(IdempotencyStore idempotencyStore, ObjectMapper objectMapper,
+                                    @ConfigProperty(name = "account.idempotency.wait-timeout", defaultValue = "10S")
+                                    Duration waitTimeout) {
+        this.idempotencyStore = idempotencyStore;
+        this.objectMapper = objectMapper;
+        this.waitTimeout = waitTimeout;
+    }
+
+    /**
+     * Runs a handler once per key, or replays the response recorded for the key.
+     *
+     * @param idempotencyKey The client key, or null to run the handler unconditionally
+     * @param endpoint The endpoint the key is scoped to
+     * @param request The request content the key must keep referring to
+     * @param handler The handler producing the response
+     * @return The response of the handler, or the recorded one
+     * @throws InvalidAccountDataException if the key is blank or too long
+     * @throws IdempotencyKeyMismatchException if the key was used for a different request
+     * @throws IdempotencyKeyInProgressException if the request executing with the key takes too long
+     */
+    public Response handle(String idempotencyKey, String endpoint, Object request, Supplier<Response> handler) {
+        if (idempotencyKey == null) {
+            return handler.get();
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new InvalidAccountDataException(IDEMPOTENCY_KEY_HEADER,
+                    "Idempotency key must have between 1 and " + MAX_KEY_LENGTH + " characters");
+        }
+        String key = endpoint + ' ' + idempotencyKey;
+        String requestHash = hash(request);
+
+        while (true) {
+            Optional<IdempotencyRecordJpaEntity> recorded = idempotencyStore.find(key);
+            if (recorded.isPresent()) {
+                return replay(recorded.get(), requestHash);
+            }
+
+            CompletableFuture<IdempotencyRecordJpaEntity> flight = new CompletableFuture<>();
+            CompletableFuture<IdempotencyRecordJpaEntity> running = inFlight.putIfAbsent(key, flight);
+            if (running == null) {
+                return execute(key, requestHash, handler, flight);
+            }
+
+            // Another request with this key is executing: reuse its response, or retry if it left none
+            IdempotencyRecordJpaEntity record = await(running);
+            if (record != null) {
+                return replay(record, requestHash);
+            }
+        }
+    }
+
+    private Response execute(String key, String requestHash, Supplier<Response> handler,
+                             CompletableFuture<IdempotencyRecordJpaEntity> flight) {
+        try {
+            // The previous holder of the key may have recorded its response after our lookup
+            Optional<IdempotencyRecordJpaEntity> recorded = idempotencyStore.find(key);
+            if (recorded.isPresent()) {
+                flight.complete(recorded.get());
+                return replay(recorded.get(), requestHash);
+            }
+
+            // The record commits together with the writes of the request, or not at all
+            IdempotencyRecordJpaEntity[] record = new IdempotencyRecordJpaEntity[1];
+            Response response = QuarkusTransaction.requiringNew().call(() -> {
+                Response result = handler.get();
+                if (result.getStatusInfo().getFamily() == Status.Family.SUCCESSFUL) {
+                    record[0] = toRecord(key, requestHash, result);
+                    idempotencyStore.persist(record[0]);
+                }
+                return result;
+            });
+            if (record[0] != null) {
+                idempotencyStore.remember(record[0]);
+            }
+            flight.complete(record[0]);
+            return response;
+        } catch (RuntimeException e) {
+            // Another instance committing the same key first makes this insert fail
+            IdempotencyRecordJpaEntity recorded = idempotencyStore.find(key).orElseThrow(() -> e);
+            flight.complete(recorded);
+            return replay(recorded, requestHash);
+        } finally {
+            // Waiters retry on their own when nothing was recorded
+            flight.complete(null);
+            inFlight.remove(key, flight);
+        }
+    }
+
+    private IdempotencyRecordJpaEntity await(CompletableFuture<IdempotencyRecordJpaEntity> running) {
+        try {
+            return running.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyKeyInProgressException("A request with the same idempotency key is still in progress");
+        } catch (TimeoutException e) {
+            throw new IdempotencyKeyInProgressException("A request with the same idempotency key is still in progress");
+        } catch (ExecutionException e) {
+            // Flights are never completed exceptionally
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private Response replay(IdempotencyRecordJpaEntity record, String requestHash) {
+        if (!record.getRequestHash().equals(requestHash)) {
+            throw new IdempotencyKeyMismatchException("The idempotency key was already used for a different request");
+        }
+        Response.ResponseBuilder builder = Response.status(record.getStatusCode())
+                .header(REPLAYED_HEADER, "true");
+        if (record.getBody() != null) {
+            builder.entity(record.getBody()).type(MediaType.APPLICATION_JSON_TYPE);
+        }
+        if (record.getEntityTag() != null) {
+            builder.header(HttpHeaders.ETAG, record.getEntityTag());
+        }
+        return builder.build();
+    }
+
+    private IdempotencyRecordJpaEntity toRecord(String key, String requestHash, Response response) {
+        try {
+            return IdempotencyRecordJpaEntity.builder()
+                    .key(key)
+                    .requestHash(requestHash)
+                    .statusCode(response.getStatus())
+                    .body(response.hasEntity() ? objectMapper.writeValueAsString(response.getEntity()) : null)
+                    .entityTag(response.getEntityTag() != null ? response.getEntityTag().toString() : null)
+                    .createdAt(Instant.now())
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String hash(Object request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(objectMapper.writeValueAsBytes(request)));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
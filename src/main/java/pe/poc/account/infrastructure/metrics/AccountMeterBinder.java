@@ -0,0 +1,119 @@
+package pe.poc.account.infrastructure.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.quarkus.runtime.StartupEvent;
+import pe.poc.account.infrastructure.batching.AccountWriteBatcher;
+import pe.poc.account.infrastructure.concurrency.PinnedThreadMonitor;
+import pe.poc.account.infrastructure.concurrency.RequestDispatcher;
+import pe.poc.account.infrastructure.persistence.cache.AccountCache;
+import pe.poc.account.infrastructure.persistence.replica.ReadReplica;
+import pe.poc.account.infrastructure.persistence.replica.ReadReplicaRouter;
+import pe.poc.account.infrastructure.rest.AccountChangeBroadcaster;
+import pe.poc.account.infrastructure.writebehind.AccountStatusWriteBehind;
+
+/**
+ * Registers gauges and counters over state the account service already tracks:
+ * the account cache, the virtual-thread database limiter, the pinned-thread monitor,
+ * the replication lag of the read replicas, the open change streams, the status write-behind queue
+ * and the write batching queue.
+ * Values are read when the registry is scraped, so nothing is added to the request path.
+ * JDBC pool gauges come from the datasource metrics enabled in the configuration.
+ */
+@ApplicationScoped
+public class AccountMeterBinder {
+
+    private final MeterRegistry meterRegistry;
+    private final AccountCache accountCache;
+    private final RequestDispatcher requestDispatcher;
+    private final PinnedThreadMonitor pinnedThreadMonitor;
+    private final ReadReplicaRouter readReplicaRouter;
+    private final AccountChangeBroadcaster accountChangeBroadcaster;
+    private final AccountStatusWriteBehind accountStatusWriteBehind;
+    private final AccountWriteBatcher accountWriteBatcher;
+
+    @Inject
+    public AccountMeterBinder(MeterRegistry meterRegistry, AccountCache accountCache,
+                              RequestDispatcher requestDispatcher, PinnedThreadMonitor pinnedThreadMonitor,
+                              ReadReplicaRouter readReplicaRouter, AccountChangeBroadcaster accountChangeBroadcaster,
+                              AccountStatusWriteBehind accountStatusWriteBehind,
+                              AccountWriteBatcher accountWriteBatcher) {
+        this.meterRegistry = meterRegistry;
+        this.accountCache = accountCache;
+        this.requestDispatcher = requestDispatcher;
+        this.pinnedThreadMonitor = pinnedThreadMonitor;
+        this.readReplicaRouter = readReplicaRouter;
+        this.accountChangeBroadcaster = accountChangeBroadcaster;
+        this.accountStatusWriteBehind = accountStatusWriteBehind;
+        this.accountWriteBatcher = accountWriteBatcher;
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        // Account cache
+        Gauge.builder("account.cache.size", accountCache, cache -> cache.stats().getSize())
+                .strongReference(true)
+                .register(meterRegistry);
+        FunctionCounter.builder("account.cache.requests", accountCache, cache -> cache.stats().getHitCount())
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("account.cache.requests", accountCache, cache -> cache.stats().getMissCount())
+                .tag("result", "miss")
+                .register(meterRegistry);
+        FunctionCounter.builder("account.cache.evictions", accountCache, cache -> cache.stats().getEvictionCount())
+                .register(meterRegistry);
+
+        // Database concurrency limiter of the virtual-thread mode
+        Gauge.builder("account.limiter.permits.available", requestDispatcher, RequestDispatcher::getAvailablePermits)
+                .strongReference(true)
+                .register(meterRegistry);
+        Gauge.builder("account.limiter.queued", requestDispatcher, RequestDispatcher::getQueuedRequests)
+                .strongReference(true)
+                .register(meterRegistry);
+
+        // Virtual-thread pinning
+        FunctionCounter.builder("account.virtual-threads.pinned", pinnedThreadMonitor,
+                        PinnedThreadMonitor::getPinnedEvents)
+                .register(meterRegistry);
+        TimeGauge.builder("account.virtual-threads.pinned.time", pinnedThreadMonitor, TimeUnit.NANOSECONDS,
+                        monitor -> monitor.getTotalPinnedTime().toNanos())
+                .strongReference(true)
+                .register(meterRegistry);
+
+        // Read replicas
+        for (ReadReplica replica : readReplicaRouter.getReplicas()) {
+            TimeGauge.builder("account.replica.lag", replica, TimeUnit.MILLISECONDS,
+                            readReplica -> readReplica.getLag().toMillis())
+                    .tag("replica", replica.getName())
+                    .strongReference(true)
+                    .register(meterRegistry);
+        }
+
+        // Change streams
+        Gauge.builder("account.changes.subscribers", accountChangeBroadcaster,
+                        AccountChangeBroadcaster::getSubscriberCount)
+                .strongReference(true)
+                .register(meterRegistry);
+        FunctionCounter.builder("account.changes.resyncs", accountChangeBroadcaster,
+                        AccountChangeBroadcaster::getResyncCount)
+                .register(meterRegistry);
+
+        // Status write-behind
+        Gauge.builder("account.status.write-behind.pending", accountStatusWriteBehind,
+                        AccountStatusWriteBehind::getPendingCount)
+                .strongReference(true)
+                .register(meterRegistry);
+
+        // Write batching
+        Gauge.builder("account.write-batching.pending", accountWriteBatcher, AccountWriteBatcher::getPendingCount)
+                .strongReference(true)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,117 @@
+package pe.poc.account.infrastructure.metrics;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Records the account service timers.
+ * Tags are limited to the method name and the exception class name, both bounded by the
+ * code, so the number of series stays fixed no matter how many accounts are served.
+ */
+@ApplicationScoped
+public class AccountMetrics {
+
+    /**
+     * Timer of the IAccountManagementUseCase methods, excluding the transaction commit.
+     */
+    public static final String USE_CASE_TIMER = "account.usecase";
+
+    /**
+     * Timer of the IAccountRepository methods that reach the database.
+     */
+    public static final String REPOSITORY_TIMER = "account.repository";
+
+    /**
+     * Timer of the IAccountQueryRepository methods that reach the database.
+     */
+    public static final String QUERY_TIMER = "account.query";
+
+    /**
+     * Timer of the transaction completion of each use case method, Hibernate flush included.
+     */
+    public static final String COMMIT_TIMER = "account.transaction.commit";
+
+    private static final String NO_EXCEPTION = "none";
+
+    private final MeterRegistry meterRegistry;
+    private final TransactionSynchronizationRegistry transactionSynchronizationRegistry;
+    private final ConcurrentMap<String, Timer> timers = new ConcurrentHashMap<>();
+
+    @Inject
+    public AccountMetrics(MeterRegistry meterRegistry,
+                          TransactionSynchronizationRegistry transactionSynchronizationRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.transactionSynchronizationRegistry = transactionSynchronizationRegistry;
+    }
+
+    /**
+     * Runs an operation and records its duration.
+     *
+     * @param timerName The timer name
+     * @param method The method name tag
+     * @param operation The operation
+     * @param <T> The result type
+     * @return The result of the operation
+     */
+    public <T> T time(String timerName, String method, Supplier<T> operation) {
+        long start = System.nanoTime();
+        String exception = NO_EXCEPTION;
+        try {
+            return operation.get();
+        } catch (RuntimeException e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            timer(timerName, method, exception).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Records the completion time of the current transaction under the given method.
+     * The clock starts when the transaction manager begins completion, before Hibernate
+     * flushes, and stops once the commit or rollback has finished. Does nothing when no
+     * transaction is active.
+     *
+     * @param method The method name tag
+     */
+    public void timeCommit(String method) {
+        if (transactionSynchronizationRegistry.getTransactionKey() == null) {
+            return;
+        }
+
+        transactionSynchronizationRegistry.registerInterposedSynchronization(new Synchronization() {
+            private long start;
+
+            @Override
+            public void beforeCompletion() {
+                start = System.nanoTime();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                // Rolled back transactions skip beforeCompletion and are not measured
+                if (start != 0) {
+                    timer(COMMIT_TIMER, method, NO_EXCEPTION).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                }
+            }
+        });
+    }
+
+    private Timer timer(String timerName, String method, String exception) {
+        return timers.computeIfAbsent(timerName + '|' + method + '|' + exception, key -> Timer.builder(timerName)
+                .tag("method", method)
+                .tag("exception", exception)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+}
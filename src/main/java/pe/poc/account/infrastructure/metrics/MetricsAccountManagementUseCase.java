@@ -0,0 +1,114 @@
+package pe.poc.account.infrastructure.metrics;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import jakarta.annotation.Priority;
+import jakarta.decorator.Decorator;
+import jakarta.decorator.Delegate;
+import jakarta.enterprise.inject.Any;
+import jakarta.inject.Inject;
+
+import pe.poc.account.application.dto.AccountBatchUpdateDTO;
+import pe.poc.account.application.dto.AccountPageDTO;
+import pe.poc.account.application.dto.AccountRequestDTO;
+import pe.poc.account.application.dto.AccountResponseDTO;
+import pe.poc.account.application.dto.BatchResultDTO;
+import pe.poc.account.application.port.input.IAccountManagementUseCase;
+import pe.poc.account.domain.model.AccountStatus;
+
+/**
+ * Metrics decorator for the IAccountManagementUseCase input port.
+ * Decorators run inside the transactional interceptor, so each method records its body in
+ * the use case timer and its commit separately in the commit timer.
+ */
+@Decorator
+@Priority(10)
+public abstract class MetricsAccountManagementUseCase implements IAccountManagementUseCase {
+
+    @Inject
+    @Any
+    @Delegate
+    IAccountManagementUseCase delegate;
+
+    @Inject
+    AccountMetrics accountMetrics;
+
+    @Override
+    public AccountResponseDTO createAccount(AccountRequestDTO accountRequestDTO) {
+        return time("createAccount", () -> delegate.createAccount(accountRequestDTO));
+    }
+
+    @Override
+    public BatchResultDTO createAccounts(List<AccountRequestDTO> accountRequestDTOs) {
+        return time("createAccounts", () -> delegate.createAccounts(accountRequestDTOs));
+    }
+
+    @Override
+    public AccountResponseDTO updateAccount(Long id, AccountRequestDTO accountRequestDTO, Long expectedVersion) {
+        return time("updateAccount", () -> delegate.updateAccount(id, accountRequestDTO, expectedVersion));
+    }
+
+    @Override
+    public BatchResultDTO updateAccounts(List<AccountBatchUpdateDTO> accountBatchUpdateDTOs) {
+        return time("updateAccounts", () -> delegate.updateAccounts(accountBatchUpdateDTOs));
+    }
+
+    @Override
+    public AccountResponseDTO getAccountById(Long id) {
+        return time("getAccountById", () -> delegate.getAccountById(id));
+    }
+
+    @Override
+    public AccountPageDTO getAccountsPage(Long after, Integer limit) {
+        return time("getAccountsPage", () -> delegate.getAccountsPage(after, limit));
+    }
+
+    @Override
+    public AccountPageDTO searchAccounts(String number, String status, String namePrefix, Long after, Integer limit) {
+        return time("searchAccounts", () -> delegate.searchAccounts(number, status, namePrefix, after, limit));
+    }
+
+    @Override
+    public void streamAllAccounts(Consumer<AccountResponseDTO> consumer) {
+        time("streamAllAccounts", () -> {
+            delegate.streamAllAccounts(consumer);
+            return null;
+        });
+    }
+
+    @Override
+    public void deleteAccount(Long id) {
+        time("deleteAccount", () -> {
+            delegate.deleteAccount(id);
+            return null;
+        });
+    }
+
+    @Override
+    public BatchResultDTO deleteAccounts(List<Long> ids) {
+        return time("deleteAccounts", () -> delegate.deleteAccounts(ids));
+    }
+
+    @Override
+    public AccountResponseDTO activateAccount(Long id) {
+        return time("activateAccount", () -> delegate.activateAccount(id));
+    }
+
+    @Override
+    public AccountResponseDTO deactivateAccount(Long id) {
+        return time("deactivateAccount", () -> delegate.deactivateAccount(id));
+    }
+
+    @Override
+    public List<AccountResponseDTO> applyStatusChanges(Map<Long, AccountStatus> statuses) {
+        return time("applyStatusChanges", () -> delegate.applyStatusChanges(statuses));
+    }
+
+    private <T> T time(String method, Supplier<T> operation) {
+        accountMetrics.timeCommit(method);
+        return accountMetrics.time(AccountMetrics.USE_CASE_TIMER, method, operation);
+    }
+}
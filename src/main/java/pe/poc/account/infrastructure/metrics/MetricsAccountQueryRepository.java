@@ -0,0 +1,58 @@
+package pe.poc.account.infrastructure.metrics;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import jakarta.annotation.Priority;
+import jakarta.decorator.Decorator;
+import jakarta.decorator.Delegate;
+import jakarta.enterprise.inject.Any;
+import jakarta.inject.Inject;
+
+import pe.poc.account.application.dto.AccountResponseDTO;
+import pe.poc.account.application.port.output.IAccountQueryRepository;
+import pe.poc.account.domain.model.AccountStatus;
+import pe.poc.account.domain.model.valueobject.AccountId;
+
+/**
+ * Metrics decorator for the IAccountQueryRepository output port.
+ * Like {@link MetricsAccountRepository}, it sits inside the caching decorator,
+ * so the query timer only sees lookups that reach the database.
+ */
+@Decorator
+@Priority(20)
+public abstract class MetricsAccountQueryRepository implements IAccountQueryRepository {
+
+    @Inject
+    @Any
+    @Delegate
+    IAccountQueryRepository delegate;
+
+    @Inject
+    AccountMetrics accountMetrics;
+
+    @Override
+    public Optional<AccountResponseDTO> findById(AccountId id) {
+        return time("findById", () -> delegate.findById(id));
+    }
+
+    @Override
+    public Optional<AccountResponseDTO> findByNumber(String number) {
+        return time("findByNumber", () -> delegate.findByNumber(number));
+    }
+
+    @Override
+    public List<AccountResponseDTO> findPage(AccountId after, int limit) {
+        return time("findPage", () -> delegate.findPage(after, limit));
+    }
+
+    @Override
+    public List<AccountResponseDTO> searchPage(AccountStatus status, String namePrefix, AccountId after, int limit) {
+        return time("searchPage", () -> delegate.searchPage(status, namePrefix, after, limit));
+    }
+
+    private <T> T time(String method, Supplier<T> operation) {
+        return accountMetrics.time(AccountMetrics.QUERY_TIMER, method, operation);
+    }
+}
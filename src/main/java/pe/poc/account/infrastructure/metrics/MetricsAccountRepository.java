@@ -0,0 +1,117 @@
+package pe.poc.account.infrastructure.metrics;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import jakarta.annotation.Priority;
+import jakarta.decorator.Decorator;
+import jakarta.decorator.Delegate;
+import jakarta.enterprise.inject.Any;
+import jakarta.inject.Inject;
+
+import pe.poc.account.application.port.output.IAccountRepository;
+import pe.poc.account.domain.model.Account;
+import pe.poc.account.domain.model.AccountStatus;
+import pe.poc.account.domain.model.valueobject.AccountId;
+
+/**
+ * Metrics decorator for the IAccountRepository output port.
+ * Its priority places it inside the caching decorator, so the repository timer only measures
+ * the persistence adapter, not the cache invalidation bookkeeping around it.
+ * {@link #streamAll()} is timed up to the opening of the stream, not its consumption.
+ */
+@Decorator
+@Priority(20)
+public abstract class MetricsAccountRepository implements IAccountRepository {
+
+    @Inject
+    @Any
+    @Delegate
+    IAccountRepository delegate;
+
+    @Inject
+    AccountMetrics accountMetrics;
+
+    @Override
+    public Account save(Account account) {
+        return time("save", () -> delegate.save(account));
+    }
+
+    @Override
+    public List<Account> saveAll(List<Account> accounts) {
+        return time("saveAll", () -> delegate.saveAll(accounts));
+    }
+
+    @Override
+    public Account update(Account account) {
+        return time("update", () -> delegate.update(account));
+    }
+
+    @Override
+    public Optional<Account> updateStatus(AccountId id, AccountStatus status) {
+        return time("updateStatus", () -> delegate.updateStatus(id, status));
+    }
+
+    @Override
+    public List<Account> updateStatusAll(Collection<AccountId> ids, AccountStatus status) {
+        return time("updateStatusAll", () -> delegate.updateStatusAll(ids, status));
+    }
+
+    @Override
+    public List<Account> updateAll(List<Account> accounts) {
+        return time("updateAll", () -> delegate.updateAll(accounts));
+    }
+
+    @Override
+    public Optional<Account> findById(AccountId id) {
+        return time("findById", () -> delegate.findById(id));
+    }
+
+    @Override
+    public Optional<Account> findByNumber(String number) {
+        return time("findByNumber", () -> delegate.findByNumber(number));
+    }
+
+    @Override
+    public List<Account> findAllById(Collection<AccountId> ids) {
+        return time("findAllById", () -> delegate.findAllById(ids));
+    }
+
+    @Override
+    public List<Account> findAll() {
+        return time("findAll", delegate::findAll);
+    }
+
+    @Override
+    public List<Account> findPage(AccountId after, int limit) {
+        return time("findPage", () -> delegate.findPage(after, limit));
+    }
+
+    @Override
+    public Stream<Account> streamAll() {
+        return time("streamAll", delegate::streamAll);
+    }
+
+    @Override
+    public boolean deleteById(AccountId id) {
+        return time("deleteById", () -> delegate.deleteById(id));
+    }
+
+    @Override
+    public Set<AccountId> deleteAllById(Collection<AccountId> ids) {
+        return time("deleteAllById", () -> delegate.deleteAllById(ids));
+    }
+
+    @Override
+    public boolean existsById(AccountId id) {
+        return time("existsById", () -> delegate.existsById(id));
+    }
+
+    private <T> T time(String method, Supplier<T> operation) {
+        return accountMetrics.time(AccountMetrics.REPOSITORY_TIMER, method, operation);
+    }
+}
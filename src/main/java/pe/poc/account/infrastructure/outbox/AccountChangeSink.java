@@ -0,0 +1,26 @@
+package pe.poc.account.infrastructure.outbox;
+
+import java.util.List;
+
+import pe.poc.account.application.dto.AccountChangeEventDTO;
+
+/**
+ * Destination the outbox relay publishes account change events to.
+ * Implementations are CDI beans selected by name through {@code account.outbox.sinks}.
+ */
+public interface AccountChangeSink {
+
+    /**
+     * Returns the name the sink is selected by.
+     *
+     * @return The sink name
+     */
+    String getName();
+
+    /**
+     * Publishes a batch of events. Batches arrive in offset order, from a single thread.
+     *
+     * @param events The events, ordered by offset
+     */
+    void publish(List<AccountChangeEventDTO> events);
+}
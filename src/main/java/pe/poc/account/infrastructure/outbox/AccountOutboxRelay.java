@@ -0,0 +1,163 @@
+package pe.poc.account.infrastructure.outbox;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.Any;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import pe.poc.account.application.dto.AccountChangeEventDTO;
+import pe.poc.account.application.port.output.IAccountChangeOutbox;
+
+/**
+ * Publishes the account change events appended to the outbox to the configured sinks.
+ * At a fixed delay it gives the pending events their stream offsets, in batches, and hands
+ * each committed batch to every sink; full batches are relayed back to back until the outbox
+ * is drained. Published events older than the retention are deleted about once a minute.
+ * Offsets must have a single writer, so the relay should be enabled on one instance per database.
+ */
+@ApplicationScoped
+public class AccountOutboxRelay {
+
+    private static final Logger LOG = Logger.getLogger(AccountOutboxRelay.class);
+
+    /**
+     * Minimum time between two deletions of expired events.
+     */
+    private static final Duration PURGE_INTERVAL = Duration.ofMinutes(1);
+
+    private final IAccountChangeOutbox accountChangeOutbox;
+    private final List<AccountChangeSink> sinks;
+    private final boolean enabled;
+    private final Duration pollInterval;
+    private final int batchSize;
+    private final Duration retention;
+    private volatile long lastPublishedOffset;
+    private Instant nextPurge = Instant.EPOCH;
+    private ScheduledExecutorService scheduler;
+
+    @Inject
+    public AccountOutboxRelay(IAccountChangeOutbox accountChangeOutbox,
+                              @ConfigProperty(name = "account.outbox.sinks",
+                                              defaultValue = InProcessAccountChangeSink.NAME) List<String> sinkNames,
+                              @Any Instance<AccountChangeSink> availableSinks,
+                              @ConfigProperty(name = "account.outbox.relay.enabled", defaultValue = "true")
+                              boolean enabled,
+                              @ConfigProperty(name = "account.outbox.poll-interval", defaultValue = "250ms")
+                              Duration pollInterval,
+                              @ConfigProperty(name = "account.outbox.batch-size", defaultValue = "500") int batchSize,
+                              @ConfigProperty(name = "account.outbox.retention", defaultValue = "7D")
+                              Duration retention) {
+        this(accountChangeOutbox, sinkNames.stream()
+                        .map(name -> findSink(availableSinks, name))
+                        .toList(),
+                enabled, pollInterval, batchSize, retention);
+    }
+
+    AccountOutboxRelay(IAccountChangeOutbox accountChangeOutbox, List<AccountChangeSink> sinks, boolean enabled,
+                       Duration pollInterval, int batchSize, Duration retention) {
+        this.accountChangeOutbox = accountChangeOutbox;
+        this.sinks = sinks;
+        this.enabled = enabled;
+        this.pollInterval = pollInterval;
+        this.batchSize = batchSize;
+        this.retention = retention;
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        if (!enabled) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                .name("account-outbox-relay")
+                .daemon(true)
+                .factory());
+        scheduler.scheduleWithFixedDelay(this::relay, 0, pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * Returns the offset of the last event handed to the sinks by this instance.
+     *
+     * @return The offset, 0 before the first batch
+     */
+    public long getLastPublishedOffset() {
+        return lastPublishedOffset;
+    }
+
+    /**
+     * Relays batches until the outbox is drained, then deletes expired events when due.
+     * Failures are logged and retried on the next run.
+     */
+    void relay() {
+        try {
+            while (relayBatch() == batchSize) {
+                // Keep draining while batches come back full
+            }
+            purgeIfDue(Instant.now());
+        } catch (RuntimeException e) {
+            LOG.warnf(e, "Could not relay the account change outbox");
+        }
+    }
+
+    /**
+     * Publishes one batch of pending events and hands it to every sink.
+     * A failing sink is logged and skipped: the batch is committed and stays readable by offset.
+     *
+     * @return The number of events relayed
+     */
+    int relayBatch() {
+        List<AccountChangeEventDTO> events = accountChangeOutbox.publishPending(batchSize);
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        for (AccountChangeSink sink : sinks) {
+            try {
+                sink.publish(events);
+            } catch (RuntimeException e) {
+                LOG.warnf(e, "Sink %s failed on account changes %d to %d", sink.getName(),
+                        events.get(0).getOffset(), events.get(events.size() - 1).getOffset());
+            }
+        }
+        lastPublishedOffset = events.get(events.size() - 1).getOffset();
+        return events.size();
+    }
+
+    private void purgeIfDue(Instant now) {
+        if (now.isBefore(nextPurge)) {
+            return;
+        }
+        nextPurge = now.plus(PURGE_INTERVAL);
+        int deleted = accountChangeOutbox.deletePublishedBefore(now.minus(retention));
+        if (deleted > 0) {
+            LOG.debugf("Deleted %d account change events older than %s", deleted, retention);
+        }
+    }
+
+    private static AccountChangeSink findSink(Instance<AccountChangeSink> availableSinks, String name) {
+        for (AccountChangeSink sink : availableSinks) {
+            if (sink.getName().equals(name)) {
+                return sink;
+            }
+        }
+        throw new IllegalArgumentException("Unknown account change sink: " + name);
+    }
+}
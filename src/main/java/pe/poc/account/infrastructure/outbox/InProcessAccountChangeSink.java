@@ -0,0 +1,64 @@
+package pe.poc.account.infrastructure.outbox;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import org.jboss.logging.Logger;
+
+import pe.poc.account.application.dto.AccountChangeEventDTO;
+
+/**
+ * Sink handing published account change events to subscribers in the same JVM.
+ * Subscribers run on the relay thread and must hand the events off quickly; one that fails
+ * is logged and does not keep the batch from the others. Missed events can always be read
+ * again from the change feed by offset.
+ */
+@ApplicationScoped
+public class InProcessAccountChangeSink implements AccountChangeSink {
+
+    private static final Logger LOG = Logger.getLogger(InProcessAccountChangeSink.class);
+
+    /**
+     * Name the sink is selected by.
+     */
+    public static final String NAME = "in-process";
+
+    private final List<Consumer<List<AccountChangeEventDTO>>> subscribers = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public void publish(List<AccountChangeEventDTO> events) {
+        for (Consumer<List<AccountChangeEventDTO>> subscriber : subscribers) {
+            try {
+                subscriber.accept(events);
+            } catch (RuntimeException e) {
+                LOG.warnf(e, "Account change subscriber failed on a batch of %d events", events.size());
+            }
+        }
+    }
+
+    /**
+     * Subscribes to the published events.
+     *
+     * @param subscriber The subscriber, called with each published batch
+     */
+    public void subscribe(Consumer<List<AccountChangeEventDTO>> subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    /**
+     * Unsubscribes from the published events.
+     *
+     * @param subscriber The subscriber
+     */
+    public void unsubscribe(Consumer<List<AccountChangeEventDTO>> subscriber) {
+        subscribers.remove(subscriber);
+    }
+}
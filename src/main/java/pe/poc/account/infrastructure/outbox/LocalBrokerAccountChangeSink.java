@@ -0,0 +1,71 @@
+package pe.poc.account.infrastructure.outbox;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import pe.poc.account.application.dto.AccountChangeEventDTO;
+
+/**
+ * Stand-in for a message broker topic, keeping the most recent published events in memory.
+ * Consumers poll it by offset the way they would read a partition, which lets tests and local
+ * runs check what the relay delivers without running a broker.
+ */
+@ApplicationScoped
+public class LocalBrokerAccountChangeSink implements AccountChangeSink {
+
+    /**
+     * Name the sink is selected by.
+     */
+    public static final String NAME = "local-broker";
+
+    private final int capacity;
+    private final Deque<AccountChangeEventDTO> log = new ArrayDeque<>();
+
+    @Inject
+    public LocalBrokerAccountChangeSink(@ConfigProperty(name = "account.outbox.local-broker.capacity",
+                                                        defaultValue = "10000") int capacity) {
+        this.capacity = capacity;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public synchronized void publish(List<AccountChangeEventDTO> events) {
+        for (AccountChangeEventDTO event : events) {
+            if (log.size() == capacity) {
+                log.removeFirst();
+            }
+            log.addLast(event);
+        }
+    }
+
+    /**
+     * Reads the retained events after an offset.
+     *
+     * @param after The offset after which the events start
+     * @param max The maximum number of events
+     * @return The events, ordered by offset
+     */
+    public synchronized List<AccountChangeEventDTO> poll(long after, int max) {
+        List<AccountChangeEventDTO> events = new ArrayList<>();
+        for (AccountChangeEventDTO event : log) {
+            if (events.size() == max) {
+                break;
+            }
+            if (event.getOffset() > after) {
+                events.add(event);
+            }
+        }
+        return events;
+    }
+}
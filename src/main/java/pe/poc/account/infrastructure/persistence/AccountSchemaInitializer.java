@@ -0,0 +1,119 @@
+package pe.poc.account.infrastructure.persistence;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.runtime.StartupEvent;
+import pe.poc.account.domain.model.AccountStatus;
+import pe.poc.account.infrastructure.persistence.entity.AccountJpaEntity;
+
+/**
+ * Brings the account schema in line with the JPA mapping at startup.
+ * Hibernate's schema update creates missing objects but never migrates data,
+ * so the steps that depend on existing rows are applied here.
+ */
+@ApplicationScoped
+public class AccountSchemaInitializer {
+
+    private static final Logger LOG = Logger.getLogger(AccountSchemaInitializer.class);
+
+    /**
+     * VARCHAR status column replaced by {@link AccountJpaEntity#STATUS_COLUMN}.
+     */
+    private static final String LEGACY_STATUS_COLUMN = "status";
+
+    private final EntityManager entityManager;
+
+    @Inject
+    public AccountSchemaInitializer(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Runs the schema alignment steps once the application has started.
+     *
+     * @param event The startup event
+     */
+    @Transactional
+    void onStart(@Observes StartupEvent event) {
+        alignIdSequence();
+        migrateStatusColumn();
+        backfillVersions();
+    }
+
+    /**
+     * Moves the ID sequence past the IDs already in the table.
+     * Databases created with IDENTITY IDs get a fresh sequence starting at 1; with the
+     * pooled optimizer a sequence value v hands out IDs up to v, starting at
+     * v - allocationSize + 1, so the sequence must be at least max(id) + allocationSize.
+     */
+    private void alignIdSequence() {
+        @SuppressWarnings("unchecked")
+        List<Number> nextValues = entityManager.createNativeQuery(
+                        "SELECT BASE_VALUE FROM INFORMATION_SCHEMA.SEQUENCES WHERE UPPER(SEQUENCE_NAME) = UPPER(?1)")
+                .setParameter(1, AccountJpaEntity.ID_SEQUENCE)
+                .getResultList();
+        if (nextValues.isEmpty()) {
+            return;
+        }
+
+        long maxId = ((Number) entityManager.createNativeQuery("SELECT COALESCE(MAX(id), 0) FROM account")
+                .getSingleResult()).longValue();
+        long requiredValue = maxId + AccountJpaEntity.ID_ALLOCATION_SIZE;
+        if (nextValues.get(0).longValue() < requiredValue) {
+            LOG.infof("Restarting sequence %s at %d", AccountJpaEntity.ID_SEQUENCE, requiredValue);
+            entityManager.createNativeQuery("ALTER SEQUENCE " + AccountJpaEntity.ID_SEQUENCE
+                    + " RESTART WITH " + requiredValue).executeUpdate();
+        }
+    }
+
+    /**
+     * Moves the status of existing rows from the legacy VARCHAR column to the status code
+     * column, then drops the legacy column. Schema update has already added the code column
+     * (filled with its default), and the legacy NOT NULL column would otherwise reject every
+     * insert, since it is no longer mapped. Unknown legacy values become INACTIVE.
+     */
+    private void migrateStatusColumn() {
+        long legacyColumns = ((Number) entityManager.createNativeQuery(
+                        "SELECT COUNT(*) FROM INFORMATION_SCHEMA.COLUMNS"
+                                + " WHERE UPPER(TABLE_NAME) = 'ACCOUNT' AND UPPER(COLUMN_NAME) = UPPER(?1)")
+                .setParameter(1, LEGACY_STATUS_COLUMN)
+                .getSingleResult()).longValue();
+        if (legacyColumns == 0) {
+            return;
+        }
+
+        String codeByName = Stream.of(AccountStatus.values())
+                .map(status -> "WHEN '" + status.name() + "' THEN '" + status.getCode() + "'")
+                .collect(Collectors.joining(" "));
+        int migrated = entityManager.createNativeQuery("UPDATE account SET " + AccountJpaEntity.STATUS_COLUMN
+                        + " = CASE " + LEGACY_STATUS_COLUMN + " " + codeByName
+                        + " ELSE '" + AccountStatus.INACTIVE.getCode() + "' END")
+                .executeUpdate();
+        entityManager.createNativeQuery("ALTER TABLE account DROP COLUMN " + LEGACY_STATUS_COLUMN).executeUpdate();
+        LOG.infof("Migrated %d account statuses to column %s", migrated, AccountJpaEntity.STATUS_COLUMN);
+    }
+
+    /**
+     * Gives a version to rows that have none. Schema update adds the version column with its
+     * default, but a column added as nullable by an earlier run would leave nulls behind, and
+     * Hibernate cannot increment a null version.
+     */
+    private void backfillVersions() {
+        int backfilled = entityManager.createNativeQuery("UPDATE account SET " + AccountJpaEntity.VERSION_COLUMN
+                        + " = 0 WHERE " + AccountJpaEntity.VERSION_COLUMN + " IS NULL")
+                .executeUpdate();
+        if (backfilled > 0) {
+            LOG.infof("Backfilled the version of %d accounts", backfilled);
+        }
+    }
+}
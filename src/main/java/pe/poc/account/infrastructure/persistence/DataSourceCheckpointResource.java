@@ -0,0 +1,98 @@
+package pe.poc.account.infrastructure.persistence;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.Any;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+
+import org.crac.Context;
+import org.crac.Core;
+import org.crac.Resource;
+import org.jboss.logging.Logger;
+
+import io.agroal.api.AgroalDataSource;
+import io.agroal.api.configuration.AgroalConnectionPoolConfiguration;
+import io.quarkus.runtime.StartupEvent;
+
+/**
+ * Closes the JDBC pools, and the H2 databases behind them, before a CRaC checkpoint and
+ * reopens them after restore. A checkpoint fails on open files, and H2 keeps a file database
+ * open past its last connection ({@code DB_CLOSE_DELAY=-1}), so file databases are shut down
+ * explicitly. Until restore the pools are shrunk to zero connections: background jobs block
+ * acquiring one instead of reopening the files. On a JVM without CRaC nothing is ever called.
+ */
+@ApplicationScoped
+public class DataSourceCheckpointResource implements Resource {
+
+    private static final Logger LOG = Logger.getLogger(DataSourceCheckpointResource.class);
+
+    private final List<AgroalDataSource> dataSources;
+    private final Map<AgroalDataSource, Integer> maxSizes = new IdentityHashMap<>();
+
+    @Inject
+    public DataSourceCheckpointResource(@Any Instance<AgroalDataSource> dataSources) {
+        this(dataSources.stream().toList());
+    }
+
+    DataSourceCheckpointResource(List<AgroalDataSource> dataSources) {
+        this.dataSources = dataSources;
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        Core.getGlobalContext().register(this);
+    }
+
+    @Override
+    public synchronized void beforeCheckpoint(Context<? extends Resource> context) throws SQLException {
+        for (AgroalDataSource dataSource : dataSources) {
+            AgroalConnectionPoolConfiguration pool = dataSource.getConfiguration().connectionPoolConfiguration();
+            String url = pool.connectionFactoryConfiguration().jdbcUrl();
+            maxSizes.put(dataSource, pool.maxSize());
+
+            // Take the connection used for the shutdown before the pool stops handing them out
+            if (isH2FileDatabase(url)) {
+                try (Connection connection = dataSource.getConnection()) {
+                    pool.setMaxSize(0);
+                    try (Statement statement = connection.createStatement()) {
+                        statement.execute("SHUTDOWN");
+                    }
+                }
+            } else {
+                pool.setMaxSize(0);
+            }
+            dataSource.flush(AgroalDataSource.FlushMode.ALL);
+            LOG.infof("Closed datasource %s for checkpoint", url);
+        }
+    }
+
+    @Override
+    public synchronized void afterRestore(Context<? extends Resource> context) {
+        for (AgroalDataSource dataSource : dataSources) {
+            Integer maxSize = maxSizes.remove(dataSource);
+            if (maxSize != null) {
+                dataSource.getConfiguration().connectionPoolConfiguration().setMaxSize(maxSize);
+            }
+        }
+        LOG.info("Reopened datasources after restore");
+    }
+
+    /**
+     * Returns whether a JDBC URL points to an H2 database kept in files.
+     *
+     * @param url The JDBC URL
+     * @return true for H2 file databases, false for in-memory, remote or other databases
+     */
+    static boolean isH2FileDatabase(String url) {
+        return url != null && url.startsWith("jdbc:h2:")
+                && !url.startsWith("jdbc:h2:mem:") && !url.startsWith("jdbc:h2:tcp:")
+                && !url.startsWith("jdbc:h2:ssl:");
+    }
+}
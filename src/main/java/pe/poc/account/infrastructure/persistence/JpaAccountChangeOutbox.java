@@ -0,0 +1,82 @@
+package pe.poc.account.infrastructure.persistence;
+
+import java.time.Instant;
+import java.util.List;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import jakarta.transaction.Transactional.TxType;
+
+import org.hibernate.jpa.HibernateHints;
+
+import pe.poc.account.application.dto.AccountChangeEventDTO;
+import pe.poc.account.application.port.output.IAccountChangeOutbox;
+import pe.poc.account.infrastructure.persistence.entity.AccountOutboxJpaEntity;
+import pe.poc.account.infrastructure.persistence.mapper.AccountOutboxMapper;
+
+/**
+ * JPA implementation of the IAccountChangeOutbox interface.
+ * Appended events are persisted with the mutation they describe and inserted in the same
+ * JDBC batches at flush. Stream offsets are assigned when events are published rather than
+ * when they are appended, so an event whose transaction commits late still gets the next
+ * offset instead of leaving a gap that readers past it would never revisit.
+ */
+@ApplicationScoped
+public class JpaAccountChangeOutbox implements IAccountChangeOutbox {
+
+    private final EntityManager entityManager;
+    private final AccountOutboxMapper mapper;
+
+    @Inject
+    public JpaAccountChangeOutbox(EntityManager entityManager, AccountOutboxMapper mapper) {
+        this.entityManager = entityManager;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public void append(List<AccountChangeEventDTO> events) {
+        for (AccountChangeEventDTO event : events) {
+            entityManager.persist(mapper.toJpaEntity(event));
+        }
+    }
+
+    @Override
+    public List<AccountChangeEventDTO> findPublished(long after, int limit) {
+        return entityManager.createNamedQuery(AccountOutboxJpaEntity.FIND_PUBLISHED_AFTER, AccountOutboxJpaEntity.class)
+                .setParameter("after", after)
+                .setMaxResults(limit)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultList().stream()
+                .map(mapper::toEvent)
+                .toList();
+    }
+
+    @Override
+    @Transactional(TxType.REQUIRES_NEW)
+    public List<AccountChangeEventDTO> publishPending(int limit) {
+        long lastOffset = entityManager.createNamedQuery(AccountOutboxJpaEntity.FIND_LAST_OFFSET, Long.class)
+                .getSingleResult();
+        List<AccountOutboxJpaEntity> pending = entityManager
+                .createNamedQuery(AccountOutboxJpaEntity.FIND_PENDING, AccountOutboxJpaEntity.class)
+                .setMaxResults(limit)
+                .getResultList();
+
+        // Offsets are written back with the commit of this transaction
+        for (AccountOutboxJpaEntity jpaEntity : pending) {
+            jpaEntity.setStreamOffset(++lastOffset);
+        }
+        return pending.stream()
+                .map(mapper::toEvent)
+                .toList();
+    }
+
+    @Override
+    @Transactional(TxType.REQUIRES_NEW)
+    public int deletePublishedBefore(Instant before) {
+        return entityManager.createNamedQuery(AccountOutboxJpaEntity.DELETE_PUBLISHED_BEFORE)
+                .setParameter("before", before)
+                .executeUpdate();
+    }
+}
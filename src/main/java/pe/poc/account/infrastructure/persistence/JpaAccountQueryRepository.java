@@ -0,0 +1,108 @@
+package pe.poc.account.infrastructure.persistence;
+
+import java.util.List;
+import java.util.Optional;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+
+import org.hibernate.FlushMode;
+import org.hibernate.jpa.HibernateHints;
+
+import io.quarkus.arc.properties.UnlessBuildProperty;
+import pe.poc.account.application.dto.AccountResponseDTO;
+import pe.poc.account.application.port.output.IAccountQueryRepository;
+import pe.poc.account.domain.model.AccountStatus;
+import pe.poc.account.domain.model.valueobject.AccountId;
+import pe.poc.account.infrastructure.persistence.entity.AccountJpaEntity;
+
+/**
+ * JPA implementation of the IAccountQueryRepository interface.
+ * Rows are selected straight into response DTOs with constructor projections, so no entity
+ * is registered in the persistence context, no dirty-checking snapshot is taken and no
+ * intermediate domain copy is built. Queries run read-only with flush mode MANUAL, which
+ * also skips the auto-flush Hibernate would otherwise do before each query.
+ */
+@ApplicationScoped
+@UnlessBuildProperty(name = "account.repository.type", stringValue = "off-heap", enableIfMissing = true)
+public class JpaAccountQueryRepository implements IAccountQueryRepository {
+
+    private final EntityManager entityManager;
+
+    @Inject
+    public JpaAccountQueryRepository(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Optional<AccountResponseDTO> findById(AccountId id) {
+        return readOnly(entityManager.createNamedQuery(AccountJpaEntity.PROJECT_BY_ID, AccountResponseDTO.class))
+                .setParameter("id", id.getValue())
+                .getResultStream()
+                .findFirst();
+    }
+
+    @Override
+    public Optional<AccountResponseDTO> findByNumber(String number) {
+        return readOnly(entityManager.createNamedQuery(AccountJpaEntity.PROJECT_BY_NUMBER, AccountResponseDTO.class))
+                .setParameter("number", number)
+                .getResultStream()
+                .findFirst();
+    }
+
+    @Override
+    public List<AccountResponseDTO> findPage(AccountId after, int limit) {
+        return page(entityManager.createNamedQuery(AccountJpaEntity.PROJECT_PAGE, AccountResponseDTO.class),
+                after, limit);
+    }
+
+    @Override
+    public List<AccountResponseDTO> searchPage(AccountStatus status, String namePrefix, AccountId after, int limit) {
+        TypedQuery<AccountResponseDTO> query;
+        if (status != null && namePrefix != null) {
+            query = entityManager.createNamedQuery(AccountJpaEntity.PROJECT_PAGE_BY_STATUS_AND_NAME_PREFIX,
+                            AccountResponseDTO.class)
+                    .setParameter("status", status)
+                    .setParameter("namePattern", AccountJpaEntity.toPrefixPattern(namePrefix));
+        } else if (status != null) {
+            query = entityManager.createNamedQuery(AccountJpaEntity.PROJECT_PAGE_BY_STATUS, AccountResponseDTO.class)
+                    .setParameter("status", status);
+        } else if (namePrefix != null) {
+            query = entityManager.createNamedQuery(AccountJpaEntity.PROJECT_PAGE_BY_NAME_PREFIX,
+                            AccountResponseDTO.class)
+                    .setParameter("namePattern", AccountJpaEntity.toPrefixPattern(namePrefix));
+        } else {
+            return findPage(after, limit);
+        }
+        return page(query, after, limit);
+    }
+
+    /**
+     * Runs a keyset page query read-only, bounded to the page size.
+     *
+     * @param query The query, with an {@code after} parameter
+     * @param after The ID after which the page starts, or null for the first page
+     * @param limit The maximum number of views to return
+     * @return The views of the page
+     */
+    private List<AccountResponseDTO> page(TypedQuery<AccountResponseDTO> query, AccountId after, int limit) {
+        return readOnly(query)
+                .setParameter("after", after != null ? after.getValue() : 0L)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    /**
+     * Marks a query as read-only and disables the flush that would precede it.
+     *
+     * @param query The query
+     * @param <T> The result type
+     * @return The same query
+     */
+    private <T> TypedQuery<T> readOnly(TypedQuery<T> query) {
+        return query.setHint(HibernateHints.HINT_READ_ONLY, true)
+                .setHint(HibernateHints.HINT_FLUSH_MODE, FlushMode.MANUAL);
+    }
+}
@@ -1,15 +1,27 @@
 package pe.poc.account.infrastructure.persistence;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
 import jakarta.persistence.TypedQuery;
 
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.hibernate.jpa.HibernateHints;
+
+import io.quarkus.arc.properties.UnlessBuildProperty;
 import pe.poc.account.application.port.output.IAccountRepository;
+import pe.poc.account.domain.exception.AccountNotFoundException;
 import pe.poc.account.domain.model.Account;
+import pe.poc.account.domain.model.AccountStatus;
 import pe.poc.account.domain.model.valueobject.AccountId;
 import pe.poc.account.infrastructure.persistence.entity.AccountJpaEntity;
 import pe.poc.account.infrastructure.persistence.mapper.AccountPersistenceMapper;
@@ -19,15 +31,25 @@ import pe.poc.account.infrastructure.persistence.mapper.AccountPersistenceMapper
  * This class adapts the JPA repository to the domain repository interface.
  */
 @ApplicationScoped
+@UnlessBuildProperty(name = "account.repository.type", stringValue = "off-heap", enableIfMissing = true)
 public class JpaAccountRepository implements IAccountRepository {
 
+    /**
+     * Number of rows fetched per round trip when streaming accounts.
+     */
+    private static final int STREAM_FETCH_SIZE = 500;
+
     private final EntityManager entityManager;
     private final AccountPersistenceMapper mapper;
+    private final int batchSize;
 
     @Inject
-    public JpaAccountRepository(EntityManager entityManager, AccountPersistenceMapper mapper) {
+    public JpaAccountRepository(EntityManager entityManager, AccountPersistenceMapper mapper,
+                                @ConfigProperty(name = "quarkus.hibernate-orm.jdbc.statement-batch-size", defaultValue = "50")
+                                int batchSize) {
         this.entityManager = entityManager;
         this.mapper = mapper;
+        this.batchSize = batchSize;
     }
 
     @Override
@@ -37,19 +59,128 @@ public class JpaAccountRepository implements IAccountRepository {
         return mapper.toDomainModel(jpaEntity);
     }
 
+    @Override
+    public List<Account> saveAll(List<Account> accounts) {
+        List<AccountJpaEntity> jpaEntities = new ArrayList<>(accounts.size());
+        for (Account account : accounts) {
+            AccountJpaEntity jpaEntity = mapper.toJpaEntity(account);
+            entityManager.persist(jpaEntity);
+            jpaEntities.add(jpaEntity);
+
+            // Flush one JDBC batch at a time and keep the persistence context small
+            if (jpaEntities.size() % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return jpaEntities.stream()
+                .map(mapper::toDomainModel)
+                .toList();
+    }
+
     @Override
     public Account update(Account account) {
-        AccountJpaEntity jpaEntity = mapper.toJpaEntity(account);
-        jpaEntity = entityManager.merge(jpaEntity);
+        // Mutate the managed entity in place: no detached copy and no merge re-select
+        AccountJpaEntity jpaEntity = entityManager.find(AccountJpaEntity.class, account.getId().getValue());
+        if (jpaEntity == null) {
+            throw new AccountNotFoundException(account.getId().getValue());
+        }
+        mapper.updateJpaEntity(account, jpaEntity);
+
+        // Flush now so the returned account carries the incremented version
+        entityManager.flush();
         return mapper.toDomainModel(jpaEntity);
     }
 
+    @Override
+    public Optional<Account> updateStatus(AccountId id, AccountStatus status) {
+        AccountJpaEntity jpaEntity = entityManager.find(AccountJpaEntity.class, id.getValue());
+        if (jpaEntity == null) {
+            return Optional.empty();
+        }
+        jpaEntity.setStatus(status);
+        entityManager.flush();
+        return Optional.of(mapper.toDomainModel(jpaEntity));
+    }
+
+    @Override
+    public List<Account> updateStatusAll(Collection<AccountId> ids, AccountStatus status) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        // Lock the rows that will change, so the returned accounts are exactly the ones this update moves
+        List<Long> changingIds = entityManager.createQuery("SELECT a.id FROM AccountJpaEntity a"
+                        + " WHERE a.id IN :ids AND a.status <> :status", Long.class)
+                .setParameter("status", status)
+                .setParameter("ids", toValues(ids))
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .getResultList();
+        if (changingIds.isEmpty()) {
+            return List.of();
+        }
+
+        // Bulk statements bypass @Version, so the version is bumped in the statement itself
+        entityManager.createQuery("UPDATE AccountJpaEntity a SET a.status = :status, a.version = a.version + 1"
+                        + " WHERE a.id IN :ids")
+                .setParameter("status", status)
+                .setParameter("ids", changingIds)
+                .executeUpdate();
+        return findAllById(changingIds.stream().map(AccountId::of).toList());
+    }
+
+    @Override
+    public List<Account> updateAll(List<Account> accounts) {
+        // Entities are expected to be managed already (see findAllById), so find() hits the persistence context
+        List<AccountJpaEntity> jpaEntities = new ArrayList<>(accounts.size());
+        for (Account account : accounts) {
+            AccountJpaEntity jpaEntity = entityManager.find(AccountJpaEntity.class, account.getId().getValue());
+            if (jpaEntity == null) {
+                throw new AccountNotFoundException(account.getId().getValue());
+            }
+            mapper.updateJpaEntity(account, jpaEntity);
+            jpaEntities.add(jpaEntity);
+        }
+        entityManager.flush();
+
+        // Map after the flush so the returned accounts carry the incremented versions
+        List<Account> updatedAccounts = jpaEntities.stream()
+                .map(mapper::toDomainModel)
+                .toList();
+        entityManager.clear();
+        return updatedAccounts;
+    }
+
     @Override
     public Optional<Account> findById(AccountId id) {
         AccountJpaEntity jpaEntity = entityManager.find(AccountJpaEntity.class, id.getValue());
         return Optional.ofNullable(mapper.toDomainModel(jpaEntity));
     }
 
+    @Override
+    public Optional<Account> findByNumber(String number) {
+        return entityManager.createNamedQuery(AccountJpaEntity.FIND_BY_NUMBER, AccountJpaEntity.class)
+                .setParameter("number", number)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()
+                .findFirst()
+                .map(mapper::toDomainModel);
+    }
+
+    @Override
+    public List<Account> findAllById(Collection<AccountId> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        TypedQuery<AccountJpaEntity> query = entityManager.createQuery(
+                "SELECT a FROM AccountJpaEntity a WHERE a.id IN :ids", AccountJpaEntity.class);
+        query.setParameter("ids", toValues(ids));
+        return query.getResultList().stream()
+                .map(mapper::toDomainModel)
+                .toList();
+    }
+
     @Override
     public List<Account> findAll() {
         TypedQuery<AccountJpaEntity> query = entityManager.createQuery(
@@ -61,11 +192,57 @@ public class JpaAccountRepository implements IAccountRepository {
     }
 
     @Override
-    public void deleteById(AccountId id) {
-        AccountJpaEntity jpaEntity = entityManager.find(AccountJpaEntity.class, id.getValue());
-        if (jpaEntity != null) {
-            entityManager.remove(jpaEntity);
+    public List<Account> findPage(AccountId after, int limit) {
+        TypedQuery<AccountJpaEntity> query = entityManager.createQuery(
+                "SELECT a FROM AccountJpaEntity a WHERE a.id > :after ORDER BY a.id", AccountJpaEntity.class);
+        query.setParameter("after", after != null ? after.getValue() : 0L);
+        query.setMaxResults(limit);
+        query.setHint(HibernateHints.HINT_READ_ONLY, true);
+        return query.getResultList().stream()
+                .map(mapper::toDomainModel)
+                .toList();
+    }
+
+    @Override
+    public Stream<Account> streamAll() {
+        TypedQuery<AccountJpaEntity> query = entityManager.createQuery(
+                "SELECT a FROM AccountJpaEntity a ORDER BY a.id", AccountJpaEntity.class);
+        query.setHint(HibernateHints.HINT_READ_ONLY, true);
+        query.setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE);
+        // Detach every row once mapped so the persistence context does not grow with the table
+        return query.getResultStream()
+                .map(jpaEntity -> {
+                    Account account = mapper.toDomainModel(jpaEntity);
+                    entityManager.detach(jpaEntity);
+                    return account;
+                });
+    }
+
+    @Override
+    public boolean deleteById(AccountId id) {
+        int deleted = entityManager.createQuery("DELETE FROM AccountJpaEntity a WHERE a.id = :id")
+                .setParameter("id", id.getValue())
+                .executeUpdate();
+        return deleted > 0;
+    }
+
+    @Override
+    public Set<AccountId> deleteAllById(Collection<AccountId> ids) {
+        if (ids.isEmpty()) {
+            return Set.of();
         }
+        Set<Long> values = toValues(ids);
+        TypedQuery<Long> query = entityManager.createQuery(
+                "SELECT a.id FROM AccountJpaEntity a WHERE a.id IN :ids", Long.class);
+        query.setParameter("ids", values);
+        Set<AccountId> existingIds = query.getResultList().stream()
+                .map(AccountId::of)
+                .collect(Collectors.toSet());
+
+        entityManager.createQuery("DELETE FROM AccountJpaEntity a WHERE a.id IN :ids")
+                .setParameter("ids", values)
+                .executeUpdate();
+        return existingIds;
     }
 
     @Override
@@ -75,4 +252,16 @@ public class JpaAccountRepository implements IAccountRepository {
         query.setParameter("id", id.getValue());
         return query.getSingleResult() > 0;
     }
-}
\ No newline at end of file
+
+    /**
+     * Unwraps account IDs into their raw values for use as query parameters.
+     *
+     * @param ids The account IDs
+     * @return The distinct ID values
+     */
+    private Set<Long> toValues(Collection<AccountId> ids) {
+        return ids.stream()
+                .map(AccountId::getValue)
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,123 @@
+package pe.poc.account.infrastructure.persistence;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import pe.poc.account.application.dto.AccountChangeEventDTO;
+import pe.poc.account.application.port.output.IAccountChangeOutbox;
+import pe.poc.account.application.port.output.IAccountRepository;
+import pe.poc.account.application.port.output.IReactiveAccountRepository;
+import pe.poc.account.domain.exception.AccountNotFoundException;
+import pe.poc.account.domain.exception.AccountVersionMismatchException;
+import pe.poc.account.domain.model.Account;
+import pe.poc.account.domain.model.AccountStatus;
+import pe.poc.account.domain.model.valueobject.AccountId;
+
+/**
+ * Reactive adapter of the IReactiveAccountRepository interface over the JPA repository.
+ * Hibernate Reactive has no H2 driver, so each operation runs the blocking repository in its
+ * own short transaction on the worker pool and completes the returned Uni from there; request
+ * threads are never blocked on JDBC. Change events are appended to the outbox inside the
+ * transaction of the mutation, as the blocking service does. Swapping this class for a Hibernate Reactive
+ * implementation only requires a database with a Vert.x reactive client.
+ */
+@ApplicationScoped
+@IfBuildProperty(name = "account.reactive.enabled", stringValue = "true")
+public class ReactiveJpaAccountRepository implements IReactiveAccountRepository {
+
+    private final IAccountRepository accountRepository;
+    private final IAccountChangeOutbox accountChangeOutbox;
+    private final Executor executor;
+
+    @Inject
+    public ReactiveJpaAccountRepository(IAccountRepository accountRepository,
+                                        IAccountChangeOutbox accountChangeOutbox) {
+        this.accountRepository = accountRepository;
+        this.accountChangeOutbox = accountChangeOutbox;
+        this.executor = Infrastructure.getDefaultWorkerPool();
+    }
+
+    @Override
+    public Uni<Account> save(Account account, Function<Account, AccountChangeEventDTO> change) {
+        return inTransaction(() -> record(accountRepository.save(account), change));
+    }
+
+    @Override
+    public Uni<Account> update(Account account, Long expectedVersion,
+                               Function<Account, AccountChangeEventDTO> change) {
+        return inTransaction(() -> {
+            // Check the version on the managed account the update flushes, so a concurrent writer is still caught
+            if (expectedVersion != null) {
+                Long id = account.getId().getValue();
+                Account existingAccount = accountRepository.findById(account.getId())
+                        .orElseThrow(() -> new AccountNotFoundException(id));
+                if (!expectedVersion.equals(existingAccount.getVersion())) {
+                    throw new AccountVersionMismatchException(id, expectedVersion);
+                }
+            }
+            return record(accountRepository.update(account), change);
+        });
+    }
+
+    @Override
+    public Uni<Account> updateStatus(AccountId id, AccountStatus status,
+                                     Function<Account, AccountChangeEventDTO> change) {
+        return inTransaction(() -> accountRepository.updateStatus(id, status)
+                .map(updated -> record(updated, change))
+                .orElse(null));
+    }
+
+    @Override
+    public Uni<Account> findById(AccountId id) {
+        return inTransaction(() -> accountRepository.findById(id).orElse(null));
+    }
+
+    @Override
+    public Uni<List<Account>> findPage(AccountId after, int limit) {
+        return inTransaction(() -> accountRepository.findPage(after, limit));
+    }
+
+    @Override
+    public Uni<Boolean> deleteById(AccountId id, AccountChangeEventDTO change) {
+        return inTransaction(() -> {
+            boolean deleted = accountRepository.deleteById(id);
+            if (deleted) {
+                accountChangeOutbox.append(List.of(change));
+            }
+            return deleted;
+        });
+    }
+
+    /**
+     * Appends the change event of a mutated account to the outbox of the current transaction.
+     *
+     * @param account The account after the mutation
+     * @param change Builds the change event from the account
+     * @return The account
+     */
+    private Account record(Account account, Function<Account, AccountChangeEventDTO> change) {
+        accountChangeOutbox.append(List.of(change.apply(account)));
+        return account;
+    }
+
+    /**
+     * Runs blocking repository work in a new transaction on the worker pool.
+     *
+     * @param work The repository work
+     * @param <T> The result type
+     * @return A Uni emitting the result of the work
+     */
+    private <T> Uni<T> inTransaction(Supplier<T> work) {
+        return Uni.createFrom().item(() -> QuarkusTransaction.requiringNew().call(work::get))
+                .runSubscriptionOn(executor);
+    }
+}
@@ -0,0 +1,123 @@
+package pe.poc.account.infrastructure.persistence.cache;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import pe.poc.account.application.dto.AccountResponseDTO;
+import pe.poc.account.domain.model.valueobject.AccountId;
+
+/**
+ * Bounded in-process cache of account views keyed by ID.
+ * Entries are evicted by size and time-to-live, and write paths invalidate them
+ * only once their transaction has committed.
+ */
+@ApplicationScoped
+public class AccountCache {
+
+    private final boolean enabled;
+    private final Cache<Long, AccountResponseDTO> cache;
+    private final TransactionSynchronizationRegistry transactionSynchronizationRegistry;
+
+    @Inject
+    public AccountCache(@ConfigProperty(name = "account.cache.enabled", defaultValue = "true") boolean enabled,
+                        @ConfigProperty(name = "account.cache.max-size", defaultValue = "10000") long maxSize,
+                        @ConfigProperty(name = "account.cache.ttl", defaultValue = "5M") Duration ttl,
+                        TransactionSynchronizationRegistry transactionSynchronizationRegistry) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.transactionSynchronizationRegistry = transactionSynchronizationRegistry;
+    }
+
+    /**
+     * Returns the cached account view, loading it on a miss. Callers always receive a copy,
+     * so mutating the returned view never changes the cached entry.
+     *
+     * @param id The account ID
+     * @param loader The function loading the account view on a cache miss
+     * @return An Optional containing a copy of the account view if found, empty otherwise
+     */
+    public Optional<AccountResponseDTO> get(AccountId id, Function<AccountId, Optional<AccountResponseDTO>> loader) {
+        if (!enabled || id == null || id.getValue() == null) {
+            return loader.apply(id);
+        }
+
+        // Missing accounts are not cached: a null mapping leaves no entry behind
+        AccountResponseDTO cached = cache.get(id.getValue(), key -> loader.apply(id)
+                .map(account -> account.toBuilder().build())
+                .orElse(null));
+        return Optional.ofNullable(cached).map(account -> account.toBuilder().build());
+    }
+
+    /**
+     * Invalidates the cached account once the current transaction commits,
+     * or immediately when no transaction is active.
+     *
+     * @param id The account ID
+     */
+    public void invalidateAfterCommit(AccountId id) {
+        if (!enabled || id == null || id.getValue() == null) {
+            return;
+        }
+
+        Long key = id.getValue();
+        if (transactionSynchronizationRegistry.getTransactionKey() == null) {
+            cache.invalidate(key);
+            return;
+        }
+
+        transactionSynchronizationRegistry.registerInterposedSynchronization(new Synchronization() {
+            @Override
+            public void beforeCompletion() {
+                // Nothing to do before completion
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status == Status.STATUS_COMMITTED) {
+                    cache.invalidate(key);
+                }
+            }
+        });
+    }
+
+    /**
+     * Removes every entry from the cache.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Returns a snapshot of the cache counters.
+     *
+     * @return The cache statistics
+     */
+    public AccountCacheStats stats() {
+        CacheStats stats = cache.stats();
+        return AccountCacheStats.builder()
+                .enabled(enabled)
+                .size(cache.estimatedSize())
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .evictionCount(stats.evictionCount())
+                .hitRate(stats.hitRate())
+                .build();
+    }
+}
@@ -0,0 +1,48 @@
+package pe.poc.account.infrastructure.persistence.cache;
+
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Snapshot of the account cache counters, used to size the cache.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@RegisterForReflection
+public class AccountCacheStats {
+
+    /**
+     * Whether the cache is enabled.
+     */
+    private boolean enabled;
+
+    /**
+     * The approximate number of cached accounts.
+     */
+    private long size;
+
+    /**
+     * The number of lookups served from the cache.
+     */
+    private long hitCount;
+
+    /**
+     * The number of lookups that went to the repository.
+     */
+    private long missCount;
+
+    /**
+     * The number of entries evicted by size or time-to-live.
+     */
+    private long evictionCount;
+
+    /**
+     * The ratio of hits over all lookups.
+     */
+    private double hitRate;
+}
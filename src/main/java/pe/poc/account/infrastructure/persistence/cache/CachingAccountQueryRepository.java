@@ -0,0 +1,36 @@
+package pe.poc.account.infrastructure.persistence.cache;
+
+import java.util.Optional;
+
+import jakarta.annotation.Priority;
+import jakarta.decorator.Decorator;
+import jakarta.decorator.Delegate;
+import jakarta.enterprise.inject.Any;
+import jakarta.inject.Inject;
+
+import pe.poc.account.application.dto.AccountResponseDTO;
+import pe.poc.account.application.port.output.IAccountQueryRepository;
+import pe.poc.account.domain.model.valueobject.AccountId;
+
+/**
+ * Caching decorator for the IAccountQueryRepository output port.
+ * Lookups by ID are read through the account cache; the entries are invalidated
+ * by {@link CachingAccountRepository} when the account is written.
+ */
+@Decorator
+@Priority(10)
+public abstract class CachingAccountQueryRepository implements IAccountQueryRepository {
+
+    @Inject
+    @Any
+    @Delegate
+    IAccountQueryRepository delegate;
+
+    @Inject
+    AccountCache accountCache;
+
+    @Override
+    public Optional<AccountResponseDTO> findById(AccountId id) {
+        return accountCache.get(id, delegate::findById);
+    }
+}
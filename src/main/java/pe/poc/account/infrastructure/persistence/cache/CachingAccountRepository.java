@@ -0,0 +1,80 @@
+package pe.poc.account.infrastructure.persistence.cache;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import jakarta.annotation.Priority;
+import jakarta.decorator.Decorator;
+import jakarta.decorator.Delegate;
+import jakarta.enterprise.inject.Any;
+import jakarta.inject.Inject;
+
+import pe.poc.account.application.port.output.IAccountRepository;
+import pe.poc.account.domain.model.Account;
+import pe.poc.account.domain.model.AccountStatus;
+import pe.poc.account.domain.model.valueobject.AccountId;
+
+/**
+ * Caching decorator for the IAccountRepository output port.
+ * Write operations invalidate the entries that {@link CachingAccountQueryRepository}
+ * reads through, once their transaction commits. Lookups on this port are not cached:
+ * they load accounts to be modified and must see the current row.
+ */
+@Decorator
+@Priority(10)
+public abstract class CachingAccountRepository implements IAccountRepository {
+
+    @Inject
+    @Any
+    @Delegate
+    IAccountRepository delegate;
+
+    @Inject
+    AccountCache accountCache;
+
+    @Override
+    public Account update(Account account) {
+        Account updatedAccount = delegate.update(account);
+        accountCache.invalidateAfterCommit(account.getId());
+        return updatedAccount;
+    }
+
+    @Override
+    public List<Account> updateAll(List<Account> accounts) {
+        List<Account> updatedAccounts = delegate.updateAll(accounts);
+        accounts.forEach(account -> accountCache.invalidateAfterCommit(account.getId()));
+        return updatedAccounts;
+    }
+
+    @Override
+    public Optional<Account> updateStatus(AccountId id, AccountStatus status) {
+        Optional<Account> updatedAccount = delegate.updateStatus(id, status);
+        updatedAccount.ifPresent(account -> accountCache.invalidateAfterCommit(id));
+        return updatedAccount;
+    }
+
+    @Override
+    public List<Account> updateStatusAll(Collection<AccountId> ids, AccountStatus status) {
+        List<Account> updatedAccounts = delegate.updateStatusAll(ids, status);
+        updatedAccounts.forEach(account -> accountCache.invalidateAfterCommit(account.getId()));
+        return updatedAccounts;
+    }
+
+    @Override
+    public boolean deleteById(AccountId id) {
+        boolean deleted = delegate.deleteById(id);
+        if (deleted) {
+            accountCache.invalidateAfterCommit(id);
+        }
+        return deleted;
+    }
+
+    @Override
+    public Set<AccountId> deleteAllById(Collection<AccountId> ids) {
+        Set<AccountId> deletedIds = delegate.deleteAllById(ids);
+        deletedIds.forEach(accountCache::invalidateAfterCommit);
+        return deletedIds;
+    }
+}
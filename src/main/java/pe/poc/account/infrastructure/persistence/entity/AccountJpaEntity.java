@@ -1,33 +1,126 @@
 package pe.poc.account.infrastructure.persistence.entity;
 
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.NamedQuery;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+import pe.poc.account.domain.model.AccountStatus;
 
 /**
  * JPA entity for Account.
  * This entity is used for persistence in the database.
  */
 @Entity
-@Table(name = "account")
+@Table(name = "account",
+        uniqueConstraints = @UniqueConstraint(name = "uk_account_number", columnNames = "number"),
+        indexes = {
+                @Index(name = "idx_account_status_code", columnList = AccountJpaEntity.STATUS_COLUMN),
+                @Index(name = "idx_account_name", columnList = "account")
+        })
+@NamedQuery(name = AccountJpaEntity.FIND_BY_NUMBER,
+        query = "SELECT a FROM AccountJpaEntity a WHERE a.number = :number")
+@NamedQuery(name = AccountJpaEntity.PROJECT_BY_ID,
+        query = AccountJpaEntity.SELECT_VIEW + " WHERE a.id = :id")
+@NamedQuery(name = AccountJpaEntity.PROJECT_BY_NUMBER,
+        query = AccountJpaEntity.SELECT_VIEW + " WHERE a.number = :number")
+@NamedQuery(name = AccountJpaEntity.PROJECT_PAGE,
+        query = AccountJpaEntity.SELECT_VIEW + " WHERE a.id > :after ORDER BY a.id")
+@NamedQuery(name = AccountJpaEntity.PROJECT_PAGE_BY_STATUS,
+        query = AccountJpaEntity.SELECT_VIEW + " WHERE a.status = :status AND a.id > :after ORDER BY a.id")
+@NamedQuery(name = AccountJpaEntity.PROJECT_PAGE_BY_NAME_PREFIX,
+        query = AccountJpaEntity.SELECT_VIEW + " WHERE a.account LIKE :namePattern ESCAPE '!' AND a.id > :after"
+                + " ORDER BY a.id")
+@NamedQuery(name = AccountJpaEntity.PROJECT_PAGE_BY_STATUS_AND_NAME_PREFIX,
+        query = AccountJpaEntity.SELECT_VIEW + " WHERE a.status = :status AND a.account LIKE :namePattern ESCAPE '!'"
+                + " AND a.id > :after ORDER BY a.id")
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class AccountJpaEntity {
+
+    /**
+     * Name of the sequence backing account IDs.
+     */
+    public static final String ID_SEQUENCE = "account_seq";
+
+    /**
+     * Number of IDs reserved per sequence call (pooled optimizer), which lets Hibernate batch inserts.
+     */
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    /**
+     * Column holding the one-character status code.
+     */
+    public static final String STATUS_COLUMN = "status_code";
+
+    /**
+     * Column holding the optimistic locking version.
+     */
+    public static final String VERSION_COLUMN = "version";
+
+    /**
+     * Named query finding an account by its unique number.
+     */
+    public static final String FIND_BY_NUMBER = "AccountJpaEntity.findByNumber";
+
+    /**
+     * Select clause projecting accounts into response views, shared by the PROJECT_* named queries.
+     */
+    public static final String SELECT_VIEW = "SELECT new pe.poc.account.application.dto.AccountResponseDTO(a.id,"
+            + " a.account, a.number, a.status, a.version) FROM AccountJpaEntity a";
+
+    /**
+     * Named query selecting the response view of an account by its ID, without loading the entity.
+     */
+    public static final String PROJECT_BY_ID = "AccountJpaEntity.projectById";
+
+    /**
+     * Named query selecting the response view of an account by its unique number.
+     */
+    public static final String PROJECT_BY_NUMBER = "AccountJpaEntity.projectByNumber";
+
+    /**
+     * Named query selecting a keyset page of response views.
+     */
+    public static final String PROJECT_PAGE = "AccountJpaEntity.projectPage";
+
+    /**
+     * Named query selecting a keyset page of response views of accounts with a status.
+     */
+    public static final String PROJECT_PAGE_BY_STATUS = "AccountJpaEntity.projectPageByStatus";
+
+    /**
+     * Named query selecting a keyset page of response views of accounts whose name matches a LIKE pattern.
+     */
+    public static final String PROJECT_PAGE_BY_NAME_PREFIX = "AccountJpaEntity.projectPageByNamePrefix";
+
+    /**
+     * Named query selecting a keyset page of response views of accounts with a status and a name
+     * matching a LIKE pattern.
+     */
+    public static final String PROJECT_PAGE_BY_STATUS_AND_NAME_PREFIX =
+            "AccountJpaEntity.projectPageByStatusAndNamePrefix";
     
     /**
      * The account ID.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = ID_SEQUENCE)
+    @SequenceGenerator(name = ID_SEQUENCE, sequenceName = ID_SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
     
     /**
@@ -43,8 +136,34 @@ public class AccountJpaEntity {
     private String number;
     
     /**
-     * The account status.
+     * The account status, stored as its code in a CHAR(1) column.
+     * The default only fills rows that existed before the column was added, until
+     * AccountSchemaInitializer backfills them.
+     */
+    @Convert(converter = AccountStatusConverter.class)
+    @Column(name = STATUS_COLUMN, nullable = false, length = 1, columnDefinition = "char(1)")
+    @ColumnDefault("'I'")
+    private AccountStatus status;
+
+    /**
+     * The optimistic locking version, checked and incremented by every update.
+     * The default only fills rows that existed before the column was added.
+     */
+    @Version
+    @Column(name = VERSION_COLUMN, nullable = false)
+    @ColumnDefault("0")
+    private Long version;
+
+    /**
+     * Builds a LIKE pattern matching names that start with the given prefix, escaping the
+     * wildcards it contains with the {@code '!'} ESCAPE character of the name prefix queries.
+     *
+     * @param prefix The name prefix
+     * @return The LIKE pattern
      */
-    @Column(name = "status", nullable = false)
-    private String status;
+    public static String toPrefixPattern(String prefix) {
+        return prefix.replace("!", "!!")
+                .replace("%", "!%")
+                .replace("_", "!_") + "%";
+    }
 }
\ No newline at end of file
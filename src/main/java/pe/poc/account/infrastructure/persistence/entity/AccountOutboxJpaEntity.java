@@ -0,0 +1,111 @@
+package pe.poc.account.infrastructure.persistence.entity;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.NamedQuery;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import pe.poc.account.domain.model.AccountChangeType;
+
+/**
+ * JPA entity for an account change event waiting in, or published from, the outbox.
+ * The ID follows the order events were appended in; the stream offset is only assigned by the
+ * relay when it publishes the event, in a single writer, so published offsets are dense and
+ * never skip an event whose transaction committed late.
+ */
+@Entity
+@Table(name = "account_outbox",
+        indexes = @Index(name = "idx_account_outbox_stream_offset", columnList = "stream_offset", unique = true))
+@NamedQuery(name = AccountOutboxJpaEntity.FIND_PENDING,
+        query = "SELECT o FROM AccountOutboxJpaEntity o WHERE o.streamOffset IS NULL ORDER BY o.id")
+@NamedQuery(name = AccountOutboxJpaEntity.FIND_PUBLISHED_AFTER,
+        query = "SELECT o FROM AccountOutboxJpaEntity o WHERE o.streamOffset > :after ORDER BY o.streamOffset")
+@NamedQuery(name = AccountOutboxJpaEntity.FIND_LAST_OFFSET,
+        query = "SELECT COALESCE(MAX(o.streamOffset), 0) FROM AccountOutboxJpaEntity o")
+@NamedQuery(name = AccountOutboxJpaEntity.DELETE_PUBLISHED_BEFORE,
+        query = "DELETE FROM AccountOutboxJpaEntity o WHERE o.streamOffset IS NOT NULL AND o.occurredAt < :before"
+                + " AND o.streamOffset < (SELECT MAX(p.streamOffset) FROM AccountOutboxJpaEntity p)")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountOutboxJpaEntity {
+
+    /**
+     * Name of the sequence backing outbox IDs.
+     */
+    public static final String ID_SEQUENCE = "account_outbox_seq";
+
+    /**
+     * Named query finding the events not published yet, in append order.
+     */
+    public static final String FIND_PENDING = "AccountOutboxJpaEntity.findPending";
+
+    /**
+     * Named query finding the published events after a stream offset.
+     */
+    public static final String FIND_PUBLISHED_AFTER = "AccountOutboxJpaEntity.findPublishedAfter";
+
+    /**
+     * Named query finding the last stream offset assigned, 0 when none.
+     */
+    public static final String FIND_LAST_OFFSET = "AccountOutboxJpaEntity.findLastOffset";
+
+    /**
+     * Named query deleting the published events that happened before a given time.
+     * The last published event is always kept, so offsets keep counting from it.
+     */
+    public static final String DELETE_PUBLISHED_BEFORE = "AccountOutboxJpaEntity.deletePublishedBefore";
+
+    /**
+     * The outbox ID, in append order.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = ID_SEQUENCE)
+    @SequenceGenerator(name = ID_SEQUENCE, sequenceName = ID_SEQUENCE,
+            allocationSize = AccountJpaEntity.ID_ALLOCATION_SIZE)
+    private Long id;
+
+    /**
+     * The position of the event in the published stream, null until published.
+     */
+    @Column(name = "stream_offset")
+    private Long streamOffset;
+
+    /**
+     * The kind of mutation.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 16)
+    private AccountChangeType type;
+
+    /**
+     * The ID of the mutated account.
+     */
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    /**
+     * The account after the mutation as JSON, null for a deletion.
+     */
+    @Column(name = "payload", length = 2048)
+    private String payload;
+
+    /**
+     * When the mutation happened.
+     */
+    @Column(name = "occurred_at", nullable = false)
+    private Instant occurredAt;
+}
@@ -0,0 +1,24 @@
+package pe.poc.account.infrastructure.persistence.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import pe.poc.account.domain.model.AccountStatus;
+
+/**
+ * Stores an AccountStatus as its one-character code.
+ * Character values in the ASCII range are cached by the JDK, so converting in either
+ * direction allocates nothing.
+ */
+@Converter
+public class AccountStatusConverter implements AttributeConverter<AccountStatus, Character> {
+
+    @Override
+    public Character convertToDatabaseColumn(AccountStatus status) {
+        return status != null ? status.getCode() : null;
+    }
+
+    @Override
+    public AccountStatus convertToEntityAttribute(Character code) {
+        return code != null ? AccountStatus.fromCode(code) : null;
+    }
+}
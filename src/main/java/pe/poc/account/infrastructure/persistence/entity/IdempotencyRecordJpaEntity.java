@@ -0,0 +1,75 @@
+package pe.poc.account.infrastructure.persistence.entity;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.NamedQuery;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * JPA entity for the response recorded for an idempotency key.
+ * It is written in the same transaction as the request it answers, so a committed write
+ * always has its record and a retry can never execute it twice.
+ */
+@Entity
+@Table(name = "idempotency_record",
+        indexes = @Index(name = "idx_idempotency_record_created_at", columnList = "created_at"))
+@NamedQuery(name = IdempotencyRecordJpaEntity.DELETE_CREATED_BEFORE,
+        query = "DELETE FROM IdempotencyRecordJpaEntity r WHERE r.createdAt < :before")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdempotencyRecordJpaEntity {
+
+    /**
+     * Named query deleting the records created before a given time.
+     */
+    public static final String DELETE_CREATED_BEFORE = "IdempotencyRecordJpaEntity.deleteCreatedBefore";
+
+    /**
+     * The endpoint and the client key.
+     */
+    @Id
+    @Column(name = "record_key", length = 320)
+    private String key;
+
+    /**
+     * SHA-256 of the request, to reject the key being reused for a different request.
+     */
+    @Column(name = "request_hash", nullable = false, length = 64)
+    private String requestHash;
+
+    /**
+     * The HTTP status of the recorded response.
+     */
+    @Column(name = "status_code", nullable = false)
+    private int statusCode;
+
+    /**
+     * The recorded response body as JSON.
+     */
+    @Lob
+    @Column(name = "body")
+    private String body;
+
+    /**
+     * The ETag of the recorded response, if any.
+     */
+    @Column(name = "etag", length = 64)
+    private String entityTag;
+
+    /**
+     * When the response was recorded.
+     */
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+}
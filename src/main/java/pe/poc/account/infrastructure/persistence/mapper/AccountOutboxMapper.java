@@ -0,0 +1,68 @@
+package pe.poc.account.infrastructure.persistence.mapper;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.persistence.PersistenceException;
+import pe.poc.account.application.dto.AccountChangeEventDTO;
+import pe.poc.account.application.dto.AccountResponseDTO;
+import pe.poc.account.infrastructure.persistence.entity.AccountOutboxJpaEntity;
+
+/**
+ * Mapper for converting between AccountChangeEventDTO and AccountOutboxJpaEntity.
+ * The account carried by an event is stored as JSON.
+ */
+@ApplicationScoped
+public class AccountOutboxMapper {
+
+    private final ObjectMapper objectMapper;
+
+    @Inject
+    public AccountOutboxMapper(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Maps a JPA entity to a change event.
+     *
+     * @param jpaEntity The JPA entity
+     * @return The change event
+     */
+    public AccountChangeEventDTO toEvent(AccountOutboxJpaEntity jpaEntity) {
+        try {
+            return AccountChangeEventDTO.builder()
+                    .offset(jpaEntity.getStreamOffset())
+                    .type(jpaEntity.getType())
+                    .accountId(jpaEntity.getAccountId())
+                    .account(jpaEntity.getPayload() != null
+                            ? objectMapper.readValue(jpaEntity.getPayload(), AccountResponseDTO.class)
+                            : null)
+                    .occurredAt(jpaEntity.getOccurredAt())
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new PersistenceException("Outbox event " + jpaEntity.getId() + " has an unreadable payload", e);
+        }
+    }
+
+    /**
+     * Maps a change event to a JPA entity.
+     *
+     * @param event The change event
+     * @return The JPA entity
+     */
+    public AccountOutboxJpaEntity toJpaEntity(AccountChangeEventDTO event) {
+        try {
+            return AccountOutboxJpaEntity.builder()
+                    .type(event.getType())
+                    .accountId(event.getAccountId())
+                    .payload(event.getAccount() != null ? objectMapper.writeValueAsString(event.getAccount()) : null)
+                    .occurredAt(event.getOccurredAt())
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new PersistenceException("Change event of account " + event.getAccountId()
+                    + " cannot be serialized", e);
+        }
+    }
+}
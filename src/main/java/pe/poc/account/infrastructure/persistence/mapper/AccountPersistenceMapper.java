@@ -27,6 +27,7 @@ public class AccountPersistenceMapper {
                 .account(jpaEntity.getAccount())
                 .number(jpaEntity.getNumber())
                 .status(jpaEntity.getStatus())
+                .version(jpaEntity.getVersion())
                 .build();
     }
 
@@ -46,6 +47,21 @@ public class AccountPersistenceMapper {
                 .account(domainModel.getAccount())
                 .number(domainModel.getNumber())
                 .status(domainModel.getStatus())
+                .version(domainModel.getVersion())
                 .build();
     }
+
+    /**
+     * Copies the mutable fields of a domain model onto a managed JPA entity,
+     * letting dirty checking issue the update. The version is left to Hibernate,
+     * which checks the one loaded with the entity.
+     *
+     * @param domainModel The domain model
+     * @param jpaEntity The managed JPA entity
+     */
+    public void updateJpaEntity(Account domainModel, AccountJpaEntity jpaEntity) {
+        jpaEntity.setAccount(domainModel.getAccount());
+        jpaEntity.setNumber(domainModel.getNumber());
+        jpaEntity.setStatus(domainModel.getStatus());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,619 @@
+package pe.poc.account.infrastructure.persistence.offheap;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+import org.jboss.logging.Logger;
+
+import pe.poc.account.domain.model.Account;
+import pe.poc.account.domain.model.AccountStatus;
+import pe.poc.account.domain.model.valueobject.AccountId;
+
+/**
+ * Append-only redo journal of the off-heap store, written through memory-mapped segment files.
+ * Every frame is {@code [int length][int crc32c][payload]}, the payload being either the full
+ * image of an account or the deletion of an ID, so replaying frames in order rebuilds the store
+ * and replaying a frame twice is harmless.
+ * <p>
+ * Appends only copy bytes into the mapped segment. Durability is requested separately with
+ * {@link #awaitDurable(long)}: the first waiter forces everything appended so far while the
+ * others wait for it, so one fsync covers every writer that appended in the meantime (group
+ * commit).
+ * <p>
+ * A snapshot holds the image of every account as of the start of a segment. It is written while
+ * writers keep going, so it may already contain later changes; since those are also journaled
+ * as full images, replaying the segments from that one onwards still ends in the right state.
+ * A snapshot starts with the highest account ID handed out so far, so the IDs of accounts
+ * deleted before it are not handed out again once the segments recording them are gone.
+ * Older segments and snapshots are deleted once a new snapshot is in place. On recovery a
+ * frame cut short or failing its checksum at the end of the last segment ends the journal and
+ * the rest of the segment is cleared; anywhere else it is reported as corruption.
+ */
+final class AccountJournal implements Closeable {
+
+    private static final Logger LOG = Logger.getLogger(AccountJournal.class);
+
+    private static final String SEGMENT_PREFIX = "journal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String SNAPSHOT_SUFFIX = ".snap";
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+
+    private static final int FRAME_HEADER_BYTES = 2 * Integer.BYTES;
+    private static final int MAX_PAYLOAD_BYTES = OffHeapArena.CHUNK_SIZE + 64;
+    private static final byte PUT = 1;
+    private static final byte DELETE = 2;
+    private static final byte HIGH_WATER = 3;
+
+    private final Path directory;
+    private final boolean fsync;
+    private final int segmentSize;
+
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private long segmentId;
+    private FileChannel segmentChannel;
+    private MappedByteBuffer segment;
+    private int segmentPosition;
+    private int forcedPosition;
+    private long bytesSinceSnapshot;
+    private volatile long appendedLsn;
+
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final Condition flushed = flushLock.newCondition();
+    private boolean flushing;
+    private volatile long durableLsn;
+    private long flushCount;
+    private long highWaterId;
+
+    /**
+     * A journaled change: the image of an account, or its deletion when the account is null.
+     *
+     * @param id The account ID
+     * @param account The account image, or null for a deletion
+     */
+    record Entry(long id, Account account) {
+    }
+
+    /**
+     * Creates a journal over a directory, creating it if needed. Nothing is read or written
+     * until {@link #replay(Consumer)} is called.
+     *
+     * @param directory The directory holding the segments and snapshots
+     * @param fsync Whether {@link #awaitDurable(long)} forces appended frames to the device
+     * @param segmentSize The size of a segment file in bytes
+     */
+    AccountJournal(Path directory, boolean fsync, int segmentSize) {
+        this.directory = directory;
+        this.fsync = fsync;
+        this.segmentSize = segmentSize;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create account journal directory " + directory, e);
+        }
+    }
+
+    /**
+     * Reads the latest snapshot and every segment after it, then opens the last segment for appending.
+     *
+     * @param consumer The consumer of the entries, in journal order
+     * @return The number of entries replayed
+     */
+    long replay(Consumer<Entry> consumer) {
+        try {
+            deleteTemporaryFiles();
+            long snapshotId = latestId(SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX);
+            Consumer<Entry> tracking = entry -> {
+                highWaterId = Math.max(highWaterId, entry.id());
+                consumer.accept(entry);
+            };
+            long entries = snapshotId >= 0 ? readSnapshot(snapshotPath(snapshotId), tracking) : 0;
+
+            List<Long> segmentIds = ids(SEGMENT_PREFIX, SEGMENT_SUFFIX).stream()
+                    .filter(id -> id >= snapshotId)
+                    .toList();
+            int endPosition = 0;
+            for (int i = 0; i < segmentIds.size(); i++) {
+                boolean last = i == segmentIds.size() - 1;
+                try (FileChannel channel = FileChannel.open(segmentPath(segmentIds.get(i)), StandardOpenOption.READ)) {
+                    MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                    int[] position = {0};
+                    entries += readFrames(mapped, position, tracking);
+                    if (!last && !isClearFrom(mapped, position[0])) {
+                        throw new IllegalStateException("Account journal segment " + segmentIds.get(i)
+                                + " is corrupt at offset " + position[0]);
+                    }
+                    endPosition = position[0];
+                }
+            }
+
+            long lastId = segmentIds.isEmpty() ? Math.max(snapshotId, 0) : segmentIds.get(segmentIds.size() - 1);
+            openSegment(lastId, endPosition);
+            appendedLsn = lsn(segmentId, segmentPosition);
+            durableLsn = appendedLsn;
+            return entries;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot replay account journal in " + directory, e);
+        }
+    }
+
+    /**
+     * Returns the highest account ID found by {@link #replay(Consumer)}, counting deleted accounts
+     * and the high-water ID recorded in the snapshot.
+     *
+     * @return The account ID, or 0 if the journal was empty
+     */
+    long highWaterId() {
+        return highWaterId;
+    }
+
+    /**
+     * Appends entries to the mapped segment. The entries are not durable until
+     * {@link #awaitDurable(long)} returns for the returned position.
+     *
+     * @param entries The entries to append
+     * @return The journal position after the last entry
+     */
+    long append(List<Entry> entries) {
+        appendLock.lock();
+        try {
+            for (Entry entry : entries) {
+                byte[] payload = encode(entry);
+                int frameLength = FRAME_HEADER_BYTES + payload.length;
+                if (frameLength > segmentSize) {
+                    throw new IllegalArgumentException("Journal frame of " + frameLength
+                            + " bytes exceeds the segment size");
+                }
+                if (segmentPosition + frameLength > segmentSize) {
+                    rotate();
+                }
+                segment.put(segmentPosition + FRAME_HEADER_BYTES, payload);
+                segment.putInt(segmentPosition + Integer.BYTES, checksum(payload));
+                // The length goes last: a frame whose length is written is complete in memory
+                segment.putInt(segmentPosition, payload.length);
+                segmentPosition += frameLength;
+                bytesSinceSnapshot += frameLength;
+            }
+            appendedLsn = lsn(segmentId, segmentPosition);
+            return appendedLsn;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot append to account journal", e);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * Waits until everything appended up to a position is on the device. The first caller
+     * flushes for every writer waiting behind it; without fsync this returns at once.
+     *
+     * @param lsn The journal position returned by {@link #append(List)}
+     */
+    void awaitDurable(long lsn) {
+        if (!fsync || lsn <= durableLsn) {
+            return;
+        }
+        flushLock.lock();
+        try {
+            while (durableLsn < lsn) {
+                if (flushing) {
+                    flushed.awaitUninterruptibly();
+                    continue;
+                }
+                flushing = true;
+                long forcedLsn = -1;
+                flushLock.unlock();
+                try {
+                    forcedLsn = force();
+                } finally {
+                    flushLock.lock();
+                    flushing = false;
+                    if (forcedLsn > durableLsn) {
+                        durableLsn = forcedLsn;
+                        flushCount++;
+                    }
+                    flushed.signalAll();
+                }
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Starts a new segment that a snapshot will cover the journal up to.
+     *
+     * @return The ID of the new segment, which names the snapshot
+     */
+    long startSnapshot() {
+        appendLock.lock();
+        try {
+            rotate();
+            bytesSinceSnapshot = segmentPosition;
+            return segmentId;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot start an account journal snapshot", e);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * Opens the writer of a snapshot started with {@link #startSnapshot()}.
+     *
+     * @param snapshotId The snapshot ID
+     * @param highWaterId The highest account ID handed out when the snapshot started
+     * @return The writer, to be committed once every account is written
+     */
+    SnapshotWriter snapshotWriter(long snapshotId, long highWaterId) {
+        return new SnapshotWriter(snapshotId, highWaterId);
+    }
+
+    /**
+     * Returns the bytes appended since the last snapshot started.
+     *
+     * @return The size in bytes
+     */
+    long bytesSinceSnapshot() {
+        appendLock.lock();
+        try {
+            return bytesSinceSnapshot;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of flushes done so far, each covering one or more writers.
+     *
+     * @return The flush count
+     */
+    long flushCount() {
+        flushLock.lock();
+        try {
+            return flushCount;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        appendLock.lock();
+        try {
+            if (segmentChannel != null) {
+                if (fsync) {
+                    segment.force();
+                }
+                segmentChannel.close();
+                segmentChannel = null;
+            }
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * Writes a snapshot to a temporary file and moves it in place once complete and forced.
+     */
+    final class SnapshotWriter implements Closeable {
+
+        private final long snapshotId;
+        private final Path temporaryPath;
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(1 << 20);
+        private boolean committed;
+
+        private SnapshotWriter(long snapshotId, long highWaterId) {
+            this.snapshotId = snapshotId;
+            this.temporaryPath = directory.resolve(snapshotPath(snapshotId).getFileName() + TEMPORARY_SUFFIX);
+            try {
+                this.channel = FileChannel.open(temporaryPath, StandardOpenOption.CREATE,
+                        StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+                byte[] header = ByteBuffer.allocate(1 + Long.BYTES).put(HIGH_WATER).putLong(highWaterId).array();
+                buffer.putInt(header.length).putInt(checksum(header)).put(header);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot create account snapshot " + temporaryPath, e);
+            }
+        }
+
+        /**
+         * Writes account images to the snapshot.
+         *
+         * @param entries The entries
+         */
+        void write(List<Entry> entries) {
+            try {
+                for (Entry entry : entries) {
+                    byte[] payload = encode(entry);
+                    if (buffer.remaining() < FRAME_HEADER_BYTES + payload.length) {
+                        drain();
+                    }
+                    if (buffer.remaining() < FRAME_HEADER_BYTES + payload.length) {
+                        channel.write(ByteBuffer.wrap(frame(payload)));
+                    } else {
+                        buffer.putInt(payload.length).putInt(checksum(payload)).put(payload);
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot write account snapshot " + temporaryPath, e);
+            }
+        }
+
+        /**
+         * Forces the snapshot, moves it in place and deletes the segments and snapshots it replaces.
+         */
+        void commit() {
+            try {
+                drain();
+                channel.force(true);
+                channel.close();
+                Files.move(temporaryPath, snapshotPath(snapshotId), StandardCopyOption.ATOMIC_MOVE);
+                committed = true;
+                deleteOlder(SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX, snapshotId);
+                deleteOlder(SEGMENT_PREFIX, SEGMENT_SUFFIX, snapshotId);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot commit account snapshot " + temporaryPath, e);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!committed) {
+                channel.close();
+                Files.deleteIfExists(temporaryPath);
+            }
+        }
+
+        private void drain() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+    }
+
+    private long force() {
+        MappedByteBuffer buffer;
+        int from;
+        int to;
+        long lsn;
+        appendLock.lock();
+        try {
+            buffer = segment;
+            from = forcedPosition;
+            to = segmentPosition;
+            lsn = appendedLsn;
+            forcedPosition = to;
+        } finally {
+            appendLock.unlock();
+        }
+        if (to > from) {
+            buffer.force(from, to - from);
+        }
+        return lsn;
+    }
+
+    /**
+     * Closes the current segment, forced entirely so durability never depends on an older
+     * segment, and opens the next one. Called with the append lock held.
+     */
+    private void rotate() throws IOException {
+        if (fsync) {
+            segment.force();
+        }
+        segmentChannel.close();
+        openSegment(segmentId + 1, 0);
+    }
+
+    private void openSegment(long id, int position) throws IOException {
+        segmentChannel = FileChannel.open(segmentPath(id), StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        segment = segmentChannel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(segmentSize, segmentChannel.size()));
+        if (!isClearFrom(segment, position)) {
+            // Clear the torn or corrupt tail so stale bytes can never be read back as frames
+            LOG.warnf("Account journal segment %d has torn or corrupt frames after offset %d, clearing them",
+                    id, position);
+            for (int i = position; i < segment.capacity(); i++) {
+                segment.put(i, (byte) 0);
+            }
+            segment.force();
+        }
+        segmentId = id;
+        segmentPosition = position;
+        forcedPosition = position;
+    }
+
+    /**
+     * Reads the valid frames of a mapped segment, stopping at the first empty, cut or corrupt one.
+     *
+     * @param mapped The mapped segment
+     * @param position The offset to start from, updated to the end of the last valid frame
+     * @param consumer The consumer of the entries
+     * @return The number of entries read
+     */
+    private static long readFrames(ByteBuffer mapped, int[] position, Consumer<Entry> consumer) {
+        long entries = 0;
+        while (position[0] + FRAME_HEADER_BYTES <= mapped.capacity()) {
+            int length = mapped.getInt(position[0]);
+            if (length <= 0 || length > MAX_PAYLOAD_BYTES
+                    || position[0] + FRAME_HEADER_BYTES + length > mapped.capacity()) {
+                break;
+            }
+            byte[] payload = new byte[length];
+            mapped.get(position[0] + FRAME_HEADER_BYTES, payload);
+            if (checksum(payload) != mapped.getInt(position[0] + Integer.BYTES)) {
+                break;
+            }
+            consumer.accept(decode(ByteBuffer.wrap(payload)));
+            position[0] += FRAME_HEADER_BYTES + length;
+            entries++;
+        }
+        return entries;
+    }
+
+    private static boolean isClearFrom(ByteBuffer mapped, int position) {
+        for (int i = position; i < mapped.capacity(); i++) {
+            if (mapped.get(i) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long readSnapshot(Path path, Consumer<Entry> consumer) throws IOException {
+        long entries = 0;
+        try (InputStream stream = Channels.newInputStream(FileChannel.open(path, StandardOpenOption.READ));
+             DataInputStream input = new DataInputStream(new BufferedInputStream(stream, 1 << 20))) {
+            while (true) {
+                int length;
+                try {
+                    length = input.readInt();
+                } catch (EOFException e) {
+                    return entries;
+                }
+                int expectedChecksum = input.readInt();
+                if (length <= 0 || length > MAX_PAYLOAD_BYTES) {
+                    throw new IllegalStateException("Account snapshot " + path + " is corrupt");
+                }
+                byte[] payload = input.readNBytes(length);
+                if (payload.length != length || checksum(payload) != expectedChecksum) {
+                    throw new IllegalStateException("Account snapshot " + path + " is corrupt");
+                }
+                if (payload[0] == HIGH_WATER) {
+                    highWaterId = Math.max(highWaterId, ByteBuffer.wrap(payload, 1, Long.BYTES).getLong());
+                    continue;
+                }
+                consumer.accept(decode(ByteBuffer.wrap(payload)));
+                entries++;
+            }
+        }
+    }
+
+    private long lsn(long id, int position) {
+        return id * segmentSize + position;
+    }
+
+    private Path segmentPath(long id) {
+        return path(SEGMENT_PREFIX, id, SEGMENT_SUFFIX);
+    }
+
+    private Path snapshotPath(long id) {
+        return path(SNAPSHOT_PREFIX, id, SNAPSHOT_SUFFIX);
+    }
+
+    private Path path(String prefix, long id, String suffix) {
+        return directory.resolve(String.format("%s%016d%s", prefix, id, suffix));
+    }
+
+    private long latestId(String prefix, String suffix) throws IOException {
+        List<Long> ids = ids(prefix, suffix);
+        return ids.isEmpty() ? -1 : ids.get(ids.size() - 1);
+    }
+
+    private List<Long> ids(String prefix, String suffix) throws IOException {
+        List<Long> ids = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.startsWith(prefix) && name.endsWith(suffix))
+                    .forEach(name -> ids.add(Long.parseLong(name.substring(prefix.length(),
+                            name.length() - suffix.length()))));
+        }
+        ids.sort(null);
+        return ids;
+    }
+
+    private void deleteOlder(String prefix, String suffix, long id) throws IOException {
+        for (long olderId : ids(prefix, suffix)) {
+            if (olderId < id) {
+                Files.deleteIfExists(path(prefix, olderId, suffix));
+            }
+        }
+    }
+
+    private void deleteTemporaryFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.filter(file -> file.getFileName().toString().endsWith(TEMPORARY_SUFFIX)).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    private static byte[] frame(byte[] payload) {
+        return ByteBuffer.allocate(FRAME_HEADER_BYTES + payload.length)
+                .putInt(payload.length)
+                .putInt(checksum(payload))
+                .put(payload)
+                .array();
+    }
+
+    private static byte[] encode(Entry entry) {
+        Account account = entry.account();
+        if (account == null) {
+            return ByteBuffer.allocate(1 + Long.BYTES).put(DELETE).putLong(entry.id()).array();
+        }
+        byte[] name = account.getAccount().getBytes(StandardCharsets.UTF_8);
+        byte[] number = account.getNumber().getBytes(StandardCharsets.UTF_8);
+        return ByteBuffer.allocate(1 + 2 * Long.BYTES + 1 + 2 * Integer.BYTES + name.length + number.length)
+                .put(PUT)
+                .putLong(entry.id())
+                .putLong(account.getVersion())
+                .put((byte) account.getStatus().getCode())
+                .putInt(name.length).put(name)
+                .putInt(number.length).put(number)
+                .array();
+    }
+
+    private static Entry decode(ByteBuffer buffer) {
+        byte type = buffer.get();
+        long id = buffer.getLong();
+        if (type == DELETE) {
+            return new Entry(id, null);
+        }
+        long version = buffer.getLong();
+        AccountStatus status = AccountStatus.fromCode((char) buffer.get());
+        String name = readString(buffer);
+        String number = readString(buffer);
+        return new Entry(id, Account.builder()
+                .id(AccountId.of(id))
+                .account(name)
+                .number(number)
+                .status(status)
+                .version(version)
+                .build());
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int checksum(byte[] payload) {
+        CRC32C crc = new CRC32C();
+        crc.update(payload, 0, payload.length);
+        return (int) crc.getValue();
+    }
+}
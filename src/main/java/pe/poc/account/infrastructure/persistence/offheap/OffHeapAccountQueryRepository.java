@@ -0,0 +1,57 @@
+package pe.poc.account.infrastructure.persistence.offheap;
+
+import java.util.List;
+import java.util.Optional;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import io.quarkus.arc.properties.IfBuildProperty;
+import pe.poc.account.application.dto.AccountResponseDTO;
+import pe.poc.account.application.port.output.IAccountQueryRepository;
+import pe.poc.account.domain.model.Account;
+import pe.poc.account.domain.model.AccountStatus;
+import pe.poc.account.domain.model.valueobject.AccountId;
+
+/**
+ * Off-heap implementation of the IAccountQueryRepository interface, selected at build time with
+ * {@code account.repository.type=off-heap}. Views are decoded from the store records.
+ */
+@ApplicationScoped
+@IfBuildProperty(name = "account.repository.type", stringValue = "off-heap")
+public class OffHeapAccountQueryRepository implements IAccountQueryRepository {
+
+    private final OffHeapAccountStore store;
+
+    @Inject
+    public OffHeapAccountQueryRepository(OffHeapAccountStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public Optional<AccountResponseDTO> findById(AccountId id) {
+        return Optional.ofNullable(store.get(id.getValue())).map(this::toView);
+    }
+
+    @Override
+    public Optional<AccountResponseDTO> findByNumber(String number) {
+        return Optional.ofNullable(store.getByNumber(number)).map(this::toView);
+    }
+
+    @Override
+    public List<AccountResponseDTO> findPage(AccountId after, int limit) {
+        return searchPage(null, null, after, limit);
+    }
+
+    @Override
+    public List<AccountResponseDTO> searchPage(AccountStatus status, String namePrefix, AccountId after, int limit) {
+        return store.page(status, namePrefix, after != null ? after.getValue() : null, limit).stream()
+                .map(this::toView)
+                .toList();
+    }
+
+    private AccountResponseDTO toView(Account account) {
+        return new AccountResponseDTO(account.getId().getValue(), account.getAccount(), account.getNumber(),
+                account.getStatus(), account.getVersion());
+    }
+}
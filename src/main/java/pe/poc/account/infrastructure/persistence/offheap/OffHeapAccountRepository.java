@@ -0,0 +1,234 @@
+package pe.poc.account.infrastructure.persistence.offheap;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+
+import io.quarkus.arc.properties.IfBuildProperty;
+import pe.poc.account.application.port.output.IAccountRepository;
+import pe.poc.account.domain.model.Account;
+import pe.poc.account.domain.model.AccountStatus;
+import pe.poc.account.domain.model.valueobject.AccountId;
+
+/**
+ * Off-heap implementation of the IAccountRepository interface, selected at build time with
+ * {@code account.repository.type=off-heap} in place of {@link
+ * pe.poc.account.infrastructure.persistence.JpaAccountRepository}.
+ * Changes apply to the store immediately and are remembered for the current transaction: they
+ * are journaled and flushed just before the transaction commits and undone if it rolls back,
+ * so the outbox events appended in the same transaction stay consistent with the accounts.
+ * Concurrent transactions committing together share one journal flush.
+ * Other transactions see changes before they commit.
+ */
+@ApplicationScoped
+@IfBuildProperty(name = "account.repository.type", stringValue = "off-heap")
+public class OffHeapAccountRepository implements IAccountRepository {
+
+    /**
+     * Number of accounts read per page when streaming.
+     */
+    private static final int STREAM_PAGE_SIZE = 500;
+
+    /**
+     * Key of the changes of the current transaction in the synchronization registry.
+     */
+    private static final Object TRANSACTION_CHANGES = new Object();
+
+    private final OffHeapAccountStore store;
+    private final TransactionSynchronizationRegistry transactionSynchronizationRegistry;
+
+    @Inject
+    public OffHeapAccountRepository(OffHeapAccountStore store,
+                                    TransactionSynchronizationRegistry transactionSynchronizationRegistry) {
+        this.store = store;
+        this.transactionSynchronizationRegistry = transactionSynchronizationRegistry;
+    }
+
+    @Override
+    public Account save(Account account) {
+        return record(store.insert(account)).after();
+    }
+
+    @Override
+    public List<Account> saveAll(List<Account> accounts) {
+        List<Account> savedAccounts = new ArrayList<>(accounts.size());
+        for (Account account : accounts) {
+            savedAccounts.add(save(account));
+        }
+        return savedAccounts;
+    }
+
+    @Override
+    public Account update(Account account) {
+        return record(store.update(account)).after();
+    }
+
+    @Override
+    public Optional<Account> updateStatus(AccountId id, AccountStatus status) {
+        OffHeapAccountStore.Change change = store.updateStatus(id.getValue(), status);
+        return change != null ? Optional.of(record(change).after()) : Optional.empty();
+    }
+
+    @Override
+    public List<Account> updateStatusAll(Collection<AccountId> ids, AccountStatus status) {
+        List<Account> updatedAccounts = new ArrayList<>(ids.size());
+        for (AccountId id : new LinkedHashSet<>(ids)) {
+            OffHeapAccountStore.Change change = store.updateStatus(id.getValue(), status);
+            // An account already in that status is not written, so it keeps its version
+            if (change != null && change.isEffective()) {
+                updatedAccounts.add(record(change).after());
+            }
+        }
+        return updatedAccounts;
+    }
+
+    @Override
+    public List<Account> updateAll(List<Account> accounts) {
+        List<Account> updatedAccounts = new ArrayList<>(accounts.size());
+        for (Account account : accounts) {
+            updatedAccounts.add(update(account));
+        }
+        return updatedAccounts;
+    }
+
+    @Override
+    public Optional<Account> findById(AccountId id) {
+        return Optional.ofNullable(store.get(id.getValue()));
+    }
+
+    @Override
+    public Optional<Account> findByNumber(String number) {
+        return Optional.ofNullable(store.getByNumber(number));
+    }
+
+    @Override
+    public List<Account> findAllById(Collection<AccountId> ids) {
+        List<Account> accounts = new ArrayList<>(ids.size());
+        for (AccountId id : new LinkedHashSet<>(ids)) {
+            findById(id).ifPresent(accounts::add);
+        }
+        return accounts;
+    }
+
+    @Override
+    public List<Account> findAll() {
+        return store.page(null, null, null, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public List<Account> findPage(AccountId after, int limit) {
+        return store.page(null, null, after != null ? after.getValue() : null, limit);
+    }
+
+    @Override
+    public Stream<Account> streamAll() {
+        // Read one page at a time so the whole table is never copied onto the heap
+        Spliterator<Account> pages = new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE,
+                Spliterator.ORDERED | Spliterator.NONNULL) {
+
+            private List<Account> page = List.of();
+            private int next;
+            private Long after;
+
+            @Override
+            public boolean tryAdvance(Consumer<? super Account> action) {
+                if (next == page.size()) {
+                    if (next > 0 && next < STREAM_PAGE_SIZE) {
+                        return false;
+                    }
+                    page = store.page(null, null, after, STREAM_PAGE_SIZE);
+                    next = 0;
+                    if (page.isEmpty()) {
+                        return false;
+                    }
+                    after = page.get(page.size() - 1).getId().getValue();
+                }
+                action.accept(page.get(next++));
+                return true;
+            }
+        };
+        return StreamSupport.stream(pages, false);
+    }
+
+    @Override
+    public boolean deleteById(AccountId id) {
+        OffHeapAccountStore.Change change = store.delete(id.getValue());
+        if (change == null) {
+            return false;
+        }
+        record(change);
+        return true;
+    }
+
+    @Override
+    public Set<AccountId> deleteAllById(Collection<AccountId> ids) {
+        Set<AccountId> deletedIds = new LinkedHashSet<>();
+        for (AccountId id : new LinkedHashSet<>(ids)) {
+            if (deleteById(id)) {
+                deletedIds.add(id);
+            }
+        }
+        return deletedIds;
+    }
+
+    @Override
+    public boolean existsById(AccountId id) {
+        return store.get(id.getValue()) != null;
+    }
+
+    /**
+     * Attaches a change to the current transaction, registering the commit and rollback hooks
+     * on its first change. Without a transaction the change is logged at once.
+     *
+     * @param change The change
+     * @return The same change
+     */
+    @SuppressWarnings("unchecked")
+    private OffHeapAccountStore.Change record(OffHeapAccountStore.Change change) {
+        if (!change.isEffective()) {
+            return change;
+        }
+        if (transactionSynchronizationRegistry.getTransactionKey() == null) {
+            store.awaitDurable(store.commit(List.of(change)));
+            return change;
+        }
+
+        List<OffHeapAccountStore.Change> changes =
+                (List<OffHeapAccountStore.Change>) transactionSynchronizationRegistry.getResource(TRANSACTION_CHANGES);
+        if (changes == null) {
+            List<OffHeapAccountStore.Change> transactionChanges = new ArrayList<>();
+            transactionSynchronizationRegistry.putResource(TRANSACTION_CHANGES, transactionChanges);
+            transactionSynchronizationRegistry.registerInterposedSynchronization(new Synchronization() {
+                @Override
+                public void beforeCompletion() {
+                    // A failed append or flush rolls the transaction back, which undoes the changes
+                    store.awaitDurable(store.commit(transactionChanges));
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != Status.STATUS_COMMITTED) {
+                        store.rollback(transactionChanges);
+                    }
+                }
+            });
+            changes = transactionChanges;
+        }
+        changes.add(change);
+        return change;
+    }
+}
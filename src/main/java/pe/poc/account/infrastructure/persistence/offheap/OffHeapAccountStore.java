@@ -0,0 +1,753 @@
+package pe.poc.account.infrastructure.persistence.offheap;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.persistence.OptimisticLockException;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.runtime.configuration.MemorySize;
+import pe.poc.account.domain.exception.AccountNotFoundException;
+import pe.poc.account.domain.exception.DuplicateAccountNumberException;
+import pe.poc.account.domain.model.Account;
+import pe.poc.account.domain.model.AccountStatus;
+import pe.poc.account.domain.model.valueobject.AccountId;
+
+/**
+ * Account store kept in direct memory, outside the Java heap.
+ * Each account is one record in a byte arena ({@code version, status, name, number}, strings
+ * as UTF-8), found through an open-addressing index of ID to arena address; a second index maps
+ * a hash of the number to the ID, and bit sets indexed by ID give ordered scans for pages and
+ * status filters. The heap only holds the few objects describing those buffers, so the garbage
+ * collector does no work proportional to the number of accounts.
+ * Durability comes from a memory-mapped journal with group commit and periodic snapshots,
+ * replayed on startup (see {@link AccountJournal}). Writers are serialized by a read-write lock,
+ * readers run in parallel. Changes are visible as soon as they are made, before their transaction
+ * ends; the last committed image of each account they touch is kept aside until then, so a
+ * snapshot only ever holds committed state.
+ */
+@ApplicationScoped
+@IfBuildProperty(name = "account.repository.type", stringValue = "off-heap")
+public class OffHeapAccountStore {
+
+    private static final Logger LOG = Logger.getLogger(OffHeapAccountStore.class);
+
+    /**
+     * Record header: version (8 bytes), status ordinal (1), name length (4) and number length (4).
+     */
+    private static final int RECORD_HEADER_BYTES = Long.BYTES + 1 + 2 * Integer.BYTES;
+
+    private static final AccountStatus[] STATUSES = AccountStatus.values();
+
+    /**
+     * Number of accounts copied per read-lock hold while writing a snapshot.
+     */
+    private static final int SNAPSHOT_PAGE_SIZE = 1_000;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Path journalDirectory;
+    private final boolean fsync;
+    private final int segmentSize;
+    private final Duration snapshotInterval;
+    private final long snapshotMinJournalBytes;
+    private final OffHeapHashIndex addressesById;
+    private final OffHeapHashIndex idsByNumberHash;
+    private final OffHeapBitSet liveIds;
+    private final OffHeapBitSet[] idsByStatus;
+    private OffHeapArena arena = new OffHeapArena();
+    private volatile AccountJournal journal;
+    private ScheduledExecutorService snapshotScheduler;
+    private final Map<Long, PendingChanges> pendingById = new HashMap<>();
+    private long maxId;
+    private long liveBytes;
+
+    @Inject
+    public OffHeapAccountStore(@ConfigProperty(name = "account.repository.off-heap.journal-directory",
+                                       defaultValue = "data/account-journal") Path journalDirectory,
+                               @ConfigProperty(name = "account.repository.off-heap.fsync", defaultValue = "true")
+                               boolean fsync,
+                               @ConfigProperty(name = "account.repository.off-heap.segment-size", defaultValue = "64M")
+                               MemorySize segmentSize,
+                               @ConfigProperty(name = "account.repository.off-heap.snapshot.interval",
+                                       defaultValue = "5M") Duration snapshotInterval,
+                               @ConfigProperty(name = "account.repository.off-heap.snapshot.min-journal-size",
+                                       defaultValue = "64M") MemorySize snapshotMinJournalSize,
+                               @ConfigProperty(name = "account.repository.off-heap.initial-capacity",
+                                       defaultValue = "100000") int initialCapacity) {
+        this(journalDirectory, fsync, (int) segmentSize.asLongValue(), snapshotInterval,
+                snapshotMinJournalSize.asLongValue(), initialCapacity);
+    }
+
+    OffHeapAccountStore(Path journalDirectory, boolean fsync, int segmentSize, Duration snapshotInterval,
+                        long snapshotMinJournalBytes, int initialCapacity) {
+        this.journalDirectory = journalDirectory;
+        this.fsync = fsync;
+        this.segmentSize = segmentSize;
+        this.snapshotInterval = snapshotInterval;
+        this.snapshotMinJournalBytes = snapshotMinJournalBytes;
+        this.addressesById = new OffHeapHashIndex(initialCapacity);
+        this.idsByNumberHash = new OffHeapHashIndex(initialCapacity);
+        this.liveIds = new OffHeapBitSet(initialCapacity);
+        this.idsByStatus = new OffHeapBitSet[STATUSES.length];
+        for (int i = 0; i < STATUSES.length; i++) {
+            idsByStatus[i] = new OffHeapBitSet(initialCapacity);
+        }
+    }
+
+    /**
+     * Creates a store without a journal, whose content is lost when the process ends.
+     *
+     * @param initialCapacity The number of accounts the indexes are sized for
+     */
+    public OffHeapAccountStore(int initialCapacity) {
+        this(null, false, 0, Duration.ZERO, 0, initialCapacity);
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        open();
+        if (journal != null && !snapshotInterval.isZero()) {
+            snapshotScheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                    .name("account-journal-snapshot")
+                    .daemon(true)
+                    .factory());
+            snapshotScheduler.scheduleWithFixedDelay(this::snapshotIfDue, snapshotInterval.toMillis(),
+                    snapshotInterval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+        if (snapshotScheduler != null) {
+            snapshotScheduler.shutdownNow();
+        }
+        close();
+    }
+
+    /**
+     * Opens the journal and replays it into the store: the latest snapshot, then the segments after it.
+     */
+    public void open() {
+        if (journalDirectory == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            AccountJournal opened = new AccountJournal(journalDirectory, fsync, segmentSize);
+            long started = System.nanoTime();
+            long entries = opened.replay(entry -> restore(entry.id(), entry.account()));
+            // Deleted accounts and the snapshot header still count, so no ID is handed out twice
+            maxId = Math.max(maxId, opened.highWaterId());
+            journal = opened;
+            LOG.infof("Replayed %d account journal entries into %d off-heap accounts in %d ms", entries,
+                    addressesById.size(), (System.nanoTime() - started) / 1_000_000);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Closes the journal; the store keeps answering from memory.
+     */
+    public void close() {
+        lock.writeLock().lock();
+        try {
+            if (journal != null) {
+                journal.close();
+                journal = null;
+            }
+        } catch (IOException e) {
+            LOG.warn("Cannot close the account journal", e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Writes a snapshot of every account, so replay on the next start begins from it instead of
+     * from the oldest segment. Writers are only held while the journal switches segment; the
+     * accounts are then copied page by page. Accounts with changes of a transaction still open
+     * are written with their last committed image instead; whichever way the transaction ends,
+     * the image it leaves is journaled after the snapshot started.
+     */
+    void snapshot() {
+        AccountJournal snapshotJournal;
+        long snapshotId;
+        long highWaterId;
+        lock.writeLock().lock();
+        try {
+            snapshotJournal = journal;
+            if (snapshotJournal == null) {
+                return;
+            }
+            snapshotId = snapshotJournal.startSnapshot();
+            highWaterId = maxId;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        long started = System.nanoTime();
+        long accounts = 0;
+        try (AccountJournal.SnapshotWriter writer = snapshotJournal.snapshotWriter(snapshotId, highWaterId)) {
+            Long after = null;
+            boolean more = true;
+            while (more) {
+                List<AccountJournal.Entry> entries = new ArrayList<>(SNAPSHOT_PAGE_SIZE);
+                lock.readLock().lock();
+                try {
+                    List<Account> page = page(null, null, after, SNAPSHOT_PAGE_SIZE);
+                    more = !page.isEmpty();
+                    for (Account account : page) {
+                        after = account.getId().getValue();
+                        if (!pendingById.containsKey(after)) {
+                            entries.add(new AccountJournal.Entry(after, account));
+                        }
+                    }
+                } finally {
+                    lock.readLock().unlock();
+                }
+                writer.write(entries);
+                accounts += entries.size();
+            }
+
+            // Committed images of the accounts still in an open transaction
+            List<AccountJournal.Entry> entries = new ArrayList<>();
+            lock.readLock().lock();
+            try {
+                for (Map.Entry<Long, PendingChanges> pending : pendingById.entrySet()) {
+                    if (pending.getValue().committed != null) {
+                        entries.add(new AccountJournal.Entry(pending.getKey(), pending.getValue().committed));
+                    }
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+            writer.write(entries);
+            accounts += entries.size();
+            writer.commit();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write the account snapshot", e);
+        }
+        LOG.infof("Wrote account snapshot %d with %d accounts in %d ms", snapshotId, accounts,
+                (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /**
+     * The changes of open transactions to one account, with its last committed image.
+     */
+    private static final class PendingChanges {
+
+        private final Set<Change> changes = Collections.newSetFromMap(new IdentityHashMap<>());
+        private Account committed;
+
+        private PendingChanges(Account committed) {
+            this.committed = committed;
+        }
+    }
+
+    /**
+     * A change made to one account, kept until its transaction ends.
+     *
+     * @param id The account ID
+     * @param before The account before the change, or null if it did not exist
+     * @param after The account after the change, or null if it was deleted
+     */
+    record Change(long id, Account before, Account after) {
+
+        boolean isEffective() {
+            return before != after;
+        }
+    }
+
+    /**
+     * Stores a new account under the next ID, with version 0.
+     *
+     * @param account The account to store
+     * @return The change, whose after image is the stored account
+     * @throws DuplicateAccountNumberException if the number is already used
+     */
+    Change insert(Account account) {
+        lock.writeLock().lock();
+        try {
+            if (idOf(account.getNumber()) >= 0) {
+                throw new DuplicateAccountNumberException(account.getNumber());
+            }
+            long id = maxId + 1;
+            Account saved = account.toBuilder()
+                    .id(AccountId.of(id))
+                    .version(0L)
+                    .build();
+            restore(id, saved);
+            return track(new Change(id, null, saved));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Overwrites the name, number and status of an account. The version is only incremented
+     * when one of them actually changes, like a dirty-checked entity.
+     *
+     * @param account The account, whose version, when given, must be the stored one
+     * @return The change
+     * @throws AccountNotFoundException if the account does not exist
+     * @throws OptimisticLockException if the stored version differs from the account's
+     * @throws DuplicateAccountNumberException if the new number is used by another account
+     */
+    Change update(Account account) {
+        long id = account.getId().getValue();
+        lock.writeLock().lock();
+        try {
+            Account current = read(id);
+            if (current == null) {
+                throw new AccountNotFoundException(id);
+            }
+            if (account.getVersion() != null && !account.getVersion().equals(current.getVersion())) {
+                throw new OptimisticLockException("Account " + id + " was updated by another transaction");
+            }
+            if (!current.getNumber().equals(account.getNumber())) {
+                long owner = idOf(account.getNumber());
+                if (owner >= 0 && owner != id) {
+                    throw new DuplicateAccountNumberException(account.getNumber());
+                }
+            }
+            return write(current, current.toBuilder()
+                    .account(account.getAccount())
+                    .number(account.getNumber())
+                    .status(account.getStatus())
+                    .build());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Changes the status of an account.
+     *
+     * @param id The account ID
+     * @param status The new status
+     * @return The change, or null if the account does not exist
+     */
+    Change updateStatus(long id, AccountStatus status) {
+        lock.writeLock().lock();
+        try {
+            Account current = read(id);
+            return current != null ? write(current, current.toBuilder().status(status).build()) : null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Deletes an account.
+     *
+     * @param id The account ID
+     * @return The change, or null if the account does not exist
+     */
+    Change delete(long id) {
+        lock.writeLock().lock();
+        try {
+            Account current = read(id);
+            if (current == null) {
+                return null;
+            }
+            restore(id, null);
+            return track(new Change(id, current, null));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Journals the current image of every account touched by a set of changes. Journaling the
+     * current image instead of the change itself keeps the last frame of an account the newest
+     * state, whatever order concurrent transactions end in. The frames are only appended; call
+     * {@link #awaitDurable(long)} outside any lock so concurrent commits share one fsync.
+     *
+     * @param changes The changes being committed
+     * @return The journal position to wait for
+     */
+    long commit(List<Change> changes) {
+        lock.writeLock().lock();
+        try {
+            long lsn = journalCurrent(changes);
+            settle(changes);
+            return lsn;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Waits until the journal is on the device up to a position returned by {@link #commit(List)}.
+     *
+     * @param lsn The journal position
+     */
+    void awaitDurable(long lsn) {
+        AccountJournal current = journal;
+        if (current != null) {
+            current.awaitDurable(lsn);
+        }
+    }
+
+    /**
+     * Undoes a set of changes, newest first. An account changed again by another transaction
+     * since is left as it is. The restored images are journaled in case a commit of another
+     * transaction already journaled the undone state.
+     *
+     * @param changes The changes being rolled back
+     */
+    void rollback(List<Change> changes) {
+        lock.writeLock().lock();
+        try {
+            for (int i = changes.size() - 1; i >= 0; i--) {
+                Change change = changes.get(i);
+                Account current = read(change.id());
+                if (sameVersion(current, change.after())) {
+                    restore(change.id(), change.before());
+                }
+            }
+            journalCurrent(changes);
+            settle(changes);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Finds an account by its ID.
+     *
+     * @param id The account ID
+     * @return The account, or null if it does not exist
+     */
+    Account get(long id) {
+        lock.readLock().lock();
+        try {
+            return read(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds an account by its number.
+     *
+     * @param number The account number
+     * @return The account, or null if no account has that number
+     */
+    Account getByNumber(String number) {
+        lock.readLock().lock();
+        try {
+            long id = idOf(number);
+            return id >= 0 ? read(id) : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Scans accounts in ID order. The name prefix is checked record by record, so a rare prefix
+     * may scan many accounts before filling a page.
+     *
+     * @param status The status the accounts must have, or null
+     * @param namePrefix The prefix the account name must start with, or null
+     * @param after The ID after which the page starts, or null for the first page
+     * @param limit The maximum number of accounts to return
+     * @return The matching accounts, ordered by ID
+     */
+    List<Account> page(AccountStatus status, String namePrefix, Long after, int limit) {
+        lock.readLock().lock();
+        try {
+            OffHeapBitSet ids = status != null ? idsByStatus[status.ordinal()] : liveIds;
+            List<Account> page = new ArrayList<>(Math.min(limit, 1024));
+            long start = after != null ? after + 1 : 0;
+            if (start > Integer.MAX_VALUE) {
+                return page;
+            }
+            for (int id = ids.nextSetBit((int) start); id >= 0 && page.size() < limit; id = ids.nextSetBit(id + 1)) {
+                Account account = read(id);
+                if (namePrefix == null || account.getAccount().startsWith(namePrefix)) {
+                    page.add(account);
+                }
+            }
+            return page;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of accounts.
+     *
+     * @return The account count
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return addressesById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the direct memory held by the store: arena, indexes and bit sets.
+     *
+     * @return The size in bytes
+     */
+    public long memoryBytes() {
+        lock.readLock().lock();
+        try {
+            long bytes = arena.memoryBytes() + addressesById.memoryBytes() + idsByNumberHash.memoryBytes()
+                    + liveIds.memoryBytes();
+            for (OffHeapBitSet statusIds : idsByStatus) {
+                bytes += statusIds.memoryBytes();
+            }
+            return bytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Change write(Account current, Account updated) {
+        if (Objects.equals(current.getAccount(), updated.getAccount())
+                && Objects.equals(current.getNumber(), updated.getNumber())
+                && current.getStatus() == updated.getStatus()) {
+            return new Change(current.getId().getValue(), current, current);
+        }
+        Account saved = updated.toBuilder()
+                .version(current.getVersion() + 1)
+                .build();
+        restore(saved.getId().getValue(), saved);
+        return track(new Change(saved.getId().getValue(), current, saved));
+    }
+
+    /**
+     * Registers a change as pending until {@link #commit(List)} or {@link #rollback(List)}. The
+     * first pending change of an account keeps its before image as the committed one.
+     *
+     * @param change The effective change
+     * @return The change
+     */
+    private Change track(Change change) {
+        pendingById.computeIfAbsent(change.id(), id -> new PendingChanges(change.before())).changes.add(change);
+        return change;
+    }
+
+    /**
+     * Ends the pending changes of a commit or rollback, whose current images were just journaled
+     * and so become the committed ones of accounts other transactions are still changing.
+     *
+     * @param changes The changes that ended
+     */
+    private void settle(List<Change> changes) {
+        for (Change change : changes) {
+            PendingChanges pending = pendingById.get(change.id());
+            if (pending != null && pending.changes.remove(change)) {
+                pending.committed = read(change.id());
+                if (pending.changes.isEmpty()) {
+                    pendingById.remove(change.id());
+                }
+            }
+        }
+    }
+
+    private long journalCurrent(List<Change> changes) {
+        if (journal == null) {
+            return 0;
+        }
+        List<AccountJournal.Entry> entries = new ArrayList<>(changes.size());
+        for (Change change : changes) {
+            entries.add(new AccountJournal.Entry(change.id(), read(change.id())));
+        }
+        return journal.append(entries);
+    }
+
+    private void snapshotIfDue() {
+        try {
+            AccountJournal current = journal;
+            if (current != null && current.bytesSinceSnapshot() >= snapshotMinJournalBytes) {
+                snapshot();
+            }
+        } catch (RuntimeException e) {
+            LOG.error("Cannot write the account snapshot", e);
+        }
+    }
+
+    private static boolean sameVersion(Account current, Account expected) {
+        if (current == null || expected == null) {
+            return current == expected;
+        }
+        return current.getVersion().equals(expected.getVersion());
+    }
+
+    /**
+     * Puts an account image in place of whatever is stored under its ID, indexes included.
+     * Used by every mutation, by replay and by rollback.
+     *
+     * @param id The account ID
+     * @param account The image to store, or null to remove the account
+     */
+    private void restore(long id, Account account) {
+        if (id <= 0 || id > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Account ID out of range for the off-heap store: " + id);
+        }
+        long address = addressesById.get(id);
+        if (address >= 0) {
+            ByteBuffer chunk = arena.chunk(address);
+            int offset = OffHeapArena.offset(address);
+            String number = readString(chunk, offset + RECORD_HEADER_BYTES + chunk.getInt(offset + Long.BYTES + 1),
+                    chunk.getInt(offset + Long.BYTES + 1 + Integer.BYTES));
+            idsByStatus[statusAt(chunk, offset).ordinal()].clear((int) id);
+            idsByNumberHash.remove(hash(number), id);
+            liveBytes -= recordLength(chunk, offset);
+        }
+
+        if (account == null) {
+            if (address >= 0) {
+                addressesById.remove(id, address);
+                liveIds.clear((int) id);
+            }
+        } else {
+            long newAddress = append(account);
+            if (address >= 0) {
+                addressesById.replace(id, address, newAddress);
+            } else {
+                addressesById.insert(id, newAddress);
+            }
+            idsByNumberHash.insert(hash(account.getNumber()), id);
+            liveIds.set((int) id);
+            idsByStatus[account.getStatus().ordinal()].set((int) id);
+            maxId = Math.max(maxId, id);
+        }
+        compactIfWasteful();
+    }
+
+    private long append(Account account) {
+        byte[] name = account.getAccount().getBytes(StandardCharsets.UTF_8);
+        byte[] number = account.getNumber().getBytes(StandardCharsets.UTF_8);
+        int length = RECORD_HEADER_BYTES + name.length + number.length;
+        long address = arena.allocate(length);
+        ByteBuffer chunk = arena.chunk(address);
+        int offset = OffHeapArena.offset(address);
+        chunk.putLong(offset, account.getVersion());
+        chunk.put(offset + Long.BYTES, (byte) account.getStatus().ordinal());
+        chunk.putInt(offset + Long.BYTES + 1, name.length);
+        chunk.putInt(offset + Long.BYTES + 1 + Integer.BYTES, number.length);
+        chunk.put(offset + RECORD_HEADER_BYTES, name);
+        chunk.put(offset + RECORD_HEADER_BYTES + name.length, number);
+        liveBytes += length;
+        return address;
+    }
+
+    private Account read(long id) {
+        long address = addressesById.get(id);
+        if (address < 0) {
+            return null;
+        }
+        ByteBuffer chunk = arena.chunk(address);
+        int offset = OffHeapArena.offset(address);
+        int nameLength = chunk.getInt(offset + Long.BYTES + 1);
+        int numberLength = chunk.getInt(offset + Long.BYTES + 1 + Integer.BYTES);
+        return Account.builder()
+                .id(AccountId.of(id))
+                .version(chunk.getLong(offset))
+                .status(statusAt(chunk, offset))
+                .account(readString(chunk, offset + RECORD_HEADER_BYTES, nameLength))
+                .number(readString(chunk, offset + RECORD_HEADER_BYTES + nameLength, numberLength))
+                .build();
+    }
+
+    /**
+     * Finds the ID owning a number, comparing the stored bytes of every candidate sharing its hash.
+     *
+     * @param number The account number
+     * @return The ID, or -1 if no account has that number
+     */
+    private long idOf(String number) {
+        byte[] bytes = number.getBytes(StandardCharsets.UTF_8);
+        return idsByNumberHash.find(hash(bytes), id -> {
+            long address = addressesById.get(id);
+            ByteBuffer chunk = arena.chunk(address);
+            int offset = OffHeapArena.offset(address);
+            int nameLength = chunk.getInt(offset + Long.BYTES + 1);
+            int numberLength = chunk.getInt(offset + Long.BYTES + 1 + Integer.BYTES);
+            return numberLength == bytes.length && chunk.slice(offset + RECORD_HEADER_BYTES + nameLength,
+                    numberLength).equals(ByteBuffer.wrap(bytes));
+        });
+    }
+
+    /**
+     * Copies the live records into a fresh arena once garbage outweighs them, so churn does not
+     * grow direct memory without bound.
+     */
+    private void compactIfWasteful() {
+        long garbage = arena.usedBytes() - liveBytes;
+        if (garbage <= liveBytes || garbage <= OffHeapArena.CHUNK_SIZE) {
+            return;
+        }
+        OffHeapArena compacted = new OffHeapArena();
+        for (int id = liveIds.nextSetBit(1); id >= 0; id = liveIds.nextSetBit(id + 1)) {
+            long address = addressesById.get(id);
+            ByteBuffer chunk = arena.chunk(address);
+            int offset = OffHeapArena.offset(address);
+            int length = recordLength(chunk, offset);
+            long newAddress = compacted.allocate(length);
+            compacted.chunk(newAddress).put(OffHeapArena.offset(newAddress), chunk, offset, length);
+            addressesById.replace(id, address, newAddress);
+        }
+        arena = compacted;
+    }
+
+    private static int recordLength(ByteBuffer chunk, int offset) {
+        return RECORD_HEADER_BYTES + chunk.getInt(offset + Long.BYTES + 1)
+                + chunk.getInt(offset + Long.BYTES + 1 + Integer.BYTES);
+    }
+
+    private static AccountStatus statusAt(ByteBuffer chunk, int offset) {
+        return STATUSES[chunk.get(offset + Long.BYTES)];
+    }
+
+    private static String readString(ByteBuffer chunk, int offset, int length) {
+        byte[] bytes = new byte[length];
+        chunk.get(offset, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static long hash(String number) {
+        return hash(number.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static long hash(byte[] bytes) {
+        // 64-bit FNV-1a; collisions are resolved by comparing the stored number
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : bytes) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+}
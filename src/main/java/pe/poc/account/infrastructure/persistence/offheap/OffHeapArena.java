@@ -0,0 +1,68 @@
+package pe.poc.account.infrastructure.persistence.offheap;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Append-only byte arena in direct memory, split into fixed-size chunks.
+ * An address packs the chunk number in the high 32 bits and the offset in the low 32 bits.
+ * Space is never reused in place: the store copies live records into a fresh arena when
+ * too much of it is garbage. Not thread-safe: the store guards it with its lock.
+ */
+final class OffHeapArena {
+
+    static final int CHUNK_SIZE = 16 * 1024 * 1024;
+
+    private final List<ByteBuffer> chunks = new ArrayList<>();
+    private ByteBuffer current;
+    private long usedBytes;
+
+    /**
+     * Reserves space for a record.
+     *
+     * @param length The record length in bytes, at most {@link #CHUNK_SIZE}
+     * @return The address of the reserved space
+     */
+    long allocate(int length) {
+        if (length > CHUNK_SIZE) {
+            throw new IllegalArgumentException("Record of " + length + " bytes does not fit an arena chunk");
+        }
+        if (current == null || current.remaining() < length) {
+            current = ByteBuffer.allocateDirect(CHUNK_SIZE);
+            chunks.add(current);
+        }
+        int offset = current.position();
+        current.position(offset + length);
+        usedBytes += length;
+        return ((long) (chunks.size() - 1) << 32) | offset;
+    }
+
+    /**
+     * Returns the chunk holding an address. Reads and writes use absolute offsets, so the
+     * chunk position is never moved by readers.
+     *
+     * @param address The address
+     * @return The chunk
+     */
+    ByteBuffer chunk(long address) {
+        return chunks.get((int) (address >>> 32));
+    }
+
+    static int offset(long address) {
+        return (int) address;
+    }
+
+    long usedBytes() {
+        return usedBytes;
+    }
+
+    /**
+     * Returns the direct memory reserved by the arena, used or not.
+     *
+     * @return The size in bytes
+     */
+    long memoryBytes() {
+        return (long) chunks.size() * CHUNK_SIZE;
+    }
+}
@@ -0,0 +1,75 @@
+package pe.poc.account.infrastructure.persistence.offheap;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Growable bit set in direct memory, indexed by account ID.
+ * It gives ordered scans over IDs (keyset pages, status filters) without a sorted map of
+ * boxed keys. Not thread-safe: the store guards it with its lock.
+ */
+final class OffHeapBitSet {
+
+    private ByteBuffer words;
+    private int wordCount;
+
+    OffHeapBitSet(int expectedBits) {
+        wordCount = Math.max(1, (expectedBits + 63) >>> 6);
+        words = ByteBuffer.allocateDirect(wordCount * Long.BYTES);
+    }
+
+    void set(int index) {
+        int word = index >>> 6;
+        ensureWords(word + 1);
+        words.putLong(word * Long.BYTES, words.getLong(word * Long.BYTES) | (1L << index));
+    }
+
+    void clear(int index) {
+        int word = index >>> 6;
+        if (word < wordCount) {
+            words.putLong(word * Long.BYTES, words.getLong(word * Long.BYTES) & ~(1L << index));
+        }
+    }
+
+    boolean get(int index) {
+        int word = index >>> 6;
+        return word < wordCount && (words.getLong(word * Long.BYTES) & (1L << index)) != 0;
+    }
+
+    /**
+     * Returns the first set bit at or after an index.
+     *
+     * @param from The index to start from
+     * @return The index of the set bit, or -1 if there is none
+     */
+    int nextSetBit(int from) {
+        int word = from >>> 6;
+        if (word >= wordCount) {
+            return -1;
+        }
+        long bits = words.getLong(word * Long.BYTES) & (-1L << from);
+        while (true) {
+            if (bits != 0) {
+                return (word << 6) + Long.numberOfTrailingZeros(bits);
+            }
+            if (++word == wordCount) {
+                return -1;
+            }
+            bits = words.getLong(word * Long.BYTES);
+        }
+    }
+
+    long memoryBytes() {
+        return (long) wordCount * Long.BYTES;
+    }
+
+    private void ensureWords(int needed) {
+        if (needed <= wordCount) {
+            return;
+        }
+        int newCount = Math.max(needed, wordCount * 2);
+        ByteBuffer grown = ByteBuffer.allocateDirect(newCount * Long.BYTES);
+        grown.put(words.duplicate().clear());
+        words = grown;
+        wordCount = newCount;
+    }
+}
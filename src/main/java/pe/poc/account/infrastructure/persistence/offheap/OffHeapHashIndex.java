@@ -0,0 +1,194 @@
+package pe.poc.account.infrastructure.persistence.offheap;
+
+import java.nio.ByteBuffer;
+import java.util.function.LongPredicate;
+
+/**
+ * Open-addressing hash table of {@code long} keys to {@code long} values kept in direct memory.
+ * Slots are 16 bytes (key, value + 1) probed linearly, so lookups touch no object and keys are
+ * never boxed. The same key may be inserted more than once; callers resolve collisions by
+ * filtering candidate values. Removal shifts the following entries back instead of leaving
+ * tombstones, so probe chains never degrade. Not thread-safe: the store guards it with its lock.
+ */
+final class OffHeapHashIndex {
+
+    private static final int SLOT_BYTES = 16;
+    private static final double MAX_LOAD = 0.7;
+
+    /**
+     * Largest slot count addressable by a single direct buffer.
+     */
+    private static final int MAX_CAPACITY = 1 << 27;
+
+    private ByteBuffer slots;
+    private int capacity;
+    private int mask;
+    private int size;
+
+    OffHeapHashIndex(int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    /**
+     * Finds the first value stored under a key that the filter accepts.
+     *
+     * @param key The key
+     * @param filter The filter telling apart the values sharing the key
+     * @return The value, or -1 if none is accepted
+     */
+    long find(long key, LongPredicate filter) {
+        for (int slot = home(key); ; slot = (slot + 1) & mask) {
+            long stored = slots.getLong(slot * SLOT_BYTES + 8);
+            if (stored == 0) {
+                return -1;
+            }
+            if (slots.getLong(slot * SLOT_BYTES) == key && filter.test(stored - 1)) {
+                return stored - 1;
+            }
+        }
+    }
+
+    /**
+     * Finds the value stored under a key inserted once.
+     *
+     * @param key The key
+     * @return The value, or -1 if the key is absent
+     */
+    long get(long key) {
+        return find(key, value -> true);
+    }
+
+    /**
+     * Inserts an entry, growing the table when it gets too full.
+     *
+     * @param key The key
+     * @param value The value, not negative
+     */
+    void insert(long key, long value) {
+        if (size + 1 > capacity * MAX_LOAD) {
+            grow();
+        }
+        place(key, value);
+        size++;
+    }
+
+    /**
+     * Replaces the value of an entry.
+     *
+     * @param key The key
+     * @param oldValue The current value
+     * @param newValue The new value, not negative
+     * @return false if the entry does not exist
+     */
+    boolean replace(long key, long oldValue, long newValue) {
+        int slot = slotOf(key, oldValue);
+        if (slot < 0) {
+            return false;
+        }
+        slots.putLong(slot * SLOT_BYTES + 8, newValue + 1);
+        return true;
+    }
+
+    /**
+     * Removes an entry, moving back the entries of its probe chain that belong before the gap.
+     *
+     * @param key The key
+     * @param value The value
+     * @return false if the entry does not exist
+     */
+    boolean remove(long key, long value) {
+        int gap = slotOf(key, value);
+        if (gap < 0) {
+            return false;
+        }
+        for (int slot = (gap + 1) & mask; ; slot = (slot + 1) & mask) {
+            long stored = slots.getLong(slot * SLOT_BYTES + 8);
+            if (stored == 0) {
+                break;
+            }
+            long storedKey = slots.getLong(slot * SLOT_BYTES);
+            int storedHome = home(storedKey);
+            // Move the entry unless its home lies cyclically in (gap, slot]
+            if (((slot - storedHome) & mask) >= ((slot - gap) & mask)) {
+                slots.putLong(gap * SLOT_BYTES, storedKey);
+                slots.putLong(gap * SLOT_BYTES + 8, stored);
+                gap = slot;
+            }
+        }
+        slots.putLong(gap * SLOT_BYTES, 0);
+        slots.putLong(gap * SLOT_BYTES + 8, 0);
+        size--;
+        return true;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the direct memory taken by the slots.
+     *
+     * @return The size in bytes
+     */
+    long memoryBytes() {
+        return (long) capacity * SLOT_BYTES;
+    }
+
+    private int slotOf(long key, long value) {
+        for (int slot = home(key); ; slot = (slot + 1) & mask) {
+            long stored = slots.getLong(slot * SLOT_BYTES + 8);
+            if (stored == 0) {
+                return -1;
+            }
+            if (stored == value + 1 && slots.getLong(slot * SLOT_BYTES) == key) {
+                return slot;
+            }
+        }
+    }
+
+    private void place(long key, long value) {
+        int slot = home(key);
+        while (slots.getLong(slot * SLOT_BYTES + 8) != 0) {
+            slot = (slot + 1) & mask;
+        }
+        slots.putLong(slot * SLOT_BYTES, key);
+        slots.putLong(slot * SLOT_BYTES + 8, value + 1);
+    }
+
+    private void grow() {
+        if (capacity >= MAX_CAPACITY) {
+            throw new IllegalStateException("Off-heap index is full at " + size + " entries");
+        }
+        ByteBuffer previous = slots;
+        int previousCapacity = capacity;
+        allocate(capacity * 2);
+        for (int slot = 0; slot < previousCapacity; slot++) {
+            long stored = previous.getLong(slot * SLOT_BYTES + 8);
+            if (stored != 0) {
+                place(previous.getLong(slot * SLOT_BYTES), stored - 1);
+            }
+        }
+    }
+
+    private void allocate(int newCapacity) {
+        slots = ByteBuffer.allocateDirect(newCapacity * SLOT_BYTES);
+        capacity = newCapacity;
+        mask = newCapacity - 1;
+    }
+
+    private int home(long key) {
+        // MurmurHash3 finalizer: sequential IDs spread over the whole table
+        long hash = key;
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return (int) hash & mask;
+    }
+
+    private static int capacityFor(int expectedSize) {
+        int needed = (int) Math.min(MAX_CAPACITY, Math.ceil(Math.max(expectedSize, 16) / MAX_LOAD));
+        return Math.min(MAX_CAPACITY, Integer.highestOneBit(needed - 1) << 1);
+    }
+}
@@ -0,0 +1,155 @@
+package pe.poc.account.infrastructure.persistence.replica;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import javax.sql.DataSource;
+
+import jakarta.persistence.PersistenceException;
+
+import pe.poc.account.application.dto.AccountResponseDTO;
+import pe.poc.account.domain.model.AccountStatus;
+import pe.poc.account.domain.model.valueobject.AccountId;
+import pe.poc.account.infrastructure.persistence.entity.AccountJpaEntity;
+
+/**
+ * A read-only copy of the account database reached through a named datasource.
+ * Rows are selected with plain JDBC straight into response views, and the replica tracks
+ * the primary heartbeat it has last seen, which bounds how far behind the primary it is.
+ */
+public class ReadReplica {
+
+    private static final String SELECT_COLUMNS = "SELECT id, account, number, " + AccountJpaEntity.STATUS_COLUMN
+            + ", " + AccountJpaEntity.VERSION_COLUMN + " FROM account";
+
+    private final String name;
+    private final DataSource dataSource;
+
+    /**
+     * Primary time up to which the replica is known to be up to date; the epoch until the first heartbeat.
+     */
+    private volatile Instant replicatedAt = Instant.EPOCH;
+
+    public ReadReplica(String name, DataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * Returns the datasource name of the replica.
+     *
+     * @return The replica name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the datasource of the replica.
+     *
+     * @return The datasource
+     */
+    public DataSource getDataSource() {
+        return dataSource;
+    }
+
+    /**
+     * Records that the replica holds every change committed on the primary up to the given time.
+     *
+     * @param replicatedAt The primary time the replica has caught up to
+     */
+    public void markReplicated(Instant replicatedAt) {
+        this.replicatedAt = replicatedAt;
+    }
+
+    /**
+     * Returns how far behind the primary the replica is known to be.
+     *
+     * @return The replication lag
+     */
+    public Duration getLag() {
+        return Duration.between(replicatedAt, Instant.now());
+    }
+
+    /**
+     * Finds the view of an account by its ID.
+     *
+     * @param id The account ID
+     * @return An Optional containing the account view if found, empty otherwise
+     * @throws PersistenceException if the replica cannot be queried
+     */
+    public Optional<AccountResponseDTO> findById(AccountId id) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(SELECT_COLUMNS + " WHERE id = ?")) {
+            statement.setLong(1, id.getValue());
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() ? Optional.of(toView(resultSet)) : Optional.empty();
+            }
+        } catch (SQLException e) {
+            throw new PersistenceException("Read replica " + name + " could not be queried", e);
+        }
+    }
+
+    /**
+     * Finds a page of account views ordered by ID, starting after a cursor (keyset pagination).
+     *
+     * @param after The ID of the last account of the previous page, or null for the first page
+     * @param limit The maximum number of accounts to return
+     * @return The account views with an ID greater than the cursor, in ascending ID order
+     * @throws PersistenceException if the replica cannot be queried
+     */
+    public List<AccountResponseDTO> findPage(AccountId after, int limit) {
+        return searchPage(null, null, after, limit);
+    }
+
+    /**
+     * Finds a page of account views matching a status and a name prefix, ordered by ID
+     * and starting after a cursor (keyset pagination). Null criteria match every account.
+     *
+     * @param status The status to match, or null for any status
+     * @param namePrefix The prefix the account name must start with, or null for any name
+     * @param after The ID of the last account of the previous page, or null for the first page
+     * @param limit The maximum number of accounts to return
+     * @return The matching account views with an ID greater than the cursor, in ascending ID order
+     * @throws PersistenceException if the replica cannot be queried
+     */
+    public List<AccountResponseDTO> searchPage(AccountStatus status, String namePrefix, AccountId after, int limit) {
+        String sql = SELECT_COLUMNS + " WHERE id > ?"
+                + (status != null ? " AND " + AccountJpaEntity.STATUS_COLUMN + " = ?" : "")
+                + (namePrefix != null ? " AND account LIKE ? ESCAPE '!'" : "")
+                + " ORDER BY id";
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            int parameter = 1;
+            statement.setLong(parameter++, after != null ? after.getValue() : 0L);
+            if (status != null) {
+                statement.setString(parameter++, String.valueOf(status.getCode()));
+            }
+            if (namePrefix != null) {
+                statement.setString(parameter, AccountJpaEntity.toPrefixPattern(namePrefix));
+            }
+            statement.setMaxRows(limit);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                List<AccountResponseDTO> accounts = new ArrayList<>(limit);
+                while (resultSet.next()) {
+                    accounts.add(toView(resultSet));
+                }
+                return accounts;
+            }
+        } catch (SQLException e) {
+            throw new PersistenceException("Read replica " + name + " could not be queried", e);
+        }
+    }
+
+    private AccountResponseDTO toView(ResultSet resultSet) throws SQLException {
+        return new AccountResponseDTO(resultSet.getLong(1), resultSet.getString(2), resultSet.getString(3),
+                AccountStatus.fromCode(resultSet.getString(4).charAt(0)), resultSet.getLong(5));
+    }
+}
@@ -0,0 +1,156 @@
+package pe.poc.account.infrastructure.persistence.replica;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Any;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.agroal.DataSource;
+import pe.poc.account.domain.model.valueobject.AccountId;
+
+/**
+ * Chooses the read replica serving a query-side read, or none to read from the primary.
+ * Replicas are taken round-robin among those whose replication lag is within the configured
+ * maximum staleness. Accounts written recently are pinned to the primary for that same window
+ * after their transaction commits, so clients always read their own writes: once the pin
+ * expires, every replica still eligible has caught up past the commit.
+ */
+@ApplicationScoped
+public class ReadReplicaRouter {
+
+    private final List<ReadReplica> replicas;
+    private final Duration maxStaleness;
+    private final TransactionSynchronizationRegistry transactionSynchronizationRegistry;
+    private final Cache<Long, Boolean> pinnedAccounts;
+    private final AtomicInteger next = new AtomicInteger();
+
+    @Inject
+    public ReadReplicaRouter(@ConfigProperty(name = "account.read-replicas.datasources") Optional<List<String>> names,
+                             @ConfigProperty(name = "account.read-replicas.max-staleness", defaultValue = "5S")
+                             Duration maxStaleness,
+                             @Any Instance<AgroalDataSource> dataSources,
+                             TransactionSynchronizationRegistry transactionSynchronizationRegistry) {
+        this(names.orElse(List.of()).stream()
+                        .map(name -> new ReadReplica(name,
+                                dataSources.select(new DataSource.DataSourceLiteral(name)).get()))
+                        .toList(),
+                maxStaleness, transactionSynchronizationRegistry);
+    }
+
+    ReadReplicaRouter(List<ReadReplica> replicas, Duration maxStaleness,
+                      TransactionSynchronizationRegistry transactionSynchronizationRegistry) {
+        this.replicas = replicas;
+        this.maxStaleness = maxStaleness;
+        this.transactionSynchronizationRegistry = transactionSynchronizationRegistry;
+        this.pinnedAccounts = Caffeine.newBuilder()
+                .expireAfterWrite(maxStaleness)
+                .build();
+    }
+
+    /**
+     * Returns whether read replicas are configured.
+     *
+     * @return true when at least one replica is configured
+     */
+    public boolean isEnabled() {
+        return !replicas.isEmpty();
+    }
+
+    /**
+     * Returns the configured read replicas.
+     *
+     * @return The replicas
+     */
+    public List<ReadReplica> getReplicas() {
+        return replicas;
+    }
+
+    /**
+     * Chooses a replica for a read spanning every account.
+     *
+     * @return The replica, or empty to read from the primary
+     */
+    public Optional<ReadReplica> route() {
+        int size = replicas.size();
+        int start = size > 0 ? Math.floorMod(next.getAndIncrement(), size) : 0;
+        for (int i = 0; i < size; i++) {
+            ReadReplica replica = replicas.get((start + i) % size);
+            if (replica.getLag().compareTo(maxStaleness) <= 0) {
+                return Optional.of(replica);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Chooses a replica for a read of one account.
+     *
+     * @param id The account ID
+     * @return The replica, or empty to read from the primary
+     */
+    public Optional<ReadReplica> route(AccountId id) {
+        if (!isEnabled() || pinnedAccounts.getIfPresent(id.getValue()) != null) {
+            return Optional.empty();
+        }
+        return route();
+    }
+
+    /**
+     * Returns whether an account in a range of IDs is pinned to the primary. A page of that range
+     * read from a replica may list such an account as it was before the write, or miss it.
+     *
+     * @param after The ID the range starts after
+     * @param upTo The last ID of the range, inclusive
+     * @return true when an account written within the maximum staleness falls in the range
+     */
+    public boolean isPinned(long after, long upTo) {
+        return pinnedAccounts.asMap().keySet().stream()
+                .anyMatch(id -> id > after && id <= upTo);
+    }
+
+    /**
+     * Pins an account to the primary for the maximum staleness once the current transaction
+     * commits, or immediately when no transaction is active.
+     *
+     * @param id The written account ID
+     */
+    public void pinAfterCommit(AccountId id) {
+        if (!isEnabled() || id == null || id.getValue() == null) {
+            return;
+        }
+
+        Long key = id.getValue();
+        if (transactionSynchronizationRegistry.getTransactionKey() == null) {
+            pinnedAccounts.put(key, Boolean.TRUE);
+            return;
+        }
+
+        transactionSynchronizationRegistry.registerInterposedSynchronization(new Synchronization() {
+            @Override
+            public void beforeCompletion() {
+                // Nothing to do before completion
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status == Status.STATUS_COMMITTED) {
+                    pinnedAccounts.put(key, Boolean.TRUE);
+                }
+            }
+        });
+    }
+}
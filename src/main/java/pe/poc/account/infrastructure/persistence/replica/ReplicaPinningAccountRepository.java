@@ -0,0 +1,93 @@
+package pe.poc.account.infrastructure.persistence.replica;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import jakarta.annotation.Priority;
+import jakarta.decorator.Decorator;
+import jakarta.decorator.Delegate;
+import jakarta.enterprise.inject.Any;
+import jakarta.inject.Inject;
+
+import pe.poc.account.application.port.output.IAccountRepository;
+import pe.poc.account.domain.model.Account;
+import pe.poc.account.domain.model.AccountStatus;
+import pe.poc.account.domain.model.valueobject.AccountId;
+
+/**
+ * Pinning decorator for the IAccountRepository output port.
+ * Write operations pin the affected accounts to the primary once their transaction
+ * commits, so reads of those accounts skip the replicas while they may still be behind.
+ */
+@Decorator
+@Priority(30)
+public abstract class ReplicaPinningAccountRepository implements IAccountRepository {
+
+    @Inject
+    @Any
+    @Delegate
+    IAccountRepository delegate;
+
+    @Inject
+    ReadReplicaRouter readReplicaRouter;
+
+    @Override
+    public Account save(Account account) {
+        Account savedAccount = delegate.save(account);
+        readReplicaRouter.pinAfterCommit(savedAccount.getId());
+        return savedAccount;
+    }
+
+    @Override
+    public List<Account> saveAll(List<Account> accounts) {
+        List<Account> savedAccounts = delegate.saveAll(accounts);
+        savedAccounts.forEach(account -> readReplicaRouter.pinAfterCommit(account.getId()));
+        return savedAccounts;
+    }
+
+    @Override
+    public Account update(Account account) {
+        Account updatedAccount = delegate.update(account);
+        readReplicaRouter.pinAfterCommit(account.getId());
+        return updatedAccount;
+    }
+
+    @Override
+    public List<Account> updateAll(List<Account> accounts) {
+        List<Account> updatedAccounts = delegate.updateAll(accounts);
+        accounts.forEach(account -> readReplicaRouter.pinAfterCommit(account.getId()));
+        return updatedAccounts;
+    }
+
+    @Override
+    public Optional<Account> updateStatus(AccountId id, AccountStatus status) {
+        Optional<Account> updatedAccount = delegate.updateStatus(id, status);
+        updatedAccount.ifPresent(account -> readReplicaRouter.pinAfterCommit(id));
+        return updatedAccount;
+    }
+
+    @Override
+    public List<Account> updateStatusAll(Collection<AccountId> ids, AccountStatus status) {
+        List<Account> updatedAccounts = delegate.updateStatusAll(ids, status);
+        updatedAccounts.forEach(account -> readReplicaRouter.pinAfterCommit(account.getId()));
+        return updatedAccounts;
+    }
+
+    @Override
+    public boolean deleteById(AccountId id) {
+        boolean deleted = delegate.deleteById(id);
+        if (deleted) {
+            readReplicaRouter.pinAfterCommit(id);
+        }
+        return deleted;
+    }
+
+    @Override
+    public Set<AccountId> deleteAllById(Collection<AccountId> ids) {
+        Set<AccountId> deletedIds = delegate.deleteAllById(ids);
+        deletedIds.forEach(readReplicaRouter::pinAfterCommit);
+        return deletedIds;
+    }
+}
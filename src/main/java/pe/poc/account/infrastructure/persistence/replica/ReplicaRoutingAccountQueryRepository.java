@@ -0,0 +1,97 @@
+package pe.poc.account.infrastructure.persistence.replica;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import jakarta.annotation.Priority;
+import jakarta.decorator.Decorator;
+import jakarta.decorator.Delegate;
+import jakarta.enterprise.inject.Any;
+import jakarta.inject.Inject;
+import jakarta.persistence.PersistenceException;
+
+import org.jboss.logging.Logger;
+
+import pe.poc.account.application.dto.AccountResponseDTO;
+import pe.poc.account.application.port.output.IAccountQueryRepository;
+import pe.poc.account.domain.model.AccountStatus;
+import pe.poc.account.domain.model.valueobject.AccountId;
+
+/**
+ * Routing decorator for the IAccountQueryRepository output port.
+ * Reads go to the replica chosen by the {@link ReadReplicaRouter}, and to the primary
+ * adapter when no replica is fresh enough, the account is pinned or the replica fails.
+ * A page is pinned when any account in the ID range it covers is. Lookups by number stay on
+ * the primary, since the account is not known before the lookup.
+ * Its priority places it inside the caching and metrics decorators.
+ */
+@Decorator
+@Priority(30)
+public abstract class ReplicaRoutingAccountQueryRepository implements IAccountQueryRepository {
+
+    private static final Logger LOG = Logger.getLogger(ReplicaRoutingAccountQueryRepository.class);
+
+    @Inject
+    @Any
+    @Delegate
+    IAccountQueryRepository delegate;
+
+    @Inject
+    ReadReplicaRouter readReplicaRouter;
+
+    @Override
+    public Optional<AccountResponseDTO> findById(AccountId id) {
+        Optional<ReadReplica> replica = readReplicaRouter.route(id);
+        if (replica.isPresent()) {
+            try {
+                return replica.get().findById(id);
+            } catch (PersistenceException e) {
+                LOG.warnf(e, "Falling back to the primary for account %s", id.getValue());
+            }
+        }
+        return delegate.findById(id);
+    }
+
+    @Override
+    public List<AccountResponseDTO> findPage(AccountId after, int limit) {
+        return routePage(after, limit, replica -> replica.findPage(after, limit),
+                () -> delegate.findPage(after, limit));
+    }
+
+    @Override
+    public List<AccountResponseDTO> searchPage(AccountStatus status, String namePrefix, AccountId after, int limit) {
+        return routePage(after, limit, replica -> replica.searchPage(status, namePrefix, after, limit),
+                () -> delegate.searchPage(status, namePrefix, after, limit));
+    }
+
+    /**
+     * Reads a keyset page from a replica, or from the primary when no replica is fresh enough,
+     * the replica fails or an account in the range of the page is pinned.
+     *
+     * @param after The ID after which the page starts, or null for the first page
+     * @param limit The maximum number of accounts of the page
+     * @param replicaQuery The page query on a replica
+     * @param primaryQuery The page query on the primary
+     * @return The account views of the page
+     */
+    private List<AccountResponseDTO> routePage(AccountId after, int limit,
+                                               Function<ReadReplica, List<AccountResponseDTO>> replicaQuery,
+                                               Supplier<List<AccountResponseDTO>> primaryQuery) {
+        Optional<ReadReplica> replica = readReplicaRouter.route();
+        if (replica.isPresent()) {
+            try {
+                List<AccountResponseDTO> page = replicaQuery.apply(replica.get());
+                // A full page ends at its last ID; a shorter one covers every ID after the cursor
+                long upTo = page.size() < limit ? Long.MAX_VALUE : page.get(page.size() - 1).getId();
+                if (!readReplicaRouter.isPinned(after != null ? after.getValue() : 0L, upTo)) {
+                    return page;
+                }
+            } catch (PersistenceException e) {
+                LOG.warnf(e, "Falling back to the primary to list accounts");
+            }
+        }
+        return primaryQuery.get();
+    }
+}
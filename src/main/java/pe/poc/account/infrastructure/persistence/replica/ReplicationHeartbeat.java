@@ -0,0 +1,115 @@
+package pe.poc.account.infrastructure.persistence.replica;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+
+/**
+ * Measures the replication lag of each read replica with a heartbeat row.
+ * The primary stamps the row with the current time at a fixed interval; whatever replication
+ * carries it to a replica, the stamp read back there is the primary time the replica has
+ * caught up to. Only active when read replicas are configured.
+ */
+@ApplicationScoped
+public class ReplicationHeartbeat {
+
+    private static final Logger LOG = Logger.getLogger(ReplicationHeartbeat.class);
+
+    /**
+     * Table holding the single heartbeat row, on the primary and on every replica.
+     */
+    static final String HEARTBEAT_TABLE = "replication_heartbeat";
+
+    private final ReadReplicaRouter readReplicaRouter;
+    private final AgroalDataSource primaryDataSource;
+    private final Duration interval;
+    private ScheduledExecutorService scheduler;
+
+    @Inject
+    public ReplicationHeartbeat(ReadReplicaRouter readReplicaRouter, AgroalDataSource primaryDataSource,
+                                @ConfigProperty(name = "account.read-replicas.heartbeat-interval", defaultValue = "1S")
+                                Duration interval) {
+        this.readReplicaRouter = readReplicaRouter;
+        this.primaryDataSource = primaryDataSource;
+        this.interval = interval;
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        if (!readReplicaRouter.isEnabled()) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                .name("account-replica-heartbeat")
+                .daemon(true)
+                .factory());
+        scheduler.scheduleWithFixedDelay(this::beat, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * Stamps the heartbeat on the primary, then reads it back from every replica.
+     * A replica that cannot be read keeps its previous stamp, so its lag keeps growing
+     * until the router stops choosing it.
+     */
+    void beat() {
+        try (Connection connection = primaryDataSource.getConnection()) {
+            createTable(connection);
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "MERGE INTO " + HEARTBEAT_TABLE + " (id, written_at) KEY (id) VALUES (1, ?)")) {
+                statement.setLong(1, Instant.now().toEpochMilli());
+                statement.executeUpdate();
+            }
+        } catch (SQLException e) {
+            LOG.warnf(e, "Could not write the replication heartbeat on the primary");
+        }
+
+        for (ReadReplica replica : readReplicaRouter.getReplicas()) {
+            try (Connection connection = replica.getDataSource().getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(
+                         "SELECT written_at FROM " + HEARTBEAT_TABLE + " WHERE id = 1")) {
+                if (resultSet.next()) {
+                    replica.markReplicated(Instant.ofEpochMilli(resultSet.getLong(1)));
+                }
+            } catch (SQLException e) {
+                LOG.debugf(e, "Could not read the replication heartbeat on replica %s", replica.getName());
+            }
+        }
+    }
+
+    /**
+     * Creates the heartbeat table when it does not exist yet.
+     *
+     * @param connection The connection to the database
+     * @throws SQLException if the table cannot be created
+     */
+    static void createTable(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS " + HEARTBEAT_TABLE
+                    + " (id INT PRIMARY KEY, written_at BIGINT NOT NULL)");
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package pe.poc.account.infrastructure.persistence.replica;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import pe.poc.account.infrastructure.persistence.entity.AccountJpaEntity;
+
+/**
+ * Stand-in for database replication when the replicas are local H2 databases.
+ * At a fixed interval it copies a snapshot of the primary account table, heartbeat row
+ * included, into each replica in a single replica transaction, so readers of a replica see
+ * either the previous or the new snapshot. The heartbeat is read before the accounts, so the
+ * stamp it carries never claims more than the snapshot holds. Meant for local testing only:
+ * each pass copies the whole table.
+ */
+@ApplicationScoped
+public class StandInReplicator {
+
+    private static final Logger LOG = Logger.getLogger(StandInReplicator.class);
+
+    /**
+     * Number of rows inserted per JDBC batch on the replica.
+     */
+    private static final int BATCH_SIZE = 500;
+
+    private final ReadReplicaRouter readReplicaRouter;
+    private final AgroalDataSource primaryDataSource;
+    private final boolean enabled;
+    private final Duration interval;
+    private ScheduledExecutorService scheduler;
+
+    @Inject
+    public StandInReplicator(ReadReplicaRouter readReplicaRouter, AgroalDataSource primaryDataSource,
+                             @ConfigProperty(name = "account.read-replicas.stand-in.enabled", defaultValue = "false")
+                             boolean enabled,
+                             @ConfigProperty(name = "account.read-replicas.stand-in.interval", defaultValue = "2S")
+                             Duration interval) {
+        this.readReplicaRouter = readReplicaRouter;
+        this.primaryDataSource = primaryDataSource;
+        this.enabled = enabled;
+        this.interval = interval;
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        if (!enabled || !readReplicaRouter.isEnabled()) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                .name("account-replica-stand-in")
+                .daemon(true)
+                .factory());
+        scheduler.scheduleWithFixedDelay(this::replicate, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * Copies the primary snapshot into every replica.
+     */
+    void replicate() {
+        for (ReadReplica replica : readReplicaRouter.getReplicas()) {
+            try (Connection primary = primaryDataSource.getConnection();
+                 Connection target = replica.getDataSource().getConnection()) {
+                copy(primary, target);
+            } catch (SQLException e) {
+                LOG.warnf(e, "Could not replicate the primary into replica %s", replica.getName());
+            }
+        }
+    }
+
+    private void copy(Connection primary, Connection target) throws SQLException {
+        ReplicationHeartbeat.createTable(primary);
+        createTables(target);
+        target.setAutoCommit(false);
+        try {
+            try (Statement statement = target.createStatement()) {
+                statement.executeUpdate("DELETE FROM " + ReplicationHeartbeat.HEARTBEAT_TABLE);
+                statement.executeUpdate("DELETE FROM account");
+            }
+
+            // Heartbeat first: every commit stamped before it is in the account snapshot read next
+            try (Statement source = primary.createStatement();
+                 ResultSet heartbeat = source.executeQuery(
+                         "SELECT id, written_at FROM " + ReplicationHeartbeat.HEARTBEAT_TABLE);
+                 PreparedStatement insert = target.prepareStatement(
+                         "INSERT INTO " + ReplicationHeartbeat.HEARTBEAT_TABLE + " (id, written_at) VALUES (?, ?)")) {
+                while (heartbeat.next()) {
+                    insert.setInt(1, heartbeat.getInt(1));
+                    insert.setLong(2, heartbeat.getLong(2));
+                    insert.executeUpdate();
+                }
+            }
+
+            try (Statement source = primary.createStatement();
+                 ResultSet accounts = source.executeQuery("SELECT id, account, number, "
+                         + AccountJpaEntity.STATUS_COLUMN + ", " + AccountJpaEntity.VERSION_COLUMN + " FROM account");
+                 PreparedStatement insert = target.prepareStatement("INSERT INTO account (id, account, number, "
+                         + AccountJpaEntity.STATUS_COLUMN + ", " + AccountJpaEntity.VERSION_COLUMN
+                         + ") VALUES (?, ?, ?, ?, ?)")) {
+                int pending = 0;
+                while (accounts.next()) {
+                    insert.setLong(1, accounts.getLong(1));
+                    insert.setString(2, accounts.getString(2));
+                    insert.setString(3, accounts.getString(3));
+                    insert.setString(4, accounts.getString(4));
+                    insert.setLong(5, accounts.getLong(5));
+                    insert.addBatch();
+                    if (++pending % BATCH_SIZE == 0) {
+                        insert.executeBatch();
+                    }
+                }
+                insert.executeBatch();
+            }
+            target.commit();
+        } catch (SQLException e) {
+            target.rollback();
+            throw e;
+        } finally {
+            target.setAutoCommit(true);
+        }
+    }
+
+    /**
+     * Creates the replicated tables on a replica when they do not exist yet.
+     * Only the columns the query side reads are replicated.
+     *
+     * @param target The connection to the replica
+     * @throws SQLException if the tables cannot be created
+     */
+    private void createTables(Connection target) throws SQLException {
+        ReplicationHeartbeat.createTable(target);
+        try (Statement statement = target.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS account (id BIGINT PRIMARY KEY,"
+                    + " account VARCHAR(255) NOT NULL, number VARCHAR(255) NOT NULL, "
+                    + AccountJpaEntity.STATUS_COLUMN + " CHAR(1) NOT NULL, "
+                    + AccountJpaEntity.VERSION_COLUMN + " BIGINT NOT NULL)");
+            // Replicas created before the version column existed
+            statement.execute("ALTER TABLE account ADD COLUMN IF NOT EXISTS " + AccountJpaEntity.VERSION_COLUMN
+                    + " BIGINT DEFAULT 0 NOT NULL");
+        }
+    }
+}
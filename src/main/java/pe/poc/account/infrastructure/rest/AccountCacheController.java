@@ -0,0 +1,52 @@
+package pe.poc.account.infrastructure.rest;
+
+import io.quarkus.arc.properties.IfBuildProperty;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.DELETE;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+import pe.poc.account.infrastructure.persistence.cache.AccountCache;
+
+/**
+ * REST controller exposing the account cache counters.
+ * This controller is meant for operators sizing the cache. It is unauthenticated and can wipe
+ * the cache, so it is only part of builds made with the "cache-admin" Maven profile; the cache
+ * counters are always available as metrics.
+ */
+@IfBuildProperty(name = "account.cache.admin.enabled", stringValue = "true")
+@Path("/api/admin/cache/accounts")
+@Produces(MediaType.APPLICATION_JSON)
+public class AccountCacheController {
+
+    private final AccountCache accountCache;
+
+    @Inject
+    public AccountCacheController(AccountCache accountCache) {
+        this.accountCache = accountCache;
+    }
+
+    /**
+     * Retrieves the hit, miss and eviction counters of the account cache.
+     *
+     * @return The cache statistics
+     */
+    @GET
+    public Response getStats() {
+        return Response.ok(accountCache.stats()).build();
+    }
+
+    /**
+     * Removes every entry from the account cache.
+     *
+     * @return No content response
+     */
+    @DELETE
+    public Response invalidateAll() {
+        accountCache.invalidateAll();
+        return Response.noContent().build();
+    }
+}
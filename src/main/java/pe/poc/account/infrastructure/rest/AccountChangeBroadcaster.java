@@ -0,0 +1,185 @@
+package pe.poc.account.infrastructure.rest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.sse.Sse;
+import jakarta.ws.rs.sse.SseEventSink;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import pe.poc.account.application.dto.AccountChangeEventDTO;
+import pe.poc.account.application.dto.AccountChangePageDTO;
+import pe.poc.account.application.port.input.IAccountChangeFeedUseCase;
+import pe.poc.account.application.usecase.AccountManagementService;
+import pe.poc.account.infrastructure.outbox.InProcessAccountChangeSink;
+import pe.poc.common.exception.ConcurrencyLimitExceededException;
+
+/**
+ * Fans the account changes published by the outbox relay out to the open change streams.
+ * Each subscriber gets its own bounded buffer, so a slow client only ever affects itself,
+ * and a single daemon thread sends keep-alive comments to every stream.
+ */
+@ApplicationScoped
+public class AccountChangeBroadcaster {
+
+    private final InProcessAccountChangeSink inProcessAccountChangeSink;
+    private final IAccountChangeFeedUseCase accountChangeFeedUseCase;
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final Duration keepAliveInterval;
+    private final Set<AccountChangeSubscription> subscriptions = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger reservedSlots = new AtomicInteger();
+    private final AtomicLong resyncs = new AtomicLong();
+    private final Consumer<List<AccountChangeEventDTO>> listener = this::broadcast;
+    private ScheduledExecutorService scheduler;
+
+    @Inject
+    public AccountChangeBroadcaster(InProcessAccountChangeSink inProcessAccountChangeSink,
+                                    IAccountChangeFeedUseCase accountChangeFeedUseCase,
+                                    @ConfigProperty(name = "account.changes.stream.buffer-size", defaultValue = "256")
+                                    int bufferSize,
+                                    @ConfigProperty(name = "account.changes.stream.max-subscribers",
+                                                    defaultValue = "10000") int maxSubscribers,
+                                    @ConfigProperty(name = "account.changes.stream.keep-alive", defaultValue = "30S")
+                                    Duration keepAliveInterval) {
+        this.inProcessAccountChangeSink = inProcessAccountChangeSink;
+        this.accountChangeFeedUseCase = accountChangeFeedUseCase;
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.keepAliveInterval = keepAliveInterval;
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        inProcessAccountChangeSink.subscribe(listener);
+        scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                .name("account-change-keep-alive")
+                .daemon(true)
+                .factory());
+        scheduler.scheduleWithFixedDelay(this::keepAlive, keepAliveInterval.toMillis(), keepAliveInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+        inProcessAccountChangeSink.unsubscribe(listener);
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        List.copyOf(subscriptions).forEach(AccountChangeSubscription::close);
+    }
+
+    /**
+     * Opens a change stream. With an offset, the changes published after it are read from the
+     * feed and sent first; changes published meanwhile are held back and follow without gaps.
+     * A backlog larger than the buffer is answered with a resync right away.
+     *
+     * @param after The offset after which the changes start, or null for new changes only
+     * @param eventSink The client stream
+     * @param sse The SSE event factory
+     * @throws ConcurrencyLimitExceededException if the subscriber limit is reached
+     */
+    public void subscribe(Long after, SseEventSink eventSink, Sse sse) {
+        // Reserve a slot first so that concurrent connects cannot go past the limit
+        if (reservedSlots.incrementAndGet() > maxSubscribers) {
+            reservedSlots.decrementAndGet();
+            throw new ConcurrencyLimitExceededException("Too many account change subscribers, please retry later");
+        }
+
+        AccountChangeSubscription subscription = new AccountChangeSubscription(eventSink, sse, bufferSize, after,
+                this::release);
+        subscriptions.add(subscription);
+        List<AccountChangeEventDTO> backlog;
+        try {
+            backlog = after != null ? readBacklog(after) : List.of();
+        } catch (RuntimeException e) {
+            remove(subscription);
+            throw e;
+        }
+        subscription.catchUp(backlog);
+    }
+
+    /**
+     * Returns the number of open change streams.
+     *
+     * @return The subscriber count
+     */
+    public int getSubscriberCount() {
+        return subscriptions.size();
+    }
+
+    /**
+     * Returns the number of subscribers told to resync since startup.
+     *
+     * @return The resync count
+     */
+    public long getResyncCount() {
+        return resyncs.get();
+    }
+
+    private void broadcast(List<AccountChangeEventDTO> events) {
+        for (AccountChangeSubscription subscription : subscriptions) {
+            subscription.offer(events);
+        }
+    }
+
+    private void keepAlive() {
+        for (AccountChangeSubscription subscription : subscriptions) {
+            subscription.keepAlive();
+        }
+    }
+
+    private void release(AccountChangeSubscription subscription) {
+        if (remove(subscription) && subscription.isResyncRequired()) {
+            resyncs.incrementAndGet();
+        }
+    }
+
+    /**
+     * Removes a subscription and frees its slot, once even if it is removed several times.
+     *
+     * @param subscription The subscription
+     * @return true if the subscription was still open
+     */
+    private boolean remove(AccountChangeSubscription subscription) {
+        if (!subscriptions.remove(subscription)) {
+            return false;
+        }
+        reservedSlots.decrementAndGet();
+        return true;
+    }
+
+    /**
+     * Reads the published changes after an offset, stopping once they no longer fit in a buffer.
+     *
+     * @param after The offset after which the changes start
+     * @return The changes, ordered by offset
+     */
+    private List<AccountChangeEventDTO> readBacklog(long after) {
+        List<AccountChangeEventDTO> backlog = new ArrayList<>();
+        long from = after;
+        while (backlog.size() <= bufferSize) {
+            AccountChangePageDTO page = accountChangeFeedUseCase.getChanges(from,
+                    AccountManagementService.MAX_PAGE_SIZE);
+            backlog.addAll(page.getItems());
+            if (page.getItems().size() < AccountManagementService.MAX_PAGE_SIZE) {
+                break;
+            }
+            from = page.getNextOffset();
+        }
+        return backlog;
+    }
+}
@@ -0,0 +1,91 @@
+package pe.poc.account.infrastructure.rest;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.container.Suspended;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.sse.Sse;
+import jakarta.ws.rs.sse.SseEventSink;
+
+import pe.poc.account.application.dto.AccountChangePageDTO;
+import pe.poc.account.application.port.input.IAccountChangeFeedUseCase;
+import pe.poc.account.domain.exception.InvalidAccountDataException;
+import pe.poc.account.infrastructure.concurrency.RequestDispatcher;
+
+/**
+ * REST controller for the account change feed.
+ * Consumers keep the {@code nextOffset} of each page and send it back as {@code after}
+ * to receive only the changes they have not seen yet, or ask for {@code text/event-stream}
+ * to have the changes pushed as they are published.
+ */
+@Path("/api/accounts/changes")
+@Produces(MediaType.APPLICATION_JSON)
+public class AccountChangeController {
+
+    private final IAccountChangeFeedUseCase accountChangeFeedUseCase;
+    private final RequestDispatcher requestDispatcher;
+    private final AccountChangeBroadcaster accountChangeBroadcaster;
+
+    @Inject
+    public AccountChangeController(IAccountChangeFeedUseCase accountChangeFeedUseCase,
+                                   RequestDispatcher requestDispatcher,
+                                   AccountChangeBroadcaster accountChangeBroadcaster) {
+        this.accountChangeFeedUseCase = accountChangeFeedUseCase;
+        this.requestDispatcher = requestDispatcher;
+        this.accountChangeBroadcaster = accountChangeBroadcaster;
+    }
+
+    /**
+     * Retrieves the account changes after an offset.
+     *
+     * @param after The offset after which the changes start, omitted for the beginning of the stream
+     * @param limit The maximum number of changes in the page
+     * @param asyncResponse The suspended response, resumed with a page of changes
+     */
+    @GET
+    public void getChanges(@QueryParam("after") Long after, @QueryParam("limit") Integer limit,
+                           @Suspended AsyncResponse asyncResponse) {
+        requestDispatcher.dispatch(asyncResponse, () -> {
+            AccountChangePageDTO page = accountChangeFeedUseCase.getChanges(after, limit);
+            return Response.ok(page).build();
+        });
+    }
+
+    /**
+     * Streams the account changes as Server-Sent Events. Each {@code change} event carries the
+     * offset as its ID, so a reconnecting client resumes from {@code Last-Event-ID}. A client that
+     * falls too far behind receives a {@code resync} event with the offset to read the paged feed
+     * from, and is disconnected.
+     *
+     * @param after The offset after which the changes start, omitted for new changes only
+     * @param lastEventId The ID of the last event received before reconnecting, used when {@code after} is omitted
+     * @param eventSink The client stream
+     * @param sse The SSE event factory
+     */
+    @GET
+    @Produces(MediaType.SERVER_SENT_EVENTS)
+    public void streamChanges(@QueryParam("after") Long after,
+                              @HeaderParam(HttpHeaders.LAST_EVENT_ID_HEADER) String lastEventId,
+                              @Context SseEventSink eventSink, @Context Sse sse) {
+        accountChangeBroadcaster.subscribe(after != null ? after : parseLastEventId(lastEventId), eventSink, sse);
+    }
+
+    private static Long parseLastEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.valueOf(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            throw new InvalidAccountDataException(HttpHeaders.LAST_EVENT_ID_HEADER, "Event ID must be a change offset");
+        }
+    }
+}
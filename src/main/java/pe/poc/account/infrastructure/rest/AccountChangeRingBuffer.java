@@ -0,0 +1,72 @@
+package pe.poc.account.infrastructure.rest;
+
+import java.util.Arrays;
+
+import pe.poc.account.application.dto.AccountChangeEventDTO;
+
+/**
+ * Fixed-capacity FIFO of change events waiting to be sent to one stream subscriber.
+ * It never grows: a full buffer rejects the event and the caller decides what to do with
+ * the subscriber. Not thread-safe; callers guard it with their own lock.
+ */
+final class AccountChangeRingBuffer {
+
+    private final AccountChangeEventDTO[] slots;
+    private int head;
+    private int size;
+
+    AccountChangeRingBuffer(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Ring buffer capacity must be positive");
+        }
+        this.slots = new AccountChangeEventDTO[capacity];
+    }
+
+    /**
+     * Adds an event at the tail.
+     *
+     * @param event The event
+     * @return false when the buffer is full and the event was not added
+     */
+    boolean offer(AccountChangeEventDTO event) {
+        if (size == slots.length) {
+            return false;
+        }
+        slots[(head + size) % slots.length] = event;
+        size++;
+        return true;
+    }
+
+    /**
+     * Removes the event at the head.
+     *
+     * @return The oldest event, or null when the buffer is empty
+     */
+    AccountChangeEventDTO poll() {
+        if (size == 0) {
+            return null;
+        }
+        AccountChangeEventDTO event = slots[head];
+        slots[head] = null;
+        head = (head + 1) % slots.length;
+        size--;
+        return event;
+    }
+
+    /**
+     * Removes every event.
+     */
+    void clear() {
+        Arrays.fill(slots, null);
+        head = 0;
+        size = 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int capacity() {
+        return slots.length;
+    }
+}
@@ -0,0 +1,221 @@
+package pe.poc.account.infrastructure.rest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.sse.OutboundSseEvent;
+import jakarta.ws.rs.sse.Sse;
+import jakarta.ws.rs.sse.SseEventSink;
+
+import pe.poc.account.application.dto.AccountChangeEventDTO;
+
+/**
+ * One client of the account change stream.
+ * Events are queued in a bounded ring buffer and written one at a time: the next write starts
+ * from the completion of the previous one, so an idle or slow client holds no thread. A client
+ * that falls a full buffer behind is sent a {@code resync} event with the offset to resume from
+ * through the paged feed, then disconnected.
+ */
+final class AccountChangeSubscription {
+
+    /**
+     * SSE event name of an account change.
+     */
+    static final String CHANGE_EVENT = "change";
+
+    /**
+     * SSE event name telling the client to catch up through the paged feed.
+     */
+    static final String RESYNC_EVENT = "resync";
+
+    private final SseEventSink eventSink;
+    private final Sse sse;
+    private final AccountChangeRingBuffer buffer;
+    private final Consumer<AccountChangeSubscription> onClose;
+    private List<AccountChangeEventDTO> heldEvents = new ArrayList<>();
+    private Long lastQueuedOffset;
+    private Long lastSentOffset;
+    private boolean resyncRequired;
+    private boolean keepAliveRequired;
+    private boolean sending;
+    private boolean closing;
+    private boolean closed;
+
+    AccountChangeSubscription(SseEventSink eventSink, Sse sse, int bufferSize, Long after,
+                              Consumer<AccountChangeSubscription> onClose) {
+        this.eventSink = eventSink;
+        this.sse = sse;
+        this.buffer = new AccountChangeRingBuffer(bufferSize);
+        this.onClose = onClose;
+        this.lastQueuedOffset = after;
+        this.lastSentOffset = after;
+    }
+
+    /**
+     * Queues published events. Until {@link #catchUp(List)} runs they are held back, so the
+     * backlog read from the feed is always sent first.
+     *
+     * @param events The published events, ordered by offset
+     */
+    void offer(List<AccountChangeEventDTO> events) {
+        synchronized (this) {
+            if (closing || resyncRequired) {
+                return;
+            }
+            if (heldEvents != null) {
+                heldEvents.addAll(events);
+                if (heldEvents.size() > buffer.capacity()) {
+                    requireResync();
+                }
+                return;
+            }
+            events.forEach(this::queue);
+        }
+        drain();
+    }
+
+    /**
+     * Queues the backlog missed before subscribing, then the events held back meanwhile,
+     * and starts streaming.
+     *
+     * @param backlog The events published after the requested offset, ordered by offset
+     */
+    void catchUp(List<AccountChangeEventDTO> backlog) {
+        synchronized (this) {
+            List<AccountChangeEventDTO> held = heldEvents;
+            heldEvents = null;
+            if (!closing) {
+                backlog.forEach(this::queue);
+                held.forEach(this::queue);
+            }
+        }
+        drain();
+    }
+
+    /**
+     * Sends a comment when nothing else is being written, so dead connections are detected
+     * and proxies keep idle ones open.
+     */
+    void keepAlive() {
+        if (eventSink.isClosed()) {
+            close();
+            return;
+        }
+        synchronized (this) {
+            keepAliveRequired = true;
+        }
+        drain();
+    }
+
+    /**
+     * Returns whether the subscriber was told to resync because it fell behind.
+     *
+     * @return true after a resync
+     */
+    synchronized boolean isResyncRequired() {
+        return resyncRequired;
+    }
+
+    /**
+     * Closes the stream and releases the subscription.
+     */
+    void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            closing = true;
+            buffer.clear();
+        }
+        try {
+            eventSink.close();
+        } finally {
+            onClose.accept(this);
+        }
+    }
+
+    private void queue(AccountChangeEventDTO event) {
+        if (resyncRequired) {
+            return;
+        }
+        long offset = event.getOffset();
+        if (lastQueuedOffset == null) {
+            lastQueuedOffset = offset - 1;
+            lastSentOffset = lastQueuedOffset;
+        }
+        if (offset <= lastQueuedOffset) {
+            // Already queued from the backlog
+            return;
+        }
+        if (offset != lastQueuedOffset + 1 || !buffer.offer(event)) {
+            requireResync();
+            return;
+        }
+        lastQueuedOffset = offset;
+    }
+
+    private void requireResync() {
+        resyncRequired = true;
+        buffer.clear();
+        if (heldEvents != null) {
+            heldEvents.clear();
+        }
+    }
+
+    private void drain() {
+        OutboundSseEvent event;
+        synchronized (this) {
+            if (sending || closing) {
+                return;
+            }
+            AccountChangeEventDTO next = buffer.poll();
+            if (next != null) {
+                event = changeEvent(next);
+                lastSentOffset = next.getOffset();
+            } else if (resyncRequired && heldEvents == null) {
+                event = resyncEvent();
+                closing = true;
+            } else if (keepAliveRequired) {
+                event = sse.newEventBuilder().comment("keep-alive").build();
+            } else {
+                return;
+            }
+            keepAliveRequired = false;
+            sending = true;
+        }
+
+        eventSink.send(event).whenComplete((ignored, failure) -> {
+            boolean done;
+            synchronized (this) {
+                sending = false;
+                done = closing;
+            }
+            if (failure != null || done) {
+                close();
+            } else {
+                drain();
+            }
+        });
+    }
+
+    private OutboundSseEvent changeEvent(AccountChangeEventDTO change) {
+        return sse.newEventBuilder()
+                .name(CHANGE_EVENT)
+                .id(String.valueOf(change.getOffset()))
+                .mediaType(MediaType.APPLICATION_JSON_TYPE)
+                .data(AccountChangeEventDTO.class, change)
+                .build();
+    }
+
+    private OutboundSseEvent resyncEvent() {
+        return sse.newEventBuilder()
+                .name(RESYNC_EVENT)
+                .mediaType(MediaType.APPLICATION_JSON_TYPE)
+                .data(Map.class, Map.of("after", lastSentOffset != null ? lastSentOffset : 0L))
+                .build();
+    }
+}
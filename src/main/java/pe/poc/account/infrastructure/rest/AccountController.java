@@ -1,127 +1,440 @@
 package pe.poc.account.infrastructure.rest;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
 
 import jakarta.inject.Inject;
 import jakarta.validation.Valid;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.DELETE;
 import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.PUT;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.container.Suspended;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.Response.Status;
+import jakarta.ws.rs.core.StreamingOutput;
 
+import pe.poc.account.application.dto.AccountBatchUpdateDTO;
+import pe.poc.account.application.dto.AccountPageDTO;
 import pe.poc.account.application.dto.AccountRequestDTO;
 import pe.poc.account.application.dto.AccountResponseDTO;
+import pe.poc.account.application.dto.BatchResultDTO;
 import pe.poc.account.application.port.input.IAccountManagementUseCase;
+import pe.poc.account.domain.model.AccountStatus;
+import pe.poc.account.infrastructure.batching.AccountWriteBatcher;
+import pe.poc.account.infrastructure.concurrency.RequestDispatcher;
+import pe.poc.account.infrastructure.idempotency.IdempotentRequestHandler;
+import pe.poc.account.infrastructure.rest.cbor.AccountCborProvider;
+import pe.poc.account.infrastructure.rest.cbor.AccountFrameWriter;
+import pe.poc.account.infrastructure.rest.json.AccountJsonCodec;
+import pe.poc.account.infrastructure.writebehind.AccountStatusWriteBehind;
 
 /**
  * REST controller for account management.
  * This controller exposes the API endpoints for the account management use cases.
+ * Every endpoint is handed to the {@link RequestDispatcher}, which runs it inline or,
+ * in virtual-thread mode, on a virtual thread behind the database concurrency limiter.
+ * Single-account responses carry the account version as their ETag, which clients send back
+ * in {@code If-None-Match} to skip unchanged reads and in {@code If-Match} to reject stale updates.
+ * In write-behind mode, activations and deactivations are queued and answered with 202 and a
+ * ticket instead of the account.
+ * Creations, updates and batches accept an {@code Idempotency-Key}; a retried request with the same
+ * key replays the recorded response instead of running again.
+ * With write batching, creations and updates without an {@code Idempotency-Key} are queued and
+ * committed together with other concurrent ones; the response is resumed when their batch is written.
+ * Bodies are JSON by default, or CBOR when {@code Accept} or {@code Content-Type} ask for {@code application/cbor}.
  */
 @Path("/api/accounts")
-@Produces(MediaType.APPLICATION_JSON)
-@Consumes(MediaType.APPLICATION_JSON)
+@Produces({MediaType.APPLICATION_JSON, AccountCborProvider.APPLICATION_CBOR_QS})
+@Consumes({MediaType.APPLICATION_JSON, AccountCborProvider.APPLICATION_CBOR})
 public class AccountController {
 
+    /**
+     * Number of streamed accounts written between two flushes of the response.
+     */
+    private static final int STREAM_FLUSH_INTERVAL = 100;
+
     private final IAccountManagementUseCase accountManagementUseCase;
+    private final ObjectMapper objectMapper;
+    private final RequestDispatcher requestDispatcher;
+    private final AccountStatusWriteBehind accountStatusWriteBehind;
+    private final IdempotentRequestHandler idempotentRequestHandler;
+    private final AccountWriteBatcher accountWriteBatcher;
+    private final CBORFactory cborFactory = AccountCborProvider.newFactory();
 
     @Inject
-    public AccountController(IAccountManagementUseCase accountManagementUseCase) {
+    public AccountController(IAccountManagementUseCase accountManagementUseCase, ObjectMapper objectMapper,
+                             RequestDispatcher requestDispatcher, AccountStatusWriteBehind accountStatusWriteBehind,
+                             IdempotentRequestHandler idempotentRequestHandler,
+                             AccountWriteBatcher accountWriteBatcher) {
         this.accountManagementUseCase = accountManagementUseCase;
+        this.objectMapper = objectMapper;
+        this.requestDispatcher = requestDispatcher;
+        this.accountStatusWriteBehind = accountStatusWriteBehind;
+        this.idempotentRequestHandler = idempotentRequestHandler;
+        this.accountWriteBatcher = accountWriteBatcher;
     }
 
     /**
      * Creates a new account.
      *
+     * @param idempotencyKey The client key making retries of the request safe, if any
      * @param accountRequestDTO The account data
-     * @return The created account
+     * @param asyncResponse The suspended response, resumed with the created account, once its batch is
+     *                      written in write-batching mode
+     */
+    @POST
+    public void createAccount(@HeaderParam(IdempotentRequestHandler.IDEMPOTENCY_KEY_HEADER) String idempotencyKey,
+                              @Valid AccountRequestDTO accountRequestDTO, @Suspended AsyncResponse asyncResponse) {
+        // A keyed request records its response in its own transaction, so it is never batched
+        if (accountWriteBatcher.isEnabled() && idempotencyKey == null) {
+            submitBatchedWrite(() -> accountWriteBatcher.create(accountRequestDTO), Status.CREATED, asyncResponse);
+            return;
+        }
+        requestDispatcher.dispatch(asyncResponse, () -> idempotentRequestHandler.handle(idempotencyKey,
+                "POST /api/accounts", accountRequestDTO, () -> {
+                    AccountResponseDTO createdAccount = accountManagementUseCase.createAccount(accountRequestDTO);
+                    return Response.status(Status.CREATED)
+                            .entity(createdAccount)
+                            .tag(AccountEntityTags.of(createdAccount))
+                            .build();
+                }));
+    }
+
+    /**
+     * Creates several accounts in one transaction.
+     *
+     * @param idempotencyKey The client key making retries of the request safe, if any
+     * @param accountRequestDTOs The accounts data
+     * @param asyncResponse The suspended response, resumed with the outcome of each item
      */
     @POST
-    public Response createAccount(@Valid AccountRequestDTO accountRequestDTO) {
-        AccountResponseDTO createdAccount = accountManagementUseCase.createAccount(accountRequestDTO);
-        return Response.status(Status.CREATED).entity(createdAccount).build();
+    @Path("/batch")
+    public void createAccounts(@HeaderParam(IdempotentRequestHandler.IDEMPOTENCY_KEY_HEADER) String idempotencyKey,
+                               List<AccountRequestDTO> accountRequestDTOs, @Suspended AsyncResponse asyncResponse) {
+        requestDispatcher.dispatch(asyncResponse, () -> idempotentRequestHandler.handle(idempotencyKey,
+                "POST /api/accounts/batch", accountRequestDTOs, () -> {
+                    BatchResultDTO result = accountManagementUseCase.createAccounts(accountRequestDTOs);
+                    return Response.ok(result).build();
+                }));
     }
 
     /**
-     * Updates an existing account.
+     * Updates several existing accounts in one transaction.
+     *
+     * @param idempotencyKey The client key making retries of the request safe, if any
+     * @param accountBatchUpdateDTOs The updated accounts data, each with its account ID
+     * @param asyncResponse The suspended response, resumed with the outcome of each item
+     */
+    @PUT
+    @Path("/batch")
+    public void updateAccounts(@HeaderParam(IdempotentRequestHandler.IDEMPOTENCY_KEY_HEADER) String idempotencyKey,
+                               List<AccountBatchUpdateDTO> accountBatchUpdateDTOs,
+                               @Suspended AsyncResponse asyncResponse) {
+        if (accountBatchUpdateDTOs != null) {
+            for (AccountBatchUpdateDTO accountBatchUpdateDTO : accountBatchUpdateDTOs) {
+                if (accountBatchUpdateDTO != null) {
+                    accountStatusWriteBehind.supersede(accountBatchUpdateDTO.getId());
+                }
+            }
+        }
+        requestDispatcher.dispatch(asyncResponse, () -> idempotentRequestHandler.handle(idempotencyKey,
+                "PUT /api/accounts/batch", accountBatchUpdateDTOs, () -> {
+                    BatchResultDTO result = accountManagementUseCase.updateAccounts(accountBatchUpdateDTOs);
+                    return Response.ok(result).build();
+                }));
+    }
+
+    /**
+     * Deletes several accounts in one transaction.
+     *
+     * @param idempotencyKey The client key making retries of the request safe, if any
+     * @param ids The account IDs
+     * @param asyncResponse The suspended response, resumed with the outcome of each item
+     */
+    @DELETE
+    @Path("/batch")
+    public void deleteAccounts(@HeaderParam(IdempotentRequestHandler.IDEMPOTENCY_KEY_HEADER) String idempotencyKey,
+                               List<Long> ids, @Suspended AsyncResponse asyncResponse) {
+        if (ids != null) {
+            ids.forEach(accountStatusWriteBehind::supersede);
+        }
+        requestDispatcher.dispatch(asyncResponse, () -> idempotentRequestHandler.handle(idempotencyKey,
+                "DELETE /api/accounts/batch", ids, () -> {
+                    BatchResultDTO result = accountManagementUseCase.deleteAccounts(ids);
+                    return Response.ok(result).build();
+                }));
+    }
+
+    /**
+     * Updates an existing account. With {@code If-Match}, the update is rejected with 412
+     * unless the account is still at the version of the given ETag.
      *
      * @param id The account ID
+     * @param ifMatch The ETag the account must still have, or {@code *}
+     * @param idempotencyKey The client key making retries of the request safe, if any
      * @param accountRequestDTO The updated account data
-     * @return The updated account
+     * @param asyncResponse The suspended response, resumed with the updated account, once its batch is
+     *                      written in write-batching mode
      */
     @PUT
     @Path("/{id}")
-    public Response updateAccount(@PathParam("id") Long id, @Valid AccountRequestDTO accountRequestDTO) {
-        AccountResponseDTO updatedAccount = accountManagementUseCase.updateAccount(id, accountRequestDTO);
-        return Response.ok(updatedAccount).build();
+    public void updateAccount(@PathParam("id") Long id, @HeaderParam(HttpHeaders.IF_MATCH) String ifMatch,
+                              @HeaderParam(IdempotentRequestHandler.IDEMPOTENCY_KEY_HEADER) String idempotencyKey,
+                              @Valid AccountRequestDTO accountRequestDTO, @Suspended AsyncResponse asyncResponse) {
+        // A status change still queued for the account must not overwrite this write
+        accountStatusWriteBehind.supersede(id);
+        if (accountWriteBatcher.isEnabled() && idempotencyKey == null) {
+            submitBatchedWrite(() -> accountWriteBatcher.update(id, accountRequestDTO,
+                    AccountEntityTags.expectedVersion(id, ifMatch)), Status.OK, asyncResponse);
+            return;
+        }
+        requestDispatcher.dispatch(asyncResponse, () -> idempotentRequestHandler.handle(idempotencyKey,
+                "PUT /api/accounts/" + id, Arrays.asList(ifMatch, accountRequestDTO), () -> {
+                    Long expectedVersion = AccountEntityTags.expectedVersion(id, ifMatch);
+                    AccountResponseDTO updatedAccount = accountManagementUseCase.updateAccount(id, accountRequestDTO,
+                            expectedVersion);
+                    return Response.ok(updatedAccount).tag(AccountEntityTags.of(updatedAccount)).build();
+                }));
     }
 
     /**
-     * Retrieves an account by its ID.
+     * Retrieves an account by its ID. When {@code If-None-Match} holds the current ETag, a 304
+     * is returned without a body; a cached account answers it without reaching the database.
      *
      * @param id The account ID
-     * @return The account
+     * @param ifNoneMatch The ETags the client already has
+     * @param asyncResponse The suspended response, resumed with the account, or not modified
      */
     @GET
     @Path("/{id}")
-    public Response getAccountById(@PathParam("id") Long id) {
-        AccountResponseDTO account = accountManagementUseCase.getAccountById(id);
-        return Response.ok(account).build();
+    public void getAccountById(@PathParam("id") Long id, @HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch,
+                               @Suspended AsyncResponse asyncResponse) {
+        requestDispatcher.dispatch(asyncResponse, () -> {
+            AccountResponseDTO account = accountManagementUseCase.getAccountById(id);
+            EntityTag tag = AccountEntityTags.of(account);
+            if (AccountEntityTags.matchesAny(ifNoneMatch, tag)) {
+                return Response.notModified(tag).build();
+            }
+            return Response.ok(account).tag(tag).build();
+        });
+    }
+
+    /**
+     * Retrieves accounts. When {@code number}, {@code status} or {@code name} is given, the
+     * matching accounts are searched with indexed queries; otherwise a keyset-paginated page is
+     * returned, the first one with the default size when neither {@code after} nor {@code limit}
+     * is given. The whole table is only available through {@code /stream}.
+     *
+     * @param number The account number to look up
+     * @param status The status the accounts must have
+     * @param name The prefix the account names must start with
+     * @param after The ID after which the page starts
+     * @param limit The maximum number of accounts in the page
+     * @param asyncResponse The suspended response, resumed with a page of accounts
+     */
+    @GET
+    public void getAllAccounts(@QueryParam("number") String number, @QueryParam("status") String status,
+                               @QueryParam("name") String name, @QueryParam("after") Long after,
+                               @QueryParam("limit") Integer limit, @Suspended AsyncResponse asyncResponse) {
+        requestDispatcher.dispatch(asyncResponse, () -> {
+            if (number != null || status != null || name != null) {
+                AccountPageDTO page = accountManagementUseCase.searchAccounts(number, status, name, after, limit);
+                return Response.ok(page).build();
+            }
+
+            // Never materializes the whole table; full dumps go through /stream
+            AccountPageDTO page = accountManagementUseCase.getAccountsPage(after, limit);
+            return Response.ok(page).build();
+        });
+    }
+
+    /**
+     * Streams all accounts as a chunked JSON array, writing each element as it is read
+     * from the database so memory stays flat regardless of the table size.
+     *
+     * @param asyncResponse The suspended response, resumed with a streamed JSON array of all accounts
+     */
+    @GET
+    @Path("/stream")
+    @Produces(MediaType.APPLICATION_JSON)
+    public void streamAllAccounts(@Suspended AsyncResponse asyncResponse) {
+        requestDispatcher.dispatch(asyncResponse, () -> {
+            StreamingOutput body = output -> {
+                try (JsonGenerator generator = objectMapper.getFactory().createGenerator(output)) {
+                    generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                    generator.writeStartArray();
+                    int[] written = {0};
+                    accountManagementUseCase.streamAllAccounts(account -> {
+                        try {
+                            AccountJsonCodec.writeAccount(generator, account);
+                            if (++written[0] % STREAM_FLUSH_INTERVAL == 0) {
+                                generator.flush();
+                            }
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+                    generator.writeEndArray();
+                }
+            };
+            return Response.ok(body).build();
+        });
     }
 
     /**
-     * Retrieves all accounts.
+     * Streams all accounts as length-delimited CBOR frames, each a 4-byte big-endian length
+     * followed by one CBOR-encoded account, writing each frame as it is read from the database.
      *
-     * @return A list of all accounts
+     * @param asyncResponse The suspended response, resumed with the framed stream of all accounts
      */
     @GET
-    public Response getAllAccounts() {
-        List<AccountResponseDTO> accounts = accountManagementUseCase.getAllAccounts();
-        return Response.ok(accounts).build();
+    @Path("/stream")
+    @Produces(AccountCborProvider.APPLICATION_CBOR_QS)
+    public void streamAllAccountsFrames(@Suspended AsyncResponse asyncResponse) {
+        requestDispatcher.dispatch(asyncResponse, () -> {
+            StreamingOutput body = output -> {
+                try (AccountFrameWriter frames = new AccountFrameWriter(cborFactory, output)) {
+                    int[] written = {0};
+                    accountManagementUseCase.streamAllAccounts(account -> {
+                        try {
+                            frames.write(account);
+                            if (++written[0] % STREAM_FLUSH_INTERVAL == 0) {
+                                frames.flush();
+                            }
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+                }
+            };
+            return Response.ok(body).build();
+        });
     }
 
     /**
      * Deletes an account by its ID.
      *
      * @param id The account ID
-     * @return No content response
+     * @param asyncResponse The suspended response, resumed with a no content response
      */
     @DELETE
     @Path("/{id}")
-    public Response deleteAccount(@PathParam("id") Long id) {
-        accountManagementUseCase.deleteAccount(id);
-        return Response.noContent().build();
+    public void deleteAccount(@PathParam("id") Long id, @Suspended AsyncResponse asyncResponse) {
+        accountStatusWriteBehind.supersede(id);
+        requestDispatcher.dispatch(asyncResponse, () -> {
+            accountManagementUseCase.deleteAccount(id);
+            return Response.noContent().build();
+        });
     }
 
     /**
      * Activates an account by its ID.
      *
      * @param id The account ID
-     * @return The activated account
+     * @param asyncResponse The suspended response, resumed with the activated account, or with the ticket
+     *                      in write-behind mode
      */
     @PUT
     @Path("/{id}/activate")
-    public Response activateAccount(@PathParam("id") Long id) {
-        AccountResponseDTO activatedAccount = accountManagementUseCase.activateAccount(id);
-        return Response.ok(activatedAccount).build();
+    public void activateAccount(@PathParam("id") Long id, @Suspended AsyncResponse asyncResponse) {
+        if (accountStatusWriteBehind.isEnabled()) {
+            submitStatusChange(id, AccountStatus.ACTIVE, asyncResponse);
+            return;
+        }
+        requestDispatcher.dispatch(asyncResponse, () -> {
+            AccountResponseDTO activatedAccount = accountManagementUseCase.activateAccount(id);
+            return Response.ok(activatedAccount).tag(AccountEntityTags.of(activatedAccount)).build();
+        });
     }
 
     /**
      * Deactivates an account by its ID.
      *
      * @param id The account ID
-     * @return The deactivated account
+     * @param asyncResponse The suspended response, resumed with the deactivated account, or with the ticket
+     *                      in write-behind mode
      */
     @PUT
     @Path("/{id}/deactivate")
-    public Response deactivateAccount(@PathParam("id") Long id) {
-        AccountResponseDTO deactivatedAccount = accountManagementUseCase.deactivateAccount(id);
-        return Response.ok(deactivatedAccount).build();
+    public void deactivateAccount(@PathParam("id") Long id, @Suspended AsyncResponse asyncResponse) {
+        if (accountStatusWriteBehind.isEnabled()) {
+            submitStatusChange(id, AccountStatus.INACTIVE, asyncResponse);
+            return;
+        }
+        requestDispatcher.dispatch(asyncResponse, () -> {
+            AccountResponseDTO deactivatedAccount = accountManagementUseCase.deactivateAccount(id);
+            return Response.ok(deactivatedAccount).tag(AccountEntityTags.of(deactivatedAccount)).build();
+        });
+    }
+
+    /**
+     * Queues a status change and resumes the response with 202 and its ticket, pointing to the
+     * ticket in {@code Location}. Nothing touches the database on the request path.
+     *
+     * @param id The account ID
+     * @param status The new status
+     * @param asyncResponse The suspended response
+     */
+    private void submitStatusChange(Long id, AccountStatus status, AsyncResponse asyncResponse) {
+        try {
+            accountStatusWriteBehind.submit(id, status).whenComplete((ticket, failure) -> {
+                if (failure != null) {
+                    asyncResponse.resume(failure instanceof CompletionException ? failure.getCause() : failure);
+                    return;
+                }
+                asyncResponse.resume(Response.accepted(ticket)
+                        .location(URI.create(AccountStatusChangeController.PATH + "/" + ticket.getToken()))
+                        .build());
+            });
+        } catch (RuntimeException e) {
+            asyncResponse.resume(e);
+        }
+    }
+
+    /**
+     * Queues a single-account write and resumes the response with the account and its ETag once
+     * the batch holding it is written. No thread waits for the batch in the meantime.
+     *
+     * @param write Queues the write and returns its outcome
+     * @param status The status of a successful response
+     * @param asyncResponse The suspended response
+     */
+    private void submitBatchedWrite(Supplier<CompletionStage<AccountResponseDTO>> write, Status status,
+                                    AsyncResponse asyncResponse) {
+        try {
+            write.get().whenComplete((account, failure) -> {
+                if (failure != null) {
+                    asyncResponse.resume(failure instanceof CompletionException ? failure.getCause() : failure);
+                    return;
+                }
+                asyncResponse.resume(Response.status(status)
+                        .entity(account)
+                        .tag(AccountEntityTags.of(account))
+                        .build());
+            });
+        } catch (RuntimeException e) {
+            asyncResponse.resume(e);
+        }
     }
-}
\ No newline at end of file
+}
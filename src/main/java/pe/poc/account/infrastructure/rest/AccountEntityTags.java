@@ -0,0 +1,84 @@
+package pe.poc.account.infrastructure.rest;
+
+import jakarta.ws.rs.core.EntityTag;
+
+import pe.poc.account.application.dto.AccountResponseDTO;
+import pe.poc.account.domain.exception.AccountVersionMismatchException;
+import pe.poc.account.domain.exception.InvalidAccountDataException;
+
+/**
+ * Conversions between account versions and the entity tags of the conditional request headers.
+ * The tag of an account is its version in quotes, e.g. {@code "3"}. Headers are parsed here
+ * rather than through the JAX-RS {@code Request}, which is bound to the request thread and
+ * not available once a handler has been dispatched to a virtual thread.
+ */
+final class AccountEntityTags {
+
+    private static final String ANY = "*";
+    private static final String WEAK_PREFIX = "W/";
+
+    private AccountEntityTags() {
+    }
+
+    /**
+     * Returns the entity tag of an account.
+     *
+     * @param account The account
+     * @return The entity tag, or null when the account has no version
+     */
+    static EntityTag of(AccountResponseDTO account) {
+        return account.getVersion() != null ? new EntityTag(account.getVersion().toString()) : null;
+    }
+
+    /**
+     * Checks an {@code If-None-Match} header against the tag of the current account,
+     * using the weak comparison the header calls for.
+     *
+     * @param ifNoneMatch The header value, possibly null
+     * @param tag The entity tag of the current account, possibly null
+     * @return true when the client already has the current account
+     */
+    static boolean matchesAny(String ifNoneMatch, EntityTag tag) {
+        if (ifNoneMatch == null || tag == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith(WEAK_PREFIX)) {
+                value = value.substring(WEAK_PREFIX.length());
+            }
+            if (value.equals(ANY) || value.equals("\"" + tag.getValue() + "\"")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Reads the version an {@code If-Match} header requires. A weak tag or a tag that is not
+     * an account version can never pass the strong comparison If-Match calls for.
+     *
+     * @param id The account ID
+     * @param ifMatch The header value, possibly null
+     * @return The required version, or null when any version is accepted
+     * @throws InvalidAccountDataException if the header lists several tags
+     * @throws AccountVersionMismatchException if the tag can never match an account version
+     */
+    static Long expectedVersion(Long id, String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals(ANY)) {
+            return null;
+        }
+        String value = ifMatch.trim();
+        if (value.contains(",")) {
+            throw new InvalidAccountDataException("If-Match", "Only a single ETag is supported");
+        }
+        if (value.length() > 2 && value.startsWith("\"") && value.endsWith("\"")) {
+            try {
+                return Long.valueOf(value.substring(1, value.length() - 1));
+            } catch (NumberFormatException e) {
+                // Not an account version, it cannot match
+            }
+        }
+        throw new AccountVersionMismatchException("Account with ID " + id + " does not match If-Match " + value);
+    }
+}
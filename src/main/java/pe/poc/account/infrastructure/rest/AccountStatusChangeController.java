@@ -0,0 +1,52 @@
+package pe.poc.account.infrastructure.rest;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.Response.Status;
+
+import pe.poc.account.infrastructure.writebehind.AccountStatusWriteBehind;
+import pe.poc.common.exception.GlobalExceptionHandler.ErrorResponse;
+
+/**
+ * REST controller tracking the status changes deferred by the write-behind mode.
+ * Clients follow the {@code Location} of a 202 activation or deactivation here to learn
+ * whether the change was applied.
+ */
+@Path(AccountStatusChangeController.PATH)
+@Produces(MediaType.APPLICATION_JSON)
+public class AccountStatusChangeController {
+
+    /**
+     * Base path of the status change tickets.
+     */
+    static final String PATH = "/api/accounts/status-changes";
+
+    private final AccountStatusWriteBehind accountStatusWriteBehind;
+
+    @Inject
+    public AccountStatusChangeController(AccountStatusWriteBehind accountStatusWriteBehind) {
+        this.accountStatusWriteBehind = accountStatusWriteBehind;
+    }
+
+    /**
+     * Retrieves the ticket of a deferred status change.
+     *
+     * @param token The token returned when the change was accepted
+     * @return The ticket, or not found if the token is unknown or expired
+     */
+    @GET
+    @Path("/{token}")
+    public Response getTicket(@PathParam("token") String token) {
+        return accountStatusWriteBehind.getTicket(token)
+                .map(ticket -> Response.ok(ticket).build())
+                .orElseGet(() -> Response.status(Status.NOT_FOUND)
+                        .entity(new ErrorResponse(Status.NOT_FOUND.getStatusCode(),
+                                "Status change not found with token: " + token))
+                        .build());
+    }
+}
@@ -0,0 +1,154 @@
+package pe.poc.account.infrastructure.rest;
+
+import jakarta.inject.Inject;
+import jakarta.validation.Valid;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.DELETE;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.PUT;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.Response.Status;
+
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.smallrye.mutiny.Uni;
+import pe.poc.account.application.dto.AccountRequestDTO;
+import pe.poc.account.application.port.input.IReactiveAccountManagementUseCase;
+
+/**
+ * Non-blocking REST controller for account management.
+ * It mirrors {@link AccountController} under {@code /api/reactive/accounts} so both
+ * stacks can be load tested side by side in the same build. Only built with the
+ * {@code reactive} Maven profile.
+ */
+@Path("/api/reactive/accounts")
+@Produces(MediaType.APPLICATION_JSON)
+@Consumes(MediaType.APPLICATION_JSON)
+@IfBuildProperty(name = "account.reactive.enabled", stringValue = "true")
+public class ReactiveAccountController {
+
+    private final IReactiveAccountManagementUseCase accountManagementUseCase;
+
+    @Inject
+    public ReactiveAccountController(IReactiveAccountManagementUseCase accountManagementUseCase) {
+        this.accountManagementUseCase = accountManagementUseCase;
+    }
+
+    /**
+     * Creates a new account.
+     *
+     * @param accountRequestDTO The account data
+     * @return The created account
+     */
+    @POST
+    public Uni<Response> createAccount(@Valid AccountRequestDTO accountRequestDTO) {
+        return accountManagementUseCase.createAccount(accountRequestDTO)
+                .map(createdAccount -> Response.status(Status.CREATED).entity(createdAccount)
+                        .tag(AccountEntityTags.of(createdAccount))
+                        .build());
+    }
+
+    /**
+     * Updates an existing account, only if it is still at the version given in {@code If-Match}.
+     *
+     * @param id The account ID
+     * @param ifMatch The entity tag the account must still have, if any
+     * @param accountRequestDTO The updated account data
+     * @return The updated account with its new ETag, or 412 if the account is at another version
+     */
+    @PUT
+    @Path("/{id}")
+    public Uni<Response> updateAccount(@PathParam("id") Long id, @HeaderParam(HttpHeaders.IF_MATCH) String ifMatch,
+                                       @Valid AccountRequestDTO accountRequestDTO) {
+        return Uni.createFrom().item(() -> AccountEntityTags.expectedVersion(id, ifMatch))
+                .chain(expectedVersion -> accountManagementUseCase.updateAccount(id, accountRequestDTO,
+                        expectedVersion))
+                .map(updatedAccount -> Response.ok(updatedAccount).tag(AccountEntityTags.of(updatedAccount)).build());
+    }
+
+    /**
+     * Retrieves an account by its ID, or 304 when the client already has its current version.
+     *
+     * @param id The account ID
+     * @param ifNoneMatch The entity tags the client already has, if any
+     * @return The account with its ETag
+     */
+    @GET
+    @Path("/{id}")
+    public Uni<Response> getAccountById(@PathParam("id") Long id,
+                                        @HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch) {
+        return accountManagementUseCase.getAccountById(id)
+                .map(account -> {
+                    EntityTag tag = AccountEntityTags.of(account);
+                    if (AccountEntityTags.matchesAny(ifNoneMatch, tag)) {
+                        return Response.notModified(tag).build();
+                    }
+                    return Response.ok(account).tag(tag).build();
+                });
+    }
+
+    /**
+     * Retrieves a keyset-paginated page of accounts, the first one with the default size when
+     * neither {@code after} nor {@code limit} is given.
+     *
+     * @param after The ID after which the page starts
+     * @param limit The maximum number of accounts in the page
+     * @return A page of accounts
+     */
+    @GET
+    public Uni<Response> getAllAccounts(@QueryParam("after") Long after, @QueryParam("limit") Integer limit) {
+        return accountManagementUseCase.getAccountsPage(after, limit)
+                .map(page -> Response.ok(page).build());
+    }
+
+    /**
+     * Deletes an account by its ID.
+     *
+     * @param id The account ID
+     * @return No content response
+     */
+    @DELETE
+    @Path("/{id}")
+    public Uni<Response> deleteAccount(@PathParam("id") Long id) {
+        return accountManagementUseCase.deleteAccount(id)
+                .map(ignored -> Response.noContent().build());
+    }
+
+    /**
+     * Activates an account by its ID.
+     *
+     * @param id The account ID
+     * @return The activated account
+     */
+    @PUT
+    @Path("/{id}/activate")
+    public Uni<Response> activateAccount(@PathParam("id") Long id) {
+        return accountManagementUseCase.activateAccount(id)
+                .map(activatedAccount -> Response.ok(activatedAccount)
+                        .tag(AccountEntityTags.of(activatedAccount))
+                        .build());
+    }
+
+    /**
+     * Deactivates an account by its ID.
+     *
+     * @param id The account ID
+     * @return The deactivated account
+     */
+    @PUT
+    @Path("/{id}/deactivate")
+    public Uni<Response> deactivateAccount(@PathParam("id") Long id) {
+        return accountManagementUseCase.deactivateAccount(id)
+                .map(deactivatedAccount -> Response.ok(deactivatedAccount)
+                        .tag(AccountEntityTags.of(deactivatedAccount))
+                        .build());
+    }
+}
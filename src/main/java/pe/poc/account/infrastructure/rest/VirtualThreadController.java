@@ -0,0 +1,50 @@
+package pe.poc.account.infrastructure.rest;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+import pe.poc.account.infrastructure.concurrency.PinnedThreadMonitor;
+import pe.poc.account.infrastructure.concurrency.RequestDispatcher;
+import pe.poc.account.infrastructure.concurrency.VirtualThreadStats;
+
+/**
+ * REST controller exposing the virtual-thread execution mode counters.
+ * This controller is meant for operators checking limiter usage and carrier pinning.
+ */
+@Path("/api/admin/virtual-threads")
+@Produces(MediaType.APPLICATION_JSON)
+public class VirtualThreadController {
+
+    private final RequestDispatcher requestDispatcher;
+    private final PinnedThreadMonitor pinnedThreadMonitor;
+
+    @Inject
+    public VirtualThreadController(RequestDispatcher requestDispatcher, PinnedThreadMonitor pinnedThreadMonitor) {
+        this.requestDispatcher = requestDispatcher;
+        this.pinnedThreadMonitor = pinnedThreadMonitor;
+    }
+
+    /**
+     * Retrieves the limiter and pinning counters.
+     *
+     * @return The virtual-thread statistics
+     */
+    @GET
+    public Response getStats() {
+        VirtualThreadStats stats = VirtualThreadStats.builder()
+                .virtualThreadsEnabled(requestDispatcher.isVirtualThreadsEnabled())
+                .maxConcurrency(requestDispatcher.getMaxConcurrency())
+                .availablePermits(requestDispatcher.getAvailablePermits())
+                .queuedRequests(requestDispatcher.getQueuedRequests())
+                .pinnedEvents(pinnedThreadMonitor.getPinnedEvents())
+                .totalPinnedMillis(pinnedThreadMonitor.getTotalPinnedTime().toMillis())
+                .maxPinnedMillis(pinnedThreadMonitor.getMaxPinnedTime().toMillis())
+                .pinnedBySite(pinnedThreadMonitor.getPinnedBySite())
+                .build();
+        return Response.ok(stats).build();
+    }
+}
@@ -0,0 +1,146 @@
+package pe.poc.account.infrastructure.rest.cbor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.StreamReadFeature;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import com.fasterxml.jackson.core.util.JsonRecyclerPools;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.core.StreamingOutput;
+import jakarta.ws.rs.ext.MessageBodyReader;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+import jakarta.ws.rs.ext.Provider;
+
+import pe.poc.account.application.dto.AccountPageDTO;
+import pe.poc.account.application.dto.AccountRequestDTO;
+import pe.poc.account.application.dto.AccountResponseDTO;
+import pe.poc.account.domain.exception.InvalidAccountDataException;
+import pe.poc.account.infrastructure.rest.json.AccountJsonCodec;
+import pe.poc.common.exception.GlobalExceptionHandler.ErrorResponse;
+
+/**
+ * Reads and writes {@code application/cbor} bodies, the binary counterpart of the JSON API for
+ * service-to-service callers. The account bodies go through {@link AccountJsonCodec} on a CBOR
+ * generator or parser, so they have the same fields as in JSON in a smaller, cheaper to parse
+ * encoding; every other body goes through a copy of the application ObjectMapper bound to CBOR.
+ */
+@Provider
+@Produces(AccountCborProvider.APPLICATION_CBOR)
+@Consumes(AccountCborProvider.APPLICATION_CBOR)
+public class AccountCborProvider implements MessageBodyWriter<Object>, MessageBodyReader<Object> {
+
+    /**
+     * The CBOR media type (RFC 8949).
+     */
+    public static final String APPLICATION_CBOR = "application/cbor";
+
+    /**
+     * The CBOR media type for {@code @Produces}, with a server quality below JSON so that a client
+     * accepting anything, such as {@code Accept: *}{@code /*}, still gets JSON.
+     */
+    public static final String APPLICATION_CBOR_QS = APPLICATION_CBOR + ";qs=0.5";
+
+    /**
+     * The CBOR media type.
+     */
+    public static final MediaType APPLICATION_CBOR_TYPE = new MediaType("application", "cbor");
+
+    /**
+     * Maximum number of idle buffer sets kept for reuse.
+     */
+    private static final int BUFFER_POOL_SIZE = 256;
+
+    /**
+     * Types handed to the built-in providers, as the Jackson JAX-RS providers do.
+     */
+    private static final List<Class<?>> UNTOUCHABLES = List.of(String.class, byte[].class, char[].class,
+            InputStream.class, OutputStream.class, Reader.class, Writer.class, StreamingOutput.class);
+
+    private final CBORFactory cborFactory;
+    private final ObjectMapper cborMapper;
+
+    @Inject
+    public AccountCborProvider(ObjectMapper objectMapper) {
+        this.cborFactory = newFactory();
+        this.cborMapper = objectMapper.copyWith(cborFactory);
+    }
+
+    /**
+     * Creates a CBOR factory that leaves the entity streams open and shares its buffers across threads.
+     *
+     * @return The factory
+     */
+    public static CBORFactory newFactory() {
+        return CBORFactory.builder()
+                .recyclerPool(JsonRecyclerPools.newBoundedPool(BUFFER_POOL_SIZE))
+                .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+                .disable(StreamReadFeature.AUTO_CLOSE_SOURCE)
+                .build();
+    }
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return isMapped(type);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void writeTo(Object entity, Class<?> type, Type genericType, Annotation[] annotations,
+                        MediaType mediaType, MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream)
+            throws IOException {
+        try (JsonGenerator generator = cborFactory.createGenerator(entityStream)) {
+            if (entity instanceof AccountResponseDTO account) {
+                AccountJsonCodec.writeAccount(generator, account);
+            } else if (entity instanceof ErrorResponse error) {
+                AccountJsonCodec.writeError(generator, error);
+            } else if (entity instanceof AccountPageDTO page) {
+                AccountJsonCodec.writePage(generator, page);
+            } else if (AccountJsonCodec.isAccountCollection(genericType)) {
+                AccountJsonCodec.writeAccounts(generator, (Collection<AccountResponseDTO>) entity);
+            } else {
+                cborMapper.writerFor(cborMapper.constructType(genericType)).writeValue(generator, entity);
+            }
+        }
+    }
+
+    @Override
+    public boolean isReadable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return isMapped(type);
+    }
+
+    @Override
+    public Object readFrom(Class<Object> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+                           MultivaluedMap<String, String> httpHeaders, InputStream entityStream) throws IOException {
+        try (JsonParser parser = cborFactory.createParser(entityStream)) {
+            if (type == AccountRequestDTO.class) {
+                return AccountJsonCodec.readAccountRequest(parser);
+            }
+            return parser.nextToken() != null ? cborMapper.readValue(parser, cborMapper.constructType(genericType))
+                    : null;
+        } catch (JsonProcessingException e) {
+            throw new InvalidAccountDataException("Malformed CBOR body: " + e.getOriginalMessage());
+        }
+    }
+
+    private static boolean isMapped(Class<?> type) {
+        return UNTOUCHABLES.stream().noneMatch(untouchable -> untouchable.isAssignableFrom(type));
+    }
+}
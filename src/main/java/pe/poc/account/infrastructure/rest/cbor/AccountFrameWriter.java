@@ -0,0 +1,66 @@
+package pe.poc.account.infrastructure.rest.cbor;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+
+import pe.poc.account.application.dto.AccountResponseDTO;
+import pe.poc.account.infrastructure.rest.json.AccountJsonCodec;
+
+/**
+ * Writes accounts as length-delimited CBOR frames: a 4-byte big-endian length followed by that
+ * many bytes holding one CBOR-encoded account. A reader can split the stream without decoding
+ * it and hand each frame to a decoder as soon as it arrives. Each account is encoded into a
+ * reused buffer, so memory stays flat regardless of how many are written.
+ */
+public final class AccountFrameWriter implements Closeable {
+
+    /**
+     * Initial size of the frame buffer, enough for a typical account.
+     */
+    private static final int FRAME_BUFFER_SIZE = 256;
+
+    private final DataOutputStream output;
+    private final ByteArrayOutputStream frame = new ByteArrayOutputStream(FRAME_BUFFER_SIZE);
+    private final JsonGenerator generator;
+
+    public AccountFrameWriter(CBORFactory cborFactory, OutputStream output) throws IOException {
+        this.output = new DataOutputStream(output);
+        this.generator = cborFactory.createGenerator(frame);
+    }
+
+    /**
+     * Writes one account as a frame.
+     *
+     * @param account The account
+     * @throws IOException if the frame cannot be written
+     */
+    public void write(AccountResponseDTO account) throws IOException {
+        frame.reset();
+        AccountJsonCodec.writeAccount(generator, account);
+        generator.flush();
+        output.writeInt(frame.size());
+        frame.writeTo(output);
+    }
+
+    /**
+     * Flushes the frames written so far to the underlying stream.
+     *
+     * @throws IOException if the stream cannot be flushed
+     */
+    public void flush() throws IOException {
+        output.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        // Returns the generator buffer to the pool; the response stream is closed by its owner
+        generator.close();
+        output.flush();
+    }
+}
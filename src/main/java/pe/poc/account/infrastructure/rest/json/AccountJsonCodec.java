@@ -0,0 +1,163 @@
+package pe.poc.account.infrastructure.rest.json;
+
+import java.io.IOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Collection;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import pe.poc.account.application.dto.AccountPageDTO;
+import pe.poc.account.application.dto.AccountRequestDTO;
+import pe.poc.account.application.dto.AccountResponseDTO;
+import pe.poc.account.domain.exception.InvalidAccountDataException;
+import pe.poc.common.exception.GlobalExceptionHandler.ErrorResponse;
+
+/**
+ * Reads and writes the account bodies token by token on the Jackson streaming API, without
+ * databind: no serializer lookup, no tree and no intermediate copy of the document. The output
+ * is the same JSON the bean serializers produce.
+ */
+public final class AccountJsonCodec {
+
+    private AccountJsonCodec() {
+    }
+
+    /**
+     * Writes an account as a JSON object.
+     *
+     * @param generator The generator to write to
+     * @param account The account, or null
+     * @throws IOException if the generator cannot write
+     */
+    public static void writeAccount(JsonGenerator generator, AccountResponseDTO account) throws IOException {
+        if (account == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject(account);
+        writeNumberField(generator, "id", account.getId());
+        generator.writeStringField("account", account.getAccount());
+        generator.writeStringField("number", account.getNumber());
+        generator.writeStringField("status", account.getStatus() != null ? account.getStatus().name() : null);
+        writeNumberField(generator, "version", account.getVersion());
+        generator.writeEndObject();
+    }
+
+    /**
+     * Returns whether a declared entity type is a collection of accounts. Only the declared type is
+     * looked at, so a list of accounts is only recognized when returned as a generic entity.
+     *
+     * @param genericType The declared type of the entity
+     * @return true for a collection parameterized with AccountResponseDTO
+     */
+    public static boolean isAccountCollection(Type genericType) {
+        return genericType instanceof ParameterizedType parameterized
+                && parameterized.getRawType() instanceof Class<?> rawType
+                && Collection.class.isAssignableFrom(rawType)
+                && parameterized.getActualTypeArguments().length == 1
+                && parameterized.getActualTypeArguments()[0] == AccountResponseDTO.class;
+    }
+
+    /**
+     * Writes accounts as a JSON array, one element at a time.
+     *
+     * @param generator The generator to write to
+     * @param accounts The accounts, or null
+     * @throws IOException if the generator cannot write
+     */
+    public static void writeAccounts(JsonGenerator generator, Collection<AccountResponseDTO> accounts)
+            throws IOException {
+        if (accounts == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartArray(accounts, accounts.size());
+        for (AccountResponseDTO account : accounts) {
+            writeAccount(generator, account);
+        }
+        generator.writeEndArray();
+    }
+
+    /**
+     * Writes a page of accounts as a JSON object.
+     *
+     * @param generator The generator to write to
+     * @param page The page
+     * @throws IOException if the generator cannot write
+     */
+    public static void writePage(JsonGenerator generator, AccountPageDTO page) throws IOException {
+        generator.writeStartObject(page);
+        generator.writeFieldName("items");
+        writeAccounts(generator, page.getItems());
+        writeNumberField(generator, "nextCursor", page.getNextCursor());
+        generator.writeEndObject();
+    }
+
+    /**
+     * Writes the error body of the GlobalExceptionHandler.
+     *
+     * @param generator The generator to write to
+     * @param error The error
+     * @throws IOException if the generator cannot write
+     */
+    public static void writeError(JsonGenerator generator, ErrorResponse error) throws IOException {
+        generator.writeStartObject(error);
+        generator.writeNumberField("status", error.getStatus());
+        generator.writeStringField("message", error.getMessage());
+        generator.writeEndObject();
+    }
+
+    /**
+     * Reads an account request from a JSON object. Unknown fields are skipped and scalar values
+     * are taken as text, as the default ObjectMapper of the application does.
+     *
+     * @param parser The parser, positioned before the object
+     * @return The request, or null for an empty body or a JSON null
+     * @throws IOException if the body is not well-formed JSON
+     * @throws InvalidAccountDataException if the body or one of its fields has the wrong shape
+     */
+    public static AccountRequestDTO readAccountRequest(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == null || token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token != JsonToken.START_OBJECT) {
+            throw new InvalidAccountDataException("The account must be a JSON object");
+        }
+
+        AccountRequestDTO request = new AccountRequestDTO();
+        String field;
+        while ((field = parser.nextFieldName()) != null) {
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "account" -> request.setAccount(readText(parser, value, field));
+                case "number" -> request.setNumber(readText(parser, value, field));
+                case "status" -> request.setStatus(readText(parser, value, field));
+                default -> parser.skipChildren();
+            }
+        }
+        return request;
+    }
+
+    private static String readText(JsonParser parser, JsonToken value, String field) throws IOException {
+        if (value == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (!value.isScalarValue()) {
+            throw new InvalidAccountDataException(field, "Must be a string");
+        }
+        return parser.getText();
+    }
+
+    private static void writeNumberField(JsonGenerator generator, String name, Long value) throws IOException {
+        generator.writeFieldName(name);
+        if (value != null) {
+            generator.writeNumber(value);
+        } else {
+            generator.writeNull();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package pe.poc.account.infrastructure.rest.json;
+
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import pe.poc.account.application.dto.AccountResponseDTO;
+import pe.poc.common.exception.GlobalExceptionHandler.ErrorResponse;
+
+/**
+ * Jackson module with the hand-written serializers of the hottest response bodies.
+ * Jackson otherwise builds a bean serializer for each of them through reflection the first
+ * time it is written, which lands on the first requests after a cold start. The classes of
+ * this package hold no runtime state, so the {@code startup} profile initializes them while
+ * building the native image.
+ */
+public class AccountJsonModule extends SimpleModule {
+
+    public AccountJsonModule() {
+        super("AccountJsonModule");
+        addSerializer(AccountResponseDTO.class, new AccountResponseSerializer());
+        addSerializer(ErrorResponse.class, new ErrorResponseSerializer());
+    }
+}
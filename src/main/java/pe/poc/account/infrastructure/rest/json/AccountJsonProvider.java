@@ -0,0 +1,97 @@
+package pe.poc.account.infrastructure.rest.json;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.Collection;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.StreamReadFeature;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import com.fasterxml.jackson.core.util.JsonRecyclerPools;
+
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.MessageBodyReader;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+import jakarta.ws.rs.ext.Provider;
+
+import pe.poc.account.application.dto.AccountPageDTO;
+import pe.poc.account.application.dto.AccountRequestDTO;
+import pe.poc.account.application.dto.AccountResponseDTO;
+import pe.poc.account.domain.exception.InvalidAccountDataException;
+import pe.poc.common.exception.GlobalExceptionHandler.ErrorResponse;
+
+/**
+ * Streams the hottest JSON bodies directly to and from the HTTP entity streams with
+ * {@link AccountJsonCodec}, taking precedence over the Jackson databind provider for them.
+ * Responses are encoded into a recycled buffer that is flushed to the response stream as it
+ * fills, so a list response is never held as a whole document; requests are parsed token by
+ * token. Buffers come from a bounded pool shared by all threads, which keeps them reusable
+ * on virtual threads, unlike the thread-local default. Lists are only recognized with their
+ * element type, so they must be returned as a {@link jakarta.ws.rs.core.GenericEntity}.
+ */
+@Provider
+@Produces(MediaType.APPLICATION_JSON)
+@Consumes(MediaType.APPLICATION_JSON)
+public class AccountJsonProvider implements MessageBodyWriter<Object>, MessageBodyReader<AccountRequestDTO> {
+
+    /**
+     * Maximum number of idle buffer sets kept for reuse.
+     */
+    private static final int BUFFER_POOL_SIZE = 256;
+
+    private final JsonFactory jsonFactory = JsonFactory.builder()
+            .recyclerPool(JsonRecyclerPools.newBoundedPool(BUFFER_POOL_SIZE))
+            .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+            .disable(StreamReadFeature.AUTO_CLOSE_SOURCE)
+            .build();
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return type == AccountResponseDTO.class || type == ErrorResponse.class || type == AccountPageDTO.class
+                || (Collection.class.isAssignableFrom(type) && AccountJsonCodec.isAccountCollection(genericType));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void writeTo(Object entity, Class<?> type, Type genericType, Annotation[] annotations,
+                        MediaType mediaType, MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream)
+            throws IOException {
+        // Closing the generator flushes what is left and returns its buffer to the pool
+        try (JsonGenerator generator = jsonFactory.createGenerator(entityStream)) {
+            if (entity instanceof AccountResponseDTO account) {
+                AccountJsonCodec.writeAccount(generator, account);
+            } else if (entity instanceof ErrorResponse error) {
+                AccountJsonCodec.writeError(generator, error);
+            } else if (entity instanceof AccountPageDTO page) {
+                AccountJsonCodec.writePage(generator, page);
+            } else {
+                AccountJsonCodec.writeAccounts(generator, (Collection<AccountResponseDTO>) entity);
+            }
+        }
+    }
+
+    @Override
+    public boolean isReadable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return type == AccountRequestDTO.class;
+    }
+
+    @Override
+    public AccountRequestDTO readFrom(Class<AccountRequestDTO> type, Type genericType, Annotation[] annotations,
+                                     MediaType mediaType, MultivaluedMap<String, String> httpHeaders,
+                                     InputStream entityStream) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(entityStream)) {
+            return AccountJsonCodec.readAccountRequest(parser);
+        } catch (JsonProcessingException e) {
+            throw new InvalidAccountDataException("Malformed JSON body: " + e.getOriginalMessage());
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package pe.poc.account.infrastructure.rest.json;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import pe.poc.account.application.dto.AccountResponseDTO;
+
+/**
+ * Writes an AccountResponseDTO field by field, producing the same JSON as the bean serializer
+ * without introspecting the class on first use.
+ * The fields are written by {@link AccountJsonCodec}, shared with the streaming JSON provider.
+ */
+public final class AccountResponseSerializer extends StdSerializer<AccountResponseDTO> {
+
+    public AccountResponseSerializer() {
+        super(AccountResponseDTO.class);
+    }
+
+    @Override
+    public void serialize(AccountResponseDTO value, JsonGenerator generator, SerializerProvider provider)
+            throws IOException {
+        AccountJsonCodec.writeAccount(generator, value);
+    }
+}
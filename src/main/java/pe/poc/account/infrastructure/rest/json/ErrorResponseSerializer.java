@@ -0,0 +1,25 @@
+package pe.poc.account.infrastructure.rest.json;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import pe.poc.common.exception.GlobalExceptionHandler.ErrorResponse;
+
+/**
+ * Writes the error body of the GlobalExceptionHandler without introspecting the class on first use.
+ */
+public final class ErrorResponseSerializer extends StdSerializer<ErrorResponse> {
+
+    public ErrorResponseSerializer() {
+        super(ErrorResponse.class);
+    }
+
+    @Override
+    public void serialize(ErrorResponse value, JsonGenerator generator, SerializerProvider provider)
+            throws IOException {
+        AccountJsonCodec.writeError(generator, value);
+    }
+}
@@ -0,0 +1,321 @@
+package pe.poc.account.infrastructure.writebehind;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import pe.poc.account.application.dto.AccountResponseDTO;
+import pe.poc.account.application.dto.AccountStatusTicketDTO;
+import pe.poc.account.application.dto.AccountStatusTicketDTO.State;
+import pe.poc.account.application.port.input.IAccountManagementUseCase;
+import pe.poc.account.application.usecase.AccountManagementService;
+import pe.poc.account.domain.exception.InvalidAccountDataException;
+import pe.poc.account.domain.model.AccountStatus;
+import pe.poc.common.exception.ConcurrencyLimitExceededException;
+
+/**
+ * Defers account status changes and writes them in batches.
+ * Changes are queued per account, so a later change replaces one still queued (last write wins)
+ * and an account flipped many times within a window is written once. At the end of each window
+ * the queue is written through {@link IAccountManagementUseCase#applyStatusChanges(Map)}, one
+ * transaction with one UPDATE per target status. A synchronous write to an account drops the
+ * change still queued for it, or waits for the one already being written, so a change never
+ * overwrites a newer write. Every change gets a ticket whose state can be looked up by token
+ * until it expires.
+ */
+@ApplicationScoped
+public class AccountStatusWriteBehind {
+
+    private static final Logger LOG = Logger.getLogger(AccountStatusWriteBehind.class);
+
+    /**
+     * When a deferred status change is acknowledged to the client.
+     */
+    public enum Durability {
+        /**
+         * As soon as it is queued. Changes still queued are lost if the process dies without a
+         * graceful shutdown, at most one window of them.
+         */
+        ACCEPTED,
+        /**
+         * Once the batch holding it is committed. Nothing acknowledged is lost, and requests wait
+         * up to one window.
+         */
+        APPLIED
+    }
+
+    private final IAccountManagementUseCase accountManagementUseCase;
+    private final boolean enabled;
+    private final Duration window;
+    private final Durability durability;
+    private final int maxPending;
+    private final Map<Long, PendingStatusChange> pending = new ConcurrentHashMap<>();
+    private final Map<Long, PendingStatusChange> flushing = new ConcurrentHashMap<>();
+    private final Cache<String, AccountStatusTicketDTO> tickets;
+    private ScheduledExecutorService scheduler;
+
+    @Inject
+    public AccountStatusWriteBehind(IAccountManagementUseCase accountManagementUseCase,
+                                    @ConfigProperty(name = "account.status.write-behind.enabled",
+                                                    defaultValue = "false") boolean enabled,
+                                    @ConfigProperty(name = "account.status.write-behind.window", defaultValue = "200ms")
+                                    Duration window,
+                                    @ConfigProperty(name = "account.status.write-behind.durability",
+                                                    defaultValue = "accepted") Durability durability,
+                                    @ConfigProperty(name = "account.status.write-behind.max-pending",
+                                                    defaultValue = "10000") int maxPending,
+                                    @ConfigProperty(name = "account.status.write-behind.ticket-ttl",
+                                                    defaultValue = "10M") Duration ticketTtl) {
+        this.accountManagementUseCase = accountManagementUseCase;
+        this.enabled = enabled;
+        this.window = window;
+        this.durability = durability;
+        this.maxPending = maxPending;
+        this.tickets = Caffeine.newBuilder()
+                .maximumSize(10L * maxPending)
+                .expireAfterWrite(ticketTtl)
+                .build();
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        if (!enabled) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                .name("account-status-write-behind")
+                .daemon(true)
+                .factory());
+        scheduler.scheduleWithFixedDelay(this::flush, window.toMillis(), window.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(window.toMillis() * 2, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // Write what is still queued before the datasource goes away
+        flush();
+    }
+
+    /**
+     * Returns whether status changes are deferred.
+     *
+     * @return true when the write-behind mode is enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Queues a status change, replacing the one still queued for the same account.
+     *
+     * @param id The account ID
+     * @param status The new status
+     * @return The ticket of the change, completed according to the configured durability
+     * @throws InvalidAccountDataException if the account ID is missing
+     * @throws ConcurrencyLimitExceededException if too many accounts have changes queued
+     */
+    public CompletionStage<AccountStatusTicketDTO> submit(Long id, AccountStatus status) {
+        if (id == null) {
+            throw new InvalidAccountDataException("id", "Account ID cannot be null");
+        }
+        AccountStatusTicketDTO ticket = AccountStatusTicketDTO.builder()
+                .token(UUID.randomUUID().toString())
+                .accountId(id)
+                .status(status)
+                .state(State.PENDING)
+                .acceptedAt(Instant.now())
+                .build();
+        PendingStatusChange change = new PendingStatusChange(ticket);
+        tickets.put(ticket.getToken(), ticket);
+
+        // Last write wins: the queued change of the same account is settled as superseded
+        PendingStatusChange[] replaced = new PendingStatusChange[1];
+        boolean queued = pending.compute(id, (key, current) -> {
+            if (current == null && pending.size() >= maxPending) {
+                return null;
+            }
+            replaced[0] = current;
+            return change;
+        }) == change;
+        if (!queued) {
+            tickets.invalidate(ticket.getToken());
+            throw new ConcurrencyLimitExceededException("Too many pending status changes, please retry later");
+        }
+        if (replaced[0] != null) {
+            settle(replaced[0], State.SUPERSEDED, null, Instant.now());
+        }
+
+        return durability == Durability.APPLIED ? change.completion : CompletableFuture.completedFuture(ticket);
+    }
+
+    /**
+     * Drops the status change queued for an account that is about to be written synchronously,
+     * settling its ticket as superseded. A change already being written can no longer be dropped,
+     * so this waits until its batch has committed or failed and the synchronous write lands after it.
+     *
+     * @param id The account ID
+     */
+    public void supersede(Long id) {
+        if (id == null) {
+            return;
+        }
+        PendingStatusChange change = pending.remove(id);
+        if (change != null) {
+            settle(change, State.SUPERSEDED, null, Instant.now());
+        }
+        PendingStatusChange inFlight = flushing.get(id);
+        if (inFlight != null) {
+            inFlight.completion.handle((ticket, failure) -> null).join();
+        }
+    }
+
+    /**
+     * Retrieves the ticket of a status change.
+     *
+     * @param token The token of the change
+     * @return The ticket, empty if unknown or expired
+     */
+    public Optional<AccountStatusTicketDTO> getTicket(String token) {
+        return Optional.ofNullable(tickets.getIfPresent(token));
+    }
+
+    /**
+     * Returns the number of accounts with a status change queued.
+     *
+     * @return The queue length
+     */
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Writes the changes queued so far, in batches of at most {@link AccountManagementService#MAX_BATCH_SIZE}.
+     * Changes queued while flushing wait for the next window.
+     */
+    synchronized void flush() {
+        List<PendingStatusChange> batch = new ArrayList<>();
+        for (Long id : List.copyOf(pending.keySet())) {
+            PendingStatusChange change = take(id);
+            if (change != null) {
+                batch.add(change);
+            }
+            if (batch.size() == AccountManagementService.MAX_BATCH_SIZE) {
+                write(batch);
+                batch = new ArrayList<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            write(batch);
+        }
+    }
+
+    /**
+     * Removes the change queued for an account and marks it as being written. Both happen while
+     * the queue entry is locked, so {@link #supersede(Long)} always finds the change in one of them.
+     *
+     * @param id The account ID
+     * @return The change, or null if none is queued
+     */
+    private PendingStatusChange take(Long id) {
+        PendingStatusChange[] taken = new PendingStatusChange[1];
+        pending.computeIfPresent(id, (key, change) -> {
+            flushing.put(key, change);
+            taken[0] = change;
+            return null;
+        });
+        return taken[0];
+    }
+
+    /**
+     * Writes one batch and settles its tickets. A failed batch is reported in the tickets and
+     * not retried, since a newer change may have been queued for the same accounts meanwhile.
+     *
+     * @param batch The changes, one per account
+     */
+    private void write(List<PendingStatusChange> batch) {
+        Map<Long, AccountStatus> statuses = new LinkedHashMap<>();
+        for (PendingStatusChange change : batch) {
+            statuses.put(change.ticket.getAccountId(), change.ticket.getStatus());
+        }
+
+        Map<Long, AccountResponseDTO> updatedAccounts;
+        try {
+            updatedAccounts = accountManagementUseCase.applyStatusChanges(statuses).stream()
+                    .collect(Collectors.toMap(AccountResponseDTO::getId, Function.identity()));
+        } catch (RuntimeException e) {
+            LOG.warnf(e, "Could not write a batch of %d status changes", batch.size());
+            Instant failedAt = Instant.now();
+            for (PendingStatusChange change : batch) {
+                tickets.put(change.ticket.getToken(), change.ticket.toBuilder()
+                        .state(State.FAILED)
+                        .completedAt(failedAt)
+                        .build());
+                flushing.remove(change.ticket.getAccountId(), change);
+                change.completion.completeExceptionally(e);
+            }
+            return;
+        }
+
+        Instant appliedAt = Instant.now();
+        for (PendingStatusChange change : batch) {
+            AccountResponseDTO account = updatedAccounts.get(change.ticket.getAccountId());
+            settle(change, account != null ? State.APPLIED : State.NOT_FOUND,
+                    account != null ? account.getVersion() : null, appliedAt);
+        }
+    }
+
+    private void settle(PendingStatusChange change, State state, Long version, Instant completedAt) {
+        AccountStatusTicketDTO ticket = change.ticket.toBuilder()
+                .state(state)
+                .version(version)
+                .completedAt(completedAt)
+                .build();
+        tickets.put(ticket.getToken(), ticket);
+        flushing.remove(ticket.getAccountId(), change);
+        change.completion.complete(ticket);
+    }
+
+    /**
+     * A queued status change and the completion its request may be waiting on.
+     */
+    private static final class PendingStatusChange {
+
+        private final AccountStatusTicketDTO ticket;
+        private final CompletableFuture<AccountStatusTicketDTO> completion = new CompletableFuture<>();
+
+        private PendingStatusChange(AccountStatusTicketDTO ticket) {
+            this.ticket = ticket;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package pe.poc.common.exception;
+
+/**
+ * Exception thrown when a request cannot obtain a concurrency permit in time.
+ * It signals overload rather than a business rule violation.
+ */
+public class ConcurrencyLimitExceededException extends RuntimeException {
+
+    public ConcurrencyLimitExceededException(String message) {
+        super(message);
+    }
+}
@@ -1,32 +1,117 @@
 package pe.poc.common.exception;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.quarkus.runtime.annotations.RegisterForReflection;
+import jakarta.inject.Inject;
+import jakarta.persistence.OptimisticLockException;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.Response.Status;
 import jakarta.ws.rs.ext.ExceptionMapper;
 import jakarta.ws.rs.ext.Provider;
 
+import org.hibernate.StaleStateException;
+import org.hibernate.exception.ConstraintViolationException;
+
 import pe.poc.account.domain.exception.AccountNotFoundException;
+import pe.poc.account.domain.exception.AccountVersionMismatchException;
+import pe.poc.account.domain.exception.DuplicateAccountNumberException;
 import pe.poc.account.domain.exception.InvalidAccountDataException;
 
 /**
  * Global exception handler for the application.
- * This class maps exceptions to HTTP responses.
+ * This class maps exceptions to HTTP responses and counts each outcome by status
+ * and exception type.
  */
 @Provider
 public class GlobalExceptionHandler implements ExceptionMapper<Exception> {
 
+    /**
+     * HTTP 422, which has no {@link Status} constant.
+     */
+    private static final int UNPROCESSABLE_CONTENT = 422;
+
+    private final MeterRegistry meterRegistry;
+
+    @Inject
+    public GlobalExceptionHandler(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
     @Override
     public Response toResponse(Exception exception) {
+        Response response = mapToResponse(exception);
+        Counter.builder("account.errors")
+                .tag("status", String.valueOf(response.getStatus()))
+                .tag("exception", exception.getClass().getSimpleName())
+                .register(meterRegistry)
+                .increment();
+        return response;
+    }
+
+    /**
+     * Maps an exception to its HTTP response.
+     *
+     * @param exception The exception
+     * @return The response
+     */
+    private Response mapToResponse(Exception exception) {
         if (exception instanceof AccountNotFoundException) {
             return buildResponse(Status.NOT_FOUND, exception.getMessage());
         } else if (exception instanceof InvalidAccountDataException) {
             return buildResponse(Status.BAD_REQUEST, exception.getMessage());
+        } else if (exception instanceof AccountVersionMismatchException) {
+            return buildResponse(Status.PRECONDITION_FAILED, exception.getMessage());
+        } else if (exception instanceof ConcurrencyLimitExceededException) {
+            return buildResponse(Status.SERVICE_UNAVAILABLE, exception.getMessage());
+        } else if (exception instanceof IdempotencyKeyMismatchException) {
+            return buildResponse(UNPROCESSABLE_CONTENT, exception.getMessage());
+        } else if (exception instanceof IdempotencyKeyInProgressException) {
+            return buildResponse(Status.CONFLICT.getStatusCode(), exception.getMessage());
+        } else if (exception instanceof DuplicateAccountNumberException) {
+            return buildResponse(Status.CONFLICT, exception.getMessage());
+        } else if (isConstraintViolation(exception)) {
+            return buildResponse(Status.CONFLICT, "The data conflicts with an existing account");
+        } else if (isOptimisticLockFailure(exception)) {
+            return buildResponse(Status.CONFLICT, "The account was modified concurrently, please retry");
         } else {
             return buildResponse(Status.INTERNAL_SERVER_ERROR, "An unexpected error occurred");
         }
     }
 
+    /**
+     * Checks whether a database constraint violation caused the exception. Violations of
+     * the unique account number usually surface at flush or commit, wrapped in persistence
+     * and transaction exceptions.
+     *
+     * @param exception The exception
+     * @return true if a constraint violation is in the cause chain
+     */
+    private boolean isConstraintViolation(Throwable exception) {
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether a concurrent update of the same account caused the exception. The version
+     * check fails at flush or commit, as a JPA or Hibernate exception depending on where.
+     *
+     * @param exception The exception
+     * @return true if an optimistic locking failure is in the cause chain
+     */
+    private boolean isOptimisticLockFailure(Throwable exception) {
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof OptimisticLockException || cause instanceof StaleStateException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Builds a response with the given status and message.
      *
@@ -35,8 +120,19 @@ public class GlobalExceptionHandler implements ExceptionMapper<Exception> {
      * @return The response
      */
     private Response buildResponse(Status status, String message) {
-        ErrorResponse errorResponse = new ErrorResponse(status.getStatusCode(), message);
-        return Response.status(status).entity(errorResponse).build();
+        return buildResponse(status.getStatusCode(), message);
+    }
+
+    /**
+     * Builds a response with the given status code and message, for codes without a {@link Status} constant.
+     *
+     * @param statusCode The HTTP status code
+     * @param message The error message
+     * @return The response
+     */
+    private Response buildResponse(int statusCode, String message) {
+        ErrorResponse errorResponse = new ErrorResponse(statusCode, message);
+        return Response.status(statusCode).entity(errorResponse).build();
     }
 
     /**
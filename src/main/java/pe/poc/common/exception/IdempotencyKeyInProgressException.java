@@ -0,0 +1,12 @@
+package pe.poc.common.exception;
+
+/**
+ * Exception thrown when a request with the same idempotency key is still executing
+ * after the wait for its result has timed out.
+ */
+public class IdempotencyKeyInProgressException extends RuntimeException {
+
+    public IdempotencyKeyInProgressException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,12 @@
+package pe.poc.common.exception;
+
+/**
+ * Exception thrown when an idempotency key is sent again with a different request.
+ * The recorded response belongs to the first request, so it cannot be replayed.
+ */
+public class IdempotencyKeyMismatchException extends RuntimeException {
+
+    public IdempotencyKeyMismatchException(String message) {
+        super(message);
+    }
+}
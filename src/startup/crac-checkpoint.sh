@@ -0,0 +1,63 @@
+#!/usr/bin/env bash
+#
+# Builds the CRaC image of the JVM deployment: starts the application from
+# Dockerfile.jvm-crac, sends warm-up traffic over every AccountController endpoint,
+# takes the checkpoint and commits the stopped container as an image whose entrypoint
+# restores it. The JDBC pools and H2 files are closed for the checkpoint and reopened on
+# restore by DataSourceCheckpointResource.
+#
+#   ./mvnw package
+#   src/startup/crac-checkpoint.sh                  # image account-service-startup:jvm-crac
+#   docker run --rm --privileged -p 8080:8080 account-service-startup:jvm-crac
+#
+# CRIU needs extra privileges both to checkpoint and to restore (--privileged, or
+# --cap-add CHECKPOINT_RESTORE --cap-add SYS_PTRACE on recent kernels).
+#
+# Environment:
+#   IMAGE          image name, tagged jvm-crac-base and jvm-crac (account-service-startup)
+#   PORT           host port used during the warm-up (18080)
+#   WARMUP_ROUNDS  rounds of warm-up traffic (200)
+#   TIMEOUT        seconds to wait for the application to answer (60)
+
+set -euo pipefail
+
+IMAGE=${IMAGE:-account-service-startup}
+PORT=${PORT:-18080}
+WARMUP_ROUNDS=${WARMUP_ROUNDS:-200}
+TIMEOUT=${TIMEOUT:-60}
+CONTAINER=account-crac-checkpoint
+
+ROOT=$(cd "$(dirname "$0")/../.." && pwd)
+cd "$ROOT"
+
+docker build -q -f src/main/docker/Dockerfile.jvm-crac -t "$IMAGE:jvm-crac-base" .
+docker rm -f "$CONTAINER" > /dev/null 2>&1 || true
+docker run -d --name "$CONTAINER" --privileged -p "$PORT:8080" "$IMAGE:jvm-crac-base" > /dev/null
+
+deadline=$(($(date +%s) + TIMEOUT))
+until curl -sf -o /dev/null "http://localhost:$PORT/api/accounts?limit=1"; do
+    if [ "$(date +%s)" -gt "$deadline" ]; then
+        echo "The application did not answer within ${TIMEOUT}s" >&2
+        docker logs "$CONTAINER" >&2
+        docker rm -f "$CONTAINER" > /dev/null
+        exit 1
+    fi
+    sleep 0.2
+done
+
+src/startup/warmup.sh "http://localhost:$PORT" "$WARMUP_ROUNDS"
+
+# The JVM writes the checkpoint to /deployments/crac and exits
+docker exec "$CONTAINER" jcmd /deployments/quarkus-run.jar JDK.checkpoint
+docker wait "$CONTAINER" > /dev/null
+if ! docker diff "$CONTAINER" | grep -q '/deployments/crac/'; then
+    echo "The checkpoint did not complete" >&2
+    docker logs "$CONTAINER" >&2
+    docker rm "$CONTAINER" > /dev/null
+    exit 1
+fi
+
+docker commit --change 'ENTRYPOINT ["java", "-XX:CRaCRestoreFrom=/deployments/crac"]' \
+    "$CONTAINER" "$IMAGE:jvm-crac" > /dev/null
+docker rm "$CONTAINER" > /dev/null
+echo "Checkpoint image $IMAGE:jvm-crac"
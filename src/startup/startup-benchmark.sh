@@ -0,0 +1,202 @@
+#!/usr/bin/env bash
+#
+# Startup benchmark: time to first successful request, resident memory and time to peak
+# throughput of the container images of each deployment mode:
+#
+#   jvm           Dockerfile.jvm
+#   jvm-appcds    Dockerfile.jvm-appcds (./mvnw package -Pappcds)
+#   jvm-crac      restored from the checkpoint of src/startup/crac-checkpoint.sh
+#   native        Dockerfile.native (./mvnw package -Pstartup)
+#   native-micro  Dockerfile.native-micro, limited to 128M as in docker-compose
+#
+# Each run starts a fresh container, polls GET /api/accounts?limit=1 until it answers 200
+# and records the elapsed time since `docker run`, then the RSS of the container processes.
+# With wrk installed, it then loads GET /api/accounts?limit=20 in one-second windows and
+# records the peak throughput and the time after the first request at which 90% of it was
+# first reached. Results go to target/startup/startup.csv (one row per run) and
+# target/startup/summary.csv (median and max per mode).
+#
+#   src/startup/startup-benchmark.sh                     # jvm native native-micro
+#   src/startup/startup-benchmark.sh jvm jvm-appcds jvm-crac
+#   RUNS=10 SKIP_BUILD=true src/startup/startup-benchmark.sh jvm native
+#   BASELINE=baseline/summary.csv TOLERANCE=0.2 src/startup/startup-benchmark.sh
+#
+# Environment:
+#   RUNS               runs per mode (5)
+#   SKIP_BUILD         reuse the images from a previous run (false)
+#   PORT               host port mapped to the container (18080)
+#   TIMEOUT            seconds to wait for the first successful request (60)
+#   MICRO_MEMORY_LIMIT memory limit of the native-micro container, as in docker-compose (128m)
+#   THROUGHPUT_SECONDS one-second load windows after the first request, 0 to skip (30)
+#   BASELINE           summary.csv of a previous release; fails if a median regresses
+#   TOLERANCE          allowed regression over the baseline medians (0.2)
+
+set -euo pipefail
+
+RUNS=${RUNS:-5}
+SKIP_BUILD=${SKIP_BUILD:-false}
+PORT=${PORT:-18080}
+TIMEOUT=${TIMEOUT:-60}
+MICRO_MEMORY_LIMIT=${MICRO_MEMORY_LIMIT:-128m}
+THROUGHPUT_SECONDS=${THROUGHPUT_SECONDS:-30}
+BASELINE=${BASELINE:-}
+TOLERANCE=${TOLERANCE:-0.2}
+
+ROOT=$(cd "$(dirname "$0")/../.." && pwd)
+OUT="$ROOT/target/startup"
+IMAGE=account-service-startup
+MODES=("$@")
+if [ ${#MODES[@]} -eq 0 ]; then
+    MODES=(jvm native native-micro)
+fi
+
+cd "$ROOT"
+mkdir -p "$OUT"
+
+if [ "$THROUGHPUT_SECONDS" -gt 0 ] && ! command -v wrk > /dev/null; then
+    echo "wrk not found, skipping the throughput measurement" >&2
+    THROUGHPUT_SECONDS=0
+fi
+
+build_images() {
+    local mode native_built=false
+    for mode in "${MODES[@]}"; do
+        case "$mode" in
+            jvm)
+                ./mvnw -B -q package -DskipTests
+                docker build -q -f src/main/docker/Dockerfile.jvm -t "$IMAGE:jvm" .
+                ;;
+            jvm-appcds)
+                ./mvnw -B -q package -DskipTests -Pappcds
+                docker build -q -f src/main/docker/Dockerfile.jvm-appcds -t "$IMAGE:jvm-appcds" .
+                ;;
+            jvm-crac)
+                ./mvnw -B -q package -DskipTests
+                IMAGE=$IMAGE PORT=$PORT src/startup/crac-checkpoint.sh
+                ;;
+            native | native-micro)
+                # Both native images share the binary of the startup profile
+                if [ "$native_built" = false ]; then
+                    ./mvnw -B -q package -DskipTests -Pstartup
+                    native_built=true
+                fi
+                docker build -q -f "src/main/docker/Dockerfile.$mode" -t "$IMAGE:$mode" .
+                ;;
+            *)
+                echo "Unknown mode: $mode (expected jvm, jvm-appcds, jvm-crac, native or native-micro)" >&2
+                exit 1
+                ;;
+        esac
+    done
+}
+
+now_ms() {
+    date +%s%3N
+}
+
+# Resident set size of all the processes of a container in kB
+rss_kb() {
+    docker top "$1" -o rss | awk 'NR > 1 {sum += $1} END {print sum + 0}'
+}
+
+# Peak requests per second over one-second windows, and milliseconds after the first request
+# until 90% of the peak was first reached
+throughput() {
+    local started=$1 window rps
+    local samples=()
+    for window in $(seq 1 "$THROUGHPUT_SECONDS"); do
+        rps=$(wrk -t2 -c16 -d1s "http://localhost:$PORT/api/accounts?limit=20" | awk '/^Requests\/sec/ {print $2}')
+        samples+=("$(($(now_ms) - started)),${rps:-0}")
+    done
+    printf '%s\n' "${samples[@]}" | awk -F, '
+        { at[NR] = $1; rps[NR] = $2; if ($2 > peak) peak = $2 }
+        END {
+            for (i = 1; i <= NR; i++) if (rps[i] >= 0.9 * peak) { printf "%d,%d\n", peak, at[i]; exit }
+            print "0,0"
+        }'
+}
+
+run_once() {
+    local mode=$1 run=$2 container start first elapsed deadline rss peak="0,0"
+    local options=(-d --rm -p "$PORT:8080")
+    case "$mode" in
+        native-micro) options+=(--memory "$MICRO_MEMORY_LIMIT") ;;
+        jvm-crac) options+=(--privileged) ;;
+    esac
+
+    start=$(now_ms)
+    container=$(docker run "${options[@]}" "$IMAGE:$mode")
+    deadline=$((start + TIMEOUT * 1000))
+    until curl -sf -o /dev/null "http://localhost:$PORT/api/accounts?limit=1"; do
+        if [ "$(now_ms)" -gt "$deadline" ]; then
+            echo "$mode run $run: no successful request within ${TIMEOUT}s" >&2
+            docker logs "$container" >&2 || true
+            docker stop "$container" > /dev/null
+            exit 1
+        fi
+        sleep 0.01
+    done
+    first=$(now_ms)
+    elapsed=$((first - start))
+    rss=$(rss_kb "$container")
+    if [ "$THROUGHPUT_SECONDS" -gt 0 ]; then
+        peak=$(throughput "$first")
+    fi
+    docker stop "$container" > /dev/null
+
+    echo "$mode,$run,$elapsed,$rss,$peak" >> "$OUT/startup.csv"
+    echo "$mode run $run: first request after ${elapsed} ms, RSS ${rss} kB, peak req/s and ms to 90%: $peak"
+}
+
+summarize() {
+    echo "mode,runs,first_request_ms_p50,first_request_ms_max,rss_kb_p50,rss_kb_max,peak_rps_p50,time_to_peak_ms_p50" \
+        > "$OUT/summary.csv"
+    local mode column
+    for mode in "${MODES[@]}"; do
+        local line="$mode"
+        for column in 3 4 5 6; do
+            line="$line,$(awk -F, -v m="$mode" -v c="$column" '$1 == m {print $c}' "$OUT/startup.csv" | sort -n | awk '
+                { v[NR] = $1 }
+                END {
+                    mid = int((NR + 1) / 2)
+                    printf "%d,%d,%d", NR, NR % 2 ? v[mid] : (v[mid] + v[mid + 1]) / 2, v[NR]
+                }')"
+        done
+        # Keep runs once, then p50 and max of the first two columns and p50 of the throughput ones
+        echo "$line" | awk -F, 'BEGIN {OFS = ","} {print $1, $2, $3, $4, $6, $7, $9, $12}' >> "$OUT/summary.csv"
+    done
+    column -s, -t < "$OUT/summary.csv" 2> /dev/null || cat "$OUT/summary.csv"
+}
+
+compare_with_baseline() {
+    [ -n "$BASELINE" ] || return 0
+    awk -F, -v tolerance="$TOLERANCE" '
+        FNR == 1 { next }
+        NR == FNR { time[$1] = $3; rss[$1] = $5; next }
+        ($1 in time) {
+            if ($3 > time[$1] * (1 + tolerance)) {
+                printf "%s: first request p50 %d ms, baseline %d ms\n", $1, $3, time[$1]; failed = 1
+            }
+            if ($5 > rss[$1] * (1 + tolerance)) {
+                printf "%s: RSS p50 %d kB, baseline %d kB\n", $1, $5, rss[$1]; failed = 1
+            }
+        }
+        END { exit failed }' "$BASELINE" "$OUT/summary.csv" || {
+        echo "Startup regressed more than $TOLERANCE over $BASELINE" >&2
+        exit 1
+    }
+}
+
+if [ "$SKIP_BUILD" != true ]; then
+    build_images
+fi
+
+echo "mode,run,first_request_ms,rss_kb,peak_rps,time_to_peak_ms" > "$OUT/startup.csv"
+for mode in "${MODES[@]}"; do
+    for run in $(seq 1 "$RUNS"); do
+        run_once "$mode" "$run"
+    done
+done
+
+summarize
+compare_with_baseline
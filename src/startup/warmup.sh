@@ -0,0 +1,73 @@
+#!/usr/bin/env bash
+#
+# Warm-up traffic over every endpoint of AccountController, used before taking a CRaC
+# checkpoint so the JIT-compiled code and loaded classes of all request paths end up in it.
+# Every account created is deleted again, leaving the database as it was found.
+#
+#   src/startup/warmup.sh [base-url] [rounds]
+#   src/startup/warmup.sh http://localhost:8080 200
+
+set -euo pipefail
+
+BASE_URL=${1:-http://localhost:8080}
+ROUNDS=${2:-200}
+API="$BASE_URL/api/accounts"
+RUN_ID=$(date +%s)
+
+# Sends a request and prints the response body; errors are reported but do not stop the warm-up
+call() {
+    local method=$1 url=$2 body=${3:-} header=${4:-}
+    local options=(-s -X "$method" -H 'Content-Type: application/json')
+    if [ -n "$body" ]; then
+        options+=(-d "$body")
+    fi
+    if [ -n "$header" ]; then
+        options+=(-H "$header")
+    fi
+    curl "${options[@]}" "$url" || echo "warm-up: $method $url failed" >&2
+}
+
+field() {
+    sed -n "s/.*\"$1\":\([0-9]*\).*/\1/p" | head -n 1
+}
+
+for round in $(seq 1 "$ROUNDS"); do
+    number="WU-$RUN_ID-$round"
+    account=$(call POST "$API" "{\"account\":\"Warmup $round\",\"number\":\"$number\",\"status\":\"ACTIVE\"}" \
+        "Idempotency-Key: warmup-$RUN_ID-$round")
+    id=$(echo "$account" | field id)
+    version=$(echo "$account" | field version)
+    if [ -z "$id" ]; then
+        echo "warm-up: could not create an account: $account" >&2
+        exit 1
+    fi
+
+    call GET "$API/$id" > /dev/null
+    call GET "$API/$id" "" "If-None-Match: \"$version\"" > /dev/null
+    call PUT "$API/$id" "{\"account\":\"Warmup $round updated\",\"number\":\"$number\",\"status\":\"ACTIVE\"}" \
+        "If-Match: \"$version\"" > /dev/null
+    call PUT "$API/$id/deactivate" > /dev/null
+    call PUT "$API/$id/activate" > /dev/null
+
+    call GET "$API?limit=20" > /dev/null
+    call GET "$API?after=$id&limit=5" > /dev/null
+    call GET "$API?number=$number" > /dev/null
+    call GET "$API?status=ACTIVE&name=Warmup&limit=20" > /dev/null
+    if [ $((round % 20)) -eq 0 ]; then
+        call GET "$API" > /dev/null
+        call GET "$API/stream" > /dev/null
+    fi
+
+    batch=$(call POST "$API/batch" "[{\"account\":\"Warmup batch\",\"number\":\"$number-a\",\"status\":\"ACTIVE\"},\
+{\"account\":\"Warmup batch\",\"number\":\"$number-b\",\"status\":\"INACTIVE\"}]")
+    ids=$(echo "$batch" | grep -o '"id":[0-9]*' | cut -d: -f2 | paste -sd, -)
+    first=${ids%%,*}
+    second=${ids##*,}
+    call PUT "$API/batch" "[{\"id\":$first,\"account\":\"Warmup batch\",\"number\":\"$number-a\",\"status\":\"SUSPENDED\"},\
+{\"id\":$second,\"account\":\"Warmup batch\",\"number\":\"$number-b\",\"status\":\"ACTIVE\"}]" > /dev/null
+    call DELETE "$API/batch" "[$ids]" > /dev/null
+
+    call DELETE "$API/$id" > /dev/null
+done
+
+echo "warm-up: $ROUNDS rounds against $API"
@@ -2,26 +2,40 @@ package pe.poc.account.application.usecase;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import pe.poc.account.application.dto.AccountBatchUpdateDTO;
+import pe.poc.account.application.dto.AccountChangeEventDTO;
+import pe.poc.account.application.dto.AccountPageDTO;
 import pe.poc.account.application.dto.AccountRequestDTO;
 import pe.poc.account.application.dto.AccountResponseDTO;
+import pe.poc.account.application.dto.BatchResultDTO;
+import pe.poc.account.application.port.output.IAccountChangeOutbox;
+import pe.poc.account.application.port.output.IAccountQueryRepository;
 import pe.poc.account.application.port.output.IAccountRepository;
 import pe.poc.account.domain.exception.AccountNotFoundException;
+import pe.poc.account.domain.exception.AccountVersionMismatchException;
 import pe.poc.account.domain.exception.InvalidAccountDataException;
 import pe.poc.account.domain.model.Account;
+import pe.poc.account.domain.model.AccountChangeType;
+import pe.poc.account.domain.model.AccountStatus;
 import pe.poc.account.domain.model.valueobject.AccountId;
 import pe.poc.account.domain.service.AccountDomainService;
 
@@ -34,6 +48,12 @@ import pe.poc.account.domain.service.AccountDomainService;
     @Mock
     private IAccountRepository accountRepository;
 
+    @Mock
+    private IAccountQueryRepository accountQueryRepository;
+
+    @Mock
+    private IAccountChangeOutbox accountChangeOutbox;
+
     @Mock
     private AccountDomainService accountDomainService;
 
@@ -41,7 +61,8 @@ import pe.poc.account.domain.service.AccountDomainService;
 
     @BeforeEach
      void setUp() {
-        accountManagementService = new AccountManagementService(accountRepository, accountDomainService);
+        accountManagementService = new AccountManagementService(accountRepository, accountQueryRepository,
+                accountChangeOutbox, accountDomainService);
     }
 
     @Test
@@ -53,11 +74,11 @@ import pe.poc.account.domain.service.AccountDomainService;
                 .id(AccountId.of(1L))
                 .account(requestDTO.getAccount())
                 .number(requestDTO.getNumber())
-                .status(requestDTO.getStatus())
+                .status(AccountStatus.ACTIVE)
                 .build();
         
         Mockito.doNothing().when(accountDomainService).validateAccount(ArgumentMatchers.any(Account.class));
-        Mockito.when(accountDomainService.isValidStatus(requestDTO.getStatus())).thenReturn(true);
+        Mockito.when(accountDomainService.parseStatus(requestDTO.getStatus())).thenReturn(AccountStatus.ACTIVE);
         Mockito.when(accountRepository.save(ArgumentMatchers.any(Account.class))).thenReturn(savedAccount);
 
         // Act
@@ -68,10 +89,10 @@ import pe.poc.account.domain.service.AccountDomainService;
         assertEquals(1L, responseDTO.getId());
         assertEquals(requestDTO.getAccount(), responseDTO.getAccount());
         assertEquals(requestDTO.getNumber(), responseDTO.getNumber());
-        assertEquals(requestDTO.getStatus(), responseDTO.getStatus());
+        assertEquals(AccountStatus.ACTIVE, responseDTO.getStatus());
         
         Mockito.verify(accountDomainService, Mockito.times(1)).validateAccount(ArgumentMatchers.any(Account.class));
-        Mockito.verify(accountDomainService, Mockito.times(1)).isValidStatus(requestDTO.getStatus());
+        Mockito.verify(accountDomainService, Mockito.times(1)).parseStatus(requestDTO.getStatus());
         Mockito.verify(accountRepository, Mockito.times(1)).save(ArgumentMatchers.any(Account.class));
     }
 
@@ -80,16 +101,16 @@ import pe.poc.account.domain.service.AccountDomainService;
         // Arrange
         AccountRequestDTO requestDTO = new AccountRequestDTO("Test Account", "123456789", "INVALID_STATUS");
         
-        Mockito.doNothing().when(accountDomainService).validateAccount(ArgumentMatchers.any(Account.class));
-        Mockito.when(accountDomainService.isValidStatus(requestDTO.getStatus())).thenReturn(false);
+        Mockito.when(accountDomainService.parseStatus(requestDTO.getStatus()))
+                .thenThrow(new InvalidAccountDataException("status", "Invalid status value"));
 
         // Act & Assert
         assertThrows(InvalidAccountDataException.class, () -> {
             accountManagementService.createAccount(requestDTO);
         });
         
-        Mockito.verify(accountDomainService, Mockito.times(1)).validateAccount(ArgumentMatchers.any(Account.class));
-        Mockito.verify(accountDomainService, Mockito.times(1)).isValidStatus(requestDTO.getStatus());
+        Mockito.verify(accountDomainService, Mockito.times(1)).parseStatus(requestDTO.getStatus());
+        Mockito.verify(accountDomainService, Mockito.times(0)).validateAccount(ArgumentMatchers.any(Account.class));
         Mockito.verify(accountRepository, Mockito.times(0)).save(ArgumentMatchers.any(Account.class));
     }
 
@@ -97,14 +118,14 @@ import pe.poc.account.domain.service.AccountDomainService;
      void testGetAccountById_ExistingId_ReturnsAccount() {
         // Arrange
         Long accountId = 1L;
-        Account account = Account.builder()
-                .id(AccountId.of(accountId))
+        AccountResponseDTO account = AccountResponseDTO.builder()
+                .id(accountId)
                 .account("Test Account")
                 .number("123456789")
-                .status("ACTIVE")
+                .status(AccountStatus.ACTIVE)
                 .build();
         
-        Mockito.when(accountRepository.findById(AccountId.of(accountId))).thenReturn(Optional.of(account));
+        Mockito.when(accountQueryRepository.findById(AccountId.of(accountId))).thenReturn(Optional.of(account));
 
         // Act
         AccountResponseDTO responseDTO = accountManagementService.getAccountById(accountId);
@@ -116,54 +137,354 @@ import pe.poc.account.domain.service.AccountDomainService;
         assertEquals(account.getNumber(), responseDTO.getNumber());
         assertEquals(account.getStatus(), responseDTO.getStatus());
         
-        Mockito.verify(accountRepository, Mockito.times(1)).findById(AccountId.of(accountId));
+        Mockito.verify(accountQueryRepository, Mockito.times(1)).findById(AccountId.of(accountId));
+        Mockito.verify(accountRepository, Mockito.never()).findById(ArgumentMatchers.any(AccountId.class));
     }
 
     @Test
      void testGetAccountById_NonExistingId_ThrowsException() {
         // Arrange
         Long accountId = 999L;
-        Mockito.when(accountRepository.findById(AccountId.of(accountId))).thenReturn(Optional.empty());
+        Mockito.when(accountQueryRepository.findById(AccountId.of(accountId))).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(AccountNotFoundException.class, () -> {
             accountManagementService.getAccountById(accountId);
         });
         
-        Mockito.verify(accountRepository, Mockito.times(1)).findById(AccountId.of(accountId));
+        Mockito.verify(accountQueryRepository, Mockito.times(1)).findById(AccountId.of(accountId));
+    }
+
+    @Test
+     void testGetAccountsPage_MoreRowsThanLimit_ReturnsNextCursor() {
+        // Arrange
+        List<AccountResponseDTO> accounts = Arrays.asList(
+                AccountResponseDTO.builder().id(3L).account("Account 3").number("3").status(AccountStatus.ACTIVE).build(),
+                AccountResponseDTO.builder().id(4L).account("Account 4").number("4").status(AccountStatus.ACTIVE).build(),
+                AccountResponseDTO.builder().id(5L).account("Account 5").number("5").status(AccountStatus.ACTIVE).build());
+        Mockito.when(accountQueryRepository.findPage(AccountId.of(2L), 3)).thenReturn(accounts);
+
+        // Act
+        AccountPageDTO page = accountManagementService.getAccountsPage(2L, 2);
+
+        // Assert
+        assertEquals(2, page.getItems().size());
+        assertEquals(3L, page.getItems().get(0).getId());
+        assertEquals(4L, page.getNextCursor());
+        Mockito.verifyNoInteractions(accountRepository);
+    }
+
+    @Test
+     void testGetAccountsPage_LastPage_ReturnsNoCursor() {
+        // Arrange
+        List<AccountResponseDTO> accounts = List.of(
+                AccountResponseDTO.builder().id(1L).account("Account 1").number("1").status(AccountStatus.ACTIVE).build());
+        Mockito.when(accountQueryRepository.findPage(null, AccountManagementService.DEFAULT_PAGE_SIZE + 1))
+                .thenReturn(accounts);
+
+        // Act
+        AccountPageDTO page = accountManagementService.getAccountsPage(null, null);
+
+        // Assert
+        assertEquals(1, page.getItems().size());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+     void testGetAccountsPage_LimitTooLarge_ThrowsException() {
+        // Act & Assert
+        assertThrows(InvalidAccountDataException.class, () -> {
+            accountManagementService.getAccountsPage(null, AccountManagementService.MAX_PAGE_SIZE + 1);
+        });
+    }
+
+    @Test
+     void testSearchAccounts_ByNumber_UsesPointLookup() {
+        // Arrange
+        AccountResponseDTO account = AccountResponseDTO.builder()
+                .id(7L)
+                .account("Test Account")
+                .number("123456789")
+                .status(AccountStatus.ACTIVE)
+                .build();
+        Mockito.when(accountQueryRepository.findByNumber("123456789")).thenReturn(Optional.of(account));
+
+        // Act
+        AccountPageDTO page = accountManagementService.searchAccounts("123456789", null, null, null, null);
+
+        // Assert
+        assertEquals(1, page.getItems().size());
+        assertEquals(7L, page.getItems().get(0).getId());
+        assertNull(page.getNextCursor());
+        Mockito.verify(accountQueryRepository, Mockito.never())
+                .searchPage(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.anyInt());
+    }
+
+    @Test
+     void testSearchAccounts_ByStatusAndName_QueriesPageWithExtraRow() {
+        // Arrange
+        List<AccountResponseDTO> accounts = Arrays.asList(
+                AccountResponseDTO.builder().id(3L).account("Acme 3").number("3").status(AccountStatus.SUSPENDED).build(),
+                AccountResponseDTO.builder().id(4L).account("Acme 4").number("4").status(AccountStatus.SUSPENDED).build());
+        Mockito.when(accountDomainService.parseStatus("SUSPENDED")).thenReturn(AccountStatus.SUSPENDED);
+        Mockito.when(accountQueryRepository.searchPage(AccountStatus.SUSPENDED, "Acme", null, 2)).thenReturn(accounts);
+
+        // Act
+        AccountPageDTO page = accountManagementService.searchAccounts(null, "SUSPENDED", "Acme", null, 1);
+
+        // Assert
+        assertEquals(1, page.getItems().size());
+        assertEquals(AccountStatus.SUSPENDED, page.getItems().get(0).getStatus());
+        assertEquals(3L, page.getNextCursor());
+        Mockito.verifyNoInteractions(accountRepository);
     }
 
     @Test
-     void testGetAllAccounts_ReturnsAllAccounts() {
+     void testCreateAccounts_InvalidItem_ReportsEachOutcome() {
         // Arrange
-        Account account1 = Account.builder()
+        AccountRequestDTO validRequest = new AccountRequestDTO("Test Account", "123456789", "ACTIVE");
+        AccountRequestDTO invalidRequest = new AccountRequestDTO("Other Account", "987654321", "INVALID_STATUS");
+        Account savedAccount = Account.builder()
+                .id(AccountId.of(10L))
+                .account(validRequest.getAccount())
+                .number(validRequest.getNumber())
+                .status(AccountStatus.ACTIVE)
+                .build();
+
+        Mockito.doNothing().when(accountDomainService).validateAccount(ArgumentMatchers.any(Account.class));
+        Mockito.when(accountDomainService.parseStatus("ACTIVE")).thenReturn(AccountStatus.ACTIVE);
+        Mockito.when(accountDomainService.parseStatus("INVALID_STATUS"))
+                .thenThrow(new InvalidAccountDataException("status", "Invalid status value"));
+        Mockito.when(accountRepository.saveAll(ArgumentMatchers.anyList())).thenReturn(List.of(savedAccount));
+
+        // Act
+        BatchResultDTO result = accountManagementService.createAccounts(Arrays.asList(validRequest, invalidRequest));
+
+        // Assert
+        assertEquals(1, result.getSucceeded());
+        assertEquals(1, result.getFailed());
+        assertEquals(201, result.getItems().get(0).getStatus());
+        assertEquals(10L, result.getItems().get(0).getId());
+        assertEquals(400, result.getItems().get(1).getStatus());
+        assertNotNull(result.getItems().get(1).getError());
+
+        Mockito.verify(accountRepository, Mockito.times(1)).saveAll(ArgumentMatchers.argThat(accounts -> accounts.size() == 1));
+    }
+
+    @Test
+     void testUpdateAccounts_StaleVersion_ReportsPreconditionFailed() {
+        // Arrange
+        Account existingAccount = Account.builder()
                 .id(AccountId.of(1L))
-                .account("Account 1")
+                .account("Test Account")
                 .number("123456789")
-                .status("ACTIVE")
+                .status(AccountStatus.ACTIVE)
+                .version(4L)
                 .build();
-        
-        Account account2 = Account.builder()
-                .id(AccountId.of(2L))
-                .account("Account 2")
-                .number("987654321")
-                .status("INACTIVE")
+        AccountBatchUpdateDTO staleItem = new AccountBatchUpdateDTO(1L, "Renamed Account", "123456789", "ACTIVE", 3L);
+        Mockito.when(accountRepository.findAllById(ArgumentMatchers.anyCollection()))
+                .thenReturn(List.of(existingAccount));
+        Mockito.when(accountRepository.updateAll(ArgumentMatchers.anyList())).thenReturn(List.of());
+
+        // Act
+        BatchResultDTO result = accountManagementService.updateAccounts(List.of(staleItem));
+
+        // Assert
+        assertEquals(0, result.getSucceeded());
+        assertEquals(412, result.getItems().get(0).getStatus());
+        assertEquals("Test Account", existingAccount.getAccount());
+        Mockito.verify(accountRepository).updateAll(List.of());
+    }
+
+    @Test
+     void testDeleteAccounts_MissingId_ReportsNotFound() {
+        // Arrange
+        Mockito.when(accountRepository.deleteAllById(ArgumentMatchers.anyCollection()))
+                .thenReturn(Set.of(AccountId.of(1L)));
+
+        // Act
+        BatchResultDTO result = accountManagementService.deleteAccounts(Arrays.asList(1L, 2L));
+
+        // Assert
+        assertEquals(1, result.getSucceeded());
+        assertEquals(204, result.getItems().get(0).getStatus());
+        assertEquals(404, result.getItems().get(1).getStatus());
+        assertEquals(2L, result.getItems().get(1).getId());
+    }
+
+    @Test
+     void testCreateAccounts_EmptyBatch_ThrowsException() {
+        // Act & Assert
+        assertThrows(InvalidAccountDataException.class, () -> {
+            accountManagementService.createAccounts(List.of());
+        });
+    }
+
+    @Test
+     void testActivateAccount_ExistingId_UpdatesStatusInPlace() {
+        // Arrange
+        Long accountId = 1L;
+        Account activatedAccount = Account.builder()
+                .id(AccountId.of(accountId))
+                .account("Test Account")
+                .number("123456789")
+                .status(AccountStatus.ACTIVE)
                 .build();
-        
-        List<Account> accounts = Arrays.asList(account1, account2);
-        Mockito.when(accountRepository.findAll()).thenReturn(accounts);
+        Mockito.when(accountRepository.updateStatus(AccountId.of(accountId), AccountStatus.ACTIVE))
+                .thenReturn(Optional.of(activatedAccount));
 
         // Act
-        List<AccountResponseDTO> responseDTOs = accountManagementService.getAllAccounts();
+        AccountResponseDTO responseDTO = accountManagementService.activateAccount(accountId);
 
         // Assert
-        assertNotNull(responseDTOs);
-        assertEquals(2, responseDTOs.size());
-        assertEquals(account1.getId().getValue(), responseDTOs.get(0).getId());
-        assertEquals(account1.getAccount(), responseDTOs.get(0).getAccount());
-        assertEquals(account2.getId().getValue(), responseDTOs.get(1).getId());
-        assertEquals(account2.getAccount(), responseDTOs.get(1).getAccount());
-        
-        Mockito.verify(accountRepository, Mockito.times(1)).findAll();
+        assertEquals(AccountStatus.ACTIVE, responseDTO.getStatus());
+        Mockito.verify(accountRepository, Mockito.never()).findById(ArgumentMatchers.any(AccountId.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+     void testActivateAccount_ExistingId_AppendsActivatedEvent() {
+        // Arrange
+        Long accountId = 1L;
+        Account activatedAccount = Account.builder()
+                .id(AccountId.of(accountId))
+                .account("Test Account")
+                .number("123456789")
+                .status(AccountStatus.ACTIVE)
+                .version(3L)
+                .build();
+        Mockito.when(accountRepository.updateStatus(AccountId.of(accountId), AccountStatus.ACTIVE))
+                .thenReturn(Optional.of(activatedAccount));
+        ArgumentCaptor<List<AccountChangeEventDTO>> events = ArgumentCaptor.forClass(List.class);
+
+        // Act
+        accountManagementService.activateAccount(accountId);
+
+        // Assert
+        Mockito.verify(accountChangeOutbox).append(events.capture());
+        assertEquals(1, events.getValue().size());
+        AccountChangeEventDTO event = events.getValue().get(0);
+        assertEquals(AccountChangeType.ACTIVATED, event.getType());
+        assertEquals(accountId, event.getAccountId());
+        assertEquals(3L, event.getAccount().getVersion());
+        assertNull(event.getOffset());
+    }
+
+    @Test
+     void testApplyStatusChanges_MixedStatuses_UpdatesEachStatusOnce() {
+        // Arrange
+        Account activatedAccount = Account.builder()
+                .id(AccountId.of(1L))
+                .account("Test Account")
+                .number("123456789")
+                .status(AccountStatus.ACTIVE)
+                .version(2L)
+                .build();
+        Mockito.when(accountRepository.updateStatusAll(List.of(AccountId.of(1L), AccountId.of(3L)),
+                        AccountStatus.ACTIVE))
+                .thenReturn(List.of(activatedAccount));
+        Mockito.when(accountRepository.updateStatusAll(List.of(AccountId.of(2L)), AccountStatus.INACTIVE))
+                .thenReturn(List.of());
+        Mockito.when(accountRepository.findAllById(ArgumentMatchers.anyCollection())).thenReturn(List.of());
+        Map<Long, AccountStatus> statuses = new LinkedHashMap<>();
+        statuses.put(1L, AccountStatus.ACTIVE);
+        statuses.put(2L, AccountStatus.INACTIVE);
+        statuses.put(3L, AccountStatus.ACTIVE);
+
+        // Act
+        List<AccountResponseDTO> updatedAccounts = accountManagementService.applyStatusChanges(statuses);
+
+        // Assert
+        assertEquals(1, updatedAccounts.size());
+        assertEquals(2L, updatedAccounts.get(0).getVersion());
+        Mockito.verify(accountRepository, Mockito.never()).updateStatus(ArgumentMatchers.any(), ArgumentMatchers.any());
+        Mockito.verify(accountChangeOutbox).append(ArgumentMatchers.argThat(events -> events.size() == 1
+                && events.get(0).getType() == AccountChangeType.ACTIVATED));
+    }
+
+    @Test
+     void testApplyStatusChanges_AccountAlreadyInStatus_ReturnsItWithoutChangeEvent() {
+        // Arrange
+        Account unchangedAccount = Account.builder()
+                .id(AccountId.of(1L))
+                .account("Test Account")
+                .number("123456789")
+                .status(AccountStatus.ACTIVE)
+                .version(2L)
+                .build();
+        Mockito.when(accountRepository.updateStatusAll(List.of(AccountId.of(1L)), AccountStatus.ACTIVE))
+                .thenReturn(List.of());
+        Mockito.when(accountRepository.findAllById(Set.of(AccountId.of(1L)))).thenReturn(List.of(unchangedAccount));
+
+        // Act
+        List<AccountResponseDTO> updatedAccounts = accountManagementService.applyStatusChanges(
+                Map.of(1L, AccountStatus.ACTIVE));
+
+        // Assert
+        assertEquals(1, updatedAccounts.size());
+        assertEquals(2L, updatedAccounts.get(0).getVersion());
+        Mockito.verify(accountChangeOutbox).append(List.of());
+    }
+
+    @Test
+     void testDeleteAccount_NonExistingId_ThrowsException() {
+        // Arrange
+        Long accountId = 999L;
+        Mockito.when(accountRepository.deleteById(AccountId.of(accountId))).thenReturn(false);
+
+        // Act & Assert
+        assertThrows(AccountNotFoundException.class, () -> {
+            accountManagementService.deleteAccount(accountId);
+        });
+
+        Mockito.verify(accountRepository, Mockito.never()).existsById(ArgumentMatchers.any(AccountId.class));
+    }
+
+    @Test
+     void testUpdateAccount_MatchingVersion_ReturnsNewVersion() {
+        // Arrange
+        Long accountId = 1L;
+        AccountRequestDTO requestDTO = new AccountRequestDTO("Renamed Account", "123456789", "ACTIVE");
+        Account existingAccount = Account.builder()
+                .id(AccountId.of(accountId))
+                .account("Test Account")
+                .number("123456789")
+                .status(AccountStatus.ACTIVE)
+                .version(3L)
+                .build();
+        Mockito.when(accountRepository.findById(AccountId.of(accountId))).thenReturn(Optional.of(existingAccount));
+        Mockito.when(accountDomainService.parseStatus("ACTIVE")).thenReturn(AccountStatus.ACTIVE);
+        Mockito.when(accountRepository.update(existingAccount))
+                .thenReturn(existingAccount.toBuilder().version(4L).build());
+
+        // Act
+        AccountResponseDTO responseDTO = accountManagementService.updateAccount(accountId, requestDTO, 3L);
+
+        // Assert
+        assertEquals("Renamed Account", responseDTO.getAccount());
+        assertEquals(4L, responseDTO.getVersion());
+    }
+
+    @Test
+     void testUpdateAccount_StaleVersion_ThrowsVersionMismatch() {
+        // Arrange
+        Long accountId = 1L;
+        AccountRequestDTO requestDTO = new AccountRequestDTO("Renamed Account", "123456789", "ACTIVE");
+        Account existingAccount = Account.builder()
+                .id(AccountId.of(accountId))
+                .account("Test Account")
+                .number("123456789")
+                .status(AccountStatus.ACTIVE)
+                .version(4L)
+                .build();
+        Mockito.when(accountRepository.findById(AccountId.of(accountId))).thenReturn(Optional.of(existingAccount));
+
+        // Act & Assert
+        assertThrows(AccountVersionMismatchException.class, () -> {
+            accountManagementService.updateAccount(accountId, requestDTO, 3L);
+        });
+
+        assertEquals("Test Account", existingAccount.getAccount());
+        Mockito.verify(accountRepository, Mockito.never()).update(ArgumentMatchers.any(Account.class));
     }
-}
\ No newline at end of file
+}
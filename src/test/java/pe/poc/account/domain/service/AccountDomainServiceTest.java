@@ -1,6 +1,8 @@
 package pe.poc.account.domain.service;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -9,6 +11,7 @@ import org.junit.jupiter.api.Test;
 
 import pe.poc.account.domain.exception.InvalidAccountDataException;
 import pe.poc.account.domain.model.Account;
+import pe.poc.account.domain.model.AccountStatus;
 import pe.poc.account.domain.model.valueobject.AccountId;
 
 /**
@@ -30,7 +33,7 @@ import pe.poc.account.domain.model.valueobject.AccountId;
                 .id(AccountId.of(1L))
                 .account("Test Account")
                 .number("123456789")
-                .status("ACTIVE")
+                .status(AccountStatus.ACTIVE)
                 .build();
 
         // Act & Assert
@@ -52,7 +55,7 @@ import pe.poc.account.domain.model.valueobject.AccountId;
                 .id(AccountId.of(1L))
                 .account("")
                 .number("123456789")
-                .status("ACTIVE")
+                .status(AccountStatus.ACTIVE)
                 .build();
 
         // Act & Assert
@@ -68,7 +71,7 @@ import pe.poc.account.domain.model.valueobject.AccountId;
                 .id(AccountId.of(1L))
                 .account("Test Account")
                 .number("")
-                .status("ACTIVE")
+                .status(AccountStatus.ACTIVE)
                 .build();
 
         // Act & Assert
@@ -78,13 +81,12 @@ import pe.poc.account.domain.model.valueobject.AccountId;
     }
 
     @Test
-     void testValidateAccount_EmptyStatus_ThrowsException() {
+     void testValidateAccount_MissingStatus_ThrowsException() {
         // Arrange
         Account account = Account.builder()
                 .id(AccountId.of(1L))
                 .account("Test Account")
                 .number("123456789")
-                .status("")
                 .build();
 
         // Act & Assert
@@ -108,4 +110,34 @@ import pe.poc.account.domain.model.valueobject.AccountId;
         assertFalse(accountDomainService.isValidStatus(""));
         assertFalse(accountDomainService.isValidStatus(null));
     }
-}
\ No newline at end of file
+
+    @Test
+     void testParseStatus_KnownName_ReturnsStatus() {
+        // Act & Assert
+        assertEquals(AccountStatus.ACTIVE, accountDomainService.parseStatus("ACTIVE"));
+        assertEquals(AccountStatus.SUSPENDED, accountDomainService.parseStatus("SUSPENDED"));
+    }
+
+    @Test
+     void testParseStatus_BlankName_ReturnsNull() {
+        // Act & Assert
+        assertNull(accountDomainService.parseStatus(null));
+        assertNull(accountDomainService.parseStatus(" "));
+    }
+
+    @Test
+     void testParseStatus_UnknownName_ThrowsException() {
+        // Act & Assert
+        assertThrows(InvalidAccountDataException.class, () -> {
+            accountDomainService.parseStatus("active");
+        });
+    }
+
+    @Test
+     void testStatusCode_EveryStatus_RoundTrips() {
+        // Act & Assert
+        for (AccountStatus status : AccountStatus.values()) {
+            assertEquals(status, AccountStatus.fromCode(status.getCode()));
+        }
+    }
+}
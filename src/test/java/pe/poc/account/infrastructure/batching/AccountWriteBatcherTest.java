@@ -0,0 +1,153 @@
+package pe.poc.account.infrastructure.batching;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import pe.poc.account.application.dto.AccountBatchUpdateDTO;
+import pe.poc.account.application.dto.AccountRequestDTO;
+import pe.poc.account.application.dto.AccountResponseDTO;
+import pe.poc.account.application.dto.BatchItemResultDTO;
+import pe.poc.account.application.dto.BatchResultDTO;
+import pe.poc.account.application.port.input.IAccountManagementUseCase;
+import pe.poc.account.domain.exception.AccountVersionMismatchException;
+import pe.poc.account.domain.exception.InvalidAccountDataException;
+import pe.poc.account.domain.model.AccountStatus;
+import pe.poc.common.exception.ConcurrencyLimitExceededException;
+
+/**
+ * Test class for AccountWriteBatcher.
+ */
+@ExtendWith(MockitoExtension.class)
+class AccountWriteBatcherTest {
+
+    @Mock
+    private IAccountManagementUseCase accountManagementUseCase;
+
+    private AccountWriteBatcher batcher(int maxPending) {
+        return new AccountWriteBatcher(accountManagementUseCase, true, Duration.ofMillis(5), 100, maxPending, 1);
+    }
+
+    private AccountRequestDTO request(String number) {
+        return new AccountRequestDTO("Test Account", number, AccountStatus.ACTIVE.name());
+    }
+
+    private AccountResponseDTO account(Long id, String number, Long version) {
+        return new AccountResponseDTO(id, "Test Account", number, AccountStatus.ACTIVE, version);
+    }
+
+    @Test
+    void testFlush_ConcurrentCreates_WritesOneBatchAndCompletesEachCaller() {
+        // Arrange
+        AccountWriteBatcher batcher = batcher(100);
+        Mockito.when(accountManagementUseCase.createAccounts(ArgumentMatchers.anyList()))
+                .thenReturn(new BatchResultDTO(List.of(
+                        new BatchItemResultDTO(0, 1L, 201, null, account(1L, "111111111", 0L)),
+                        new BatchItemResultDTO(1, null, 400, "Invalid account data", null)), 1, 1));
+        CompletableFuture<AccountResponseDTO> created = batcher.create(request("111111111")).toCompletableFuture();
+        CompletableFuture<AccountResponseDTO> rejected = batcher.create(request("bad")).toCompletableFuture();
+
+        // Act
+        batcher.flush();
+
+        // Assert
+        Mockito.verify(accountManagementUseCase).createAccounts(List.of(request("111111111"), request("bad")));
+        assertEquals(1L, created.join().getId());
+        CompletionException failure = assertThrows(CompletionException.class, rejected::join);
+        assertInstanceOf(InvalidAccountDataException.class, failure.getCause());
+        assertEquals(0, batcher.getPendingCount());
+    }
+
+    @Test
+    void testFlush_SameAccountTwice_WritesInSuccessiveRounds() {
+        // Arrange
+        AccountWriteBatcher batcher = batcher(100);
+        Mockito.when(accountManagementUseCase.updateAccounts(ArgumentMatchers.anyList()))
+                .thenReturn(new BatchResultDTO(List.of(
+                        new BatchItemResultDTO(0, 1L, 200, null, account(1L, "111111111", 1L)),
+                        new BatchItemResultDTO(1, 2L, 412, "Account with ID 2 is no longer at version 5", null)),
+                        1, 1))
+                .thenReturn(new BatchResultDTO(List.of(
+                        new BatchItemResultDTO(0, 1L, 200, null, account(1L, "222222222", 2L))), 1, 0));
+        CompletableFuture<AccountResponseDTO> first = batcher.update(1L, request("111111111"), null)
+                .toCompletableFuture();
+        CompletableFuture<AccountResponseDTO> stale = batcher.update(2L, request("333333333"), 5L)
+                .toCompletableFuture();
+        CompletableFuture<AccountResponseDTO> second = batcher.update(1L, request("222222222"), null)
+                .toCompletableFuture();
+
+        // Act
+        batcher.flush();
+
+        // Assert
+        Mockito.verify(accountManagementUseCase).updateAccounts(List.of(
+                new AccountBatchUpdateDTO(1L, "Test Account", "111111111", "ACTIVE", null),
+                new AccountBatchUpdateDTO(2L, "Test Account", "333333333", "ACTIVE", 5L)));
+        Mockito.verify(accountManagementUseCase).updateAccounts(List.of(
+                new AccountBatchUpdateDTO(1L, "Test Account", "222222222", "ACTIVE", null)));
+        assertEquals(1L, first.join().getVersion());
+        assertEquals(2L, second.join().getVersion());
+        CompletionException failure = assertThrows(CompletionException.class, stale::join);
+        assertInstanceOf(AccountVersionMismatchException.class, failure.getCause());
+    }
+
+    @Test
+    void testFlush_BatchFails_WritesEachItemAlone() {
+        // Arrange
+        AccountWriteBatcher batcher = batcher(100);
+        IllegalStateException duplicate = new IllegalStateException("Duplicate account number");
+        Mockito.when(accountManagementUseCase.createAccounts(ArgumentMatchers.anyList())).thenThrow(duplicate);
+        Mockito.when(accountManagementUseCase.createAccount(request("111111111")))
+                .thenReturn(account(1L, "111111111", 0L));
+        Mockito.when(accountManagementUseCase.createAccount(request("999999999"))).thenThrow(duplicate);
+        CompletableFuture<AccountResponseDTO> created = batcher.create(request("111111111")).toCompletableFuture();
+        CompletableFuture<AccountResponseDTO> conflicting = batcher.create(request("999999999")).toCompletableFuture();
+
+        // Act
+        batcher.flush();
+
+        // Assert
+        assertEquals(1L, created.join().getId());
+        CompletionException failure = assertThrows(CompletionException.class, conflicting::join);
+        assertEquals(duplicate, failure.getCause());
+    }
+
+    @Test
+    void testCreate_QueueFull_ThrowsConcurrencyLimitExceeded() {
+        // Arrange
+        AccountWriteBatcher batcher = batcher(1);
+        CompletableFuture<AccountResponseDTO> queued = batcher.create(request("111111111")).toCompletableFuture();
+
+        // Act & Assert
+        assertThrows(ConcurrencyLimitExceededException.class, () -> batcher.create(request("222222222")));
+        assertFalse(queued.isDone());
+        Mockito.verifyNoInteractions(accountManagementUseCase);
+    }
+
+    @Test
+    void testCreate_AfterStop_ThrowsConcurrencyLimitExceeded() {
+        // Arrange
+        AccountWriteBatcher batcher = batcher(100);
+        batcher.onStop(null);
+
+        // Act & Assert
+        assertThrows(ConcurrencyLimitExceededException.class, () -> batcher.create(request("111111111")));
+        assertThrows(ConcurrencyLimitExceededException.class,
+                () -> batcher.update(1L, request("111111111"), null));
+        assertEquals(0, batcher.getPendingCount());
+        Mockito.verifyNoInteractions(accountManagementUseCase);
+    }
+}
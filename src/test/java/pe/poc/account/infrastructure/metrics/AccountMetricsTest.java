@@ -0,0 +1,98 @@
+package pe.poc.account.infrastructure.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import pe.poc.account.domain.exception.AccountNotFoundException;
+
+/**
+ * Test class for AccountMetrics.
+ */
+@ExtendWith(MockitoExtension.class)
+class AccountMetricsTest {
+
+    @Mock
+    private TransactionSynchronizationRegistry transactionSynchronizationRegistry;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AccountMetrics accountMetrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        accountMetrics = new AccountMetrics(meterRegistry, transactionSynchronizationRegistry);
+    }
+
+    @Test
+    void testTime_Success_RecordsTimerWithoutException() {
+        // Act
+        String result = accountMetrics.time(AccountMetrics.USE_CASE_TIMER, "getAccountById", () -> "ok");
+
+        // Assert
+        assertEquals("ok", result);
+        Timer timer = meterRegistry.get(AccountMetrics.USE_CASE_TIMER)
+                .tag("method", "getAccountById")
+                .tag("exception", "none")
+                .timer();
+        assertEquals(1, timer.count());
+    }
+
+    @Test
+    void testTime_Failure_RecordsExceptionTagAndRethrows() {
+        // Act & Assert
+        assertThrows(AccountNotFoundException.class, () -> accountMetrics.time(AccountMetrics.USE_CASE_TIMER,
+                "getAccountById", () -> {
+                    throw new AccountNotFoundException(1L);
+                }));
+
+        Timer timer = meterRegistry.get(AccountMetrics.USE_CASE_TIMER)
+                .tag("method", "getAccountById")
+                .tag("exception", "AccountNotFoundException")
+                .timer();
+        assertEquals(1, timer.count());
+    }
+
+    @Test
+    void testTimeCommit_ActiveTransaction_RecordsCompletion() {
+        // Arrange
+        when(transactionSynchronizationRegistry.getTransactionKey()).thenReturn(new Object());
+        ArgumentCaptor<Synchronization> synchronization = ArgumentCaptor.forClass(Synchronization.class);
+
+        // Act
+        accountMetrics.timeCommit("updateAccount");
+        verify(transactionSynchronizationRegistry).registerInterposedSynchronization(synchronization.capture());
+        synchronization.getValue().beforeCompletion();
+        synchronization.getValue().afterCompletion(Status.STATUS_COMMITTED);
+
+        // Assert
+        Timer timer = meterRegistry.get(AccountMetrics.COMMIT_TIMER).tag("method", "updateAccount").timer();
+        assertEquals(1, timer.count());
+    }
+
+    @Test
+    void testTimeCommit_NoTransaction_RegistersNothing() {
+        // Act
+        accountMetrics.timeCommit("getAllAccounts");
+
+        // Assert
+        verify(transactionSynchronizationRegistry, never()).registerInterposedSynchronization(any());
+        assertNull(meterRegistry.find(AccountMetrics.COMMIT_TIMER).timer());
+    }
+}
@@ -0,0 +1,87 @@
+package pe.poc.account.infrastructure.outbox;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import pe.poc.account.application.dto.AccountChangeEventDTO;
+import pe.poc.account.application.port.output.IAccountChangeOutbox;
+import pe.poc.account.domain.model.AccountChangeType;
+
+/**
+ * Test class for AccountOutboxRelay.
+ */
+@ExtendWith(MockitoExtension.class)
+class AccountOutboxRelayTest {
+
+    private static final int BATCH_SIZE = 2;
+
+    @Mock
+    private IAccountChangeOutbox accountChangeOutbox;
+
+    @Mock
+    private AccountChangeSink failingSink;
+
+    private AccountChangeEventDTO event(long offset) {
+        return AccountChangeEventDTO.builder()
+                .offset(offset)
+                .type(AccountChangeType.DELETED)
+                .accountId(offset)
+                .occurredAt(Instant.now())
+                .build();
+    }
+
+    private AccountOutboxRelay relay(AccountChangeSink... sinks) {
+        return new AccountOutboxRelay(accountChangeOutbox, List.of(sinks), true, Duration.ofMillis(250),
+                BATCH_SIZE, Duration.ofDays(7));
+    }
+
+    @Test
+    void testRelay_FullBatches_DrainsOutboxInOffsetOrder() {
+        // Arrange
+        LocalBrokerAccountChangeSink broker = new LocalBrokerAccountChangeSink(100);
+        Mockito.when(accountChangeOutbox.publishPending(BATCH_SIZE))
+                .thenReturn(List.of(event(1), event(2)))
+                .thenReturn(List.of(event(3)));
+        AccountOutboxRelay relay = relay(broker);
+
+        // Act
+        relay.relay();
+
+        // Assert
+        List<AccountChangeEventDTO> delivered = broker.poll(0, 10);
+        assertEquals(List.of(1L, 2L, 3L), delivered.stream().map(AccountChangeEventDTO::getOffset).toList());
+        assertEquals(3L, relay.getLastPublishedOffset());
+        assertEquals(List.of(3L), broker.poll(2, 10).stream().map(AccountChangeEventDTO::getOffset).toList());
+        Mockito.verify(accountChangeOutbox, Mockito.times(2)).publishPending(BATCH_SIZE);
+        Mockito.verify(accountChangeOutbox).deletePublishedBefore(ArgumentMatchers.any(Instant.class));
+    }
+
+    @Test
+    void testRelayBatch_FailingSink_StillPublishesToOtherSinks() {
+        // Arrange
+        LocalBrokerAccountChangeSink broker = new LocalBrokerAccountChangeSink(100);
+        Mockito.when(accountChangeOutbox.publishPending(BATCH_SIZE)).thenReturn(List.of(event(1)));
+        Mockito.when(failingSink.getName()).thenReturn("failing");
+        Mockito.doThrow(new IllegalStateException("Sink unavailable"))
+                .when(failingSink).publish(ArgumentMatchers.anyList());
+        AccountOutboxRelay relay = relay(failingSink, broker);
+
+        // Act
+        int relayed = relay.relayBatch();
+
+        // Assert
+        assertEquals(1, relayed);
+        assertEquals(1, broker.poll(0, 10).size());
+        assertEquals(1L, relay.getLastPublishedOffset());
+    }
+}
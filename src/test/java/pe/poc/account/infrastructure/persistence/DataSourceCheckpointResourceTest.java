@@ -0,0 +1,64 @@
+package pe.poc.account.infrastructure.persistence;
+
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.agroal.api.AgroalDataSource;
+import io.agroal.api.configuration.AgroalConnectionPoolConfiguration;
+
+/**
+ * Test class for DataSourceCheckpointResource.
+ */
+class DataSourceCheckpointResourceTest {
+
+    @Test
+    void testCheckpointAndRestore_H2FileDatabase_ShutsDownAndRestoresPoolSize() throws SQLException {
+        // Arrange
+        AgroalDataSource dataSource = mock(AgroalDataSource.class, RETURNS_DEEP_STUBS);
+        AgroalConnectionPoolConfiguration pool = dataSource.getConfiguration().connectionPoolConfiguration();
+        when(pool.connectionFactoryConfiguration().jdbcUrl()).thenReturn("jdbc:h2:file:./data/accountdb");
+        when(pool.maxSize()).thenReturn(16);
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        DataSourceCheckpointResource resource = new DataSourceCheckpointResource(List.of(dataSource));
+
+        // Act
+        resource.beforeCheckpoint(null);
+        resource.afterRestore(null);
+
+        // Assert
+        verify(statement).execute("SHUTDOWN");
+        verify(pool).setMaxSize(0);
+        verify(dataSource).flush(AgroalDataSource.FlushMode.ALL);
+        verify(pool).setMaxSize(16);
+    }
+
+    @Test
+    void testCheckpoint_H2MemoryDatabase_KeepsDatabaseOpen() throws SQLException {
+        // Arrange
+        AgroalDataSource dataSource = mock(AgroalDataSource.class, RETURNS_DEEP_STUBS);
+        AgroalConnectionPoolConfiguration pool = dataSource.getConfiguration().connectionPoolConfiguration();
+        when(pool.connectionFactoryConfiguration().jdbcUrl()).thenReturn("jdbc:h2:mem:accountdb");
+        DataSourceCheckpointResource resource = new DataSourceCheckpointResource(List.of(dataSource));
+
+        // Act
+        resource.beforeCheckpoint(null);
+
+        // Assert
+        verify(dataSource, never()).getConnection();
+        verify(pool).setMaxSize(0);
+        verify(dataSource).flush(AgroalDataSource.FlushMode.ALL);
+    }
+}
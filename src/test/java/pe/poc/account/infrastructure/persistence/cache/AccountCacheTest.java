@@ -0,0 +1,126 @@
+package pe.poc.account.infrastructure.persistence.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import pe.poc.account.application.dto.AccountResponseDTO;
+import pe.poc.account.domain.model.AccountStatus;
+import pe.poc.account.domain.model.valueobject.AccountId;
+
+/**
+ * Test class for AccountCache.
+ */
+@ExtendWith(MockitoExtension.class)
+class AccountCacheTest {
+
+    @Mock
+    private TransactionSynchronizationRegistry transactionSynchronizationRegistry;
+
+    private AccountCache accountCache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        accountCache = new AccountCache(true, 100, Duration.ofMinutes(5), transactionSynchronizationRegistry);
+        loads = new AtomicInteger();
+    }
+
+    private Optional<AccountResponseDTO> load(AccountId id) {
+        loads.incrementAndGet();
+        return Optional.of(AccountResponseDTO.builder()
+                .id(id.getValue())
+                .account("Test Account")
+                .number("123456789")
+                .status(AccountStatus.ACTIVE)
+                .build());
+    }
+
+    @Test
+    void testGet_RepeatedLookups_LoadsOnce() {
+        // Act
+        accountCache.get(AccountId.of(1L), this::load);
+        accountCache.get(AccountId.of(1L), this::load);
+
+        // Assert
+        assertEquals(1, loads.get());
+        assertEquals(1, accountCache.stats().getHitCount());
+        assertEquals(1, accountCache.stats().getMissCount());
+    }
+
+    @Test
+    void testGet_MutatingReturnedAccount_DoesNotChangeCachedEntry() {
+        // Arrange
+        AccountResponseDTO account = accountCache.get(AccountId.of(1L), this::load).orElseThrow();
+
+        // Act
+        account.setStatus(AccountStatus.INACTIVE);
+
+        // Assert
+        assertEquals(AccountStatus.ACTIVE, accountCache.get(AccountId.of(1L), this::load).orElseThrow().getStatus());
+    }
+
+    @Test
+    void testGet_MissingAccount_IsNotCached() {
+        // Act
+        Optional<AccountResponseDTO> first = accountCache.get(AccountId.of(1L), id -> Optional.empty());
+        accountCache.get(AccountId.of(1L), this::load);
+
+        // Assert
+        assertFalse(first.isPresent());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void testInvalidateAfterCommit_InvalidatesOnlyOnCommit() {
+        // Arrange
+        Mockito.when(transactionSynchronizationRegistry.getTransactionKey()).thenReturn(new Object());
+        accountCache.get(AccountId.of(1L), this::load);
+        ArgumentCaptor<Synchronization> synchronization = ArgumentCaptor.forClass(Synchronization.class);
+
+        // Act
+        accountCache.invalidateAfterCommit(AccountId.of(1L));
+        Mockito.verify(transactionSynchronizationRegistry).registerInterposedSynchronization(synchronization.capture());
+        accountCache.get(AccountId.of(1L), this::load);
+        int loadsBeforeCommit = loads.get();
+        synchronization.getValue().afterCompletion(Status.STATUS_COMMITTED);
+        accountCache.get(AccountId.of(1L), this::load);
+
+        // Assert
+        assertEquals(1, loadsBeforeCommit);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testInvalidateAfterCommit_RolledBack_KeepsEntry() {
+        // Arrange
+        Mockito.when(transactionSynchronizationRegistry.getTransactionKey()).thenReturn(new Object());
+        accountCache.get(AccountId.of(1L), this::load);
+        ArgumentCaptor<Synchronization> synchronization = ArgumentCaptor.forClass(Synchronization.class);
+
+        // Act
+        accountCache.invalidateAfterCommit(AccountId.of(1L));
+        Mockito.verify(transactionSynchronizationRegistry).registerInterposedSynchronization(synchronization.capture());
+        synchronization.getValue().afterCompletion(Status.STATUS_ROLLEDBACK);
+        accountCache.get(AccountId.of(1L), this::load);
+
+        // Assert
+        assertEquals(1, loads.get());
+        assertTrue(accountCache.stats().isEnabled());
+    }
+}
@@ -0,0 +1,193 @@
+package pe.poc.account.infrastructure.persistence.offheap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import pe.poc.account.domain.model.Account;
+import pe.poc.account.domain.model.AccountStatus;
+import pe.poc.account.domain.model.valueobject.AccountId;
+
+/**
+ * Test class for AccountJournal.
+ */
+class AccountJournalTest {
+
+    private static final int SEGMENT_SIZE = 4 * 1024;
+
+    @TempDir
+    Path directory;
+
+    private AccountJournal journal;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        journal.close();
+    }
+
+    private List<AccountJournal.Entry> open() throws IOException {
+        if (journal != null) {
+            journal.close();
+        }
+        journal = new AccountJournal(directory, true, SEGMENT_SIZE);
+        List<AccountJournal.Entry> entries = new ArrayList<>();
+        journal.replay(entries::add);
+        return entries;
+    }
+
+    private static AccountJournal.Entry put(long id) {
+        return new AccountJournal.Entry(id, Account.builder()
+                .id(AccountId.of(id))
+                .account("Cuenta " + id)
+                .number(String.format("%010d", id))
+                .status(AccountStatus.ACTIVE)
+                .version(0L)
+                .build());
+    }
+
+    private void overwrite(long lsn, byte[] bytes) throws IOException {
+        Path segment = directory.resolve(String.format("journal-%016d.log", lsn / SEGMENT_SIZE));
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(bytes), lsn % SEGMENT_SIZE);
+        }
+    }
+
+    @Test
+    void testReplay_EntriesAcrossSegments_ReturnsThemInOrder() throws IOException {
+        // Arrange
+        open();
+        for (long id = 1; id <= 200; id++) {
+            journal.append(List.of(put(id)));
+        }
+        journal.append(List.of(new AccountJournal.Entry(7L, null)));
+
+        // Act
+        List<AccountJournal.Entry> entries = open();
+
+        // Assert
+        assertEquals(201, entries.size());
+        assertEquals(200L, entries.get(199).id());
+        assertEquals("0000000200", entries.get(199).account().getNumber());
+        assertEquals(7L, entries.get(200).id());
+        assertNull(entries.get(200).account());
+    }
+
+    @Test
+    void testReplay_TornTail_ClearsItAndAppendsAfterLastFrame() throws IOException {
+        // Arrange
+        open();
+        journal.append(List.of(put(1L)));
+        long end = journal.append(List.of(put(2L)));
+        journal.close();
+        overwrite(end, new byte[] {0, 0, 0, 40, 1, 2, 3});
+
+        // Act
+        List<AccountJournal.Entry> recovered = open();
+        journal.append(List.of(put(3L)));
+        List<AccountJournal.Entry> reopened = open();
+
+        // Assert
+        assertEquals(2, recovered.size());
+        assertEquals(List.of(1L, 2L, 3L), reopened.stream().map(AccountJournal.Entry::id).toList());
+    }
+
+    @Test
+    void testReplay_CorruptLastFrame_StopsAtPreviousFrame() throws IOException {
+        // Arrange
+        open();
+        long firstEnd = journal.append(List.of(put(1L)));
+        journal.append(List.of(put(2L)));
+        journal.close();
+        overwrite(firstEnd + 12, new byte[] {(byte) 0xff});
+
+        // Act
+        List<AccountJournal.Entry> entries = open();
+
+        // Assert
+        assertEquals(List.of(1L), entries.stream().map(AccountJournal.Entry::id).toList());
+    }
+
+    @Test
+    void testReplay_CorruptEarlierSegment_ThrowsIllegalStateException() throws IOException {
+        // Arrange
+        open();
+        long firstEnd = journal.append(List.of(put(1L)));
+        for (long id = 2; id <= 100; id++) {
+            journal.append(List.of(put(id)));
+        }
+        journal.close();
+        overwrite(firstEnd + 12, new byte[] {(byte) 0xff});
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, this::open);
+    }
+
+    @Test
+    void testSnapshot_Committed_ReplaysSnapshotThenLaterSegments() throws IOException {
+        // Arrange
+        open();
+        for (long id = 1; id <= 100; id++) {
+            journal.append(List.of(put(id)));
+        }
+        long snapshotId = journal.startSnapshot();
+        try (AccountJournal.SnapshotWriter writer = journal.snapshotWriter(snapshotId, 100L)) {
+            writer.write(List.of(put(1L), put(2L)));
+            writer.commit();
+        }
+        journal.append(List.of(new AccountJournal.Entry(2L, null)));
+
+        // Act
+        List<AccountJournal.Entry> entries = open();
+
+        // Assert
+        assertEquals(List.of(1L, 2L, 2L), entries.stream().map(AccountJournal.Entry::id).toList());
+        assertNull(entries.get(2).account());
+    }
+
+    @Test
+    void testReplay_SnapshotHeader_RestoresHighWaterIdOfDeletedAccounts() throws IOException {
+        // Arrange
+        open();
+        journal.append(List.of(put(1L), put(2L), new AccountJournal.Entry(2L, null)));
+        long snapshotId = journal.startSnapshot();
+        try (AccountJournal.SnapshotWriter writer = journal.snapshotWriter(snapshotId, 2L)) {
+            writer.write(List.of(put(1L)));
+            writer.commit();
+        }
+
+        // Act
+        List<AccountJournal.Entry> entries = open();
+
+        // Assert
+        assertEquals(List.of(1L), entries.stream().map(AccountJournal.Entry::id).toList());
+        assertEquals(2L, journal.highWaterId());
+    }
+
+    @Test
+    void testAwaitDurable_SeveralPendingAppends_FlushesOnce() throws IOException {
+        // Arrange
+        open();
+        long first = journal.append(List.of(put(1L)));
+        journal.append(List.of(put(2L)));
+        long last = journal.append(List.of(put(3L)));
+
+        // Act
+        journal.awaitDurable(last);
+        journal.awaitDurable(first);
+
+        // Assert
+        assertEquals(1, journal.flushCount());
+    }
+}
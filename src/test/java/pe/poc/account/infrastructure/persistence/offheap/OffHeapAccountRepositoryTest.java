@@ -0,0 +1,116 @@
+package pe.poc.account.infrastructure.persistence.offheap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import pe.poc.account.domain.model.Account;
+import pe.poc.account.domain.model.AccountStatus;
+import pe.poc.account.domain.model.valueobject.AccountId;
+
+/**
+ * Test class for OffHeapAccountRepository.
+ */
+@ExtendWith(MockitoExtension.class)
+class OffHeapAccountRepositoryTest {
+
+    @Mock
+    private TransactionSynchronizationRegistry transactionSynchronizationRegistry;
+
+    private OffHeapAccountRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new OffHeapAccountRepository(new OffHeapAccountStore(16), transactionSynchronizationRegistry);
+    }
+
+    private void beginTransaction() {
+        Map<Object, Object> resources = new HashMap<>();
+        when(transactionSynchronizationRegistry.getTransactionKey()).thenReturn(new Object());
+        doAnswer(invocation -> resources.get(invocation.getArgument(0)))
+                .when(transactionSynchronizationRegistry).getResource(any());
+        doAnswer(invocation -> resources.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(transactionSynchronizationRegistry).putResource(any(), any());
+    }
+
+    private static Account account(String number) {
+        return Account.builder()
+                .account("Cuenta " + number)
+                .number(number)
+                .status(AccountStatus.ACTIVE)
+                .build();
+    }
+
+    @Test
+    void testSave_TransactionRolledBack_UndoesChanges() {
+        // Arrange
+        beginTransaction();
+        Account saved = repository.save(account("001"));
+        repository.updateStatus(saved.getId(), AccountStatus.INACTIVE);
+        ArgumentCaptor<Synchronization> synchronization = ArgumentCaptor.forClass(Synchronization.class);
+        verify(transactionSynchronizationRegistry).registerInterposedSynchronization(synchronization.capture());
+
+        // Act
+        synchronization.getValue().afterCompletion(Status.STATUS_ROLLEDBACK);
+
+        // Assert
+        assertFalse(repository.existsById(saved.getId()));
+        assertTrue(repository.findByNumber("001").isEmpty());
+    }
+
+    @Test
+    void testSave_TransactionCommitted_KeepsChanges() {
+        // Arrange
+        beginTransaction();
+        Account saved = repository.save(account("001"));
+        ArgumentCaptor<Synchronization> synchronization = ArgumentCaptor.forClass(Synchronization.class);
+        verify(transactionSynchronizationRegistry).registerInterposedSynchronization(synchronization.capture());
+
+        // Act
+        synchronization.getValue().beforeCompletion();
+        synchronization.getValue().afterCompletion(Status.STATUS_COMMITTED);
+
+        // Assert
+        assertEquals("001", repository.findById(saved.getId()).orElseThrow().getNumber());
+    }
+
+    @Test
+    void testStreamAll_MoreThanOnePage_StreamsEveryAccountInIdOrder() {
+        // Arrange
+        for (int i = 0; i < 1_200; i++) {
+            repository.save(account(String.format("%05d", i)));
+        }
+        repository.deleteAllById(List.of(AccountId.of(500L), AccountId.of(1_000L)));
+
+        // Act
+        List<Long> ids;
+        try (Stream<Account> accounts = repository.streamAll()) {
+            ids = accounts.map(account -> account.getId().getValue()).toList();
+        }
+
+        // Assert
+        assertEquals(1_198, ids.size());
+        assertEquals(1L, ids.get(0));
+        assertEquals(1_200L, ids.get(ids.size() - 1));
+        assertEquals(501L, ids.get(499));
+    }
+}
@@ -0,0 +1,285 @@
+package pe.poc.account.infrastructure.persistence.offheap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jakarta.persistence.OptimisticLockException;
+import pe.poc.account.domain.exception.DuplicateAccountNumberException;
+import pe.poc.account.domain.model.Account;
+import pe.poc.account.domain.model.AccountStatus;
+import pe.poc.account.domain.model.valueobject.AccountId;
+
+/**
+ * Test class for OffHeapAccountStore.
+ */
+class OffHeapAccountStoreTest {
+
+    @TempDir
+    Path directory;
+
+    private Path journalDirectory;
+    private OffHeapAccountStore store;
+
+    @BeforeEach
+    void setUp() {
+        journalDirectory = directory.resolve("journal");
+        store = open();
+    }
+
+    @AfterEach
+    void tearDown() {
+        store.close();
+    }
+
+    private OffHeapAccountStore open() {
+        OffHeapAccountStore opened = new OffHeapAccountStore(journalDirectory, true, 64 * 1024, Duration.ZERO, 0, 16);
+        opened.open();
+        return opened;
+    }
+
+    private OffHeapAccountStore reopen() {
+        store.close();
+        store = open();
+        return store;
+    }
+
+    private static Account account(String name, String number, AccountStatus status) {
+        return Account.builder()
+                .account(name)
+                .number(number)
+                .status(status)
+                .build();
+    }
+
+    private OffHeapAccountStore.Change insertCommitted(String name, String number, AccountStatus status) {
+        OffHeapAccountStore.Change change = store.insert(account(name, number, status));
+        store.commit(List.of(change));
+        return change;
+    }
+
+    @Test
+    void testInsert_NewAccounts_AssignsSequentialIdsAndVersionZero() {
+        // Act
+        Account first = insertCommitted("Ahorros", "001", AccountStatus.ACTIVE).after();
+        Account second = insertCommitted("Corriente", "002", AccountStatus.INACTIVE).after();
+
+        // Assert
+        assertEquals(1L, first.getId().getValue());
+        assertEquals(2L, second.getId().getValue());
+        assertEquals(0L, second.getVersion());
+        assertEquals("Corriente", store.get(2L).getAccount());
+        assertEquals(2L, store.getByNumber("002").getId().getValue());
+    }
+
+    @Test
+    void testInsert_DuplicateNumber_ThrowsDuplicateAccountNumberException() {
+        // Arrange
+        insertCommitted("Ahorros", "001", AccountStatus.ACTIVE);
+
+        // Act & Assert
+        assertThrows(DuplicateAccountNumberException.class,
+                () -> store.insert(account("Otra", "001", AccountStatus.ACTIVE)));
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    void testUpdate_ChangedFields_IncrementsVersionAndMovesNumberIndex() {
+        // Arrange
+        Account saved = insertCommitted("Ahorros", "001", AccountStatus.ACTIVE).after();
+
+        // Act
+        Account updated = store.update(saved.toBuilder().account("Ahorros €").number("009").build()).after();
+
+        // Assert
+        assertEquals(1L, updated.getVersion());
+        assertEquals("Ahorros €", store.get(1L).getAccount());
+        assertNull(store.getByNumber("001"));
+        assertEquals(1L, store.getByNumber("009").getId().getValue());
+    }
+
+    @Test
+    void testUpdate_UnchangedFields_KeepsVersion() {
+        // Arrange
+        Account saved = insertCommitted("Ahorros", "001", AccountStatus.ACTIVE).after();
+
+        // Act
+        OffHeapAccountStore.Change change = store.update(saved);
+
+        // Assert
+        assertSame(change.before(), change.after());
+        assertEquals(0L, store.get(1L).getVersion());
+    }
+
+    @Test
+    void testUpdate_StaleVersion_ThrowsOptimisticLockException() {
+        // Arrange
+        Account saved = insertCommitted("Ahorros", "001", AccountStatus.ACTIVE).after();
+        store.updateStatus(1L, AccountStatus.INACTIVE);
+
+        // Act & Assert
+        assertThrows(OptimisticLockException.class, () -> store.update(saved.toBuilder().account("Otra").build()));
+    }
+
+    @Test
+    void testPage_StatusAndPrefix_ReturnsMatchesInIdOrderAfterCursor() {
+        // Arrange
+        insertCommitted("Ahorros 1", "001", AccountStatus.ACTIVE);
+        insertCommitted("Corriente", "002", AccountStatus.ACTIVE);
+        insertCommitted("Ahorros 3", "003", AccountStatus.INACTIVE);
+        insertCommitted("Ahorros 4", "004", AccountStatus.ACTIVE);
+        insertCommitted("Ahorros 5", "005", AccountStatus.ACTIVE);
+
+        // Act
+        List<Account> page = store.page(AccountStatus.ACTIVE, "Ahorros", 1L, 10);
+
+        // Assert
+        assertEquals(List.of(4L, 5L), page.stream().map(account -> account.getId().getValue()).toList());
+        assertEquals(2, store.page(null, null, null, 2).size());
+    }
+
+    @Test
+    void testInsert_BeyondInitialCapacity_GrowsIndexes() {
+        // Act
+        for (int i = 0; i < 1_000; i++) {
+            store.insert(account("Cuenta " + i, String.format("%06d", i), AccountStatus.ACTIVE));
+        }
+        for (long id = 1; id <= 1_000; id += 2) {
+            store.delete(id);
+        }
+
+        // Assert
+        assertEquals(500, store.size());
+        assertEquals(2L, store.getByNumber("000001").getId().getValue());
+        assertNull(store.getByNumber("000000"));
+        assertEquals(1_000L, store.page(null, null, 998L, 10).get(0).getId().getValue());
+    }
+
+    @Test
+    void testRollback_Changes_RestoresPreviousState() {
+        // Arrange
+        Account saved = insertCommitted("Ahorros", "001", AccountStatus.ACTIVE).after();
+        List<OffHeapAccountStore.Change> changes = List.of(
+                store.update(saved.toBuilder().number("002").build()),
+                store.insert(account("Nueva", "001", AccountStatus.ACTIVE)));
+
+        // Act
+        store.rollback(changes);
+
+        // Assert
+        assertEquals(1, store.size());
+        assertEquals("001", store.get(1L).getNumber());
+        assertEquals(0L, store.get(1L).getVersion());
+        assertNull(store.getByNumber("002"));
+    }
+
+    @Test
+    void testOpen_ExistingJournal_ReplaysCommittedState() {
+        // Arrange
+        insertCommitted("Ahorros", "001", AccountStatus.ACTIVE);
+        insertCommitted("Corriente", "002", AccountStatus.ACTIVE);
+        store.commit(List.of(store.updateStatus(1L, AccountStatus.SUSPENDED)));
+        store.commit(List.of(store.delete(2L)));
+
+        // Act
+        reopen();
+
+        // Assert
+        assertEquals(1, store.size());
+        assertEquals(AccountStatus.SUSPENDED, store.get(1L).getStatus());
+        assertEquals(1L, store.get(1L).getVersion());
+        assertNull(store.get(2L));
+        assertEquals(List.of(1L), store.page(AccountStatus.SUSPENDED, null, null, 10).stream()
+                .map(account -> account.getId().getValue()).toList());
+    }
+
+    @Test
+    void testSnapshot_ThenMoreChanges_ReplaysSnapshotAndNewerSegments() throws IOException {
+        // Arrange
+        insertCommitted("Ahorros", "001", AccountStatus.ACTIVE);
+        insertCommitted("Corriente", "002", AccountStatus.ACTIVE);
+        store.snapshot();
+        store.commit(List.of(store.updateStatus(1L, AccountStatus.INACTIVE)));
+        store.commit(List.of(store.delete(2L)));
+        insertCommitted("Plazo", "003", AccountStatus.SUSPENDED);
+
+        // Act
+        reopen();
+
+        // Assert
+        assertEquals(2, store.size());
+        assertEquals(AccountStatus.INACTIVE, store.get(1L).getStatus());
+        assertNull(store.get(2L));
+        assertEquals(3L, store.getByNumber("003").getId().getValue());
+        try (Stream<Path> files = Files.list(journalDirectory)) {
+            assertEquals(List.of("journal-0000000000000001.log", "snapshot-0000000000000001.snap"),
+                    files.map(file -> file.getFileName().toString()).sorted().toList());
+        }
+    }
+
+    @Test
+    void testSnapshot_HighestAccountDeleted_DoesNotReuseItsIdAfterReopen() {
+        // Arrange
+        insertCommitted("Ahorros", "001", AccountStatus.ACTIVE);
+        insertCommitted("Corriente", "002", AccountStatus.ACTIVE);
+        store.commit(List.of(store.delete(2L)));
+        store.snapshot();
+        reopen();
+
+        // Act
+        OffHeapAccountStore.Change change = insertCommitted("Plazo", "003", AccountStatus.ACTIVE);
+
+        // Assert
+        assertEquals(3L, change.id());
+    }
+
+    @Test
+    void testSnapshot_UncommittedChanges_KeepsCommittedImagesOnly() {
+        // Arrange
+        Account saved = insertCommitted("Ahorros", "001", AccountStatus.ACTIVE).after();
+        insertCommitted("Corriente", "002", AccountStatus.ACTIVE);
+        store.update(saved.toBuilder().number("010").build());
+        store.delete(2L);
+        store.insert(account("Plazo", "003", AccountStatus.ACTIVE));
+
+        // Act
+        store.snapshot();
+        reopen();
+
+        // Assert
+        assertEquals(2, store.size());
+        assertEquals("001", store.get(1L).getNumber());
+        assertEquals(0L, store.get(1L).getVersion());
+        assertEquals("002", store.get(2L).getNumber());
+        assertNull(store.getByNumber("003"));
+    }
+
+    @Test
+    void testSnapshot_ChangesCommittedAfterIt_ReplaysThemFromNewerSegment() {
+        // Arrange
+        Account saved = insertCommitted("Ahorros", "001", AccountStatus.ACTIVE).after();
+        OffHeapAccountStore.Change change = store.update(saved.toBuilder().number("010").build());
+        store.snapshot();
+        store.commit(List.of(change));
+
+        // Act
+        reopen();
+
+        // Assert
+        assertEquals("010", store.get(1L).getNumber());
+        assertEquals(1L, store.get(1L).getVersion());
+    }
+}
@@ -0,0 +1,124 @@
+package pe.poc.account.infrastructure.persistence.replica;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import pe.poc.account.domain.model.valueobject.AccountId;
+
+/**
+ * Test class for ReadReplicaRouter.
+ */
+@ExtendWith(MockitoExtension.class)
+class ReadReplicaRouterTest {
+
+    private static final Duration MAX_STALENESS = Duration.ofSeconds(5);
+
+    @Mock
+    private TransactionSynchronizationRegistry transactionSynchronizationRegistry;
+
+    private ReadReplica replica(String name, Duration lag) {
+        ReadReplica replica = new ReadReplica(name, null);
+        replica.markReplicated(Instant.now().minus(lag));
+        return replica;
+    }
+
+    private ReadReplicaRouter router(ReadReplica... replicas) {
+        return new ReadReplicaRouter(List.of(replicas), MAX_STALENESS, transactionSynchronizationRegistry);
+    }
+
+    @Test
+    void testRoute_NoReplicas_ReadsFromPrimary() {
+        // Arrange
+        ReadReplicaRouter router = router();
+
+        // Act & Assert
+        assertFalse(router.isEnabled());
+        assertFalse(router.route().isPresent());
+        assertFalse(router.route(AccountId.of(1L)).isPresent());
+    }
+
+    @Test
+    void testRoute_FreshReplicas_AlternatesBetweenThem() {
+        // Arrange
+        ReadReplica first = replica("replica-1", Duration.ZERO);
+        ReadReplica second = replica("replica-2", Duration.ZERO);
+        ReadReplicaRouter router = router(first, second);
+
+        // Act
+        ReadReplica routed1 = router.route().orElseThrow();
+        ReadReplica routed2 = router.route().orElseThrow();
+
+        // Assert
+        assertTrue(routed1 != routed2);
+    }
+
+    @Test
+    void testRoute_StaleReplica_IsSkipped() {
+        // Arrange
+        ReadReplica stale = replica("replica-1", Duration.ofMinutes(1));
+        ReadReplica fresh = replica("replica-2", Duration.ZERO);
+        ReadReplicaRouter router = router(stale, fresh);
+
+        // Act & Assert
+        assertEquals(fresh, router.route().orElseThrow());
+        assertEquals(fresh, router.route().orElseThrow());
+    }
+
+    @Test
+    void testRoute_ReplicaNeverReplicated_ReadsFromPrimary() {
+        // Arrange
+        ReadReplicaRouter router = router(new ReadReplica("replica-1", null));
+
+        // Act & Assert
+        assertFalse(router.route().isPresent());
+    }
+
+    @Test
+    void testPinAfterCommit_PinsAccountToPrimaryOnlyOnCommit() {
+        // Arrange
+        Mockito.when(transactionSynchronizationRegistry.getTransactionKey()).thenReturn(new Object());
+        ReadReplicaRouter router = router(replica("replica-1", Duration.ZERO));
+        ArgumentCaptor<Synchronization> synchronization = ArgumentCaptor.forClass(Synchronization.class);
+
+        // Act
+        router.pinAfterCommit(AccountId.of(1L));
+        Mockito.verify(transactionSynchronizationRegistry).registerInterposedSynchronization(synchronization.capture());
+        boolean routedBeforeCommit = router.route(AccountId.of(1L)).isPresent();
+        synchronization.getValue().afterCompletion(Status.STATUS_COMMITTED);
+
+        // Assert
+        assertTrue(routedBeforeCommit);
+        assertFalse(router.route(AccountId.of(1L)).isPresent());
+        assertTrue(router.route(AccountId.of(2L)).isPresent());
+    }
+
+    @Test
+    void testIsPinned_AccountWrittenWithoutTransaction_PinsOnlyRangesHoldingIt() {
+        // Arrange
+        ReadReplicaRouter router = router(replica("replica-1", Duration.ZERO));
+
+        // Act
+        router.pinAfterCommit(AccountId.of(7L));
+
+        // Assert
+        assertTrue(router.isPinned(0L, Long.MAX_VALUE));
+        assertTrue(router.isPinned(6L, 7L));
+        assertFalse(router.isPinned(0L, 6L));
+        assertFalse(router.isPinned(7L, 20L));
+    }
+}
@@ -0,0 +1,87 @@
+package pe.poc.account.infrastructure.persistence.replica;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.CoreMatchers.hasItem;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.agroal.DataSource;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.core.Response.Status;
+import pe.poc.account.infrastructure.persistence.entity.AccountJpaEntity;
+
+/**
+ * Test class for ReplicaRoutingAccountQueryRepository, run in the replica profile.
+ */
+@QuarkusTest
+@TestProfile(ReplicaRoutingAccountQueryRepositoryTest.ReplicaProfile.class)
+class ReplicaRoutingAccountQueryRepositoryTest {
+
+    private static final long REPLICA_ONLY_ID = 900_001L;
+
+    /**
+     * The replica profile with an in-memory replica that only this test writes to.
+     */
+    public static class ReplicaProfile implements QuarkusTestProfile {
+
+        @Override
+        public String getConfigProfile() {
+            return "replica";
+        }
+
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of(
+                    "%replica.quarkus.datasource.replica-1.db-kind", "h2",
+                    "%replica.quarkus.datasource.replica-1.jdbc.url", "jdbc:h2:mem:replica-1;DB_CLOSE_DELAY=-1",
+                    "%replica.account.read-replicas.datasources", "replica-1",
+                    "%replica.account.read-replicas.stand-in.enabled", "false",
+                    "%replica.account.read-replicas.heartbeat-interval", "1H");
+        }
+    }
+
+    @Inject
+    @DataSource("replica-1")
+    AgroalDataSource replicaDataSource;
+
+    @Inject
+    ReplicationHeartbeat replicationHeartbeat;
+
+    @Test
+    void testGetAccountsPage_FreshReplica_ServesPageFromReplica() throws SQLException {
+        // Arrange
+        try (Connection connection = replicaDataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            ReplicationHeartbeat.createTable(connection);
+            statement.execute("CREATE TABLE IF NOT EXISTS account (id BIGINT PRIMARY KEY,"
+                    + " account VARCHAR(255) NOT NULL, number VARCHAR(255) NOT NULL, "
+                    + AccountJpaEntity.STATUS_COLUMN + " CHAR(1) NOT NULL, "
+                    + AccountJpaEntity.VERSION_COLUMN + " BIGINT NOT NULL)");
+            statement.execute("MERGE INTO account KEY (id) VALUES (" + REPLICA_ONLY_ID
+                    + ", 'Replica Account', 'R-900001', 'A', 0)");
+            statement.execute("MERGE INTO " + ReplicationHeartbeat.HEARTBEAT_TABLE + " KEY (id) VALUES (1, "
+                    + Instant.now().toEpochMilli() + ")");
+        }
+        replicationHeartbeat.beat();
+
+        // Act & Assert
+        given()
+                .queryParam("limit", 10)
+                .when()
+                .get("/api/accounts")
+                .then()
+                .statusCode(Status.OK.getStatusCode())
+                .body("items.id", hasItem((int) REPLICA_ONLY_ID))
+                .body("items.number", hasItem("R-900001"));
+    }
+}
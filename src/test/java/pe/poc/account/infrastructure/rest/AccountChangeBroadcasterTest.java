@@ -0,0 +1,79 @@
+package pe.poc.account.infrastructure.rest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import jakarta.ws.rs.sse.Sse;
+import jakarta.ws.rs.sse.SseEventSink;
+import pe.poc.account.application.port.input.IAccountChangeFeedUseCase;
+import pe.poc.account.infrastructure.outbox.InProcessAccountChangeSink;
+import pe.poc.common.exception.ConcurrencyLimitExceededException;
+
+/**
+ * Test class for AccountChangeBroadcaster.
+ */
+@ExtendWith(MockitoExtension.class)
+class AccountChangeBroadcasterTest {
+
+    @Mock
+    private InProcessAccountChangeSink inProcessAccountChangeSink;
+
+    @Mock
+    private IAccountChangeFeedUseCase accountChangeFeedUseCase;
+
+    @Mock
+    private SseEventSink eventSink;
+
+    @Mock
+    private Sse sse;
+
+    @Test
+    void testSubscribe_ConcurrentConnects_NeverExceedsSubscriberLimit() throws Exception {
+        // Arrange
+        int maxSubscribers = 2;
+        int connects = 32;
+        AccountChangeBroadcaster broadcaster = new AccountChangeBroadcaster(inProcessAccountChangeSink,
+                accountChangeFeedUseCase, 8, maxSubscribers, Duration.ofSeconds(30));
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(connects);
+        List<Future<Boolean>> results = new ArrayList<>();
+
+        // Act
+        try {
+            for (int i = 0; i < connects; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        broadcaster.subscribe(null, eventSink, sse);
+                        return true;
+                    } catch (ConcurrencyLimitExceededException e) {
+                        return false;
+                    }
+                }));
+            }
+            start.countDown();
+            int accepted = 0;
+            for (Future<Boolean> result : results) {
+                accepted += result.get() ? 1 : 0;
+            }
+
+            // Assert
+            assertEquals(maxSubscribers, accepted);
+            assertEquals(maxSubscribers, broadcaster.getSubscriberCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package pe.poc.account.infrastructure.rest;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import jakarta.ws.rs.sse.OutboundSseEvent;
+import jakarta.ws.rs.sse.Sse;
+import jakarta.ws.rs.sse.SseEventSink;
+import pe.poc.account.application.dto.AccountChangeEventDTO;
+import pe.poc.account.domain.model.AccountChangeType;
+
+/**
+ * Test class for AccountChangeSubscription.
+ */
+@ExtendWith(MockitoExtension.class)
+class AccountChangeSubscriptionTest {
+
+    @Mock
+    private SseEventSink eventSink;
+
+    @Mock
+    private Sse sse;
+
+    private OutboundSseEvent.Builder eventBuilder;
+
+    private final List<AccountChangeSubscription> released = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        eventBuilder = Mockito.mock(OutboundSseEvent.Builder.class, Mockito.RETURNS_SELF);
+        Mockito.when(sse.newEventBuilder()).thenReturn(eventBuilder);
+    }
+
+    private AccountChangeEventDTO event(long offset) {
+        return AccountChangeEventDTO.builder()
+                .offset(offset)
+                .type(AccountChangeType.DELETED)
+                .accountId(offset)
+                .occurredAt(Instant.now())
+                .build();
+    }
+
+    private AccountChangeSubscription subscription(int bufferSize, Long after) {
+        return new AccountChangeSubscription(eventSink, sse, bufferSize, after, released::add);
+    }
+
+    @Test
+    void testCatchUp_LiveEventsHeldBack_SendsEachOffsetOnceInOrder() {
+        // Arrange
+        Mockito.doReturn(CompletableFuture.completedFuture(null)).when(eventSink).send(ArgumentMatchers.any());
+        AccountChangeSubscription subscription = subscription(8, 0L);
+        subscription.offer(List.of(event(2), event(3)));
+
+        // Act
+        subscription.catchUp(List.of(event(1), event(2)));
+
+        // Assert
+        Mockito.verify(eventSink, Mockito.times(3)).send(ArgumentMatchers.any());
+        Mockito.verify(eventBuilder).id("1");
+        Mockito.verify(eventBuilder).id("2");
+        Mockito.verify(eventBuilder).id("3");
+        Mockito.verify(eventSink, Mockito.never()).close();
+    }
+
+    @Test
+    void testOffer_SlowSubscriberOverflowsBuffer_SendsResyncAndCloses() {
+        // Arrange
+        CompletableFuture<Object> slowWrite = new CompletableFuture<>();
+        Mockito.doReturn(slowWrite, CompletableFuture.completedFuture(null))
+                .when(eventSink).send(ArgumentMatchers.any());
+        AccountChangeSubscription subscription = subscription(2, 0L);
+        subscription.catchUp(List.of());
+        subscription.offer(List.of(event(1)));
+
+        // Act
+        subscription.offer(List.of(event(2), event(3), event(4)));
+        slowWrite.complete(null);
+
+        // Assert
+        assertTrue(subscription.isResyncRequired());
+        Mockito.verify(eventBuilder).name(AccountChangeSubscription.RESYNC_EVENT);
+        Mockito.verify(eventSink, Mockito.times(2)).send(ArgumentMatchers.any());
+        Mockito.verify(eventSink).close();
+        assertTrue(released.contains(subscription));
+    }
+}
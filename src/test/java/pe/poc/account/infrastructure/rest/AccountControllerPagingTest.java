@@ -0,0 +1,64 @@
+package pe.poc.account.infrastructure.rest;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.core.Response.Status;
+import pe.poc.account.application.dto.AccountRequestDTO;
+import pe.poc.account.application.port.input.IAccountManagementUseCase;
+import pe.poc.account.domain.model.AccountStatus;
+
+/**
+ * Test class for the paginated listing of AccountController, run against the database.
+ */
+@QuarkusTest
+class AccountControllerPagingTest {
+
+    private static final int LIMIT = 3;
+
+    @Inject
+    IAccountManagementUseCase accountManagementUseCase;
+
+    @Inject
+    SessionFactory sessionFactory;
+
+    @Test
+    void testGetAllAccounts_MoreAccountsThanLimit_ReadsAtMostLimitPlusOneRows() {
+        // Arrange
+        for (int i = 0; i < LIMIT * 3; i++) {
+            accountManagementUseCase.createAccount(new AccountRequestDTO("Paging Account " + i,
+                    "P-" + UUID.randomUUID(), AccountStatus.ACTIVE.name()));
+        }
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.clear();
+
+        // Act
+        given()
+                .queryParam("limit", LIMIT)
+                .when()
+                .get("/api/accounts")
+                .then()
+                .statusCode(Status.OK.getStatusCode())
+                .body("items.size()", is(LIMIT))
+                .body("nextCursor", notNullValue());
+
+        // Assert
+        long rowsRead = Arrays.stream(statistics.getQueries())
+                .filter(query -> query.contains("AccountJpaEntity"))
+                .mapToLong(query -> statistics.getQueryStatistics(query).getExecutionRowCount())
+                .sum();
+        assertTrue(rowsRead > LIMIT, "Expected the page query to be recorded, read " + rowsRead);
+        assertTrue(rowsRead <= LIMIT + 1, "Expected at most " + (LIMIT + 1) + " rows, read " + rowsRead);
+    }
+}
@@ -3,13 +3,26 @@ package pe.poc.account.infrastructure.rest;
 import static io.restassured.RestAssured.given;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
 
 import io.quarkus.test.InjectMock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -17,13 +30,20 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+
 import io.quarkus.test.junit.QuarkusTest;
 import io.restassured.http.ContentType;
 import jakarta.ws.rs.core.Response.Status;
+import pe.poc.account.application.dto.AccountPageDTO;
 import pe.poc.account.application.dto.AccountRequestDTO;
 import pe.poc.account.application.dto.AccountResponseDTO;
 import pe.poc.account.application.port.input.IAccountManagementUseCase;
 import pe.poc.account.domain.exception.AccountNotFoundException;
+import pe.poc.account.domain.exception.AccountVersionMismatchException;
+import pe.poc.account.domain.model.AccountStatus;
+import pe.poc.account.infrastructure.rest.cbor.AccountCborProvider;
 
 /**
  * Test class for AccountController.
@@ -32,6 +52,8 @@ import pe.poc.account.domain.exception.AccountNotFoundException;
 @ExtendWith(MockitoExtension.class)
 class AccountControllerTest {
 
+    private static final CBORMapper CBOR_MAPPER = new CBORMapper();
+
     @InjectMock
     private IAccountManagementUseCase accountManagementUseCase;
 
@@ -42,10 +64,10 @@ class AccountControllerTest {
     @BeforeEach
     void setUp() {
         // Setup test data
-        validAccountRequest = new AccountRequestDTO("Test Account", "123456789", "ACTIVE");
+        validAccountRequest = new AccountRequestDTO("Test Account", "123456789", AccountStatus.ACTIVE.name());
 
-        accountResponse1 = new AccountResponseDTO(1L, "Test Account", "123456789", "ACTIVE");
-        accountResponse2 = new AccountResponseDTO(2L, "Another Account", "987654321", "INACTIVE");
+        accountResponse1 = new AccountResponseDTO(1L, "Test Account", "123456789", AccountStatus.ACTIVE, 3L);
+        accountResponse2 = new AccountResponseDTO(2L, "Another Account", "987654321", AccountStatus.INACTIVE, 0L);
     }
 
     @Test
@@ -64,7 +86,81 @@ class AccountControllerTest {
                 .body("id", is(accountResponse1.getId().intValue()))
                 .body("account", equalTo(accountResponse1.getAccount()))
                 .body("number", equalTo(accountResponse1.getNumber()))
-                .body("status", equalTo(accountResponse1.getStatus()));
+                .body("status", equalTo(accountResponse1.getStatus().name()));
+    }
+
+    @Test
+     void testCreateAccount_CborBody_ReturnsCreatedAccount() throws IOException {
+        // Arrange
+        when(accountManagementUseCase.createAccount(validAccountRequest)).thenReturn(accountResponse1);
+
+        // Act & Assert
+        given()
+                .contentType(AccountCborProvider.APPLICATION_CBOR)
+                .accept(ContentType.JSON)
+                .body(CBOR_MAPPER.writeValueAsBytes(validAccountRequest))
+                .when()
+                .post("/api/accounts")
+                .then()
+                .statusCode(Status.CREATED.getStatusCode())
+                .body("id", is(accountResponse1.getId().intValue()))
+                .body("number", equalTo(accountResponse1.getNumber()));
+        verify(accountManagementUseCase).createAccount(validAccountRequest);
+    }
+
+    @Test
+     void testCreateAccount_RepeatedIdempotencyKey_ReplaysWithoutExecuting() {
+        // Arrange
+        String idempotencyKey = UUID.randomUUID().toString();
+        when(accountManagementUseCase.createAccount(any(AccountRequestDTO.class))).thenReturn(accountResponse1);
+        given()
+                .contentType(ContentType.JSON)
+                .header("Idempotency-Key", idempotencyKey)
+                .body(validAccountRequest)
+                .when()
+                .post("/api/accounts")
+                .then()
+                .statusCode(Status.CREATED.getStatusCode());
+
+        // Act & Assert
+        given()
+                .contentType(ContentType.JSON)
+                .header("Idempotency-Key", idempotencyKey)
+                .body(validAccountRequest)
+                .when()
+                .post("/api/accounts")
+                .then()
+                .statusCode(Status.CREATED.getStatusCode())
+                .header("Idempotent-Replayed", equalTo("true"))
+                .header("ETag", equalTo("\"3\""))
+                .body("id", is(accountResponse1.getId().intValue()));
+        verify(accountManagementUseCase, times(1)).createAccount(any(AccountRequestDTO.class));
+    }
+
+    @Test
+     void testCreateAccount_ReusedIdempotencyKeyWithOtherBody_ReturnsUnprocessable() {
+        // Arrange
+        String idempotencyKey = UUID.randomUUID().toString();
+        when(accountManagementUseCase.createAccount(any(AccountRequestDTO.class))).thenReturn(accountResponse1);
+        given()
+                .contentType(ContentType.JSON)
+                .header("Idempotency-Key", idempotencyKey)
+                .body(validAccountRequest)
+                .when()
+                .post("/api/accounts")
+                .then()
+                .statusCode(Status.CREATED.getStatusCode());
+
+        // Act & Assert
+        given()
+                .contentType(ContentType.JSON)
+                .header("Idempotency-Key", idempotencyKey)
+                .body(new AccountRequestDTO("Other Account", "555555555", AccountStatus.ACTIVE.name()))
+                .when()
+                .post("/api/accounts")
+                .then()
+                .statusCode(422);
+        verify(accountManagementUseCase, times(1)).createAccount(any(AccountRequestDTO.class));
     }
 
     @Test
@@ -79,10 +175,51 @@ class AccountControllerTest {
                 .get("/api/accounts/{id}", accountId)
                 .then()
                 .statusCode(Status.OK.getStatusCode())
+                .header("ETag", equalTo("\"3\""))
                 .body("id", is(accountResponse1.getId().intValue()))
                 .body("account", equalTo(accountResponse1.getAccount()))
                 .body("number", equalTo(accountResponse1.getNumber()))
-                .body("status", equalTo(accountResponse1.getStatus()));
+                .body("status", equalTo(accountResponse1.getStatus().name()));
+    }
+
+    @Test
+     void testGetAccountById_AcceptCbor_ReturnsCborAccount() throws IOException {
+        // Arrange
+        Long accountId = 1L;
+        when(accountManagementUseCase.getAccountById(accountId)).thenReturn(accountResponse1);
+
+        // Act
+        byte[] body = given()
+                .accept(AccountCborProvider.APPLICATION_CBOR)
+                .when()
+                .get("/api/accounts/{id}", accountId)
+                .then()
+                .statusCode(Status.OK.getStatusCode())
+                .contentType(startsWith(AccountCborProvider.APPLICATION_CBOR))
+                .extract().asByteArray();
+
+        // Assert
+        JsonNode account = CBOR_MAPPER.readTree(body);
+        assertEquals(accountResponse1.getId().longValue(), account.get("id").asLong());
+        assertEquals(accountResponse1.getNumber(), account.get("number").asText());
+        assertEquals(accountResponse1.getStatus().name(), account.get("status").asText());
+    }
+
+    @Test
+     void testGetAccountById_CurrentETag_ReturnsNotModified() {
+        // Arrange
+        Long accountId = 1L;
+        when(accountManagementUseCase.getAccountById(accountId)).thenReturn(accountResponse1);
+
+        // Act & Assert
+        given()
+                .header("If-None-Match", "\"3\"")
+                .when()
+                .get("/api/accounts/{id}", accountId)
+                .then()
+                .statusCode(Status.NOT_MODIFIED.getStatusCode())
+                .header("ETag", equalTo("\"3\""))
+                .body(is(""));
     }
 
     @Test
@@ -101,29 +238,143 @@ class AccountControllerTest {
     }
 
     @Test
-     void testGetAllAccounts_ReturnsAllAccounts() {
+     void testGetAllAccounts_NoCursor_ReturnsFirstPage() {
+        // Arrange
+        AccountPageDTO page = new AccountPageDTO(Arrays.asList(accountResponse1, accountResponse2), null);
+        when(accountManagementUseCase.getAccountsPage(null, null)).thenReturn(page);
+
+        // Act & Assert
+        given()
+                .when()
+                .get("/api/accounts")
+                .then()
+                .statusCode(Status.OK.getStatusCode())
+                .body("items.size()", is(2))
+                .body("items[0].id", is(accountResponse1.getId().intValue()))
+                .body("items[0].account", equalTo(accountResponse1.getAccount()))
+                .body("items[1].id", is(accountResponse2.getId().intValue()))
+                .body("items[1].account", equalTo(accountResponse2.getAccount()))
+                .body("nextCursor", nullValue());
+
+        verify(accountManagementUseCase).getAccountsPage(null, null);
+    }
+
+    @Test
+     void testGetAccountsPage_WithCursor_ReturnsPage() {
         // Arrange
-        List<AccountResponseDTO> accounts = Arrays.asList(accountResponse1, accountResponse2);
-        when(accountManagementUseCase.getAllAccounts()).thenReturn(accounts);
+        AccountPageDTO page = new AccountPageDTO(List.of(accountResponse2), 2L);
+        when(accountManagementUseCase.getAccountsPage(1L, 1)).thenReturn(page);
 
         // Act & Assert
         given()
+                .queryParam("after", 1)
+                .queryParam("limit", 1)
                 .when()
                 .get("/api/accounts")
                 .then()
                 .statusCode(Status.OK.getStatusCode())
+                .body("items.size()", is(1))
+                .body("items[0].id", is(accountResponse2.getId().intValue()))
+                .body("nextCursor", is(2));
+    }
+
+    @Test
+     void testSearchAccounts_ByNumber_ReturnsPage() {
+        // Arrange
+        AccountPageDTO page = new AccountPageDTO(List.of(accountResponse1), null);
+        when(accountManagementUseCase.searchAccounts("123456789", null, null, null, null)).thenReturn(page);
+
+        // Act & Assert
+        given()
+                .queryParam("number", "123456789")
+                .when()
+                .get("/api/accounts")
+                .then()
+                .statusCode(Status.OK.getStatusCode())
+                .body("items.size()", is(1))
+                .body("items[0].number", equalTo(accountResponse1.getNumber()));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+     void testStreamAllAccounts_ReturnsJsonArray() {
+        // Arrange
+        doAnswer(invocation -> {
+            Consumer<AccountResponseDTO> consumer = invocation.getArgument(0);
+            consumer.accept(accountResponse1);
+            consumer.accept(accountResponse2);
+            return null;
+        }).when(accountManagementUseCase).streamAllAccounts(any(Consumer.class));
+
+        // Act & Assert
+        given()
+                .when()
+                .get("/api/accounts/stream")
+                .then()
+                .statusCode(Status.OK.getStatusCode())
                 .body("size()", is(2))
                 .body("[0].id", is(accountResponse1.getId().intValue()))
-                .body("[0].account", equalTo(accountResponse1.getAccount()))
-                .body("[1].id", is(accountResponse2.getId().intValue()))
-                .body("[1].account", equalTo(accountResponse2.getAccount()));
+                .body("[1].id", is(accountResponse2.getId().intValue()));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+     void testStreamAllAccounts_AcceptAnything_ReturnsJsonArray() {
+        // Arrange
+        doAnswer(invocation -> {
+            Consumer<AccountResponseDTO> consumer = invocation.getArgument(0);
+            consumer.accept(accountResponse1);
+            return null;
+        }).when(accountManagementUseCase).streamAllAccounts(any(Consumer.class));
+
+        // Act & Assert
+        given()
+                .accept("*/*")
+                .when()
+                .get("/api/accounts/stream")
+                .then()
+                .statusCode(Status.OK.getStatusCode())
+                .contentType(startsWith("application/json"))
+                .body("size()", is(1))
+                .body("[0].id", is(accountResponse1.getId().intValue()));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+     void testStreamAllAccounts_AcceptCbor_ReturnsLengthDelimitedFrames() throws IOException {
+        // Arrange
+        doAnswer(invocation -> {
+            Consumer<AccountResponseDTO> consumer = invocation.getArgument(0);
+            consumer.accept(accountResponse1);
+            consumer.accept(accountResponse2);
+            return null;
+        }).when(accountManagementUseCase).streamAllAccounts(any(Consumer.class));
+
+        // Act
+        byte[] body = given()
+                .accept(AccountCborProvider.APPLICATION_CBOR)
+                .when()
+                .get("/api/accounts/stream")
+                .then()
+                .statusCode(Status.OK.getStatusCode())
+                .contentType(startsWith(AccountCborProvider.APPLICATION_CBOR))
+                .extract().asByteArray();
+
+        // Assert
+        DataInputStream frames = new DataInputStream(new ByteArrayInputStream(body));
+        List<Long> ids = new ArrayList<>();
+        while (frames.available() > 0) {
+            byte[] frame = frames.readNBytes(frames.readInt());
+            ids.add(CBOR_MAPPER.readTree(frame).get("id").asLong());
+        }
+        assertEquals(List.of(accountResponse1.getId(), accountResponse2.getId()), ids);
     }
 
     @Test
      void testUpdateAccount_ValidData_ReturnsUpdatedAccount() {
         // Arrange
         Long accountId = 1L;
-        when(accountManagementUseCase.updateAccount(eq(accountId), any(AccountRequestDTO.class)))
+        when(accountManagementUseCase.updateAccount(eq(accountId), any(AccountRequestDTO.class), isNull()))
                 .thenReturn(accountResponse1);
 
         // Act & Assert
@@ -137,7 +388,25 @@ class AccountControllerTest {
                 .body("id", is(accountResponse1.getId().intValue()))
                 .body("account", equalTo(accountResponse1.getAccount()))
                 .body("number", equalTo(accountResponse1.getNumber()))
-                .body("status", equalTo(accountResponse1.getStatus()));
+                .body("status", equalTo(accountResponse1.getStatus().name()));
+    }
+
+    @Test
+     void testUpdateAccount_StaleIfMatch_ReturnsPreconditionFailed() {
+        // Arrange
+        Long accountId = 1L;
+        when(accountManagementUseCase.updateAccount(eq(accountId), any(AccountRequestDTO.class), eq(2L)))
+                .thenThrow(new AccountVersionMismatchException(accountId, 2L));
+
+        // Act & Assert
+        given()
+                .contentType(ContentType.JSON)
+                .header("If-Match", "\"2\"")
+                .body(validAccountRequest)
+                .when()
+                .put("/api/accounts/{id}", accountId)
+                .then()
+                .statusCode(Status.PRECONDITION_FAILED.getStatusCode());
     }
 
     @Test
@@ -162,7 +431,8 @@ class AccountControllerTest {
                 accountResponse1.getId(),
                 accountResponse1.getAccount(),
                 accountResponse1.getNumber(),
-                "ACTIVE");
+                AccountStatus.ACTIVE,
+                accountResponse1.getVersion());
 
         when(accountManagementUseCase.activateAccount(accountId)).thenReturn(activatedAccount);
 
@@ -184,7 +454,8 @@ class AccountControllerTest {
                 accountResponse1.getId(),
                 accountResponse1.getAccount(),
                 accountResponse1.getNumber(),
-                "INACTIVE");
+                AccountStatus.INACTIVE,
+                accountResponse1.getVersion() + 1);
 
         when(accountManagementUseCase.deactivateAccount(accountId)).thenReturn(deactivatedAccount);
 
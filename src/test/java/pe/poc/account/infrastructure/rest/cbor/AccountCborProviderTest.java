@@ -0,0 +1,105 @@
+package pe.poc.account.infrastructure.rest.cbor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+
+import jakarta.ws.rs.core.GenericEntity;
+import jakarta.ws.rs.core.StreamingOutput;
+
+import pe.poc.account.application.dto.AccountRequestDTO;
+import pe.poc.account.application.dto.AccountResponseDTO;
+import pe.poc.account.application.dto.BatchItemResultDTO;
+import pe.poc.account.application.dto.BatchResultDTO;
+import pe.poc.account.domain.exception.InvalidAccountDataException;
+import pe.poc.account.domain.model.AccountStatus;
+
+/**
+ * Test class for AccountCborProvider.
+ */
+class AccountCborProviderTest {
+
+    private static final Annotation[] NO_ANNOTATIONS = new Annotation[0];
+
+    private CBORMapper cborMapper;
+    private AccountCborProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        cborMapper = new CBORMapper();
+        provider = new AccountCborProvider(new ObjectMapper());
+    }
+
+    private byte[] write(Object entity, Class<?> type, Type genericType) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        provider.writeTo(entity, type, genericType, NO_ANNOTATIONS, AccountCborProvider.APPLICATION_CBOR_TYPE, null,
+                output);
+        return output.toByteArray();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Object read(byte[] body, Class<?> type) throws IOException {
+        return provider.readFrom((Class) type, type, NO_ANNOTATIONS, AccountCborProvider.APPLICATION_CBOR_TYPE, null,
+                new ByteArrayInputStream(body));
+    }
+
+    @Test
+    void testWriteTo_AccountsAndOtherBodies_DecodeToSameValues() throws IOException {
+        // Arrange
+        AccountResponseDTO account = new AccountResponseDTO(1L, "Test Account", "123456789",
+                AccountStatus.SUSPENDED, 3L);
+        List<AccountResponseDTO> accounts = List.of(account, AccountResponseDTO.builder().account("Draft").build());
+        GenericEntity<List<AccountResponseDTO>> entity = new GenericEntity<>(accounts) {};
+        BatchResultDTO batch = new BatchResultDTO(List.of(new BatchItemResultDTO(0, 1L, 201, null, account)), 1, 0);
+
+        // Act
+        byte[] accountBody = write(account, AccountResponseDTO.class, AccountResponseDTO.class);
+        byte[] listBody = write(accounts, entity.getRawType(), entity.getType());
+        byte[] batchBody = write(batch, BatchResultDTO.class, BatchResultDTO.class);
+
+        // Assert
+        assertEquals(account, cborMapper.readValue(accountBody, AccountResponseDTO.class));
+        assertEquals(accounts, List.of(cborMapper.readValue(listBody, AccountResponseDTO[].class)));
+        assertEquals(batch, cborMapper.readValue(batchBody, BatchResultDTO.class));
+        assertTrue(accountBody.length < new ObjectMapper().writeValueAsBytes(account).length);
+    }
+
+    @Test
+    void testReadFrom_AccountRequest_DecodesCborAndRejectsMalformedBody() throws IOException {
+        // Arrange
+        AccountRequestDTO request = new AccountRequestDTO("Test Account", "123456789", "ACTIVE");
+
+        // Act
+        Object single = read(cborMapper.writeValueAsBytes(request), AccountRequestDTO.class);
+
+        // Assert
+        assertEquals(request, single);
+        assertThrows(InvalidAccountDataException.class,
+                () -> read(new byte[] {(byte) 0xBF, 0x61}, AccountRequestDTO.class));
+    }
+
+    @Test
+    void testIsWriteable_StreamingOutput_LeftToBuiltInProviders() {
+        // Act & Assert
+        assertFalse(provider.isWriteable(StreamingOutput.class, StreamingOutput.class, NO_ANNOTATIONS,
+                AccountCborProvider.APPLICATION_CBOR_TYPE));
+        assertFalse(provider.isWriteable(String.class, String.class, NO_ANNOTATIONS,
+                AccountCborProvider.APPLICATION_CBOR_TYPE));
+        assertTrue(provider.isWriteable(BatchResultDTO.class, BatchResultDTO.class, NO_ANNOTATIONS,
+                AccountCborProvider.APPLICATION_CBOR_TYPE));
+    }
+}
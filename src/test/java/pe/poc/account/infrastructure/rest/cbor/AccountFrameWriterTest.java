@@ -0,0 +1,43 @@
+package pe.poc.account.infrastructure.rest.cbor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+
+import pe.poc.account.application.dto.AccountResponseDTO;
+import pe.poc.account.domain.model.AccountStatus;
+
+/**
+ * Test class for AccountFrameWriter.
+ */
+class AccountFrameWriterTest {
+
+    @Test
+    void testWrite_SeveralAccounts_WritesOneLengthDelimitedFramePerAccount() throws IOException {
+        // Arrange
+        AccountResponseDTO first = new AccountResponseDTO(1L, "Test Account", "123456789", AccountStatus.ACTIVE, 0L);
+        AccountResponseDTO second = new AccountResponseDTO(2L, "Another Account", "987654321",
+                AccountStatus.INACTIVE, 7L);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // Act
+        try (AccountFrameWriter frames = new AccountFrameWriter(AccountCborProvider.newFactory(), output)) {
+            frames.write(first);
+            frames.write(second);
+        }
+
+        // Assert
+        CBORMapper cborMapper = new CBORMapper();
+        DataInputStream input = new DataInputStream(new ByteArrayInputStream(output.toByteArray()));
+        assertEquals(first, cborMapper.readValue(input.readNBytes(input.readInt()), AccountResponseDTO.class));
+        assertEquals(second, cborMapper.readValue(input.readNBytes(input.readInt()), AccountResponseDTO.class));
+        assertEquals(0, input.available());
+    }
+}
@@ -0,0 +1,49 @@
+package pe.poc.account.infrastructure.rest.json;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import pe.poc.account.application.dto.AccountResponseDTO;
+import pe.poc.account.domain.model.AccountStatus;
+import pe.poc.common.exception.GlobalExceptionHandler.ErrorResponse;
+
+/**
+ * Test class for AccountJsonModule.
+ */
+class AccountJsonModuleTest {
+
+    private ObjectMapper beanMapper;
+    private ObjectMapper moduleMapper;
+
+    @BeforeEach
+    void setUp() {
+        beanMapper = new ObjectMapper();
+        moduleMapper = new ObjectMapper().registerModule(new AccountJsonModule());
+    }
+
+    @Test
+    void testSerialize_AccountResponse_MatchesBeanSerializer() throws JsonProcessingException {
+        // Arrange
+        AccountResponseDTO complete = new AccountResponseDTO(1L, "Test Account", "123456789",
+                AccountStatus.SUSPENDED, 3L);
+        AccountResponseDTO partial = AccountResponseDTO.builder().account("Draft").build();
+
+        // Act & Assert
+        assertEquals(beanMapper.writeValueAsString(complete), moduleMapper.writeValueAsString(complete));
+        assertEquals(beanMapper.writeValueAsString(partial), moduleMapper.writeValueAsString(partial));
+    }
+
+    @Test
+    void testSerialize_ErrorResponse_MatchesBeanSerializer() throws JsonProcessingException {
+        // Arrange
+        ErrorResponse error = new ErrorResponse(404, "Account not found with ID: 7");
+
+        // Act & Assert
+        assertEquals(beanMapper.writeValueAsString(error), moduleMapper.writeValueAsString(error));
+    }
+}
@@ -0,0 +1,121 @@
+package pe.poc.account.infrastructure.rest.json;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.ws.rs.core.GenericEntity;
+import jakarta.ws.rs.core.MediaType;
+
+import pe.poc.account.application.dto.AccountPageDTO;
+import pe.poc.account.application.dto.AccountRequestDTO;
+import pe.poc.account.application.dto.AccountResponseDTO;
+import pe.poc.account.domain.exception.InvalidAccountDataException;
+import pe.poc.account.domain.model.AccountStatus;
+import pe.poc.common.exception.GlobalExceptionHandler.ErrorResponse;
+
+/**
+ * Test class for AccountJsonProvider.
+ */
+class AccountJsonProviderTest {
+
+    private static final Annotation[] NO_ANNOTATIONS = new Annotation[0];
+
+    private ObjectMapper beanMapper;
+    private AccountJsonProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        beanMapper = new ObjectMapper();
+        provider = new AccountJsonProvider();
+    }
+
+    private String write(Object entity, Class<?> type, Type genericType) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        provider.writeTo(entity, type, genericType, NO_ANNOTATIONS, MediaType.APPLICATION_JSON_TYPE, null, output);
+        return output.toString(StandardCharsets.UTF_8);
+    }
+
+    private AccountRequestDTO read(String json) throws IOException {
+        return provider.readFrom(AccountRequestDTO.class, AccountRequestDTO.class, NO_ANNOTATIONS,
+                MediaType.APPLICATION_JSON_TYPE, null, new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void testWriteTo_AccountsPageAndError_MatchBeanSerializer() throws IOException {
+        // Arrange
+        AccountResponseDTO account = new AccountResponseDTO(1L, "Cuenta \"Ñandú\"\n", "123456789",
+                AccountStatus.SUSPENDED, 3L);
+        AccountResponseDTO partial = AccountResponseDTO.builder().account("Draft").build();
+        AccountPageDTO page = new AccountPageDTO(Arrays.asList(account, partial), 7L);
+        ErrorResponse error = new ErrorResponse(404, "Account not found with ID: 7");
+
+        // Act & Assert
+        assertEquals(beanMapper.writeValueAsString(account), write(account, AccountResponseDTO.class,
+                AccountResponseDTO.class));
+        assertEquals(beanMapper.writeValueAsString(page), write(page, AccountPageDTO.class, AccountPageDTO.class));
+        assertEquals(beanMapper.writeValueAsString(new AccountPageDTO(List.of(), null)),
+                write(new AccountPageDTO(List.of(), null), AccountPageDTO.class, AccountPageDTO.class));
+        assertEquals(beanMapper.writeValueAsString(error), write(error, ErrorResponse.class, ErrorResponse.class));
+    }
+
+    @Test
+    void testIsWriteable_ListWithElementType_WritesArray() throws IOException {
+        // Arrange
+        List<AccountResponseDTO> accounts = List.of(
+                new AccountResponseDTO(1L, "Test Account", "123456789", AccountStatus.ACTIVE, 0L),
+                new AccountResponseDTO(2L, "Another Account", "987654321", AccountStatus.INACTIVE, 4L));
+        GenericEntity<List<AccountResponseDTO>> entity = new GenericEntity<>(accounts) {};
+
+        // Act
+        boolean typed = provider.isWriteable(entity.getRawType(), entity.getType(), NO_ANNOTATIONS,
+                MediaType.APPLICATION_JSON_TYPE);
+        boolean raw = provider.isWriteable(accounts.getClass(), accounts.getClass(), NO_ANNOTATIONS,
+                MediaType.APPLICATION_JSON_TYPE);
+        String json = write(accounts, entity.getRawType(), entity.getType());
+
+        // Assert
+        assertTrue(typed);
+        assertFalse(raw);
+        assertEquals(beanMapper.writeValueAsString(accounts), json);
+    }
+
+    @Test
+    void testReadFrom_UnknownAndNumericFields_MatchesDatabind() throws IOException {
+        // Arrange
+        String json = "{\"id\":9,\"account\":\"Test Account\",\"extra\":{\"nested\":[1,2]},"
+                + "\"number\":123456789,\"status\":\"ACTIVE\"}";
+
+        // Act
+        AccountRequestDTO request = read(json);
+
+        // Assert
+        assertEquals(new AccountRequestDTO("Test Account", "123456789", "ACTIVE"), request);
+        assertNull(read(""));
+        assertNull(read("null"));
+    }
+
+    @Test
+    void testReadFrom_MalformedOrWrongShape_ThrowsInvalidAccountData() {
+        // Act & Assert
+        assertThrows(InvalidAccountDataException.class, () -> read("{\"account\":\"Test"));
+        assertThrows(InvalidAccountDataException.class, () -> read("[\"Test Account\"]"));
+        assertThrows(InvalidAccountDataException.class, () -> read("{\"account\":{\"name\":\"Test Account\"}}"));
+    }
+}
@@ -0,0 +1,133 @@
+package pe.poc.account.infrastructure.writebehind;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import pe.poc.account.application.dto.AccountResponseDTO;
+import pe.poc.account.application.dto.AccountStatusTicketDTO;
+import pe.poc.account.application.dto.AccountStatusTicketDTO.State;
+import pe.poc.account.application.port.input.IAccountManagementUseCase;
+import pe.poc.account.domain.model.AccountStatus;
+
+/**
+ * Test class for AccountStatusWriteBehind.
+ */
+@ExtendWith(MockitoExtension.class)
+class AccountStatusWriteBehindTest {
+
+    @Mock
+    private IAccountManagementUseCase accountManagementUseCase;
+
+    private AccountStatusWriteBehind writeBehind(AccountStatusWriteBehind.Durability durability) {
+        return new AccountStatusWriteBehind(accountManagementUseCase, true, Duration.ofMillis(200), durability,
+                100, Duration.ofMinutes(10));
+    }
+
+    private AccountResponseDTO account(Long id, AccountStatus status, Long version) {
+        return new AccountResponseDTO(id, "Test Account", "12345678" + id, status, version);
+    }
+
+    @Test
+    void testFlush_RepeatedFlips_WritesLastStatusOnce() {
+        // Arrange
+        AccountStatusWriteBehind writeBehind = writeBehind(AccountStatusWriteBehind.Durability.ACCEPTED);
+        Mockito.when(accountManagementUseCase.applyStatusChanges(ArgumentMatchers.anyMap()))
+                .thenReturn(List.of(account(1L, AccountStatus.ACTIVE, 4L), account(2L, AccountStatus.INACTIVE, 2L)));
+        AccountStatusTicketDTO first = writeBehind.submit(1L, AccountStatus.INACTIVE).toCompletableFuture().join();
+        AccountStatusTicketDTO last = writeBehind.submit(1L, AccountStatus.ACTIVE).toCompletableFuture().join();
+        writeBehind.submit(2L, AccountStatus.INACTIVE);
+
+        // Act
+        writeBehind.flush();
+
+        // Assert
+        assertEquals(State.PENDING, last.getState());
+        Mockito.verify(accountManagementUseCase).applyStatusChanges(
+                Map.of(1L, AccountStatus.ACTIVE, 2L, AccountStatus.INACTIVE));
+        assertEquals(State.SUPERSEDED, writeBehind.getTicket(first.getToken()).orElseThrow().getState());
+        AccountStatusTicketDTO applied = writeBehind.getTicket(last.getToken()).orElseThrow();
+        assertEquals(State.APPLIED, applied.getState());
+        assertEquals(4L, applied.getVersion());
+        assertEquals(0, writeBehind.getPendingCount());
+    }
+
+    @Test
+    void testSubmit_AppliedDurability_CompletesWhenBatchIsWritten() {
+        // Arrange
+        AccountStatusWriteBehind writeBehind = writeBehind(AccountStatusWriteBehind.Durability.APPLIED);
+        Mockito.when(accountManagementUseCase.applyStatusChanges(ArgumentMatchers.anyMap())).thenReturn(List.of());
+
+        // Act
+        CompletableFuture<AccountStatusTicketDTO> ticket = writeBehind.submit(9L, AccountStatus.ACTIVE)
+                .toCompletableFuture();
+        boolean doneBeforeFlush = ticket.isDone();
+        writeBehind.flush();
+
+        // Assert
+        assertFalse(doneBeforeFlush);
+        assertTrue(ticket.isDone());
+        assertEquals(State.NOT_FOUND, ticket.join().getState());
+    }
+
+    @Test
+    void testSupersede_SynchronousWriteBeforeFlush_DropsQueuedChange() {
+        // Arrange
+        AccountStatusWriteBehind writeBehind = writeBehind(AccountStatusWriteBehind.Durability.APPLIED);
+        CompletableFuture<AccountStatusTicketDTO> ticket = writeBehind.submit(1L, AccountStatus.INACTIVE)
+                .toCompletableFuture();
+
+        // Act
+        writeBehind.supersede(1L);
+        writeBehind.flush();
+
+        // Assert
+        assertEquals(State.SUPERSEDED, ticket.join().getState());
+        assertEquals(0, writeBehind.getPendingCount());
+        Mockito.verify(accountManagementUseCase, Mockito.never()).applyStatusChanges(ArgumentMatchers.anyMap());
+    }
+
+    @Test
+    void testSupersede_ChangeBeingWritten_WaitsUntilItsBatchCommits() throws Exception {
+        // Arrange
+        AccountStatusWriteBehind writeBehind = writeBehind(AccountStatusWriteBehind.Durability.APPLIED);
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        Mockito.when(accountManagementUseCase.applyStatusChanges(ArgumentMatchers.anyMap())).thenAnswer(invocation -> {
+            writing.countDown();
+            commit.await();
+            return List.of(account(1L, AccountStatus.INACTIVE, 2L));
+        });
+        CompletableFuture<AccountStatusTicketDTO> ticket = writeBehind.submit(1L, AccountStatus.INACTIVE)
+                .toCompletableFuture();
+        CompletableFuture<Void> flush = CompletableFuture.runAsync(writeBehind::flush);
+        assertTrue(writing.await(5, TimeUnit.SECONDS));
+
+        // Act
+        CompletableFuture<Void> supersede = CompletableFuture.runAsync(() -> writeBehind.supersede(1L));
+
+        // Assert
+        assertThrows(TimeoutException.class, () -> supersede.get(200, TimeUnit.MILLISECONDS));
+        commit.countDown();
+        supersede.get(5, TimeUnit.SECONDS);
+        assertTrue(ticket.isDone());
+        assertEquals(State.APPLIED, ticket.join().getState());
+        flush.get(5, TimeUnit.SECONDS);
+    }
+}